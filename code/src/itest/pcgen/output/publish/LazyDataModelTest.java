@@ -0,0 +1,137 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.output.publish;
+
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+
+import pcgen.cdom.enumeration.CharID;
+import pcgen.output.base.ModelFactory;
+import pcgen.output.testsupport.AbstractOutputTestCase;
+import freemarker.template.Configuration;
+import freemarker.template.Template;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateScalarModel;
+
+public class LazyDataModelTest extends AbstractOutputTestCase
+{
+
+	private CountingFactory alpha;
+	private CountingFactory gamma;
+	private CountingFactory delta;
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		OutputDB.reset();
+		alpha = new CountingFactory("A");
+		gamma = new CountingFactory("G");
+		delta = new CountingFactory("D");
+		OutputDB.registerModelFactory("alpha", alpha);
+		OutputDB.registerModelFactory("beta.gamma", gamma);
+		OutputDB.registerModelFactory("beta.delta", delta);
+	}
+
+	@Override
+	protected void tearDown() throws Exception
+	{
+		OutputDB.reset();
+		super.tearDown();
+	}
+
+	public void testOnlyUsedModelsGenerated() throws Exception
+	{
+		LazyDataModel model = OutputDB.buildLazyDataModel(id);
+		assertEquals("AAG", process("${alpha}${alpha}${beta.gamma}", model));
+		assertEquals(1, alpha.count);
+		assertEquals(1, gamma.count);
+		assertEquals(0, delta.count);
+		assertEquals(Arrays.asList("alpha", "beta.gamma"),
+			model.getGeneratedModels());
+	}
+
+	public void testMissingModels() throws Exception
+	{
+		LazyDataModel model = OutputDB.buildLazyDataModel(id);
+		assertEquals("xy",
+			process("${omega!'x'}${beta.omega!'y'}", model));
+		assertEquals(Collections.emptyList(), model.getGeneratedModels());
+	}
+
+	public void testKeys() throws Exception
+	{
+		LazyDataModel model = OutputDB.buildLazyDataModel(id);
+		assertEquals(2, model.size());
+		assertEquals("kk",
+			process("<#list beta?keys as k>k</#list>", model));
+		assertEquals(0, gamma.count);
+		assertEquals(0, delta.count);
+	}
+
+	private static String process(String testString, LazyDataModel model)
+		throws Exception
+	{
+		Template t = new Template("test", testString, new Configuration());
+		StringWriter sw = new StringWriter();
+		t.process(model, sw);
+		return sw.toString();
+	}
+
+	private static final class CountingFactory implements ModelFactory
+	{
+		private final String value;
+		private int count = 0;
+
+		private CountingFactory(String value)
+		{
+			this.value = value;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public <T extends TemplateModel & Iterable<?>> T generate(CharID id)
+		{
+			count++;
+			return (T) new StringModel(value);
+		}
+	}
+
+	private static final class StringModel implements TemplateScalarModel,
+			Iterable<String>
+	{
+		private final String value;
+
+		private StringModel(String value)
+		{
+			this.value = value;
+		}
+
+		@Override
+		public String getAsString()
+		{
+			return value;
+		}
+
+		@Override
+		public Iterator<String> iterator()
+		{
+			return Collections.singletonList(value).iterator();
+		}
+	}
+}
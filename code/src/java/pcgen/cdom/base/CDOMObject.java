@@ -45,6 +45,7 @@ import pcgen.cdom.enumeration.MapKey;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.cdom.enumeration.VariableKey;
+import pcgen.cdom.util.CompactKeyMap;
 import pcgen.cdom.util.FactSetKeyMapToList;
 import pcgen.cdom.util.ListKeyMapToList;
 import pcgen.cdom.util.MapKeyMap;
@@ -68,27 +69,27 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 	 */
 	/** A map to hold items keyed by Integers for the object */
 	// TODO make this final once clone() is no longer required...
-	private Map<IntegerKey, Integer> integerChar = null;
+	private CompactKeyMap<IntegerKey, Integer> integerChar = null;
 
 	/** A map to hold items keyed by Strings for the object */
 	// TODO make this final once clone() is no longer required...
-	private Map<StringKey, String> stringChar = null;
+	private CompactKeyMap<StringKey, String> stringChar = null;
 
 	/** A map to hold items keyed by Strings for the object */
 	// TODO make this final once clone() is no longer required...
-	private Map<FormulaKey, Formula> formulaChar = null;
+	private CompactKeyMap<FormulaKey, Formula> formulaChar = null;
 
 	/** A map to hold items keyed by Strings for the object */
 	// TODO make this final once clone() is no longer required...
-	private Map<VariableKey, Formula> variableChar = null;
+	private CompactKeyMap<VariableKey, Formula> variableChar = null;
 
 	/** A map to hold items keyed by Strings for the object */
 	// TODO make this final once clone() is no longer required...
-	private Map<ObjectKey<?>, Object> objectChar = null;
+	private CompactKeyMap<ObjectKey<?>, Object> objectChar = null;
 
 	/** A map to hold items keyed by Strings for the object */
 	// TODO make this final once clone() is no longer required...
-	private Map<FactKey<?>, Object> factChar = null;
+	private CompactKeyMap<FactKey<?>, Object> factChar = null;
 
 	/** A map to hold items keyed by Strings for the object */
 	// TODO make this final once clone() is no longer required...
@@ -131,7 +132,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 	{
 		if (integerChar == null)
 		{
-			integerChar = new HashMap<>();
+			integerChar = new CompactKeyMap<>();
 		}
 		return integerChar.put(key, intValue);
 	}
@@ -172,7 +173,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 	{
 		if (stringChar == null)
 		{
-			stringChar = new HashMap<>();
+			stringChar = new CompactKeyMap<>();
 		}
 		return stringChar.put(key, value);
 	}
@@ -213,7 +214,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 	{
 		if (formulaChar == null)
 		{
-			formulaChar = new HashMap<>();
+			formulaChar = new CompactKeyMap<>();
 		}
 		return formulaChar.put(key, value);
 	}
@@ -254,7 +255,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 	{
 		if (variableChar == null)
 		{
-			variableChar = new HashMap<>();
+			variableChar = new CompactKeyMap<>();
 		}
 		return variableChar.put(key, value);
 	}
@@ -294,7 +295,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 	{
 		if (objectChar == null)
 		{
-			objectChar = new HashMap<>();
+			objectChar = new CompactKeyMap<>();
 		}
 		return key.cast(objectChar.put(key, value));
 	}
@@ -346,7 +347,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 	{
 		if (factChar == null)
 		{
-			factChar = new HashMap<>();
+			factChar = new CompactKeyMap<>();
 		}
 		return key.cast(factChar.put(key, value));
 	}
@@ -918,7 +919,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 		{
 			if (integerChar == null)
 			{
-				integerChar = new HashMap<>();
+				integerChar = new CompactKeyMap<>();
 			}
 			integerChar.putAll(cdo.integerChar);
 		}
@@ -926,7 +927,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 		{
 			if (stringChar == null)
 			{
-				stringChar = new HashMap<>();
+				stringChar = new CompactKeyMap<>();
 			}
 			stringChar.putAll(cdo.stringChar);
 		}
@@ -934,7 +935,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 		{
 			if (formulaChar == null)
 			{
-				formulaChar = new HashMap<>();
+				formulaChar = new CompactKeyMap<>();
 			}
 			formulaChar.putAll(cdo.formulaChar);
 		}
@@ -942,7 +943,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 		{
 			if (objectChar == null)
 			{
-				objectChar = new HashMap<>();
+				objectChar = new CompactKeyMap<>();
 			}
 			objectChar.putAll(cdo.objectChar);
 		}
@@ -950,7 +951,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 		{
 			if (factChar == null)
 			{
-				factChar = new HashMap<>();
+				factChar = new CompactKeyMap<>();
 			}
 			factChar.putAll(cdo.factChar);
 		}
@@ -958,7 +959,7 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 		{
 			if (variableChar == null)
 			{
-				variableChar = new HashMap<>();
+				variableChar = new CompactKeyMap<>();
 			}
 			variableChar.putAll(cdo.variableChar);
 		}
@@ -1002,12 +1003,12 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 	public CDOMObject clone() throws CloneNotSupportedException
 	{
 		CDOMObject clone = (CDOMObject) super.clone();
-		clone.integerChar = integerChar == null ? null : new HashMap<>(integerChar);
-		clone.stringChar = stringChar == null ? null : new HashMap<>(stringChar);
-		clone.formulaChar = formulaChar == null ? null : new HashMap<>(formulaChar);
-		clone.variableChar = variableChar == null ? null : new HashMap<>(variableChar);
-		clone.objectChar = objectChar == null ? null : new HashMap<>(objectChar);
-		clone.factChar = factChar == null ? null : new HashMap<>(factChar);
+		clone.integerChar = integerChar == null ? null : new CompactKeyMap<>(integerChar);
+		clone.stringChar = stringChar == null ? null : new CompactKeyMap<>(stringChar);
+		clone.formulaChar = formulaChar == null ? null : new CompactKeyMap<>(formulaChar);
+		clone.variableChar = variableChar == null ? null : new CompactKeyMap<>(variableChar);
+		clone.objectChar = objectChar == null ? null : new CompactKeyMap<>(objectChar);
+		clone.factChar = factChar == null ? null : new CompactKeyMap<>(factChar);
 		if (listChar != null)
 		{
 			clone.listChar = new ListKeyMapToList();
@@ -1028,6 +1029,30 @@ public abstract class CDOMObject extends ConcretePrereqObject implements
 		return clone;
 	}
 
+	/**
+	 * Releases any unused space held by the characteristics of this
+	 * CDOMObject. This is called once the data has been loaded, as the
+	 * characteristics of loaded objects rarely change after that point. The
+	 * CDOMObject may still be modified after this is called.
+	 */
+	public final void trimToSize()
+	{
+		trimToSize(integerChar);
+		trimToSize(stringChar);
+		trimToSize(formulaChar);
+		trimToSize(variableChar);
+		trimToSize(objectChar);
+		trimToSize(factChar);
+	}
+
+	private static void trimToSize(CompactKeyMap<?, ?> map)
+	{
+		if (map != null)
+		{
+			map.trimToSize();
+		}
+	}
+
 	public void removeAllFromList(CDOMReference<? extends CDOMList<?>> listRef)
 	{
 		if (cdomListMods != null)
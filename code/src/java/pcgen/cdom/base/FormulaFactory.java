@@ -51,6 +51,12 @@ public final class FormulaFactory
 	 */
 	public static final Formula ONE = new NumberFormula(1);
 
+	/**
+	 * Shares identical Formulas built while data is being loaded.
+	 */
+	private static final Interner<Formula> LOADED_FORMULAS = new Interner<>(
+		"Formula", f -> 16 + (f.isStatic() ? 16 : 40 + f.toString().length()));
+
 	private FormulaFactory()
 	{
 		// Can't instantiate Utility Class
@@ -71,6 +77,12 @@ public final class FormulaFactory
 		{
 			throw new IllegalArgumentException("Formula cannot be empty");
 		}
+		return LOADED_FORMULAS.intern(formulaString,
+			buildFormulaFor(formulaString));
+	}
+
+	private static Formula buildFormulaFor(String formulaString)
+	{
 		try
 		{
 			return getFormulaFor(Integer.valueOf(formulaString));
@@ -0,0 +1,245 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.base;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToLongFunction;
+
+/**
+ * An Interner shares a single instance between all of the identical objects
+ * built from the same source text while data is being loaded.
+ *
+ * <p>
+ * The data files repeat the same prerequisites and formulas many thousands of
+ * times. Since an object built from a given String is always identical to any
+ * other object built from that String, only the first needs to be kept. The
+ * Interner is keyed on the source text, so the objects stored in it must not
+ * be modified once they have been interned.
+ *
+ * <p>
+ * Interning is only performed while a load is open (see open() and close()),
+ * so objects built outside of a data load (for example, by the user or by a
+ * test which then modifies the result) are never shared. Interned instances
+ * are weakly held, so they are shared across the loads of different game modes
+ * while in use, but do not prevent unloaded data from being collected.
+ *
+ * @param <T>
+ *            The type of object shared by this Interner
+ */
+public final class Interner<T>
+{
+
+	/**
+	 * All of the Interners which have been constructed, used to produce the
+	 * report when a load is closed.
+	 */
+	private static final List<Interner<?>> INTERNERS =
+			new CopyOnWriteArrayList<>();
+
+	/**
+	 * The number of loads which have been opened and not yet closed.
+	 */
+	private static int openCount = 0;
+
+	/**
+	 * true if interning is currently performed.
+	 */
+	private static volatile boolean active = false;
+
+	/**
+	 * The name of the objects shared by this Interner, used in the report.
+	 */
+	private final String name;
+
+	/**
+	 * Estimates the number of bytes of heap used by an object.
+	 */
+	private final ToLongFunction<? super T> sizeEstimate;
+
+	/**
+	 * The shared instances, by the source text they were built from.
+	 */
+	private final Map<String, KeyedReference<T>> instances = new HashMap<>();
+
+	/**
+	 * The queue of shared instances which have been collected.
+	 */
+	private final ReferenceQueue<T> collected = new ReferenceQueue<>();
+
+	private long requestCount = 0;
+	private long sharedCount = 0;
+	private long bytesSaved = 0;
+
+	/**
+	 * Constructs a new Interner.
+	 *
+	 * @param name
+	 *            The name of the objects shared by the Interner, used in the
+	 *            load report
+	 * @param sizeEstimate
+	 *            Estimates the number of bytes of heap used by an object shared
+	 *            by the Interner
+	 */
+	public Interner(String name, ToLongFunction<? super T> sizeEstimate)
+	{
+		this.name = name;
+		this.sizeEstimate = sizeEstimate;
+		INTERNERS.add(this);
+	}
+
+	/**
+	 * Opens a load, so that objects are interned until the matching call to
+	 * close().
+	 */
+	public static synchronized void open()
+	{
+		openCount++;
+		active = true;
+	}
+
+	/**
+	 * Closes a load. If this closes the outermost open load, interning stops
+	 * and a report of the objects shared during the load is returned.
+	 *
+	 * @return The report of the objects shared during the load, or null if an
+	 *         outer load is still open
+	 */
+	public static synchronized String close()
+	{
+		if (openCount == 0)
+		{
+			return null;
+		}
+		openCount--;
+		if (openCount > 0)
+		{
+			return null;
+		}
+		active = false;
+		StringBuilder sb = new StringBuilder(200);
+		for (Interner<?> interner : INTERNERS)
+		{
+			interner.report(sb);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * Returns the instance to be used for an object built from the given
+	 * source text.
+	 *
+	 * @param key
+	 *            The source text from which the given object was built
+	 * @param value
+	 *            The object built from the given source text
+	 * @return The shared instance for the given source text, which is the given
+	 *         object if no load is open or no identical object has been seen
+	 */
+	public T intern(String key, T value)
+	{
+		if (!active || (key == null) || (value == null))
+		{
+			return value;
+		}
+		synchronized (this)
+		{
+			expunge();
+			requestCount++;
+			KeyedReference<T> ref = instances.get(key);
+			T shared = (ref == null) ? null : ref.get();
+			if (shared == null)
+			{
+				instances.put(key, new KeyedReference<>(key, value, collected));
+				return value;
+			}
+			sharedCount++;
+			bytesSaved += sizeEstimate.applyAsLong(value);
+			return shared;
+		}
+	}
+
+	/**
+	 * Removes the entries for shared instances which have been collected.
+	 */
+	private void expunge()
+	{
+		Reference<? extends T> ref;
+		while ((ref = collected.poll()) != null)
+		{
+			String key = ((KeyedReference<? extends T>) ref).key;
+			if (instances.get(key) == ref)
+			{
+				instances.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * Appends the report for this Interner to the given StringBuilder and
+	 * resets the counts for the next load.
+	 */
+	private synchronized void report(StringBuilder sb)
+	{
+		expunge();
+		if (requestCount > 0)
+		{
+			if (sb.length() > 0)
+			{
+				sb.append('\n');
+			}
+			sb.append(name).append(": ").append(requestCount)
+				.append(" loaded, ").append(requestCount - sharedCount)
+				.append(" unique, ").append(instances.size())
+				.append(" held, about ").append(bytesSaved / 1024)
+				.append(" KB saved");
+		}
+		requestCount = 0;
+		sharedCount = 0;
+		bytesSaved = 0;
+	}
+
+	/**
+	 * Returns the number of objects which were replaced by a shared instance
+	 * during the current load.
+	 *
+	 * @return The number of objects replaced by a shared instance
+	 */
+	public synchronized long getSharedCount()
+	{
+		return sharedCount;
+	}
+
+	/**
+	 * A WeakReference which remembers the key it was stored under, so the
+	 * entry can be removed once the referent has been collected.
+	 */
+	private static final class KeyedReference<T> extends WeakReference<T>
+	{
+		private final String key;
+
+		private KeyedReference(String key, T referent, ReferenceQueue<T> queue)
+		{
+			super(referent, queue);
+			this.key = key;
+		}
+	}
+}
@@ -18,7 +18,17 @@
  */
 package pcgen.cdom.base;
 
+import pcgen.cdom.facet.base.FacetStorage;
+
 public interface PCGenIdentifier
 {
 
+	/**
+	 * Returns the FacetStorage which holds the facet information for the
+	 * resource identified by this PCGenIdentifier.
+	 * 
+	 * @return The FacetStorage for the resource identified by this
+	 *         PCGenIdentifier
+	 */
+	public FacetStorage getFacetStorage();
 }
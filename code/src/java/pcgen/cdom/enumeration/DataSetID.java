@@ -17,11 +17,11 @@
  */
 package pcgen.cdom.enumeration;
 
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import pcgen.base.enumeration.TypeSafeConstant;
 import pcgen.cdom.base.PCGenIdentifier;
-import pcgen.cdom.facet.base.AbstractStorageFacet;
+import pcgen.cdom.facet.base.FacetStorage;
 
 /**
  * This Class is a Type Safe Constant. It is designed to hold a unique Data Set
@@ -34,7 +34,7 @@ public final class DataSetID implements TypeSafeConstant, PCGenIdentifier
 	/**
 	 * This is used to provide a unique ordinal to each constant in this class
 	 */
-	private static int ordinalCount = 0;
+	private static final AtomicInteger ORDINAL_COUNT = new AtomicInteger();
 
 	/**
 	 * The ordinal of this Constant
@@ -42,17 +42,15 @@ public final class DataSetID implements TypeSafeConstant, PCGenIdentifier
 	private final transient int ordinal;
 
 	/**
-	 * A view of the cache for this DataSetID. Generally useful for debuggers,
+	 * The facet information for this DataSetID. Generally useful for debuggers,
 	 * since this is a consolidated point for the cache for a single
-	 * DataSetID/Loaded Campaigns (and useful to be here in DataSetID since
-	 * there is code that has no Loaded Campaign reference).
+	 * DataSetID/Loaded Campaigns.
 	 */
-	@SuppressWarnings("unused")
-	private Map<Class<?>, Object> myFacetCache;
+	private final FacetStorage facetStorage = new FacetStorage();
 
 	private DataSetID()
 	{
-		ordinal = ordinalCount++;
+		ordinal = ORDINAL_COUNT.getAndIncrement();
 	}
 
 	/**
@@ -66,8 +64,12 @@ public final class DataSetID implements TypeSafeConstant, PCGenIdentifier
 
 	public static DataSetID getID()
 	{
-		DataSetID id = new DataSetID();
-		id.myFacetCache = AbstractStorageFacet.peekAtCache(id);
-		return id;
+		return new DataSetID();
+	}
+
+	@Override
+	public FacetStorage getFacetStorage()
+	{
+		return facetStorage;
 	}
 }
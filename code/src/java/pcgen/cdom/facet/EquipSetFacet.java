@@ -45,7 +45,7 @@ public class EquipSetFacet extends AbstractListFacet<CharID, EquipSet>
 	 */
 	public boolean delEquipSet(CharID id, EquipSet eSet)
 	{
-		Collection<EquipSet> componentSet = getCachedSet(id);
+		Collection<EquipSet> componentSet = getModifiableCachedSet(id);
 		if (componentSet == null)
 		{
 			return false;
@@ -19,7 +19,13 @@ package pcgen.cdom.facet;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+
 import pcgen.cdom.base.AssociatedPrereqObject;
 import pcgen.cdom.base.CDOMList;
 import pcgen.cdom.base.CDOMReference;
@@ -48,6 +54,12 @@ public class MasterAvailableSpellFacet extends
 {
 	private DataSetInitializationFacet datasetInitializationFacet;
 
+	/**
+	 * The SpellListIndex of a DataSetID with no AvailableSpells.
+	 */
+	private static final SpellListIndex EMPTY_INDEX =
+			new SpellListIndex(Collections.emptySet());
+
 	/**
 	 * Initializes the global lists of ClassSkillLists. This method only needs
 	 * to be called once for each set of sources that are loaded.
@@ -93,6 +105,7 @@ public class MasterAvailableSpellFacet extends
 				}
 			}
 		}
+		getIndex(dsID);
 	}
 	
 	/**
@@ -103,17 +116,20 @@ public class MasterAvailableSpellFacet extends
 	 */
 	public List<AvailableSpell> getAllSpellsInList(CDOMList<Spell> spellList, DataSetID dsID)
 	{
-		List<AvailableSpell> spellsInList = new ArrayList<>();
-		Collection<AvailableSpell> spells = getSet(dsID);
-		for (AvailableSpell as : spells)
-		{
-			if (as.getSpelllist().equals(spellList))
-			{
-				spellsInList.add(as);
-			}
-		}
+		return new ArrayList<>(getIndex(dsID).getSpells(spellList));
+	}
 
-		return spellsInList;
+	/**
+	 * Retrieve a list of the spells at a given level of a particular spell list. 
+	 * @param spellList The list to be queried
+	 * @param dsID The owning data set
+	 * @param level The spell level
+	 * @return The list of available spells.
+	 */
+	public List<AvailableSpell> getSpellsInList(CDOMList<Spell> spellList,
+		DataSetID dsID, int level)
+	{
+		return new ArrayList<>(getIndex(dsID).getSpells(spellList, level));
 	}
 	
 	/**
@@ -126,18 +142,25 @@ public class MasterAvailableSpellFacet extends
 	public List<AvailableSpell> getMatchingSpellsInList(
 		CDOMList<Spell> spellList, DataSetID dsID, Spell spell)
 	{
-		List<AvailableSpell> spellsInList = new ArrayList<>();
-		Collection<AvailableSpell> spells = getSet(dsID);
-		for (AvailableSpell as : spells)
-		{
-			if (as.getSpelllist().equals(spellList)
-				&& as.getSpell().equals(spell))
-			{
-				spellsInList.add(as);
-			}
-		}
+		return new ArrayList<>(getIndex(dsID).getSpells(spellList, spell));
+	}
+
+	/**
+	 * Returns the index of the AvailableSpells of the given DataSetID. The
+	 * index is held with the AvailableSpells in the FacetStorage of the
+	 * DataSetID, and is built again when first used after any AvailableSpell
+	 * has been added or removed.
+	 */
+	private SpellListIndex getIndex(DataSetID dsID)
+	{
+		IndexedSpellSet spells = (IndexedSpellSet) getCachedSet(dsID);
+		return (spells == null) ? EMPTY_INDEX : spells.getIndex();
+	}
 
-		return spellsInList;
+	@Override
+	protected Collection<AvailableSpell> getComponentSet()
+	{
+		return new IndexedSpellSet();
 	}
 
 	public void setDataSetInitializationFacet(
@@ -150,4 +173,140 @@ public class MasterAvailableSpellFacet extends
 	{
 		datasetInitializationFacet.addDataSetInitializedFacet(this);
 	}
+
+	/**
+	 * An IndexedSpellSet is the Set of AvailableSpells of a DataSetID. It holds
+	 * the SpellListIndex of its AvailableSpells, which is discarded whenever an
+	 * AvailableSpell is added or removed.
+	 */
+	private static final class IndexedSpellSet extends
+			LinkedHashSet<AvailableSpell>
+	{
+
+		private volatile SpellListIndex index;
+
+		private SpellListIndex getIndex()
+		{
+			SpellListIndex current = index;
+			if (current == null)
+			{
+				current = new SpellListIndex(this);
+				index = current;
+			}
+			return current;
+		}
+
+		@Override
+		public boolean add(AvailableSpell as)
+		{
+			boolean added = super.add(as);
+			if (added)
+			{
+				index = null;
+			}
+			return added;
+		}
+
+		@Override
+		public boolean remove(Object o)
+		{
+			boolean removed = super.remove(o);
+			if (removed)
+			{
+				index = null;
+			}
+			return removed;
+		}
+
+		@Override
+		public void clear()
+		{
+			super.clear();
+			index = null;
+		}
+
+		@Override
+		public Iterator<AvailableSpell> iterator()
+		{
+			final Iterator<AvailableSpell> it = super.iterator();
+			return new Iterator<AvailableSpell>()
+			{
+
+				@Override
+				public boolean hasNext()
+				{
+					return it.hasNext();
+				}
+
+				@Override
+				public AvailableSpell next()
+				{
+					return it.next();
+				}
+
+				@Override
+				public void remove()
+				{
+					it.remove();
+					index = null;
+				}
+
+			};
+		}
+	}
+
+	/**
+	 * A SpellListIndex holds the AvailableSpells of a DataSetID by spell list,
+	 * by spell list and level, and by spell list and spell. It is not changed
+	 * once built.
+	 */
+	private static final class SpellListIndex
+	{
+
+		private final Map<CDOMList<Spell>, List<AvailableSpell>> byList =
+				new HashMap<>();
+
+		private final Map<CDOMList<Spell>, Map<Integer, List<AvailableSpell>>> byLevel =
+				new HashMap<>();
+
+		private final Map<CDOMList<Spell>, Map<Spell, List<AvailableSpell>>> bySpell =
+				new HashMap<>();
+
+		private SpellListIndex(Collection<AvailableSpell> spells)
+		{
+			for (AvailableSpell as : spells)
+			{
+				CDOMList<Spell> list = as.getSpelllist();
+				byList.computeIfAbsent(list, k -> new ArrayList<>()).add(as);
+				byLevel.computeIfAbsent(list, k -> new HashMap<>())
+					.computeIfAbsent(as.getLevel(), k -> new ArrayList<>())
+					.add(as);
+				bySpell.computeIfAbsent(list, k -> new HashMap<>())
+					.computeIfAbsent(as.getSpell(), k -> new ArrayList<>())
+					.add(as);
+			}
+		}
+
+		private List<AvailableSpell> getSpells(CDOMList<Spell> list)
+		{
+			List<AvailableSpell> spells = byList.get(list);
+			return (spells == null) ? Collections.emptyList() : spells;
+		}
+
+		private List<AvailableSpell> getSpells(CDOMList<Spell> list, int level)
+		{
+			Map<Integer, List<AvailableSpell>> levels = byLevel.get(list);
+			List<AvailableSpell> spells =
+					(levels == null) ? null : levels.get(level);
+			return (spells == null) ? Collections.emptyList() : spells;
+		}
+
+		private List<AvailableSpell> getSpells(CDOMList<Spell> list, Spell spell)
+		{
+			Map<Spell, List<AvailableSpell>> spellMap = bySpell.get(list);
+			List<AvailableSpell> spells =
+					(spellMap == null) ? null : spellMap.get(spell);
+			return (spells == null) ? Collections.emptyList() : spells;
+		}
+	}
 }
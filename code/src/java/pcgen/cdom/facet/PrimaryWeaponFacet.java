@@ -48,4 +48,11 @@ public class PrimaryWeaponFacet extends AbstractListFacet<CharID, Equipment>
 		return newCopies;
 	}
 
+	@Override
+	public void shareContents(CharID source, CharID copy)
+	{
+		//Entries are cloned for the new owner, so cannot be shared
+		copyContents(source, copy);
+	}
+
 }
@@ -47,4 +47,11 @@ public class SecondaryWeaponFacet extends AbstractListFacet<CharID, Equipment>
 		return newCopies;
 	}
 
+	@Override
+	public void shareContents(CharID source, CharID copy)
+	{
+		//Entries are cloned for the new owner, so cannot be shared
+		copyContents(source, copy);
+	}
+
 }
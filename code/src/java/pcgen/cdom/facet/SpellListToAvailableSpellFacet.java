@@ -17,8 +17,6 @@
  */
 package pcgen.cdom.facet;
 
-import java.util.Collection;
-
 import pcgen.cdom.base.CDOMList;
 import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.facet.event.DataFacetChangeEvent;
@@ -65,14 +63,10 @@ public class SpellListToAvailableSpellFacet implements
 	{
 		CharID id = dfce.getCharID();
 		CDOMList<Spell> list = dfce.getCDOMObject();
-		Collection<AvailableSpell> spells =
-				masterAvailableSpellFacet.getSet(id.getDatasetID());
-		for (AvailableSpell as : spells)
+		for (AvailableSpell as : masterAvailableSpellFacet.getAllSpellsInList(
+			list, id.getDatasetID()))
 		{
-			if (as.getSpelllist().equals(list))
-			{
-				add(id, as, this);
-			}
+			add(id, as, this);
 		}
 	}
 
@@ -81,14 +75,10 @@ public class SpellListToAvailableSpellFacet implements
 	{
 		CharID id = dfce.getCharID();
 		CDOMList<Spell> list = dfce.getCDOMObject();
-		Collection<AvailableSpell> spells =
-				masterAvailableSpellFacet.getSet(id.getDatasetID());
-		for (AvailableSpell as : spells)
+		for (AvailableSpell as : masterAvailableSpellFacet.getAllSpellsInList(
+			list, id.getDatasetID()))
 		{
-			if (as.getSpelllist().equals(list))
-			{
-				remove(id, as, this);
-			}
+			remove(id, as, this);
 		}
 	}
 
@@ -26,6 +26,7 @@ import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.facet.BonusSkillRankChangeFacet.SkillRankChangeEvent;
 import pcgen.cdom.facet.SkillRankFacet.SkillRankChangeListener;
 import pcgen.cdom.facet.base.AbstractStorageFacet;
+import pcgen.cdom.facet.base.FacetProfiler;
 import pcgen.cdom.facet.event.AssociationChangeEvent;
 import pcgen.cdom.facet.event.AssociationChangeListener;
 import pcgen.core.Skill;
@@ -259,9 +260,27 @@ public class TotalSkillRankFacet extends AbstractStorageFacet<CharID> implements
 					new AssociationChangeEvent(id, skill, oldValue, newValue,
 						source);
 
-			for (AssociationChangeListener target : listeners)
+			if (!FacetProfiler.isEnabled())
 			{
-				target.bonusChange(bce);
+				for (AssociationChangeListener target : listeners)
+				{
+					target.bonusChange(bce);
+				}
+				return;
+			}
+			long eventStart = FacetProfiler.startEvent();
+			try
+			{
+				for (AssociationChangeListener target : listeners)
+				{
+					long start = System.nanoTime();
+					target.bonusChange(bce);
+					FacetProfiler.listenerCalled(target, start);
+				}
+			}
+			finally
+			{
+				FacetProfiler.eventSent(source, eventStart);
 			}
 		}
 	}
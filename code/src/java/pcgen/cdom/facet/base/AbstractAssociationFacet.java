@@ -119,7 +119,7 @@ public abstract class AbstractAssociationFacet<IDT extends PCGenIdentifier, S, A
 	 */
 	public void remove(IDT id, S obj)
 	{
-		Map<S, A> map = getCachedMap(id);
+		Map<S, A> map = getModifiableCachedMap(id);
 		if (map != null)
 		{
 			A old = map.remove(obj);
@@ -286,6 +286,27 @@ public abstract class AbstractAssociationFacet<IDT extends PCGenIdentifier, S, A
 		return (Map<S, A>) getCache(id);
 	}
 
+	/**
+	 * Returns the type-safe Map for this AbstractAssociationFacet and the
+	 * given PCGenIdentifier, so that it may be modified. May return null if no
+	 * information has been set in this AbstractAssociationFacet for the given
+	 * PCGenIdentifier.
+	 * 
+	 * This method (rather than getCachedMap(PCGenIdentifier)) must be used to
+	 * retrieve the Map whenever it is to be modified, as the Map may be shared
+	 * with a copy of the item (see shareContents).
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier for which the Map should be returned
+	 * @return The Map for the item represented by the given PCGenIdentifier;
+	 *         null if no information has been set in this
+	 *         AbstractAssociationFacet for the item.
+	 */
+	private Map<S, A> getModifiableCachedMap(IDT id)
+	{
+		return (Map<S, A>) getCacheForWrite(id);
+	}
+
 	/**
 	 * Returns a type-safe Map for this AbstractAssociationFacet and the given
 	 * PCGenIdentifier. Will return a new, empty Map if no information has been
@@ -303,7 +324,7 @@ public abstract class AbstractAssociationFacet<IDT extends PCGenIdentifier, S, A
 	 */
 	private Map<S, A> getConstructingCachedMap(IDT id)
 	{
-		Map<S, A> componentMap = getCachedMap(id);
+		Map<S, A> componentMap = getModifiableCachedMap(id);
 		if (componentMap == null)
 		{
 			componentMap = getComponentMap();
@@ -367,4 +388,30 @@ public abstract class AbstractAssociationFacet<IDT extends PCGenIdentifier, S, A
 			getConstructingCachedMap(destination).putAll(sourceMap);
 		}
 	}
+
+	/**
+	 * Shares the contents of the AbstractAssociationFacet from one item with
+	 * another item, based on the given PCGenIdentifiers representing those
+	 * items. The Map is only copied when it is first modified for either item.
+	 * 
+	 * @param source
+	 *            The PCGenIdentifier representing the item from which the
+	 *            information should be shared
+	 * @param destination
+	 *            The PCGenIdentifier representing the item with which the
+	 *            information should be shared
+	 */
+	@Override
+	public void shareContents(IDT source, IDT destination)
+	{
+		shareCache(source, destination);
+	}
+
+	@Override
+	protected Object copyCache(Object o)
+	{
+		Map<S, A> componentMap = getComponentMap();
+		componentMap.putAll((Map<S, A>) o);
+		return componentMap;
+	}
 }
@@ -47,6 +47,9 @@ import pcgen.cdom.facet.event.DataFacetChangeListener;
  * DataFacetChangeListners of the <b>same</b> priority will receive events from
  * the AbstractDataFacet.
  * 
+ * Note also that while a FacetChangeTransaction is open for a resource, the
+ * events for that resource are deferred until the transaction is closed.
+ * 
  * @param <IDT>
  *            The Type of identifier used in this AbstractDataFacet
  * @param <T>
@@ -227,6 +230,51 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 	@SuppressWarnings("rawtypes")
 	protected void fireDataFacetChangeEvent(IDT id, T node, int type,
 		Category category, Nature nature)
+	{
+		if (listeners.isEmpty()
+			|| FacetChangeTransaction.defer(this, id, node, type, category,
+				nature))
+		{
+			return;
+		}
+		deliverDataFacetChangeEvent(id, node, type, category, nature);
+	}
+
+	/**
+	 * Sends an event deferred by a FacetChangeTransaction to the
+	 * DataFacetChangeListeners of this AbstractDataFacet.
+	 */
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	final void sendDataFacetChangeEvent(PCGenIdentifier id, Object node,
+		int type, Category category, Nature nature)
+	{
+		deliverDataFacetChangeEvent((IDT) id, (T) node, type, category, nature);
+	}
+
+	private void deliverDataFacetChangeEvent(IDT id, T node, int type,
+		Category category, Nature nature)
+	{
+		if (!FacetProfiler.isEnabled())
+		{
+			notifyDataFacetChangeListeners(id, node, type, category, nature,
+				false);
+			return;
+		}
+		long start = FacetProfiler.startEvent();
+		try
+		{
+			notifyDataFacetChangeListeners(id, node, type, category, nature,
+				true);
+		}
+		finally
+		{
+			FacetProfiler.eventSent(this, start);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void notifyDataFacetChangeListeners(IDT id, T node, int type,
+		Category category, Nature nature, boolean profile)
 	{
 		for (DataFacetChangeListener<IDT, ? super T>[] dfclArray : listeners
 			.values())
@@ -258,6 +306,7 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 					}
 				}
 				DataFacetChangeListener dfcl = dfclArray[i];
+				long start = profile ? System.nanoTime() : 0L;
 				switch (ccEvent.getEventType())
 				{
 					case DataFacetChangeEvent.DATA_ADDED:
@@ -269,6 +318,10 @@ public abstract class AbstractDataFacet<IDT extends PCGenIdentifier, T> extends
 					default:
 						break;
 				}
+				if (profile)
+				{
+					FacetProfiler.listenerCalled(dfcl, start);
+				}
 			}
 		}
 	}
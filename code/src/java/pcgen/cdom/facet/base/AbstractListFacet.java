@@ -136,7 +136,7 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 		{
 			throw new IllegalArgumentException("Object to add may not be null");
 		}
-		Collection<T> componentSet = getCachedSet(id);
+		Collection<T> componentSet = getModifiableCachedSet(id);
 		if (componentSet != null)
 		{
 			if (componentSet.remove(obj))
@@ -172,7 +172,7 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	 */
 	public void removeAll(IDT id, Collection<T> c)
 	{
-		Collection<T> componentSet = getCachedSet(id);
+		Collection<T> componentSet = getModifiableCachedSet(id);
 		if (componentSet != null)
 		{
 			for (T obj : c)
@@ -341,6 +341,31 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 		return (Collection<T>) getCache(id);
 	}
 
+	/**
+	 * Returns the type-safe Set for this AbstractListFacet and the given
+	 * PCGenIdentifier, so that it may be modified. May return null if no
+	 * information has been set in this AbstractListFacet for the given
+	 * PCGenIdentifier.
+	 * 
+	 * This method (rather than getCachedSet(PCGenIdentifier)) must be used to
+	 * retrieve the Set whenever it is to be modified, as the Set may be shared
+	 * with a copy of the Player Character (see shareContents).
+	 * 
+	 * Note that this method SHOULD NOT be public. The Set is owned by
+	 * AbstractListFacet, and since it can be modified, a reference to that
+	 * object should not be exposed to any object other than AbstractListFacet.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier for which the Set should be returned
+	 * @return The Set for the Player Character represented by the given
+	 *         PCGenIdentifier; null if no information has been set in this
+	 *         AbstractListFacet for the Player Character.
+	 */
+	protected Collection<T> getModifiableCachedSet(IDT id)
+	{
+		return (Collection<T>) getCacheForWrite(id);
+	}
+
 	/**
 	 * Returns a type-safe Set for this AbstractListFacet and the given
 	 * PCGenIdentifier. Will return a new, empty Set if no information has been
@@ -358,7 +383,7 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 	 */
 	private Collection<T> getConstructingCachedSet(IDT id)
 	{
-		Collection<T> componentSet = getCachedSet(id);
+		Collection<T> componentSet = getModifiableCachedSet(id);
 		if (componentSet == null)
 		{
 			componentSet = getComponentSet();
@@ -424,6 +449,37 @@ public abstract class AbstractListFacet<IDT extends PCGenIdentifier, T> extends
 		}
 	}
 
+	/**
+	 * Shares the contents of the AbstractListFacet from one Player Character
+	 * with another Player Character, based on the given PCGenIdentifiers
+	 * representing those Player Characters. The Collection is only copied when
+	 * it is first modified for either Player Character.
+	 * 
+	 * Classes which override getCopyForNewOwner(Collection) must also override
+	 * this method to call copyContents(source, copy), since the contents of
+	 * the Collection cannot then be shared.
+	 * 
+	 * @param source
+	 *            The PCGenIdentifier representing the Player Character from
+	 *            which the information should be shared
+	 * @param copy
+	 *            The PCGenIdentifier representing the Player Character with
+	 *            which the information should be shared
+	 */
+	@Override
+	public void shareContents(IDT source, IDT copy)
+	{
+		shareCache(source, copy);
+	}
+
+	@Override
+	protected Object copyCache(Object o)
+	{
+		Collection<T> componentSet = getComponentSet();
+		componentSet.addAll((Collection<T>) o);
+		return componentSet;
+	}
+
 	/**
 	 * Create a new copy of this list facet's data. This defaults to a return of
 	 * the same set, but subclasses may need to do deep cloning of their objects
@@ -160,7 +160,7 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject>
 	 */
 	public void remove(CharID id, T obj, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getModifiableCachedMap(id);
 		if (componentMap != null)
 		{
 			processRemoval(id, componentMap, obj, source);
@@ -190,7 +190,7 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject>
 	 */
 	public void removeAll(CharID id, Collection<T> c, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getModifiableCachedMap(id);
 		if (componentMap != null)
 		{
 			for (T obj : c)
@@ -225,12 +225,12 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject>
 	 */
 	public Map<T, Set<Object>> removeAll(CharID id)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap =
+				(Map<T, Set<Object>>) removeCache(id);
 		if (componentMap == null)
 		{
 			return Collections.emptyMap();
 		}
-		removeCache(id);
 		for (T obj : componentMap.keySet())
 		{
 			fireDataFacetChangeEvent(id, obj, DataFacetChangeEvent.DATA_REMOVED);
@@ -388,6 +388,27 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject>
 		return (Map<T, Set<Object>>) getCache(id);
 	}
 
+	/**
+	 * Returns the type-safe Map for this AbstractQualifiedListFacet and the
+	 * given CharID, so that it may be modified. May return null if no
+	 * information has been set in this AbstractQualifiedListFacet for the
+	 * given CharID.
+	 * 
+	 * This method (rather than getCachedMap(CharID)) must be used to
+	 * retrieve the Map whenever it is to be modified, as the Map may be shared
+	 * with a copy of the Player Character (see shareContents).
+	 * 
+	 * @param id
+	 *            The CharID for which the Map should be returned
+	 * @return The Map for the Player Character represented by the given
+	 *         CharID; null if no information has been set in this
+	 *         AbstractQualifiedListFacet for the Player Character.
+	 */
+	private Map<T, Set<Object>> getModifiableCachedMap(CharID id)
+	{
+		return (Map<T, Set<Object>>) getCacheForWrite(id);
+	}
+
 	/**
 	 * Returns a type-safe Map for this AbstractQualifiedListFacet and the given
 	 * CharID. Will return a new, empty Map if no information has been set in
@@ -405,7 +426,7 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject>
 	 */
 	private Map<T, Set<Object>> getConstructingCachedMap(CharID id)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getModifiableCachedMap(id);
 		if (componentMap == null)
 		{
 			componentMap = getComponentMap();
@@ -477,6 +498,39 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject>
 		}
 	}
 
+	/**
+	 * Shares the contents of the AbstractQualifiedListFacet from one Player
+	 * Character with another Player Character, based on the given CharIDs
+	 * representing those Player Characters. The Map is only copied when it is
+	 * first modified for either Player Character.
+	 * 
+	 * @param source
+	 *            The CharID representing the Player Character from which the
+	 *            information should be shared
+	 * @param destination
+	 *            The CharID representing the Player Character with which the
+	 *            information should be shared
+	 */
+	@Override
+	public void shareContents(CharID source, CharID destination)
+	{
+		shareCache(source, destination);
+	}
+
+	@Override
+	protected Object copyCache(Object o)
+	{
+		Map<T, Set<Object>> componentMap = getComponentMap();
+		for (Map.Entry<T, Set<Object>> me : ((Map<T, Set<Object>>) o)
+			.entrySet())
+		{
+			Set<Object> set = new WrappedMapSet<>(IdentityHashMap.class);
+			set.addAll(me.getValue());
+			componentMap.put(me.getKey(), set);
+		}
+		return componentMap;
+	}
+
 	/**
 	 * This method implements removal of a source for an object contained by
 	 * this AbstractQualifiedListFacet. This implements the actual check that
@@ -535,7 +589,7 @@ public abstract class AbstractQualifiedListFacet<T extends QualifyingObject>
 	 */
 	public void removeAll(CharID id, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getModifiableCachedMap(id);
 		if (componentMap != null)
 		{
 			/*
@@ -423,8 +423,27 @@ public class AbstractScopeFacet<IDT extends PCGenIdentifier, S, T> extends
 	 *            An identifier indicating whether the given CDOMObject was
 	 *            added to or removed from this AbstractScopeFacet
 	 */
-	@SuppressWarnings("rawtypes")
 	protected void fireScopeFacetChangeEvent(IDT id, S scope, T node, int type)
+	{
+		if (!FacetProfiler.isEnabled())
+		{
+			notifyScopeFacetChangeListeners(id, scope, node, type, false);
+			return;
+		}
+		long start = FacetProfiler.startEvent();
+		try
+		{
+			notifyScopeFacetChangeListeners(id, scope, node, type, true);
+		}
+		finally
+		{
+			FacetProfiler.eventSent(this, start);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void notifyScopeFacetChangeListeners(IDT id, S scope, T node,
+		int type, boolean profile)
 	{
 		for (ScopeFacetChangeListener<? super IDT, ? super S, ? super T>[] dfclArray : listeners
 			.values())
@@ -446,6 +465,7 @@ public class AbstractScopeFacet<IDT extends PCGenIdentifier, S, T> extends
                                     node, this, type);
 				}
 				ScopeFacetChangeListener dfcl = dfclArray[i];
+				long start = profile ? System.nanoTime() : 0L;
 				switch (ccEvent.getEventType())
 				{
 					case ScopeFacetChangeEvent.DATA_ADDED:
@@ -457,6 +477,10 @@ public class AbstractScopeFacet<IDT extends PCGenIdentifier, S, T> extends
 					default:
 						break;
 				}
+				if (profile)
+				{
+					FacetProfiler.listenerCalled(dfcl, start);
+				}
 			}
 		}
 	}
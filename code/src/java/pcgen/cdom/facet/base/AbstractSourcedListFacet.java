@@ -143,7 +143,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T>
 	 */
 	public boolean remove(IDT id, T obj, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getModifiableCachedMap(id);
 		return (componentMap != null)
 			&& processRemoval(id, componentMap, obj, source);
 	}
@@ -171,7 +171,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T>
 	 */
 	public void removeAll(IDT id, Collection<T> c, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getModifiableCachedMap(id);
 		if (componentMap != null)
 		{
 			for (T obj : c)
@@ -206,12 +206,12 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T>
 	 */
 	public Map<T, Set<Object>> removeAll(IDT id)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap =
+				(Map<T, Set<Object>>) removeCache(id);
 		if (componentMap == null)
 		{
 			return Collections.emptyMap();
 		}
-		removeCache(id);
 		for (T obj : componentMap.keySet())
 		{
 			fireDataFacetChangeEvent(id, obj, DataFacetChangeEvent.DATA_REMOVED);
@@ -367,6 +367,27 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T>
 		return (Map<T, Set<Object>>) getCache(id);
 	}
 
+	/**
+	 * Returns the type-safe Map for this AbstractSourcedListFacet and the
+	 * given PCGenIdentifier, so that it may be modified. May return null if no
+	 * information has been set in this AbstractSourcedListFacet for the given
+	 * PCGenIdentifier.
+	 * 
+	 * This method (rather than getCachedMap(PCGenIdentifier)) must be used to
+	 * retrieve the Map whenever it is to be modified, as the Map may be shared
+	 * with a copy of the resource (see shareContents).
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier for which the Map should be returned
+	 * @return The Map for the resource represented by the given
+	 *         PCGenIdentifier; null if no information has been set in this
+	 *         AbstractSourcedListFacet for the resource.
+	 */
+	private Map<T, Set<Object>> getModifiableCachedMap(IDT id)
+	{
+		return (Map<T, Set<Object>>) getCacheForWrite(id);
+	}
+
 	/**
 	 * Returns the type-safe Map for this AbstractSourcedListFacet and the given
 	 * PCGenIdentifier. Will return a new, empty Map if no information has been
@@ -385,7 +406,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T>
 	 */
 	private Map<T, Set<Object>> getConstructingCachedMap(IDT id)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getModifiableCachedMap(id);
 		if (componentMap == null)
 		{
 			componentMap = getComponentMap();
@@ -457,6 +478,39 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T>
 		}
 	}
 
+	/**
+	 * Shares the contents of the AbstractSourcedListFacet from one resource
+	 * with another resource, based on the given PCGenIdentifiers representing
+	 * those resources. The Map is only copied when it is first modified for
+	 * either resource.
+	 * 
+	 * @param source
+	 *            The PCGenIdentifier representing the resource from which the
+	 *            information should be shared
+	 * @param destination
+	 *            The PCGenIdentifier representing the resource with which the
+	 *            information should be shared
+	 */
+	@Override
+	public void shareContents(IDT source, IDT destination)
+	{
+		shareCache(source, destination);
+	}
+
+	@Override
+	protected Object copyCache(Object o)
+	{
+		Map<T, Set<Object>> componentMap = getComponentMap();
+		for (Map.Entry<T, Set<Object>> me : ((Map<T, Set<Object>>) o)
+			.entrySet())
+		{
+			Set<Object> set = new WrappedMapSet<>(IdentityHashMap.class);
+			set.addAll(me.getValue());
+			componentMap.put(me.getKey(), set);
+		}
+		return componentMap;
+	}
+
 	/**
 	 * This method implements removal of a source for an object contained by
 	 * this AbstractSourcedListFacet. This implements the actual check that
@@ -521,7 +575,7 @@ public abstract class AbstractSourcedListFacet<IDT extends PCGenIdentifier, T>
 	 */
 	public void removeAll(IDT id, Object source)
 	{
-		Map<T, Set<Object>> componentMap = getCachedMap(id);
+		Map<T, Set<Object>> componentMap = getModifiableCachedMap(id);
 		if (componentMap != null)
 		{
 			/*
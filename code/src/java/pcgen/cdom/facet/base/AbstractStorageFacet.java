@@ -18,14 +18,11 @@
 package pcgen.cdom.facet.base;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.WeakHashMap;
 
 import pcgen.base.test.InequalityTester;
-import pcgen.base.util.DoubleKeyMap;
 import pcgen.cdom.base.PCGenIdentifier;
 import pcgen.util.Logging;
 
@@ -34,13 +31,21 @@ import pcgen.util.Logging;
  * cache. All classes (facets) that want to store information in the cache must
  * extend this class.
  * 
+ * The cache is held by each PCGenIdentifier in its FacetStorage, in a slot
+ * assigned to the class of this facet. Since each resource has its own
+ * FacetStorage, facets may be used for different resources on different
+ * threads at the same time.
+ * 
  * @param <T>
  *            The Type of identifier used in this AbstractStorageFacet
  */
 public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 {
 
-	private final Class<?> thisClass = getClass();
+	/**
+	 * The slot in each FacetStorage used by this facet.
+	 */
+	private final int slot = FacetStorage.getSlot(getClass());
 
 	/**
 	 * Copies the contents of the AbstractStorageFacet from one resource to
@@ -69,22 +74,87 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	public abstract void copyContents(T source, T copy);
 
 	/**
-	 * The actual cache that stores the CDOM information, as stored by the
-	 * identifying PCGenIdentifier of a resource and the class of the facet
-	 * storing the information
+	 * Shares the contents of the AbstractStorageFacet from one resource with
+	 * another resource, based on the given PCGenIdentifiers representing those
+	 * resources.
+	 * 
+	 * The result is the same as copyContents(source, copy): once this takes
+	 * place, any change to the AbstractStorageFacet of one resource will only
+	 * impact the resource where the AbstractStorageFacet was changed. However,
+	 * an AbstractStorageFacet which obtains its storage through
+	 * getCacheForWrite(T) whenever it changes that storage may override this
+	 * method to call shareCache(T, T), so that the storage is only copied when
+	 * (and if) one of the resources is changed. By default, this method calls
+	 * copyContents(source, copy).
+	 * 
+	 * @param source
+	 *            The PCGenIdentifier representing the resource from which the
+	 *            information should be shared
+	 * @param copy
+	 *            The PCGenIdentifier representing the resource with which the
+	 *            information should be shared
+	 */
+	public void shareContents(T source, T copy)
+	{
+		copyContents(source, copy);
+	}
+
+	/**
+	 * Shares the information in the cache for this facet between two
+	 * resources. The information is copied by copyCache(Object) when it is
+	 * first retrieved through getCacheForWrite(T) for either resource.
+	 * 
+	 * If the resource to which the information is shared already has
+	 * information in the cache for this facet, the information is instead
+	 * copied with copyContents(T, T).
+	 * 
+	 * @param source
+	 *            The PCGenIdentifier representing the resource from which the
+	 *            information should be shared
+	 * @param copy
+	 *            The PCGenIdentifier representing the resource with which the
+	 *            information should be shared
 	 */
-	private static final DoubleKeyMap<PCGenIdentifier, Class<?>, Object> CACHE =
-            new DoubleKeyMap<>(
-                    WeakHashMap.class, HashMap.class);
+	protected final void shareCache(T source, T copy)
+	{
+		if (source == null)
+		{
+			throw new IllegalArgumentException(
+				"Source PCGenIdentifier cannot be null in shareCache");
+		}
+		if (copy == null)
+		{
+			throw new IllegalArgumentException(
+				"Copy PCGenIdentifier cannot be null in shareCache");
+		}
+		if (copy.getFacetStorage().get(slot) != null)
+		{
+			copyContents(source, copy);
+			return;
+		}
+		Object o = source.getFacetStorage().share(slot);
+		if (o != null)
+		{
+			copy.getFacetStorage().setShared(slot, o);
+		}
+	}
 
-	/*
-	 * Note: the use of CACHE.getReadOnlyMapFor(K1) in peekAtCache makes calling
-	 * CACHE.removeAll(k1) or CACHE.clear() [not used in this class at the
-	 * moment] a rather dangerous activity that is prone to later frustration in
-	 * debugging. It is advised that if such a call is every considered that
-	 * detailed consideration is made of the consequences so that debugging
-	 * information is not destroyed in the process. - thpr Dec 15, 2012.
+	/**
+	 * Returns a copy of the given information from the cache for this facet,
+	 * which shares no modifiable state with the given information. This is
+	 * used to separate the information of two resources between which the
+	 * cache was shared by shareCache(T, T), and so must be implemented by any
+	 * facet that calls shareCache(T, T).
+	 * 
+	 * @param o
+	 *            The information from the cache to be copied
+	 * @return A copy of the given information
 	 */
+	protected Object copyCache(Object o)
+	{
+		throw new UnsupportedOperationException(getClass().getName()
+			+ " does not share the contents of its cache");
+	}
 
 	/**
 	 * Removes the information from the cache for a given resource and facet (as
@@ -104,7 +174,7 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 			throw new IllegalArgumentException(
 				"PCGenIdentifier cannot be null in removeCache");
 		}
-		return CACHE.remove(id, thisClass);
+		return id.getFacetStorage().remove(slot, this::copyCache);
 	}
 
 	/**
@@ -127,7 +197,7 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 			throw new IllegalArgumentException(
 				"PCGenIdentifier cannot be null in setCache");
 		}
-		return CACHE.put(id, thisClass, o);
+		return id.getFacetStorage().set(slot, o);
 	}
 
 	/**
@@ -148,7 +218,47 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 			throw new IllegalArgumentException(
 				"PCGenIdentifier cannot be null in getCache");
 		}
-		return CACHE.get(id, thisClass);
+		if (!FacetProfiler.isEnabled())
+		{
+			return id.getFacetStorage().get(slot);
+		}
+		long start = System.nanoTime();
+		Object cache = id.getFacetStorage().get(slot);
+		FacetProfiler.cacheAccessed(this, start);
+		return cache;
+	}
+
+	/**
+	 * Retrieves the information from the cache for a given resource and facet
+	 * (as identified by the Class), so that it may be modified. If the
+	 * information is shared with another resource (see shareCache(T, T)), it
+	 * is first replaced in the cache of the given resource by a copy.
+	 * 
+	 * Any change to the information in the cache must be made to the object
+	 * returned by this method rather than the object returned by getCache(T).
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier for which the information should be
+	 *            returned
+	 * @return The information in the Cache for the resource identified by the
+	 *         given PCGenIdentifier, which is not shared with any other
+	 *         resource
+	 */
+	public Object getCacheForWrite(T id)
+	{
+		if (id == null)
+		{
+			throw new IllegalArgumentException(
+				"PCGenIdentifier cannot be null in getCacheForWrite");
+		}
+		if (!FacetProfiler.isEnabled())
+		{
+			return id.getFacetStorage().getForWrite(slot, this::copyCache);
+		}
+		long start = System.nanoTime();
+		Object cache = id.getFacetStorage().getForWrite(slot, this::copyCache);
+		FacetProfiler.cacheAccessed(this, start);
+		return cache;
 	}
 
 	/**
@@ -182,8 +292,10 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 			throw new IllegalArgumentException(
 				"PCGenIdentifier #2 cannot be null in areEqualCache");
 		}
-		Set<Class<?>> set1 = CACHE.getSecondaryKeySet(id1);
-		Set<Class<?>> set2 = CACHE.getSecondaryKeySet(id2);
+		Map<Class<?>, Object> cache1 = id1.getFacetStorage().getContents();
+		Map<Class<?>, Object> cache2 = id2.getFacetStorage().getContents();
+		Set<Class<?>> set1 = cache1.keySet();
+		Set<Class<?>> set2 = cache2.keySet();
 		if (!set1.equals(set2))
 		{
 			List<Class<?>> l1 = new ArrayList<>(set1);
@@ -195,8 +307,8 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 		}
 		for (Class<?> cl : set1)
 		{
-			Object obj1 = CACHE.get(id1, cl);
-			Object obj2 = CACHE.get(id2, cl);
+			Object obj1 = cache1.get(cl);
+			Object obj2 = cache2.get(cl);
 			String equal = t.testEquality(obj1, obj2, cl + "/");
 			if (equal != null)
 			{
@@ -208,24 +320,16 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 	}
 
 	/**
-	 * Returns a read-only view into the cache for a given PCGenIdentifier.
-	 * 
-	 * Since the returned Map is read-only, the value here is in that it is a
-	 * direct reference to the contents of cache for a given PCGenIdentifier,
-	 * and is therefore reference-semantic (the contents of the returned map
-	 * will change as the contents of the cache are changed). Ownership of the
-	 * returned Map is transferred to the caller, although since it is
-	 * read-only, that is perhaps only relevant for determining the garbage
-	 * collection time of the decorator that makes the returned Map an
-	 * unmodifiable view into this DoubleKeyMap.
+	 * Returns a read-only snapshot of the cache for a given PCGenIdentifier.
 	 * 
-	 * Note that while this is a read-only map, there is no guarantee that this
-	 * returned map is thread-safe. Use in threaded situations with caution.
+	 * The returned Map is a copy of the contents of the cache at the time this
+	 * method is called, and will not reflect later changes to the cache.
+	 * Ownership of the returned Map is transferred to the caller.
 	 * 
 	 * @param id
-	 *            The PCGenIdentifier for which a read-only view of the cache
-	 *            should be returned.
-	 * @return A read-only view of the cache for the given PCGenIdentifier
+	 *            The PCGenIdentifier for which a read-only snapshot of the
+	 *            cache should be returned.
+	 * @return A read-only snapshot of the cache for the given PCGenIdentifier
 	 */
 	public static Map<Class<?>, Object> peekAtCache(PCGenIdentifier id)
 	{
@@ -234,6 +338,6 @@ public abstract class AbstractStorageFacet<T extends PCGenIdentifier>
 			throw new IllegalArgumentException(
 				"PCGenIdentifier cannot be null in peekAtCache");
 		}
-		return CACHE.getReadOnlyMapFor(id);
+		return id.getFacetStorage().getContents();
 	}
 }
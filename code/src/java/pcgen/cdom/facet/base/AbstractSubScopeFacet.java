@@ -486,9 +486,30 @@ public class AbstractSubScopeFacet<S1, S2, T> extends
 	 *            An identifier indicating whether the given CDOMObject was
 	 *            added to or removed from this AbstractScopeFacet.
 	 */
-	@SuppressWarnings("rawtypes")
 	protected void fireSubScopeFacetChangeEvent(CharID id, S1 scope1,
 		S2 scope2, T node, int type)
+	{
+		if (!FacetProfiler.isEnabled())
+		{
+			notifySubScopeFacetChangeListeners(id, scope1, scope2, node, type,
+				false);
+			return;
+		}
+		long start = FacetProfiler.startEvent();
+		try
+		{
+			notifySubScopeFacetChangeListeners(id, scope1, scope2, node, type,
+				true);
+		}
+		finally
+		{
+			FacetProfiler.eventSent(this, start);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void notifySubScopeFacetChangeListeners(CharID id, S1 scope1,
+		S2 scope2, T node, int type, boolean profile)
 	{
 		for (SubScopeFacetChangeListener<? super S1, ? super S2, ? super T>[] dfclArray : listeners
 			.values())
@@ -510,6 +531,7 @@ public class AbstractSubScopeFacet<S1, S2, T> extends
                                     scope2, node, this, type);
 				}
 				SubScopeFacetChangeListener dfcl = dfclArray[i];
+				long start = profile ? System.nanoTime() : 0L;
 				switch (ccEvent.getEventType())
 				{
 					case SubScopeFacetChangeEvent.DATA_ADDED:
@@ -521,6 +543,10 @@ public class AbstractSubScopeFacet<S1, S2, T> extends
 					default:
 						break;
 				}
+				if (profile)
+				{
+					FacetProfiler.listenerCalled(dfcl, start);
+				}
 			}
 		}
 	}
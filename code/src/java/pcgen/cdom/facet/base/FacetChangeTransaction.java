@@ -0,0 +1,291 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import pcgen.cdom.base.Category;
+import pcgen.cdom.base.PCGenIdentifier;
+import pcgen.cdom.enumeration.Nature;
+
+/**
+ * A FacetChangeTransaction defers the DataFacetChangeEvents fired by
+ * AbstractDataFacets for a single resource (such as a PlayerCharacter) until
+ * the transaction is closed.
+ * 
+ * While a transaction is open for a PCGenIdentifier, the events fired for that
+ * PCGenIdentifier are queued rather than sent to the DataFacetChangeListeners.
+ * An event which reverses a queued event (the removal of an object whose
+ * addition is queued, or the addition of the same object whose removal is
+ * queued) cancels the queued event, so neither is sent. Objects are matched by
+ * identity, since the downstream facets keep the object they were sent. When
+ * the outermost transaction is closed, the remaining events are sent in the
+ * order in which they were first queued, and any events fired while they are
+ * being processed are sent immediately, as they would be without a
+ * transaction. This means the downstream facets are updated once, with the net
+ * change.
+ * 
+ * The downstream facets are therefore not updated until the transaction is
+ * closed, so a transaction should only be used around changes which do not
+ * depend on the downstream facets (such as derived values) while the
+ * transaction is open. Events which are not DataFacetChangeEvents (such as
+ * scope or class level events) are not deferred.
+ * 
+ * Transactions may be nested; the events are sent when the outermost
+ * transaction is closed. A transaction must be closed by the thread that began
+ * it, using try-with-resources:
+ * 
+ * <pre>
+ * try (FacetChangeTransaction transaction = FacetChangeTransaction.begin(id))
+ * {
+ *     ...
+ * }
+ * </pre>
+ * 
+ * The queued events are sent even if the block throws an exception, as the
+ * changes which caused them have already been made to the facets, and the
+ * downstream facets must be kept consistent with them.
+ */
+public final class FacetChangeTransaction implements AutoCloseable
+{
+
+	/**
+	 * The open transactions, by the PCGenIdentifier of their resource.
+	 */
+	private static final Map<PCGenIdentifier, OpenTransaction> OPEN =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * The number of open transactions, so that events can be sent without a
+	 * lookup when no transaction is open.
+	 */
+	private static final AtomicInteger OPEN_COUNT = new AtomicInteger();
+
+	/**
+	 * The PCGenIdentifier of the resource for which this transaction was
+	 * begun.
+	 */
+	private final PCGenIdentifier id;
+
+	/**
+	 * true once this transaction has been closed.
+	 */
+	private boolean closed = false;
+
+	private FacetChangeTransaction(PCGenIdentifier id)
+	{
+		this.id = id;
+	}
+
+	/**
+	 * Begins a transaction for the resource identified by the given
+	 * PCGenIdentifier, or nests within the open transaction for that resource.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource for which
+	 *            DataFacetChangeEvents should be deferred
+	 * @return The FacetChangeTransaction, which must be closed
+	 */
+	public static FacetChangeTransaction begin(PCGenIdentifier id)
+	{
+		OpenTransaction transaction = OPEN.get(id);
+		if (transaction == null)
+		{
+			OPEN.put(id, new OpenTransaction());
+			OPEN_COUNT.incrementAndGet();
+		}
+		else
+		{
+			transaction.depth++;
+		}
+		return new FacetChangeTransaction(id);
+	}
+
+	/**
+	 * Closes this transaction. If this ends the outermost transaction for the
+	 * resource, the transaction is no longer open and the queued
+	 * DataFacetChangeEvents are sent. Closing a transaction more than once has
+	 * no further effect.
+	 */
+	@Override
+	public void close()
+	{
+		if (closed)
+		{
+			return;
+		}
+		closed = true;
+		OpenTransaction transaction = OPEN.get(id);
+		if (transaction == null)
+		{
+			throw new IllegalStateException(
+				"No transaction is open for " + id);
+		}
+		transaction.depth--;
+		if (transaction.depth == 0)
+		{
+			OPEN.remove(id);
+			OPEN_COUNT.decrementAndGet();
+			for (QueuedEvent event : transaction.queue.values())
+			{
+				event.send(id);
+			}
+		}
+	}
+
+	/**
+	 * Returns true if a transaction is open for the resource identified by the
+	 * given PCGenIdentifier.
+	 * 
+	 * @param id
+	 *            The PCGenIdentifier identifying the resource to be checked
+	 * @return true if a transaction is open for the given PCGenIdentifier;
+	 *         false otherwise
+	 */
+	public static boolean isOpen(PCGenIdentifier id)
+	{
+		return (OPEN_COUNT.get() != 0) && OPEN.containsKey(id);
+	}
+
+	/**
+	 * Queues the given event if a transaction is open for the given
+	 * PCGenIdentifier.
+	 * 
+	 * @return true if the event has been queued (or has cancelled a queued
+	 *         event); false if the event should be sent immediately
+	 */
+	static boolean defer(AbstractDataFacet<?, ?> facet, PCGenIdentifier id,
+		Object node, int type, Category<?> category, Nature nature)
+	{
+		if (OPEN_COUNT.get() == 0)
+		{
+			return false;
+		}
+		OpenTransaction transaction = OPEN.get(id);
+		if (transaction == null)
+		{
+			return false;
+		}
+		EventKey key = new EventKey(facet, node, category, nature);
+		QueuedEvent queued = transaction.queue.get(key);
+		if (queued == null)
+		{
+			transaction.queue.put(key, new QueuedEvent(key, type));
+		}
+		else if (queued.type == type)
+		{
+			queued.count++;
+		}
+		else
+		{
+			queued.count--;
+			if (queued.count == 0)
+			{
+				transaction.queue.remove(key);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The state of the open transaction for a resource, shared by nested
+	 * transactions.
+	 */
+	private static final class OpenTransaction
+	{
+		/**
+		 * The number of transactions begun for the resource which have not
+		 * been closed.
+		 */
+		private int depth = 1;
+
+		/**
+		 * The queued events, in the order they were first queued.
+		 */
+		private final Map<EventKey, QueuedEvent> queue = new LinkedHashMap<>();
+	}
+
+	/**
+	 * Identifies the events which cancel each other: those of the same
+	 * facet, object (by identity), category and nature.
+	 */
+	private static final class EventKey
+	{
+		private final AbstractDataFacet<?, ?> facet;
+		private final Object node;
+		private final Category<?> category;
+		private final Nature nature;
+
+		private EventKey(AbstractDataFacet<?, ?> facet, Object node,
+			Category<?> category, Nature nature)
+		{
+			this.facet = facet;
+			this.node = node;
+			this.category = category;
+			this.nature = nature;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return System.identityHashCode(facet) * 31
+				+ System.identityHashCode(node);
+		}
+
+		@Override
+		public boolean equals(Object o)
+		{
+			if (!(o instanceof EventKey))
+			{
+				return false;
+			}
+			EventKey other = (EventKey) o;
+			return (facet == other.facet) && (node == other.node)
+				&& Objects.equals(category, other.category)
+				&& (nature == other.nature);
+		}
+	}
+
+	/**
+	 * A queued event, which is sent count times when the transaction is
+	 * closed.
+	 */
+	private static final class QueuedEvent
+	{
+		private final EventKey key;
+		private final int type;
+		private int count = 1;
+
+		private QueuedEvent(EventKey key, int type)
+		{
+			this.key = key;
+			this.type = type;
+		}
+
+		private void send(PCGenIdentifier id)
+		{
+			for (int i = 0; i < count; i++)
+			{
+				key.facet.sendDataFacetChangeEvent(id, key.node, type,
+					key.category, key.nature);
+			}
+		}
+	}
+}
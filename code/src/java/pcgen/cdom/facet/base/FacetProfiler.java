@@ -0,0 +1,340 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import pcgen.cdom.helper.SpringHelper;
+
+/**
+ * FacetProfiler records how often the facets send change events and access
+ * their cache, and how long that takes, so that the facets which dominate the
+ * time taken to change a character can be found.
+ * 
+ * Three sets of Statistics are recorded, each by the class of the facet or
+ * listener, and named by its bean id in applicationContext.xml (or its class
+ * name, if it is not a bean):
+ * 
+ * <ul>
+ * <li>Events: each change event sent by a facet (DataFacetChangeEvents,
+ * ScopeFacetChangeEvents, SubScopeFacetChangeEvents and
+ * AssociationChangeEvents), including the time taken by all of the listeners
+ * and the events they cause in turn. The depth is the number of events being
+ * sent (by any facet) when the event was sent, so the maximum depth shows how
+ * far down a cascade of events the facet is reached.</li>
+ * <li>Listeners: each call of a listener with a change event, excluding the
+ * time taken by other listeners of the same event.</li>
+ * <li>Cache: each access of the cache of a facet through
+ * AbstractStorageFacet.getCache or getCacheForWrite.</li>
+ * </ul>
+ * 
+ * Profiling is off unless the system property pcgen.facet.profile is true or
+ * setEnabled(true) is called. When off, the cost is a single volatile read at
+ * each of the instrumented points. When enabled, a command line export resets
+ * the Statistics before it loads any sources, and logs the report (see
+ * getReport()) once all of its exports are complete. The Statistics are shared
+ * by all threads, so a single load or export, which may run alongside others,
+ * never resets them.
+ */
+public final class FacetProfiler
+{
+
+	/**
+	 * The system property which, when true, enables profiling from startup.
+	 */
+	public static final String PROFILE_PROPERTY = "pcgen.facet.profile";
+
+	private static volatile boolean enabled =
+			Boolean.getBoolean(PROFILE_PROPERTY);
+
+	private static final Map<Class<?>, Statistics> EVENTS =
+			new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, Statistics> LISTENERS =
+			new ConcurrentHashMap<>();
+
+	private static final Map<Class<?>, Statistics> CACHE =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * The number of events being sent by the current thread.
+	 */
+	private static final ThreadLocal<int[]> DEPTH =
+			ThreadLocal.withInitial(() -> new int[1]);
+
+	private FacetProfiler()
+	{
+	}
+
+	/**
+	 * Returns true if profiling is enabled.
+	 * 
+	 * @return true if profiling is enabled; false otherwise
+	 */
+	public static boolean isEnabled()
+	{
+		return enabled;
+	}
+
+	/**
+	 * Enables or disables profiling. The Statistics recorded so far are
+	 * retained.
+	 * 
+	 * @param enable
+	 *            true to enable profiling; false to disable it
+	 */
+	public static void setEnabled(boolean enable)
+	{
+		enabled = enable;
+	}
+
+	/**
+	 * Discards all of the Statistics recorded so far.
+	 */
+	public static void reset()
+	{
+		EVENTS.clear();
+		LISTENERS.clear();
+		CACHE.clear();
+	}
+
+	/**
+	 * Records the start of an event sent by a facet, which must be followed
+	 * (in a finally block) by a call to eventSent.
+	 * 
+	 * @return The start time, to be passed to eventSent
+	 */
+	public static long startEvent()
+	{
+		DEPTH.get()[0]++;
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records the end of an event sent by the given facet.
+	 * 
+	 * @param facet
+	 *            The facet which sent the event
+	 * @param start
+	 *            The start time returned by startEvent
+	 */
+	public static void eventSent(Object facet, long start)
+	{
+		long elapsed = System.nanoTime() - start;
+		int[] depth = DEPTH.get();
+		get(EVENTS, facet).record(elapsed, depth[0]);
+		depth[0]--;
+	}
+
+	/**
+	 * Records the call of a listener with an event.
+	 * 
+	 * @param listener
+	 *            The listener which was called
+	 * @param start
+	 *            The time (from System.nanoTime()) at which the listener was
+	 *            called
+	 */
+	public static void listenerCalled(Object listener, long start)
+	{
+		get(LISTENERS, listener).record(System.nanoTime() - start, 0);
+	}
+
+	/**
+	 * Records an access of the cache of the given facet.
+	 * 
+	 * @param facet
+	 *            The facet whose cache was accessed
+	 * @param start
+	 *            The time (from System.nanoTime()) at which the access started
+	 */
+	static void cacheAccessed(Object facet, long start)
+	{
+		get(CACHE, facet).record(System.nanoTime() - start, 0);
+	}
+
+	private static Statistics get(Map<Class<?>, Statistics> map, Object o)
+	{
+		Class<?> cl = o.getClass();
+		Statistics stats = map.get(cl);
+		if (stats == null)
+		{
+			String name = SpringHelper.getBeanName(cl);
+			stats = new Statistics((name == null) ? cl.getName() : name);
+			Statistics existing = map.putIfAbsent(cl, stats);
+			if (existing != null)
+			{
+				stats = existing;
+			}
+		}
+		return stats;
+	}
+
+	/**
+	 * Returns the Statistics of the events sent by each facet, in descending
+	 * order of total time.
+	 * 
+	 * @return The Statistics of the events sent by each facet
+	 */
+	public static List<Statistics> getEventStatistics()
+	{
+		return sorted(EVENTS);
+	}
+
+	/**
+	 * Returns the Statistics of the calls of each listener, in descending
+	 * order of total time.
+	 * 
+	 * @return The Statistics of the calls of each listener
+	 */
+	public static List<Statistics> getListenerStatistics()
+	{
+		return sorted(LISTENERS);
+	}
+
+	/**
+	 * Returns the Statistics of the cache accesses of each facet, in
+	 * descending order of total time.
+	 * 
+	 * @return The Statistics of the cache accesses of each facet
+	 */
+	public static List<Statistics> getCacheStatistics()
+	{
+		return sorted(CACHE);
+	}
+
+	private static List<Statistics> sorted(Map<Class<?>, Statistics> map)
+	{
+		List<Statistics> list = new ArrayList<>(map.values());
+		list.sort(Comparator.comparingLong(Statistics::getTotalNanos)
+			.reversed());
+		return Collections.unmodifiableList(list);
+	}
+
+	/**
+	 * Returns a report of the Statistics recorded so far.
+	 * 
+	 * @return A report of the Statistics recorded so far
+	 */
+	public static String getReport()
+	{
+		StringBuilder sb = new StringBuilder();
+		appendSection(sb, "Events", getEventStatistics(), true);
+		appendSection(sb, "Listeners", getListenerStatistics(), false);
+		appendSection(sb, "Cache", getCacheStatistics(), false);
+		return sb.toString();
+	}
+
+	private static void appendSection(StringBuilder sb, String title,
+		List<Statistics> list, boolean showDepth)
+	{
+		sb.append(title).append(":\n");
+		sb.append(String.format("  %-50s %10s %12s %10s%s%n", "Name", "Count",
+			"Total ms", "Max us", showDepth ? "  Depth" : ""));
+		for (Statistics stats : list)
+		{
+			sb.append(String.format("  %-50s %10d %12.3f %10.1f", stats.name,
+				stats.getCount(), stats.getTotalNanos() / 1000000.0,
+				stats.getMaxNanos() / 1000.0));
+			if (showDepth)
+			{
+				sb.append(String.format(" %6d", stats.getMaxDepth()));
+			}
+			sb.append('\n');
+		}
+	}
+
+	/**
+	 * The Statistics recorded for a single facet or listener.
+	 */
+	public static final class Statistics
+	{
+		private final String name;
+		private long count;
+		private long totalNanos;
+		private long maxNanos;
+		private int maxDepth;
+
+		private Statistics(String name)
+		{
+			this.name = name;
+		}
+
+		private synchronized void record(long nanos, int depth)
+		{
+			count++;
+			totalNanos += nanos;
+			maxNanos = Math.max(maxNanos, nanos);
+			maxDepth = Math.max(maxDepth, depth);
+		}
+
+		/**
+		 * Returns the bean id (or class name) of the facet or listener.
+		 * 
+		 * @return The bean id (or class name) of the facet or listener
+		 */
+		public String getName()
+		{
+			return name;
+		}
+
+		/**
+		 * Returns the number of times the facet or listener was recorded.
+		 * 
+		 * @return The number of times the facet or listener was recorded
+		 */
+		public synchronized long getCount()
+		{
+			return count;
+		}
+
+		/**
+		 * Returns the total time recorded, in nanoseconds.
+		 * 
+		 * @return The total time recorded, in nanoseconds
+		 */
+		public synchronized long getTotalNanos()
+		{
+			return totalNanos;
+		}
+
+		/**
+		 * Returns the longest time recorded, in nanoseconds.
+		 * 
+		 * @return The longest time recorded, in nanoseconds
+		 */
+		public synchronized long getMaxNanos()
+		{
+			return maxNanos;
+		}
+
+		/**
+		 * Returns the greatest depth of events at which an event was sent by
+		 * the facet (zero for listeners and cache accesses).
+		 * 
+		 * @return The greatest depth of events at which an event was sent
+		 */
+		public synchronized int getMaxDepth()
+		{
+			return maxDepth;
+		}
+	}
+}
@@ -0,0 +1,269 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.UnaryOperator;
+
+/**
+ * A FacetStorage holds the facet information for a single resource (such as a
+ * PlayerCharacter or a loaded DataSet), as identified by a PCGenIdentifier.
+ *
+ * <p>
+ * Each facet class is given a slot index the first time it is seen, so
+ * retrieving the information for a facet is a single array read rather than
+ * a pair of hash lookups. Every resource owns its own FacetStorage, so
+ * different resources may be processed on different threads at the same time.
+ * Changes to a single FacetStorage are synchronized, and reads always see the
+ * most recent change, so a resource may also be safely handed from one thread
+ * to another.
+ *
+ * <p>
+ * The information in a slot may be shared with the same slot of another
+ * FacetStorage (see share(int) and setShared(int, Object)), for example when a
+ * PlayerCharacter is cloned. A shared slot is copied by getForWrite the first
+ * time it is changed through either FacetStorage, so the information is only
+ * duplicated for the facets which are actually changed.
+ */
+public final class FacetStorage
+{
+
+	/**
+	 * The slot index assigned to each facet class.
+	 */
+	private static final Map<Class<?>, Integer> SLOT_INDEX =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * The facet class for each slot index (the reverse of SLOT_INDEX).
+	 */
+	private static final List<Class<?>> SLOT_CLASS =
+			new CopyOnWriteArrayList<>();
+
+	/**
+	 * The information stored for each facet, by slot index. The array is
+	 * replaced (never resized in place) when a new slot is required.
+	 */
+	private volatile AtomicReferenceArray<Object> slots =
+			new AtomicReferenceArray<>(0);
+
+	/**
+	 * The slots whose information may also be held by another FacetStorage,
+	 * and must therefore be copied before it is changed.
+	 */
+	private final BitSet shared = new BitSet();
+
+	/**
+	 * Returns the slot index for the given facet class, assigning a new index
+	 * if the class has not been seen before.
+	 *
+	 * @param facetClass
+	 *            The class of the facet for which the slot index should be
+	 *            returned
+	 * @return The slot index for the given facet class
+	 */
+	static int getSlot(Class<?> facetClass)
+	{
+		Integer slot = SLOT_INDEX.get(facetClass);
+		if (slot == null)
+		{
+			synchronized (SLOT_INDEX)
+			{
+				slot = SLOT_INDEX.get(facetClass);
+				if (slot == null)
+				{
+					slot = SLOT_CLASS.size();
+					SLOT_CLASS.add(facetClass);
+					SLOT_INDEX.put(facetClass, slot);
+				}
+			}
+		}
+		return slot;
+	}
+
+	/**
+	 * Returns the information stored in the given slot.
+	 *
+	 * @param slot
+	 *            The slot index of the facet
+	 * @return The information stored in the given slot, or null if there is
+	 *         no information stored in the given slot
+	 */
+	Object get(int slot)
+	{
+		AtomicReferenceArray<Object> current = slots;
+		return (slot < current.length()) ? current.get(slot) : null;
+	}
+
+	/**
+	 * Stores the given information in the given slot.
+	 *
+	 * @param slot
+	 *            The slot index of the facet
+	 * @param o
+	 *            The information to be stored
+	 * @return The information previously stored in the given slot, or null if
+	 *         there was no information stored in the given slot
+	 */
+	synchronized Object set(int slot, Object o)
+	{
+		AtomicReferenceArray<Object> current = slots;
+		if (slot >= current.length())
+		{
+			if (o == null)
+			{
+				return null;
+			}
+			int newLength = Math.max(slot + 1, SLOT_CLASS.size());
+			AtomicReferenceArray<Object> grown =
+					new AtomicReferenceArray<>(newLength);
+			for (int i = 0; i < current.length(); i++)
+			{
+				grown.set(i, current.get(i));
+			}
+			grown.set(slot, o);
+			slots = grown;
+			return null;
+		}
+		Object old = current.getAndSet(slot, o);
+		if (old != o)
+		{
+			shared.clear(slot);
+		}
+		return old;
+	}
+
+	/**
+	 * Returns the information stored in the given slot, so that it may be
+	 * modified. If the information is shared with another FacetStorage, it is
+	 * first replaced with a copy produced by the given UnaryOperator.
+	 *
+	 * @param slot
+	 *            The slot index of the facet
+	 * @param copier
+	 *            The UnaryOperator used to copy the information if it is
+	 *            shared
+	 * @return The information stored in the given slot, or null if there is
+	 *         no information stored in the given slot
+	 */
+	synchronized Object getForWrite(int slot, UnaryOperator<Object> copier)
+	{
+		Object o = get(slot);
+		if ((o != null) && shared.get(slot))
+		{
+			o = copier.apply(o);
+			set(slot, o);
+		}
+		return o;
+	}
+
+	/**
+	 * Removes the information stored in the given slot. If the information is
+	 * shared with another FacetStorage, a copy produced by the given
+	 * UnaryOperator is returned, so that the caller may take ownership of the
+	 * returned information.
+	 *
+	 * @param slot
+	 *            The slot index of the facet
+	 * @param copier
+	 *            The UnaryOperator used to copy the information if it is
+	 *            shared
+	 * @return The information previously stored in the given slot, or null if
+	 *         there was no information stored in the given slot
+	 */
+	synchronized Object remove(int slot, UnaryOperator<Object> copier)
+	{
+		boolean wasShared = shared.get(slot);
+		Object old = set(slot, null);
+		return (wasShared && (old != null)) ? copier.apply(old) : old;
+	}
+
+	/**
+	 * Marks the information stored in the given slot as shared, and returns
+	 * it so that it may be stored in another FacetStorage with
+	 * setShared(int, Object).
+	 *
+	 * @param slot
+	 *            The slot index of the facet
+	 * @return The information stored in the given slot, or null if there is
+	 *         no information stored in the given slot
+	 */
+	synchronized Object share(int slot)
+	{
+		Object o = get(slot);
+		if (o != null)
+		{
+			shared.set(slot);
+		}
+		return o;
+	}
+
+	/**
+	 * Stores the given information, which is shared with another
+	 * FacetStorage, in the given slot.
+	 *
+	 * @param slot
+	 *            The slot index of the facet
+	 * @param o
+	 *            The shared information to be stored
+	 */
+	synchronized void setShared(int slot, Object o)
+	{
+		set(slot, o);
+		if (o != null)
+		{
+			shared.set(slot);
+		}
+	}
+
+	/**
+	 * Returns a Map of the facet class to the information stored for that
+	 * facet. Slots with no information are not included.
+	 *
+	 * The returned Map is a snapshot of the contents of this FacetStorage at
+	 * the time the method is called, and is not modifiable.
+	 *
+	 * @return A Map of the facet class to the information stored for that
+	 *         facet
+	 */
+	public Map<Class<?>, Object> getContents()
+	{
+		AtomicReferenceArray<Object> current = slots;
+		Map<Class<?>, Object> map = new LinkedHashMap<>();
+		for (int i = 0; i < current.length(); i++)
+		{
+			Object o = current.get(i);
+			if (o != null)
+			{
+				map.put(SLOT_CLASS.get(i), o);
+			}
+		}
+		return Collections.unmodifiableMap(map);
+	}
+
+	@Override
+	public String toString()
+	{
+		return getContents().toString();
+	}
+}
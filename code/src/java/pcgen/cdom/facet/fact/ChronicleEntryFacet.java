@@ -54,6 +54,13 @@ public class ChronicleEntryFacet extends
 		return newCopies;
 	}
 
+	@Override
+	public void shareContents(CharID source, CharID copy)
+	{
+		//Entries are cloned for the new owner, so cannot be shared
+		copyContents(source, copy);
+	}
+
 	/**
 	 * Overrides the default behavior of AbstractListFacet, since we need to
 	 * ensure we are storing all chronicle entries (otherwise duplicate blanks
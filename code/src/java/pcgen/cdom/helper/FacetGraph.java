@@ -0,0 +1,2378 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.helper;
+
+/**
+ * FacetGraph builds the beans defined in applicationContext.xml with direct
+ * constructor, setter and init method calls.
+ *
+ * <p>
+ * This file is generated by FacetGraphGenerator. Do not edit it; run
+ * "gradle facetGraph" after changing applicationContext.xml.
+ */
+final class FacetGraph
+{
+
+	/**
+	 * The class of each bean, in the order the beans are defined.
+	 */
+	static final Class<?>[] BEAN_CLASSES = {
+		pcgen.cdom.facet.AbilitySelectionApplication.class,
+		pcgen.cdom.facet.model.ActiveEqModFacet.class,
+		pcgen.cdom.facet.ActiveSpellsFacet.class,
+		pcgen.cdom.facet.AddedBonusFacet.class,
+		pcgen.cdom.facet.AddedTemplateFacet.class,
+		pcgen.cdom.facet.AddFacet.class,
+		pcgen.cdom.facet.input.AddLanguageFacet.class,
+		pcgen.cdom.facet.AddLevelFacet.class,
+		pcgen.cdom.facet.fact.AgeFacet.class,
+		pcgen.cdom.facet.analysis.AgeSetFacet.class,
+		pcgen.cdom.facet.AgeSetKitFacet.class,
+		pcgen.cdom.facet.model.AlignmentFacet.class,
+		pcgen.cdom.facet.fact.AllowDebtFacet.class,
+		pcgen.cdom.facet.AppliedBonusFacet.class,
+		pcgen.cdom.facet.analysis.ArmorClassFacet.class,
+		pcgen.cdom.facet.ArmorProfFacet.class,
+		pcgen.cdom.facet.model.ArmorProfProviderFacet.class,
+		pcgen.cdom.facet.AutoEquipmentFacet.class,
+		pcgen.cdom.facet.input.AutoEquipmentListFacet.class,
+		pcgen.cdom.facet.AutoLanguageFacet.class,
+		pcgen.cdom.facet.AutoLanguageGrantedFacet.class,
+		pcgen.cdom.facet.input.AutoLanguageListFacet.class,
+		pcgen.cdom.facet.AutoLanguageUnconditionalFacet.class,
+		pcgen.cdom.facet.input.AutoListArmorProfFacet.class,
+		pcgen.cdom.facet.input.AutoListShieldProfFacet.class,
+		pcgen.cdom.facet.input.AutoListWeaponProfFacet.class,
+		pcgen.cdom.facet.AutoWeaponProfFacet.class,
+		pcgen.cdom.facet.AvailableSpellFacet.class,
+		pcgen.cdom.facet.AvailableSpellInputFacet.class,
+		pcgen.cdom.facet.analysis.BaseMovementFacet.class,
+		pcgen.cdom.facet.model.BioSetFacet.class,
+		pcgen.cdom.facet.BioSetTrackingFacet.class,
+		pcgen.cdom.facet.BonusActiviationFacet.class,
+		pcgen.cdom.facet.BonusChangeFacet.class,
+		pcgen.cdom.facet.BonusCheckingFacet.class,
+		pcgen.cdom.facet.BonusSkillRankChangeFacet.class,
+		pcgen.cdom.facet.input.BonusWeaponProfFacet.class,
+		pcgen.cdom.facet.CalcBonusFacet.class,
+		pcgen.cdom.facet.input.CampaignFacet.class,
+		pcgen.cdom.facet.CategorizedAbilityFacet.class,
+		pcgen.cdom.facet.CDOMObjectBridge.class,
+		pcgen.cdom.facet.CDOMObjectConsolidationFacet.class,
+		pcgen.cdom.facet.CDOMObjectSourceFacet.class,
+		pcgen.cdom.facet.CDOMWrapperInfoFacet.class,
+		pcgen.cdom.facet.analysis.ChallengeRatingFacet.class,
+		pcgen.cdom.facet.analysis.ChangeProfFacet.class,
+		pcgen.cdom.facet.CharacterConsolidationFacet.class,
+		pcgen.cdom.facet.analysis.CharacterSpellResistanceFacet.class,
+		pcgen.cdom.facet.fact.CharacterTypeFacet.class,
+		pcgen.cdom.facet.model.CheckFacet.class,
+		pcgen.cdom.facet.CheckBonusFacet.class,
+		pcgen.cdom.facet.ChooseDriverFacet.class,
+		pcgen.cdom.facet.fact.ChronicleEntryFacet.class,
+		pcgen.cdom.facet.model.ClassFacet.class,
+		pcgen.cdom.facet.model.ClassLevelFacet.class,
+		pcgen.cdom.facet.ClassLevelChangeFacet.class,
+		pcgen.cdom.facet.input.ClassSkillListFacet.class,
+		pcgen.cdom.facet.ClassSpellListFacet.class,
+		pcgen.cdom.facet.model.CompanionModFacet.class,
+		pcgen.cdom.facet.ConditionalAbilityFacet.class,
+		pcgen.cdom.facet.ConditionallyAvailableSpellFacet.class,
+		pcgen.cdom.facet.ConditionallyGrantedAbilityFacet.class,
+		pcgen.cdom.facet.ConditionallyGrantedAvailableSpellFacet.class,
+		pcgen.cdom.facet.ConditionallyGrantedKnownSpellFacet.class,
+		pcgen.cdom.facet.ConditionallyKnownSpellFacet.class,
+		pcgen.cdom.facet.ConditionalTemplateFacet.class,
+		pcgen.cdom.facet.DamageReductionFacet.class,
+		pcgen.cdom.facet.DataSetInitializationFacet.class,
+		pcgen.cdom.facet.DefaultClassSkillListFacet.class,
+		pcgen.cdom.facet.model.DeityFacet.class,
+		pcgen.cdom.facet.DeityWeaponProfFacet.class,
+		pcgen.cdom.facet.DirectAbilityFacet.class,
+		pcgen.cdom.facet.DirectAbilityInputFacet.class,
+		pcgen.cdom.facet.model.DomainFacet.class,
+		pcgen.cdom.facet.input.DomainInputFacet.class,
+		pcgen.cdom.facet.DomainSelectionFacet.class,
+		pcgen.cdom.facet.DomainSpellCountFacet.class,
+		pcgen.cdom.facet.DomainSpellListFacet.class,
+		pcgen.cdom.facet.DomainSpellsFacet.class,
+		pcgen.cdom.facet.input.DynamicFacet.class,
+		pcgen.cdom.facet.model.DynamicConsolidationFacet.class,
+		pcgen.cdom.facet.EquipmentConsolidationFacet.class,
+		pcgen.cdom.facet.EquipmentFacet.class,
+		pcgen.cdom.facet.EquipmentTypeFacet.class,
+		pcgen.cdom.facet.EquippedEquipmentFacet.class,
+		pcgen.cdom.facet.EquipSetFacet.class,
+		pcgen.cdom.facet.model.ExpandedCampaignFacet.class,
+		pcgen.cdom.facet.fact.FactFacet.class,
+		pcgen.cdom.facet.analysis.FavoredClassFacet.class,
+		pcgen.cdom.facet.fact.FollowerFacet.class,
+		pcgen.cdom.facet.analysis.FollowerLimitFacet.class,
+		pcgen.cdom.facet.analysis.FollowerOptionFacet.class,
+		pcgen.cdom.facet.FormulaResolvingFacet.class,
+		pcgen.cdom.facet.FormulaSetupFacet.class,
+		pcgen.cdom.facet.input.FreeLanguageFacet.class,
+		pcgen.cdom.facet.fact.GenderFacet.class,
+		pcgen.cdom.facet.input.GlobalAddedSkillCostFacet.class,
+		pcgen.cdom.facet.GlobalModifierFacet.class,
+		pcgen.cdom.facet.analysis.GlobalSkillCostFacet.class,
+		pcgen.cdom.facet.analysis.GlobalToSkillCostFacet.class,
+		pcgen.cdom.facet.fact.GoldFacet.class,
+		pcgen.cdom.facet.GrantedAbilityFacet.class,
+		pcgen.cdom.facet.fact.HandedFacet.class,
+		pcgen.cdom.facet.analysis.HandsFacet.class,
+		pcgen.cdom.facet.analysis.HasAnyFavoredClassFacet.class,
+		pcgen.cdom.facet.HasDeityWeaponProfFacet.class,
+		pcgen.cdom.facet.fact.HeightFacet.class,
+		pcgen.cdom.facet.HiddenTypeFacet.class,
+		pcgen.cdom.facet.HitPointFacet.class,
+		pcgen.cdom.facet.fact.IgnoreCostFacet.class,
+		pcgen.cdom.facet.analysis.InitiativeFacet.class,
+		pcgen.cdom.facet.KitChoiceFacet.class,
+		pcgen.cdom.facet.KitFacet.class,
+		pcgen.cdom.facet.KnownSpellFacet.class,
+		pcgen.cdom.facet.KnownSpellInputFacet.class,
+		pcgen.cdom.facet.model.LanguageFacet.class,
+		pcgen.cdom.facet.analysis.LegalDeityFacet.class,
+		pcgen.cdom.facet.analysis.LegsFacet.class,
+		pcgen.cdom.facet.analysis.LevelFacet.class,
+		pcgen.cdom.facet.LevelInfoFacet.class,
+		pcgen.cdom.facet.analysis.LevelTableFacet.class,
+		pcgen.cdom.facet.analysis.ListToSkillCostFacet.class,
+		pcgen.cdom.facet.analysis.ListSkillCostFacet.class,
+		pcgen.cdom.facet.analysis.LoadFacet.class,
+		pcgen.cdom.facet.input.LocalAddedSkillCostFacet.class,
+		pcgen.cdom.facet.analysis.LocalSkillCostFacet.class,
+		pcgen.cdom.facet.MasterAvailableSpellFacet.class,
+		pcgen.cdom.facet.MasterFacet.class,
+		pcgen.cdom.facet.MasterSkillFacet.class,
+		pcgen.cdom.facet.input.MasterUsableSkillFacet.class,
+		pcgen.cdom.facet.ModifierFacet.class,
+		pcgen.cdom.facet.MonsterClassFacet.class,
+		pcgen.cdom.facet.input.MonsterCSkillFacet.class,
+		pcgen.cdom.facet.analysis.MonCSkillToSkillCostFacet.class,
+		pcgen.cdom.facet.analysis.MovementFacet.class,
+		pcgen.cdom.facet.analysis.MovementResultFacet.class,
+		pcgen.cdom.facet.analysis.MultiClassFacet.class,
+		pcgen.cdom.facet.NaturalEquipmentFacet.class,
+		pcgen.cdom.facet.NaturalEquipSetFacet.class,
+		pcgen.cdom.facet.NaturalWeaponFacet.class,
+		pcgen.cdom.facet.NaturalWeaponProfFacet.class,
+		pcgen.cdom.facet.analysis.NonAbilityFacet.class,
+		pcgen.cdom.facet.analysis.NonProficiencyPenaltyFacet.class,
+		pcgen.cdom.facet.analysis.NonStatStatFacet.class,
+		pcgen.cdom.facet.analysis.NonStatToStatFacet.class,
+		pcgen.cdom.facet.NoteItemFacet.class,
+		pcgen.cdom.facet.ObjectAdditionFacet.class,
+		pcgen.cdom.facet.ObjectWrapperFacet.class,
+		pcgen.cdom.facet.PlayerCharacterTrackingFacet.class,
+		pcgen.cdom.facet.PrerequisiteFacet.class,
+		pcgen.cdom.facet.fact.PreviewSheetFacet.class,
+		pcgen.cdom.facet.PrimaryWeaponFacet.class,
+		pcgen.cdom.facet.input.ProhibitedSchoolFacet.class,
+		pcgen.cdom.facet.fact.PortraitThumbnailRectFacet.class,
+		pcgen.cdom.facet.analysis.QualifyFacet.class,
+		pcgen.cdom.facet.model.RaceFacet.class,
+		pcgen.cdom.facet.input.RaceInputFacet.class,
+		pcgen.cdom.facet.RaceSelectionFacet.class,
+		pcgen.cdom.facet.analysis.RaceTypeFacet.class,
+		pcgen.cdom.facet.analysis.RacialSubTypesFacet.class,
+		pcgen.cdom.facet.analysis.ReachFacet.class,
+		pcgen.cdom.facet.RegionChoiceFacet.class,
+		pcgen.cdom.facet.fact.RegionFacet.class,
+		pcgen.cdom.facet.RemoteModifierFacet.class,
+		pcgen.cdom.facet.RemoveFacet.class,
+		pcgen.cdom.facet.analysis.ResultFacet.class,
+		pcgen.cdom.facet.SaveableBonusFacet.class,
+		pcgen.cdom.facet.SavedAbilitiesFacet.class,
+		pcgen.cdom.facet.ScopeFacet.class,
+		pcgen.cdom.facet.SecondaryWeaponFacet.class,
+		pcgen.cdom.facet.ShieldProfFacet.class,
+		pcgen.cdom.facet.model.ShieldProfProviderFacet.class,
+		pcgen.cdom.facet.model.SimpleAbilityFacet.class,
+		pcgen.cdom.facet.model.SizeFacet.class,
+		pcgen.cdom.facet.model.SkillFacet.class,
+		pcgen.cdom.facet.fact.SkillFilterFacet.class,
+		pcgen.cdom.facet.SkillCostFacet.class,
+		pcgen.cdom.facet.SkillListToCostFacet.class,
+		pcgen.cdom.facet.model.SkillListFacet.class,
+		pcgen.cdom.facet.SkillOutputOrderFacet.class,
+		pcgen.cdom.facet.SkillPoolFacet.class,
+		pcgen.cdom.facet.SkillRankFacet.class,
+		pcgen.cdom.facet.SolverManagerFacet.class,
+		pcgen.cdom.facet.SolverFactoryFacet.class,
+		pcgen.cdom.facet.SourcedEquipmentFacet.class,
+		pcgen.cdom.facet.analysis.SpecialAbilityFacet.class,
+		pcgen.cdom.facet.SpellBookFacet.class,
+		pcgen.cdom.facet.SpellListFacet.class,
+		pcgen.cdom.facet.SpellListToAvailableSpellFacet.class,
+		pcgen.cdom.facet.SpellProhibitorFacet.class,
+		pcgen.cdom.facet.SpellsFacet.class,
+		pcgen.cdom.facet.SpellSupportFacet.class,
+		pcgen.cdom.facet.StartingLanguageFacet.class,
+		pcgen.cdom.facet.StatCalcFacet.class,
+		pcgen.cdom.facet.model.StatFacet.class,
+		pcgen.cdom.facet.StatBonusFacet.class,
+		pcgen.cdom.facet.analysis.StatLockFacet.class,
+		pcgen.cdom.facet.analysis.StatMaxValueFacet.class,
+		pcgen.cdom.facet.analysis.StatMinValueFacet.class,
+		pcgen.cdom.facet.StatValueFacet.class,
+		pcgen.cdom.facet.SubClassFacet.class,
+		pcgen.cdom.facet.SubstitutionClassFacet.class,
+		pcgen.cdom.facet.analysis.SubRaceFacet.class,
+		pcgen.cdom.facet.fact.SuppressBioFieldFacet.class,
+		pcgen.cdom.facet.TargetTrackingFacet.class,
+		pcgen.cdom.facet.model.TemplateFacet.class,
+		pcgen.cdom.facet.TemplateFeatFacet.class,
+		pcgen.cdom.facet.input.TemplateInputFacet.class,
+		pcgen.cdom.facet.TemplateSelectionFacet.class,
+		pcgen.cdom.facet.TotalSkillRankFacet.class,
+		pcgen.cdom.facet.analysis.TotalWeightFacet.class,
+		pcgen.cdom.facet.analysis.UnarmedDamageFacet.class,
+		pcgen.cdom.facet.UnconditionalTemplateFacet.class,
+		pcgen.cdom.facet.analysis.UnencumberedArmorFacet.class,
+		pcgen.cdom.facet.analysis.UnencumberedLoadFacet.class,
+		pcgen.cdom.facet.analysis.UnlockedStatFacet.class,
+		pcgen.cdom.facet.UsableSkillsFacet.class,
+		pcgen.cdom.facet.UserEquipmentFacet.class,
+		pcgen.cdom.facet.input.UserSpecialAbilityFacet.class,
+		pcgen.cdom.facet.VariableCheckingFacet.class,
+		pcgen.cdom.facet.analysis.VariableFacet.class,
+		pcgen.cdom.facet.VariableLibraryFacet.class,
+		pcgen.cdom.facet.VariableStoreFacet.class,
+		pcgen.cdom.facet.model.VarScopedFacet.class,
+		pcgen.cdom.facet.analysis.VisionFacet.class,
+		pcgen.cdom.facet.WeaponProfFacet.class,
+		pcgen.cdom.facet.model.WeaponProfModelFacet.class,
+		pcgen.cdom.facet.fact.WeightFacet.class,
+		pcgen.cdom.facet.fact.XPFacet.class,
+		pcgen.cdom.facet.XPTableFacet.class,
+		pcgen.cdom.formula.scope.GlobalScope.class,
+		pcgen.cdom.formula.scope.SaveScope.class,
+		pcgen.cdom.formula.scope.SizeScope.class,
+		pcgen.cdom.formula.scope.SkillScope.class,
+		pcgen.cdom.formula.scope.StatScope.class,
+		pcgen.cdom.formula.scope.EquipmentScope.class,
+		pcgen.cdom.formula.scope.EquipmentPartScope.class
+	};
+
+	/**
+	 * The id of each bean, in the order the beans are defined.
+	 */
+	static final String[] BEAN_NAMES = {
+		"abilitySelectionApplication",
+		"activeEqModFacet",
+		"activeSpellsFacet",
+		"addedBonusFacet",
+		"addedTemplateFacet",
+		"addFacet",
+		"addLanguageFacet",
+		"addLevelFacet",
+		"ageFacet",
+		"ageSetFacet",
+		"ageSetKitFacet",
+		"alignmentFacet",
+		"allowDebtFacet",
+		"appliedBonusFacet",
+		"armorClassFacet",
+		"armorProfFacet",
+		"armorProfProviderFacet",
+		"autoEquipmentFacet",
+		"autoEquipmentListFacet",
+		"autoLanguageFacet",
+		"autoLanguageGrantedFacet",
+		"autoLanguageListFacet",
+		"autoLanguageUnconditionalFacet",
+		"autoListArmorProfFacet",
+		"autoListShieldProfFacet",
+		"autoListWeaponProfFacet",
+		"autoWeaponProfFacet",
+		"availableSpellFacet",
+		"availableSpellInputFacet",
+		"baseMovementFacet",
+		"bioSetFacet",
+		"bioSetTrackingFacet",
+		"bonusActiviationFacet",
+		"bonusChangeFacet",
+		"bonusCheckingFacet",
+		"bonusSkillRankChangeFacet",
+		"bonusWeaponProfFacet",
+		"calcBonusFacet",
+		"campaignFacet",
+		"categorizedAbilityFacet",
+		"bridgeFacet",
+		"consolidationFacet",
+		"cdomSourceFacet",
+		"cdomWrapperInfoFacet",
+		"challengeRatingFacet",
+		"changeProfFacet",
+		"characterConsolidationFacet",
+		"characterSpellResistanceFacet",
+		"characterTypeFacet",
+		"checkFacet",
+		"checkBonusFacet",
+		"chooseDriverFacet",
+		"chronicleEntryFacet",
+		"classFacet",
+		"classLevelFacet",
+		"classLevelChangeFacet",
+		"classSkillListFacet",
+		"classSpellListFacet",
+		"companionModFacet",
+		"conditionalAbilityFacet",
+		"conditionallyAvailableSpellFacet",
+		"conditionallyGrantedAbilityFacet",
+		"conditionallyGrantedAvailableSpellFacet",
+		"conditionallyGrantedKnownSpellFacet",
+		"conditionallyKnownSpellFacet",
+		"conditionalTemplateFacet",
+		"damageReductionFacet",
+		"dataSetInitializationFacet",
+		"defaultClassSkillListFacet",
+		"deityFacet",
+		"deityWeaponProfFacet",
+		"directAbilityFacet",
+		"directAbilityInputFacet",
+		"domainFacet",
+		"domainInputFacet",
+		"domainSelectionFacet",
+		"domainSpellCountFacet",
+		"domainSpellListFacet",
+		"domainSpellsFacet",
+		"dynamicFacet",
+		"dynamicConsolidationFacet",
+		"equipmentConsolidationFacet",
+		"equipmentFacet",
+		"equipmentTypeFacet",
+		"equippedEquipmentFacet",
+		"equipSetFacet",
+		"expandedCampaignFacet",
+		"factFacet",
+		"favoredClassFacet",
+		"followerFacet",
+		"followerLimitFacet",
+		"followerOptionFacet",
+		"formulaResolvingFacet",
+		"formulaSetupFacet",
+		"freeLanguageFacet",
+		"genderFacet",
+		"globalAddedSkillCostFacet",
+		"globalModifier",
+		"globalSkillCostFacet",
+		"globalToSkillCostFacet",
+		"goldFacet",
+		"grantedAbilityFacet",
+		"handedFacet",
+		"handsFacet",
+		"hasAnyFavoredClassFacet",
+		"hasDeityWeaponProfFacet",
+		"heightFacet",
+		"hiddenTypeFacet",
+		"hitPointFacet",
+		"ignoreCostFacet",
+		"initiativeFacet",
+		"kitChoiceFacet",
+		"kitFacet",
+		"knownSpellFacet",
+		"knownSpellInputFacet",
+		"languageFacet",
+		"legalDeityFacet",
+		"legsFacet",
+		"levelFacet",
+		"levelInfoFacet",
+		"levelTableFacet",
+		"listToSkillCostFacet",
+		"listSkillCostFacet",
+		"loadFacet",
+		"localAddedSkillCostFacet",
+		"localSkillCostFacet",
+		"masterAvailableSpellFacet",
+		"masterFacet",
+		"masterSkillFacet",
+		"masterUsableSkillFacet",
+		"modifierFacet",
+		"monsterClassFacet",
+		"monsterCSkillFacet",
+		"monCSkillToSkillCostFacet",
+		"movementFacet",
+		"movementResultFacet",
+		"multiClassFacet",
+		"naturalEquipmentFacet",
+		"naturalEquipSetFacet",
+		"naturalWeaponFacet",
+		"naturalWeaponProfFacet",
+		"nonAbilityFacet",
+		"nonProficiencyPenaltyFacet",
+		"nonStatStatFacet",
+		"nonStatToStatFacet",
+		"noteItemFacet",
+		"objectAdditionFacet",
+		"objectWrapperFacet",
+		"playerCharacterTrackingFacet",
+		"prerequisiteFacet",
+		"previewSheetFacet",
+		"primaryWeaponFacet",
+		"prohibitedSchoolFacet",
+		"portraitThumbnailRectFacet",
+		"qualifyFacet",
+		"raceFacet",
+		"raceInputFacet",
+		"raceSelectionFacet",
+		"raceTypeFacet",
+		"racialSubTypesFacet",
+		"reachFacet",
+		"regionChoiceFacet",
+		"regionFacet",
+		"remoteModifierFacet",
+		"removeFacet",
+		"resultFacet",
+		"saveableBonusFacet",
+		"savedAbilitiesFacet",
+		"scopeFacet",
+		"secondaryWeaponFacet",
+		"shieldProfFacet",
+		"shieldProfProviderFacet",
+		"simpleAbilityFacet",
+		"sizeFacet",
+		"skillFacet",
+		"skillFilterFacet",
+		"skillCostFacet",
+		"skillListToCostFacet",
+		"skillListFacet",
+		"skillOutputOrderFacet",
+		"skillPoolFacet",
+		"skillRankFacet",
+		"solverManagerFacet",
+		"solverFactoryFacet",
+		"sourcedEquipmentFacet",
+		"specialAbilityFacet",
+		"spellBookFacet",
+		"spellListFacet",
+		"spellListToAvailableSpellFacet",
+		"spellProhibitorFacet",
+		"spellsFacet",
+		"spellSupportFacet",
+		"startingLanguageFacet",
+		"statCalcFacet",
+		"statFacet",
+		"statBonusFacet",
+		"statLockFacet",
+		"statMaxValueFacet",
+		"statMinValueFacet",
+		"statValueFacet",
+		"subClassFacet",
+		"substitutionClassFacet",
+		"subRaceFacet",
+		"suppressBioFieldFacet",
+		"targetTrackingFacet",
+		"templateFacet",
+		"templateFeatFacet",
+		"templateInputFacet",
+		"templateSelectionFacet",
+		"totalSkillRankFacet",
+		"totalWeightFacet",
+		"unarmedDamageFacet",
+		"unconditionalTemplateFacet",
+		"unencumberedArmorFacet",
+		"unencumberedLoadFacet",
+		"unlockedStatFacet",
+		"usableSkillsFacet",
+		"userEquipmentFacet",
+		"userSpecialAbilityFacet",
+		"variableCheckingFacet",
+		"variableFacet",
+		"variableLibraryFacet",
+		"variableStoreFacet",
+		"varScopedFacet",
+		"visionFacet",
+		"weaponProfFacet",
+		"weaponProfModelFacet",
+		"weightFacet",
+		"xpFacet",
+		"xpTableFacet",
+		"globalLegalScope",
+		"saveLegalScope",
+		"sizeLegalScope",
+		"skillLegalScope",
+		"statLegalScope",
+		"equipLegalScope",
+		"equipPartLegalScope"
+	};
+
+	private FacetGraph()
+	{
+	}
+
+	/**
+	 * Builds the bean with the given index in BEAN_CLASSES, registering it
+	 * with the given PrecompiledBeanFactory before its references are set.
+	 *
+	 * @param index
+	 *            The index of the bean to be built
+	 * @param factory
+	 *            The PrecompiledBeanFactory providing the referenced beans
+	 * @return The bean
+	 */
+	static Object build(int index, PrecompiledBeanFactory factory)
+	{
+		switch (index)
+		{
+			case 0: // abilitySelectionApplication
+			{
+				pcgen.cdom.facet.AbilitySelectionApplication bean = new pcgen.cdom.facet.AbilitySelectionApplication();
+				factory.register(0, bean);
+				return bean;
+			}
+			case 1: // activeEqModFacet
+			{
+				pcgen.cdom.facet.model.ActiveEqModFacet bean = new pcgen.cdom.facet.model.ActiveEqModFacet();
+				factory.register(1, bean);
+				return bean;
+			}
+			case 2: // activeSpellsFacet
+			{
+				pcgen.cdom.facet.ActiveSpellsFacet bean = new pcgen.cdom.facet.ActiveSpellsFacet();
+				factory.register(2, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setSpellsFacet((pcgen.cdom.facet.SpellsFacet) factory.getBean(190));
+				bean.init();
+				return bean;
+			}
+			case 3: // addedBonusFacet
+			{
+				pcgen.cdom.facet.AddedBonusFacet bean = new pcgen.cdom.facet.AddedBonusFacet();
+				factory.register(3, bean);
+				return bean;
+			}
+			case 4: // addedTemplateFacet
+			{
+				pcgen.cdom.facet.AddedTemplateFacet bean = new pcgen.cdom.facet.AddedTemplateFacet();
+				factory.register(4, bean);
+				bean.setPrerequisiteFacet((pcgen.cdom.facet.PrerequisiteFacet) factory.getBean(149));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 5: // addFacet
+			{
+				pcgen.cdom.facet.AddFacet bean = new pcgen.cdom.facet.AddFacet();
+				factory.register(5, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				bean.setClassLevelFacet((pcgen.cdom.facet.model.ClassLevelFacet) factory.getBean(54));
+				bean.init();
+				return bean;
+			}
+			case 6: // addLanguageFacet
+			{
+				pcgen.cdom.facet.input.AddLanguageFacet bean = new pcgen.cdom.facet.input.AddLanguageFacet();
+				factory.register(6, bean);
+				bean.setLanguageFacet((pcgen.cdom.facet.model.LanguageFacet) factory.getBean(115));
+				bean.init();
+				return bean;
+			}
+			case 7: // addLevelFacet
+			{
+				pcgen.cdom.facet.AddLevelFacet bean = new pcgen.cdom.facet.AddLevelFacet();
+				factory.register(7, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 8: // ageFacet
+			{
+				pcgen.cdom.facet.fact.AgeFacet bean = new pcgen.cdom.facet.fact.AgeFacet();
+				factory.register(8, bean);
+				bean.init();
+				return bean;
+			}
+			case 9: // ageSetFacet
+			{
+				pcgen.cdom.facet.analysis.AgeSetFacet bean = new pcgen.cdom.facet.analysis.AgeSetFacet();
+				factory.register(9, bean);
+				bean.setAgeFacet((pcgen.cdom.facet.fact.AgeFacet) factory.getBean(8));
+				bean.setRegionFacet((pcgen.cdom.facet.fact.RegionFacet) factory.getBean(162));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setBioSetFacet((pcgen.cdom.facet.model.BioSetFacet) factory.getBean(30));
+				bean.init();
+				return bean;
+			}
+			case 10: // ageSetKitFacet
+			{
+				pcgen.cdom.facet.AgeSetKitFacet bean = new pcgen.cdom.facet.AgeSetKitFacet();
+				factory.register(10, bean);
+				bean.setAgeFacet((pcgen.cdom.facet.fact.AgeFacet) factory.getBean(8));
+				bean.setAgeSetFacet((pcgen.cdom.facet.analysis.AgeSetFacet) factory.getBean(9));
+				bean.setBioSetFacet((pcgen.cdom.facet.model.BioSetFacet) factory.getBean(30));
+				bean.init();
+				return bean;
+			}
+			case 11: // alignmentFacet
+			{
+				pcgen.cdom.facet.model.AlignmentFacet bean = new pcgen.cdom.facet.model.AlignmentFacet();
+				factory.register(11, bean);
+				bean.init();
+				return bean;
+			}
+			case 12: // allowDebtFacet
+			{
+				pcgen.cdom.facet.fact.AllowDebtFacet bean = new pcgen.cdom.facet.fact.AllowDebtFacet();
+				factory.register(12, bean);
+				return bean;
+			}
+			case 13: // appliedBonusFacet
+			{
+				pcgen.cdom.facet.AppliedBonusFacet bean = new pcgen.cdom.facet.AppliedBonusFacet();
+				factory.register(13, bean);
+				bean.setAddedBonusFacet((pcgen.cdom.facet.AddedBonusFacet) factory.getBean(3));
+				bean.setSaveableBonusFacet((pcgen.cdom.facet.SaveableBonusFacet) factory.getBean(166));
+				bean.setPrerequisiteFacet((pcgen.cdom.facet.PrerequisiteFacet) factory.getBean(149));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.init();
+				return bean;
+			}
+			case 14: // armorClassFacet
+			{
+				pcgen.cdom.facet.analysis.ArmorClassFacet bean = new pcgen.cdom.facet.analysis.ArmorClassFacet();
+				factory.register(14, bean);
+				bean.setPrerequisiteFacet((pcgen.cdom.facet.PrerequisiteFacet) factory.getBean(149));
+				return bean;
+			}
+			case 15: // armorProfFacet
+			{
+				pcgen.cdom.facet.ArmorProfFacet bean = new pcgen.cdom.facet.ArmorProfFacet();
+				factory.register(15, bean);
+				bean.setArmorProfProviderFacet((pcgen.cdom.facet.model.ArmorProfProviderFacet) factory.getBean(16));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 16: // armorProfProviderFacet
+			{
+				pcgen.cdom.facet.model.ArmorProfProviderFacet bean = new pcgen.cdom.facet.model.ArmorProfProviderFacet();
+				factory.register(16, bean);
+				bean.init();
+				return bean;
+			}
+			case 17: // autoEquipmentFacet
+			{
+				pcgen.cdom.facet.AutoEquipmentFacet bean = new pcgen.cdom.facet.AutoEquipmentFacet();
+				factory.register(17, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 18: // autoEquipmentListFacet
+			{
+				pcgen.cdom.facet.input.AutoEquipmentListFacet bean = new pcgen.cdom.facet.input.AutoEquipmentListFacet();
+				factory.register(18, bean);
+				return bean;
+			}
+			case 19: // autoLanguageFacet
+			{
+				pcgen.cdom.facet.AutoLanguageFacet bean = new pcgen.cdom.facet.AutoLanguageFacet();
+				factory.register(19, bean);
+				bean.setAutoLanguageUnconditionalFacet((pcgen.cdom.facet.AutoLanguageUnconditionalFacet) factory.getBean(22));
+				bean.init();
+				return bean;
+			}
+			case 20: // autoLanguageGrantedFacet
+			{
+				pcgen.cdom.facet.AutoLanguageGrantedFacet bean = new pcgen.cdom.facet.AutoLanguageGrantedFacet();
+				factory.register(20, bean);
+				bean.setLanguageFacet((pcgen.cdom.facet.model.LanguageFacet) factory.getBean(115));
+				bean.setAutoLanguageFacet((pcgen.cdom.facet.AutoLanguageFacet) factory.getBean(19));
+				bean.init();
+				return bean;
+			}
+			case 21: // autoLanguageListFacet
+			{
+				pcgen.cdom.facet.input.AutoLanguageListFacet bean = new pcgen.cdom.facet.input.AutoLanguageListFacet();
+				factory.register(21, bean);
+				bean.setLanguageFacet((pcgen.cdom.facet.model.LanguageFacet) factory.getBean(115));
+				bean.init();
+				return bean;
+			}
+			case 22: // autoLanguageUnconditionalFacet
+			{
+				pcgen.cdom.facet.AutoLanguageUnconditionalFacet bean = new pcgen.cdom.facet.AutoLanguageUnconditionalFacet();
+				factory.register(22, bean);
+				bean.setLanguageFacet((pcgen.cdom.facet.model.LanguageFacet) factory.getBean(115));
+				bean.init();
+				return bean;
+			}
+			case 23: // autoListArmorProfFacet
+			{
+				pcgen.cdom.facet.input.AutoListArmorProfFacet bean = new pcgen.cdom.facet.input.AutoListArmorProfFacet();
+				factory.register(23, bean);
+				bean.setArmorProfProviderFacet((pcgen.cdom.facet.model.ArmorProfProviderFacet) factory.getBean(16));
+				bean.init();
+				return bean;
+			}
+			case 24: // autoListShieldProfFacet
+			{
+				pcgen.cdom.facet.input.AutoListShieldProfFacet bean = new pcgen.cdom.facet.input.AutoListShieldProfFacet();
+				factory.register(24, bean);
+				bean.setShieldProfProviderFacet((pcgen.cdom.facet.model.ShieldProfProviderFacet) factory.getBean(171));
+				bean.init();
+				return bean;
+			}
+			case 25: // autoListWeaponProfFacet
+			{
+				pcgen.cdom.facet.input.AutoListWeaponProfFacet bean = new pcgen.cdom.facet.input.AutoListWeaponProfFacet();
+				factory.register(25, bean);
+				bean.setWeaponProfFacet((pcgen.cdom.facet.WeaponProfFacet) factory.getBean(225));
+				bean.init();
+				return bean;
+			}
+			case 26: // autoWeaponProfFacet
+			{
+				pcgen.cdom.facet.AutoWeaponProfFacet bean = new pcgen.cdom.facet.AutoWeaponProfFacet();
+				factory.register(26, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 27: // availableSpellFacet
+			{
+				pcgen.cdom.facet.AvailableSpellFacet bean = new pcgen.cdom.facet.AvailableSpellFacet();
+				factory.register(27, bean);
+				return bean;
+			}
+			case 28: // availableSpellInputFacet
+			{
+				pcgen.cdom.facet.AvailableSpellInputFacet bean = new pcgen.cdom.facet.AvailableSpellInputFacet();
+				factory.register(28, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.setAvailableSpellFacet((pcgen.cdom.facet.AvailableSpellFacet) factory.getBean(27));
+				bean.setConditionallyAvailableSpellFacet((pcgen.cdom.facet.ConditionallyAvailableSpellFacet) factory.getBean(60));
+				bean.init();
+				return bean;
+			}
+			case 29: // baseMovementFacet
+			{
+				pcgen.cdom.facet.analysis.BaseMovementFacet bean = new pcgen.cdom.facet.analysis.BaseMovementFacet();
+				factory.register(29, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 30: // bioSetFacet
+			{
+				pcgen.cdom.facet.model.BioSetFacet bean = new pcgen.cdom.facet.model.BioSetFacet();
+				factory.register(30, bean);
+				return bean;
+			}
+			case 31: // bioSetTrackingFacet
+			{
+				pcgen.cdom.facet.BioSetTrackingFacet bean = new pcgen.cdom.facet.BioSetTrackingFacet();
+				factory.register(31, bean);
+				bean.setBioSetFacet((pcgen.cdom.facet.model.BioSetFacet) factory.getBean(30));
+				return bean;
+			}
+			case 32: // bonusActiviationFacet
+			{
+				pcgen.cdom.facet.BonusActiviationFacet bean = new pcgen.cdom.facet.BonusActiviationFacet();
+				factory.register(32, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setCompanionModFacet((pcgen.cdom.facet.model.CompanionModFacet) factory.getBean(58));
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				bean.setSkillFacet((pcgen.cdom.facet.model.SkillFacet) factory.getBean(174));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 33: // bonusChangeFacet
+			{
+				pcgen.cdom.facet.BonusChangeFacet bean = new pcgen.cdom.facet.BonusChangeFacet();
+				factory.register(33, bean);
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				return bean;
+			}
+			case 34: // bonusCheckingFacet
+			{
+				pcgen.cdom.facet.BonusCheckingFacet bean = new pcgen.cdom.facet.BonusCheckingFacet();
+				factory.register(34, bean);
+				return bean;
+			}
+			case 35: // bonusSkillRankChangeFacet
+			{
+				pcgen.cdom.facet.BonusSkillRankChangeFacet bean = new pcgen.cdom.facet.BonusSkillRankChangeFacet();
+				factory.register(35, bean);
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				return bean;
+			}
+			case 36: // bonusWeaponProfFacet
+			{
+				pcgen.cdom.facet.input.BonusWeaponProfFacet bean = new pcgen.cdom.facet.input.BonusWeaponProfFacet();
+				factory.register(36, bean);
+				bean.setWeaponProfFacet((pcgen.cdom.facet.WeaponProfFacet) factory.getBean(225));
+				bean.init();
+				return bean;
+			}
+			case 37: // calcBonusFacet
+			{
+				pcgen.cdom.facet.CalcBonusFacet bean = new pcgen.cdom.facet.CalcBonusFacet();
+				factory.register(37, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 38: // campaignFacet
+			{
+				pcgen.cdom.facet.input.CampaignFacet bean = new pcgen.cdom.facet.input.CampaignFacet();
+				factory.register(38, bean);
+				bean.setExpandedCampaignFacet((pcgen.cdom.facet.model.ExpandedCampaignFacet) factory.getBean(86));
+				bean.init();
+				return bean;
+			}
+			case 39: // categorizedAbilityFacet
+			{
+				pcgen.cdom.facet.CategorizedAbilityFacet bean = new pcgen.cdom.facet.CategorizedAbilityFacet();
+				factory.register(39, bean);
+				return bean;
+			}
+			case 40: // bridgeFacet
+			{
+				pcgen.cdom.facet.CDOMObjectBridge bean = new pcgen.cdom.facet.CDOMObjectBridge();
+				factory.register(40, bean);
+				return bean;
+			}
+			case 41: // consolidationFacet
+			{
+				pcgen.cdom.facet.CDOMObjectConsolidationFacet bean = new pcgen.cdom.facet.CDOMObjectConsolidationFacet();
+				factory.register(41, bean);
+				bean.setBridgeFacet((pcgen.cdom.facet.CDOMObjectBridge) factory.getBean(40));
+				return bean;
+			}
+			case 42: // cdomSourceFacet
+			{
+				pcgen.cdom.facet.CDOMObjectSourceFacet bean = new pcgen.cdom.facet.CDOMObjectSourceFacet();
+				factory.register(42, bean);
+				bean.setBridgeFacet((pcgen.cdom.facet.CDOMObjectBridge) factory.getBean(40));
+				return bean;
+			}
+			case 43: // cdomWrapperInfoFacet
+			{
+				pcgen.cdom.facet.CDOMWrapperInfoFacet bean = new pcgen.cdom.facet.CDOMWrapperInfoFacet();
+				factory.register(43, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 44: // challengeRatingFacet
+			{
+				pcgen.cdom.facet.analysis.ChallengeRatingFacet bean = new pcgen.cdom.facet.analysis.ChallengeRatingFacet();
+				factory.register(44, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setLevelFacet((pcgen.cdom.facet.analysis.LevelFacet) factory.getBean(118));
+				return bean;
+			}
+			case 45: // changeProfFacet
+			{
+				pcgen.cdom.facet.analysis.ChangeProfFacet bean = new pcgen.cdom.facet.analysis.ChangeProfFacet();
+				factory.register(45, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 46: // characterConsolidationFacet
+			{
+				pcgen.cdom.facet.CharacterConsolidationFacet bean = new pcgen.cdom.facet.CharacterConsolidationFacet();
+				factory.register(46, bean);
+				return bean;
+			}
+			case 47: // characterSpellResistanceFacet
+			{
+				pcgen.cdom.facet.analysis.CharacterSpellResistanceFacet bean = new pcgen.cdom.facet.analysis.CharacterSpellResistanceFacet();
+				factory.register(47, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 48: // characterTypeFacet
+			{
+				pcgen.cdom.facet.fact.CharacterTypeFacet bean = new pcgen.cdom.facet.fact.CharacterTypeFacet();
+				factory.register(48, bean);
+				bean.init();
+				return bean;
+			}
+			case 49: // checkFacet
+			{
+				pcgen.cdom.facet.model.CheckFacet bean = new pcgen.cdom.facet.model.CheckFacet();
+				factory.register(49, bean);
+				bean.init();
+				return bean;
+			}
+			case 50: // checkBonusFacet
+			{
+				pcgen.cdom.facet.CheckBonusFacet bean = new pcgen.cdom.facet.CheckBonusFacet();
+				factory.register(50, bean);
+				bean.setCheckFacet((pcgen.cdom.facet.model.CheckFacet) factory.getBean(49));
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				return bean;
+			}
+			case 51: // chooseDriverFacet
+			{
+				pcgen.cdom.facet.ChooseDriverFacet bean = new pcgen.cdom.facet.ChooseDriverFacet();
+				factory.register(51, bean);
+				bean.setDomainSelectionFacet((pcgen.cdom.facet.DomainSelectionFacet) factory.getBean(75));
+				bean.setRaceSelectionFacet((pcgen.cdom.facet.RaceSelectionFacet) factory.getBean(157));
+				bean.setTemplateSelectionFacet((pcgen.cdom.facet.TemplateSelectionFacet) factory.getBean(208));
+				bean.init();
+				return bean;
+			}
+			case 52: // chronicleEntryFacet
+			{
+				pcgen.cdom.facet.fact.ChronicleEntryFacet bean = new pcgen.cdom.facet.fact.ChronicleEntryFacet();
+				factory.register(52, bean);
+				return bean;
+			}
+			case 53: // classFacet
+			{
+				pcgen.cdom.facet.model.ClassFacet bean = new pcgen.cdom.facet.model.ClassFacet();
+				factory.register(53, bean);
+				bean.init();
+				return bean;
+			}
+			case 54: // classLevelFacet
+			{
+				pcgen.cdom.facet.model.ClassLevelFacet bean = new pcgen.cdom.facet.model.ClassLevelFacet();
+				factory.register(54, bean);
+				return bean;
+			}
+			case 55: // classLevelChangeFacet
+			{
+				pcgen.cdom.facet.ClassLevelChangeFacet bean = new pcgen.cdom.facet.ClassLevelChangeFacet();
+				factory.register(55, bean);
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setClassLevelFacet((pcgen.cdom.facet.model.ClassLevelFacet) factory.getBean(54));
+				bean.init();
+				return bean;
+			}
+			case 56: // classSkillListFacet
+			{
+				pcgen.cdom.facet.input.ClassSkillListFacet bean = new pcgen.cdom.facet.input.ClassSkillListFacet();
+				factory.register(56, bean);
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setSubClassFacet((pcgen.cdom.facet.SubClassFacet) factory.getBean(200));
+				bean.setDefaultClassSkillListFacet((pcgen.cdom.facet.DefaultClassSkillListFacet) factory.getBean(68));
+				bean.setSkillListFacet((pcgen.cdom.facet.model.SkillListFacet) factory.getBean(178));
+				bean.init();
+				return bean;
+			}
+			case 57: // classSpellListFacet
+			{
+				pcgen.cdom.facet.ClassSpellListFacet bean = new pcgen.cdom.facet.ClassSpellListFacet();
+				factory.register(57, bean);
+				bean.setSpellListFacet((pcgen.cdom.facet.SpellListFacet) factory.getBean(187));
+				return bean;
+			}
+			case 58: // companionModFacet
+			{
+				pcgen.cdom.facet.model.CompanionModFacet bean = new pcgen.cdom.facet.model.CompanionModFacet();
+				factory.register(58, bean);
+				bean.init();
+				return bean;
+			}
+			case 59: // conditionalAbilityFacet
+			{
+				pcgen.cdom.facet.ConditionalAbilityFacet bean = new pcgen.cdom.facet.ConditionalAbilityFacet();
+				factory.register(59, bean);
+				bean.setPrerequisiteFacet((pcgen.cdom.facet.PrerequisiteFacet) factory.getBean(149));
+				return bean;
+			}
+			case 60: // conditionallyAvailableSpellFacet
+			{
+				pcgen.cdom.facet.ConditionallyAvailableSpellFacet bean = new pcgen.cdom.facet.ConditionallyAvailableSpellFacet();
+				factory.register(60, bean);
+				return bean;
+			}
+			case 61: // conditionallyGrantedAbilityFacet
+			{
+				pcgen.cdom.facet.ConditionallyGrantedAbilityFacet bean = new pcgen.cdom.facet.ConditionallyGrantedAbilityFacet();
+				factory.register(61, bean);
+				bean.setConditionalAbilityFacet((pcgen.cdom.facet.ConditionalAbilityFacet) factory.getBean(59));
+				return bean;
+			}
+			case 62: // conditionallyGrantedAvailableSpellFacet
+			{
+				pcgen.cdom.facet.ConditionallyGrantedAvailableSpellFacet bean = new pcgen.cdom.facet.ConditionallyGrantedAvailableSpellFacet();
+				factory.register(62, bean);
+				bean.setConditionallyAvailableSpellFacet((pcgen.cdom.facet.ConditionallyAvailableSpellFacet) factory.getBean(60));
+				bean.setAvailableSpellFacet((pcgen.cdom.facet.AvailableSpellFacet) factory.getBean(27));
+				return bean;
+			}
+			case 63: // conditionallyGrantedKnownSpellFacet
+			{
+				pcgen.cdom.facet.ConditionallyGrantedKnownSpellFacet bean = new pcgen.cdom.facet.ConditionallyGrantedKnownSpellFacet();
+				factory.register(63, bean);
+				bean.setConditionallyKnownSpellFacet((pcgen.cdom.facet.ConditionallyKnownSpellFacet) factory.getBean(64));
+				bean.setKnownSpellFacet((pcgen.cdom.facet.KnownSpellFacet) factory.getBean(113));
+				return bean;
+			}
+			case 64: // conditionallyKnownSpellFacet
+			{
+				pcgen.cdom.facet.ConditionallyKnownSpellFacet bean = new pcgen.cdom.facet.ConditionallyKnownSpellFacet();
+				factory.register(64, bean);
+				return bean;
+			}
+			case 65: // conditionalTemplateFacet
+			{
+				pcgen.cdom.facet.ConditionalTemplateFacet bean = new pcgen.cdom.facet.ConditionalTemplateFacet();
+				factory.register(65, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setLevelFacet((pcgen.cdom.facet.analysis.LevelFacet) factory.getBean(118));
+				bean.init();
+				return bean;
+			}
+			case 66: // damageReductionFacet
+			{
+				pcgen.cdom.facet.DamageReductionFacet bean = new pcgen.cdom.facet.DamageReductionFacet();
+				factory.register(66, bean);
+				bean.setPrerequisiteFacet((pcgen.cdom.facet.PrerequisiteFacet) factory.getBean(149));
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 67: // dataSetInitializationFacet
+			{
+				pcgen.cdom.facet.DataSetInitializationFacet bean = new pcgen.cdom.facet.DataSetInitializationFacet();
+				factory.register(67, bean);
+				return bean;
+			}
+			case 68: // defaultClassSkillListFacet
+			{
+				pcgen.cdom.facet.DefaultClassSkillListFacet bean = new pcgen.cdom.facet.DefaultClassSkillListFacet();
+				factory.register(68, bean);
+				bean.setSkillListFacet((pcgen.cdom.facet.model.SkillListFacet) factory.getBean(178));
+				bean.init();
+				return bean;
+			}
+			case 69: // deityFacet
+			{
+				pcgen.cdom.facet.model.DeityFacet bean = new pcgen.cdom.facet.model.DeityFacet();
+				factory.register(69, bean);
+				bean.init();
+				return bean;
+			}
+			case 70: // deityWeaponProfFacet
+			{
+				pcgen.cdom.facet.DeityWeaponProfFacet bean = new pcgen.cdom.facet.DeityWeaponProfFacet();
+				factory.register(70, bean);
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.init();
+				return bean;
+			}
+			case 71: // directAbilityFacet
+			{
+				pcgen.cdom.facet.DirectAbilityFacet bean = new pcgen.cdom.facet.DirectAbilityFacet();
+				factory.register(71, bean);
+				return bean;
+			}
+			case 72: // directAbilityInputFacet
+			{
+				pcgen.cdom.facet.DirectAbilityInputFacet bean = new pcgen.cdom.facet.DirectAbilityInputFacet();
+				factory.register(72, bean);
+				return bean;
+			}
+			case 73: // domainFacet
+			{
+				pcgen.cdom.facet.model.DomainFacet bean = new pcgen.cdom.facet.model.DomainFacet();
+				factory.register(73, bean);
+				bean.init();
+				return bean;
+			}
+			case 74: // domainInputFacet
+			{
+				pcgen.cdom.facet.input.DomainInputFacet bean = new pcgen.cdom.facet.input.DomainInputFacet();
+				factory.register(74, bean);
+				bean.setDomainSelectionFacet((pcgen.cdom.facet.DomainSelectionFacet) factory.getBean(75));
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				return bean;
+			}
+			case 75: // domainSelectionFacet
+			{
+				pcgen.cdom.facet.DomainSelectionFacet bean = new pcgen.cdom.facet.DomainSelectionFacet();
+				factory.register(75, bean);
+				return bean;
+			}
+			case 76: // domainSpellCountFacet
+			{
+				pcgen.cdom.facet.DomainSpellCountFacet bean = new pcgen.cdom.facet.DomainSpellCountFacet();
+				factory.register(76, bean);
+				return bean;
+			}
+			case 77: // domainSpellListFacet
+			{
+				pcgen.cdom.facet.DomainSpellListFacet bean = new pcgen.cdom.facet.DomainSpellListFacet();
+				factory.register(77, bean);
+				bean.setSpellListFacet((pcgen.cdom.facet.SpellListFacet) factory.getBean(187));
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				bean.init();
+				return bean;
+			}
+			case 78: // domainSpellsFacet
+			{
+				pcgen.cdom.facet.DomainSpellsFacet bean = new pcgen.cdom.facet.DomainSpellsFacet();
+				factory.register(78, bean);
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.init();
+				return bean;
+			}
+			case 79: // dynamicFacet
+			{
+				pcgen.cdom.facet.input.DynamicFacet bean = new pcgen.cdom.facet.input.DynamicFacet();
+				factory.register(79, bean);
+				return bean;
+			}
+			case 80: // dynamicConsolidationFacet
+			{
+				pcgen.cdom.facet.model.DynamicConsolidationFacet bean = new pcgen.cdom.facet.model.DynamicConsolidationFacet();
+				factory.register(80, bean);
+				return bean;
+			}
+			case 81: // equipmentConsolidationFacet
+			{
+				pcgen.cdom.facet.EquipmentConsolidationFacet bean = new pcgen.cdom.facet.EquipmentConsolidationFacet();
+				factory.register(81, bean);
+				return bean;
+			}
+			case 82: // equipmentFacet
+			{
+				pcgen.cdom.facet.EquipmentFacet bean = new pcgen.cdom.facet.EquipmentFacet();
+				factory.register(82, bean);
+				bean.init();
+				return bean;
+			}
+			case 83: // equipmentTypeFacet
+			{
+				pcgen.cdom.facet.EquipmentTypeFacet bean = new pcgen.cdom.facet.EquipmentTypeFacet();
+				factory.register(83, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 84: // equippedEquipmentFacet
+			{
+				pcgen.cdom.facet.EquippedEquipmentFacet bean = new pcgen.cdom.facet.EquippedEquipmentFacet();
+				factory.register(84, bean);
+				bean.setEquipmentFacet((pcgen.cdom.facet.EquipmentFacet) factory.getBean(82));
+				bean.init();
+				return bean;
+			}
+			case 85: // equipSetFacet
+			{
+				pcgen.cdom.facet.EquipSetFacet bean = new pcgen.cdom.facet.EquipSetFacet();
+				factory.register(85, bean);
+				return bean;
+			}
+			case 86: // expandedCampaignFacet
+			{
+				pcgen.cdom.facet.model.ExpandedCampaignFacet bean = new pcgen.cdom.facet.model.ExpandedCampaignFacet();
+				factory.register(86, bean);
+				return bean;
+			}
+			case 87: // factFacet
+			{
+				pcgen.cdom.facet.fact.FactFacet bean = new pcgen.cdom.facet.fact.FactFacet();
+				factory.register(87, bean);
+				return bean;
+			}
+			case 88: // favoredClassFacet
+			{
+				pcgen.cdom.facet.analysis.FavoredClassFacet bean = new pcgen.cdom.facet.analysis.FavoredClassFacet();
+				factory.register(88, bean);
+				bean.setHasAnyFavoredClassFacet((pcgen.cdom.facet.analysis.HasAnyFavoredClassFacet) factory.getBean(104));
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 89: // followerFacet
+			{
+				pcgen.cdom.facet.fact.FollowerFacet bean = new pcgen.cdom.facet.fact.FollowerFacet();
+				factory.register(89, bean);
+				return bean;
+			}
+			case 90: // followerLimitFacet
+			{
+				pcgen.cdom.facet.analysis.FollowerLimitFacet bean = new pcgen.cdom.facet.analysis.FollowerLimitFacet();
+				factory.register(90, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 91: // followerOptionFacet
+			{
+				pcgen.cdom.facet.analysis.FollowerOptionFacet bean = new pcgen.cdom.facet.analysis.FollowerOptionFacet();
+				factory.register(91, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 92: // formulaResolvingFacet
+			{
+				pcgen.cdom.facet.FormulaResolvingFacet bean = new pcgen.cdom.facet.FormulaResolvingFacet();
+				factory.register(92, bean);
+				return bean;
+			}
+			case 93: // formulaSetupFacet
+			{
+				pcgen.cdom.facet.FormulaSetupFacet bean = new pcgen.cdom.facet.FormulaSetupFacet();
+				factory.register(93, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 94: // freeLanguageFacet
+			{
+				pcgen.cdom.facet.input.FreeLanguageFacet bean = new pcgen.cdom.facet.input.FreeLanguageFacet();
+				factory.register(94, bean);
+				bean.setLanguageFacet((pcgen.cdom.facet.model.LanguageFacet) factory.getBean(115));
+				bean.init();
+				return bean;
+			}
+			case 95: // genderFacet
+			{
+				pcgen.cdom.facet.fact.GenderFacet bean = new pcgen.cdom.facet.fact.GenderFacet();
+				factory.register(95, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 96: // globalAddedSkillCostFacet
+			{
+				pcgen.cdom.facet.input.GlobalAddedSkillCostFacet bean = new pcgen.cdom.facet.input.GlobalAddedSkillCostFacet();
+				factory.register(96, bean);
+				return bean;
+			}
+			case 97: // globalModifier
+			{
+				pcgen.cdom.facet.GlobalModifierFacet bean = new pcgen.cdom.facet.GlobalModifierFacet();
+				factory.register(97, bean);
+				return bean;
+			}
+			case 98: // globalSkillCostFacet
+			{
+				pcgen.cdom.facet.analysis.GlobalSkillCostFacet bean = new pcgen.cdom.facet.analysis.GlobalSkillCostFacet();
+				factory.register(98, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 99: // globalToSkillCostFacet
+			{
+				pcgen.cdom.facet.analysis.GlobalToSkillCostFacet bean = new pcgen.cdom.facet.analysis.GlobalToSkillCostFacet();
+				factory.register(99, bean);
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setGlobalSkillCostFacet((pcgen.cdom.facet.analysis.GlobalSkillCostFacet) factory.getBean(98));
+				bean.setGlobalAddedSkillCostFacet((pcgen.cdom.facet.input.GlobalAddedSkillCostFacet) factory.getBean(96));
+				bean.setMasterUsableSkillFacet((pcgen.cdom.facet.input.MasterUsableSkillFacet) factory.getBean(129));
+				bean.init();
+				return bean;
+			}
+			case 100: // goldFacet
+			{
+				pcgen.cdom.facet.fact.GoldFacet bean = new pcgen.cdom.facet.fact.GoldFacet();
+				factory.register(100, bean);
+				bean.init();
+				return bean;
+			}
+			case 101: // grantedAbilityFacet
+			{
+				pcgen.cdom.facet.GrantedAbilityFacet bean = new pcgen.cdom.facet.GrantedAbilityFacet();
+				factory.register(101, bean);
+				bean.init();
+				return bean;
+			}
+			case 102: // handedFacet
+			{
+				pcgen.cdom.facet.fact.HandedFacet bean = new pcgen.cdom.facet.fact.HandedFacet();
+				factory.register(102, bean);
+				return bean;
+			}
+			case 103: // handsFacet
+			{
+				pcgen.cdom.facet.analysis.HandsFacet bean = new pcgen.cdom.facet.analysis.HandsFacet();
+				factory.register(103, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				return bean;
+			}
+			case 104: // hasAnyFavoredClassFacet
+			{
+				pcgen.cdom.facet.analysis.HasAnyFavoredClassFacet bean = new pcgen.cdom.facet.analysis.HasAnyFavoredClassFacet();
+				factory.register(104, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 105: // hasDeityWeaponProfFacet
+			{
+				pcgen.cdom.facet.HasDeityWeaponProfFacet bean = new pcgen.cdom.facet.HasDeityWeaponProfFacet();
+				factory.register(105, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 106: // heightFacet
+			{
+				pcgen.cdom.facet.fact.HeightFacet bean = new pcgen.cdom.facet.fact.HeightFacet();
+				factory.register(106, bean);
+				bean.init();
+				return bean;
+			}
+			case 107: // hiddenTypeFacet
+			{
+				pcgen.cdom.facet.HiddenTypeFacet bean = new pcgen.cdom.facet.HiddenTypeFacet();
+				factory.register(107, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 108: // hitPointFacet
+			{
+				pcgen.cdom.facet.HitPointFacet bean = new pcgen.cdom.facet.HitPointFacet();
+				factory.register(108, bean);
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setLevelFacet((pcgen.cdom.facet.analysis.LevelFacet) factory.getBean(118));
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.init();
+				return bean;
+			}
+			case 109: // ignoreCostFacet
+			{
+				pcgen.cdom.facet.fact.IgnoreCostFacet bean = new pcgen.cdom.facet.fact.IgnoreCostFacet();
+				factory.register(109, bean);
+				return bean;
+			}
+			case 110: // initiativeFacet
+			{
+				pcgen.cdom.facet.analysis.InitiativeFacet bean = new pcgen.cdom.facet.analysis.InitiativeFacet();
+				factory.register(110, bean);
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				return bean;
+			}
+			case 111: // kitChoiceFacet
+			{
+				pcgen.cdom.facet.KitChoiceFacet bean = new pcgen.cdom.facet.KitChoiceFacet();
+				factory.register(111, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				bean.setSkillFacet((pcgen.cdom.facet.model.SkillFacet) factory.getBean(174));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 112: // kitFacet
+			{
+				pcgen.cdom.facet.KitFacet bean = new pcgen.cdom.facet.KitFacet();
+				factory.register(112, bean);
+				bean.init();
+				return bean;
+			}
+			case 113: // knownSpellFacet
+			{
+				pcgen.cdom.facet.KnownSpellFacet bean = new pcgen.cdom.facet.KnownSpellFacet();
+				factory.register(113, bean);
+				return bean;
+			}
+			case 114: // knownSpellInputFacet
+			{
+				pcgen.cdom.facet.KnownSpellInputFacet bean = new pcgen.cdom.facet.KnownSpellInputFacet();
+				factory.register(114, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.setKnownSpellFacet((pcgen.cdom.facet.KnownSpellFacet) factory.getBean(113));
+				bean.setConditionallyKnownSpellFacet((pcgen.cdom.facet.ConditionallyKnownSpellFacet) factory.getBean(64));
+				bean.init();
+				return bean;
+			}
+			case 115: // languageFacet
+			{
+				pcgen.cdom.facet.model.LanguageFacet bean = new pcgen.cdom.facet.model.LanguageFacet();
+				factory.register(115, bean);
+				bean.init();
+				return bean;
+			}
+			case 116: // legalDeityFacet
+			{
+				pcgen.cdom.facet.analysis.LegalDeityFacet bean = new pcgen.cdom.facet.analysis.LegalDeityFacet();
+				factory.register(116, bean);
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setPrerequisiteFacet((pcgen.cdom.facet.PrerequisiteFacet) factory.getBean(149));
+				return bean;
+			}
+			case 117: // legsFacet
+			{
+				pcgen.cdom.facet.analysis.LegsFacet bean = new pcgen.cdom.facet.analysis.LegsFacet();
+				factory.register(117, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				return bean;
+			}
+			case 118: // levelFacet
+			{
+				pcgen.cdom.facet.analysis.LevelFacet bean = new pcgen.cdom.facet.analysis.LevelFacet();
+				factory.register(118, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				return bean;
+			}
+			case 119: // levelInfoFacet
+			{
+				pcgen.cdom.facet.LevelInfoFacet bean = new pcgen.cdom.facet.LevelInfoFacet();
+				factory.register(119, bean);
+				return bean;
+			}
+			case 120: // levelTableFacet
+			{
+				pcgen.cdom.facet.analysis.LevelTableFacet bean = new pcgen.cdom.facet.analysis.LevelTableFacet();
+				factory.register(120, bean);
+				bean.setResolveFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setXpTableFacet((pcgen.cdom.facet.XPTableFacet) factory.getBean(229));
+				return bean;
+			}
+			case 121: // listToSkillCostFacet
+			{
+				pcgen.cdom.facet.analysis.ListToSkillCostFacet bean = new pcgen.cdom.facet.analysis.ListToSkillCostFacet();
+				factory.register(121, bean);
+				bean.setSkillListFacet((pcgen.cdom.facet.model.SkillListFacet) factory.getBean(178));
+				bean.setListSkillCostFacet((pcgen.cdom.facet.analysis.ListSkillCostFacet) factory.getBean(122));
+				bean.init();
+				return bean;
+			}
+			case 122: // listSkillCostFacet
+			{
+				pcgen.cdom.facet.analysis.ListSkillCostFacet bean = new pcgen.cdom.facet.analysis.ListSkillCostFacet();
+				factory.register(122, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.init();
+				return bean;
+			}
+			case 123: // loadFacet
+			{
+				pcgen.cdom.facet.analysis.LoadFacet bean = new pcgen.cdom.facet.analysis.LoadFacet();
+				factory.register(123, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setTotalWeightFacet((pcgen.cdom.facet.analysis.TotalWeightFacet) factory.getBean(210));
+				bean.setSizeFacet((pcgen.cdom.facet.model.SizeFacet) factory.getBean(173));
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				return bean;
+			}
+			case 124: // localAddedSkillCostFacet
+			{
+				pcgen.cdom.facet.input.LocalAddedSkillCostFacet bean = new pcgen.cdom.facet.input.LocalAddedSkillCostFacet();
+				factory.register(124, bean);
+				return bean;
+			}
+			case 125: // localSkillCostFacet
+			{
+				pcgen.cdom.facet.analysis.LocalSkillCostFacet bean = new pcgen.cdom.facet.analysis.LocalSkillCostFacet();
+				factory.register(125, bean);
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setClassLevelFacet((pcgen.cdom.facet.model.ClassLevelFacet) factory.getBean(54));
+				bean.init();
+				return bean;
+			}
+			case 126: // masterAvailableSpellFacet
+			{
+				pcgen.cdom.facet.MasterAvailableSpellFacet bean = new pcgen.cdom.facet.MasterAvailableSpellFacet();
+				factory.register(126, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 127: // masterFacet
+			{
+				pcgen.cdom.facet.MasterFacet bean = new pcgen.cdom.facet.MasterFacet();
+				factory.register(127, bean);
+				bean.setCompanionModFacet((pcgen.cdom.facet.model.CompanionModFacet) factory.getBean(58));
+				return bean;
+			}
+			case 128: // masterSkillFacet
+			{
+				pcgen.cdom.facet.MasterSkillFacet bean = new pcgen.cdom.facet.MasterSkillFacet();
+				factory.register(128, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 129: // masterUsableSkillFacet
+			{
+				pcgen.cdom.facet.input.MasterUsableSkillFacet bean = new pcgen.cdom.facet.input.MasterUsableSkillFacet();
+				factory.register(129, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 130: // modifierFacet
+			{
+				pcgen.cdom.facet.ModifierFacet bean = new pcgen.cdom.facet.ModifierFacet();
+				factory.register(130, bean);
+				bean.setScopeFacet((pcgen.cdom.facet.ScopeFacet) factory.getBean(168));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.setSolverManagerFacet((pcgen.cdom.facet.SolverManagerFacet) factory.getBean(182));
+				bean.init();
+				return bean;
+			}
+			case 131: // monsterClassFacet
+			{
+				pcgen.cdom.facet.MonsterClassFacet bean = new pcgen.cdom.facet.MonsterClassFacet();
+				factory.register(131, bean);
+				bean.setLevelFacet((pcgen.cdom.facet.analysis.LevelFacet) factory.getBean(118));
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setLevelInfoFacet((pcgen.cdom.facet.LevelInfoFacet) factory.getBean(119));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.init();
+				return bean;
+			}
+			case 132: // monsterCSkillFacet
+			{
+				pcgen.cdom.facet.input.MonsterCSkillFacet bean = new pcgen.cdom.facet.input.MonsterCSkillFacet();
+				factory.register(132, bean);
+				return bean;
+			}
+			case 133: // monCSkillToSkillCostFacet
+			{
+				pcgen.cdom.facet.analysis.MonCSkillToSkillCostFacet bean = new pcgen.cdom.facet.analysis.MonCSkillToSkillCostFacet();
+				factory.register(133, bean);
+				bean.setMonsterCSkillFacet((pcgen.cdom.facet.input.MonsterCSkillFacet) factory.getBean(132));
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.init();
+				return bean;
+			}
+			case 134: // movementFacet
+			{
+				pcgen.cdom.facet.analysis.MovementFacet bean = new pcgen.cdom.facet.analysis.MovementFacet();
+				factory.register(134, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 135: // movementResultFacet
+			{
+				pcgen.cdom.facet.analysis.MovementResultFacet bean = new pcgen.cdom.facet.analysis.MovementResultFacet();
+				factory.register(135, bean);
+				bean.setMovementFacet((pcgen.cdom.facet.analysis.MovementFacet) factory.getBean(134));
+				bean.setBaseMovementFacet((pcgen.cdom.facet.analysis.BaseMovementFacet) factory.getBean(29));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setEquipmentFacet((pcgen.cdom.facet.EquipmentFacet) factory.getBean(82));
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setUnencumberedArmorFacet((pcgen.cdom.facet.analysis.UnencumberedArmorFacet) factory.getBean(213));
+				bean.setUnencumberedLoadFacet((pcgen.cdom.facet.analysis.UnencumberedLoadFacet) factory.getBean(214));
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setLoadFacet((pcgen.cdom.facet.analysis.LoadFacet) factory.getBean(123));
+				bean.init();
+				return bean;
+			}
+			case 136: // multiClassFacet
+			{
+				pcgen.cdom.facet.analysis.MultiClassFacet bean = new pcgen.cdom.facet.analysis.MultiClassFacet();
+				factory.register(136, bean);
+				bean.setFavoredClassFacet((pcgen.cdom.facet.analysis.FavoredClassFacet) factory.getBean(88));
+				bean.setHasAnyFavoredClassFacet((pcgen.cdom.facet.analysis.HasAnyFavoredClassFacet) factory.getBean(104));
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setSubClassFacet((pcgen.cdom.facet.SubClassFacet) factory.getBean(200));
+				return bean;
+			}
+			case 137: // naturalEquipmentFacet
+			{
+				pcgen.cdom.facet.NaturalEquipmentFacet bean = new pcgen.cdom.facet.NaturalEquipmentFacet();
+				factory.register(137, bean);
+				return bean;
+			}
+			case 138: // naturalEquipSetFacet
+			{
+				pcgen.cdom.facet.NaturalEquipSetFacet bean = new pcgen.cdom.facet.NaturalEquipSetFacet();
+				factory.register(138, bean);
+				bean.setNaturalWeaponFacet((pcgen.cdom.facet.NaturalWeaponFacet) factory.getBean(139));
+				bean.init();
+				return bean;
+			}
+			case 139: // naturalWeaponFacet
+			{
+				pcgen.cdom.facet.NaturalWeaponFacet bean = new pcgen.cdom.facet.NaturalWeaponFacet();
+				factory.register(139, bean);
+				return bean;
+			}
+			case 140: // naturalWeaponProfFacet
+			{
+				pcgen.cdom.facet.NaturalWeaponProfFacet bean = new pcgen.cdom.facet.NaturalWeaponProfFacet();
+				factory.register(140, bean);
+				return bean;
+			}
+			case 141: // nonAbilityFacet
+			{
+				pcgen.cdom.facet.analysis.NonAbilityFacet bean = new pcgen.cdom.facet.analysis.NonAbilityFacet();
+				factory.register(141, bean);
+				bean.setNonStatStatFacet((pcgen.cdom.facet.analysis.NonStatStatFacet) factory.getBean(143));
+				bean.setNonStatToStatFacet((pcgen.cdom.facet.analysis.NonStatToStatFacet) factory.getBean(144));
+				return bean;
+			}
+			case 142: // nonProficiencyPenaltyFacet
+			{
+				pcgen.cdom.facet.analysis.NonProficiencyPenaltyFacet bean = new pcgen.cdom.facet.analysis.NonProficiencyPenaltyFacet();
+				factory.register(142, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				return bean;
+			}
+			case 143: // nonStatStatFacet
+			{
+				pcgen.cdom.facet.analysis.NonStatStatFacet bean = new pcgen.cdom.facet.analysis.NonStatStatFacet();
+				factory.register(143, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 144: // nonStatToStatFacet
+			{
+				pcgen.cdom.facet.analysis.NonStatToStatFacet bean = new pcgen.cdom.facet.analysis.NonStatToStatFacet();
+				factory.register(144, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 145: // noteItemFacet
+			{
+				pcgen.cdom.facet.NoteItemFacet bean = new pcgen.cdom.facet.NoteItemFacet();
+				factory.register(145, bean);
+				return bean;
+			}
+			case 146: // objectAdditionFacet
+			{
+				pcgen.cdom.facet.ObjectAdditionFacet bean = new pcgen.cdom.facet.ObjectAdditionFacet();
+				factory.register(146, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 147: // objectWrapperFacet
+			{
+				pcgen.cdom.facet.ObjectWrapperFacet bean = new pcgen.cdom.facet.ObjectWrapperFacet();
+				factory.register(147, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 148: // playerCharacterTrackingFacet
+			{
+				pcgen.cdom.facet.PlayerCharacterTrackingFacet bean = new pcgen.cdom.facet.PlayerCharacterTrackingFacet();
+				factory.register(148, bean);
+				return bean;
+			}
+			case 149: // prerequisiteFacet
+			{
+				pcgen.cdom.facet.PrerequisiteFacet bean = new pcgen.cdom.facet.PrerequisiteFacet();
+				factory.register(149, bean);
+				return bean;
+			}
+			case 150: // previewSheetFacet
+			{
+				pcgen.cdom.facet.fact.PreviewSheetFacet bean = new pcgen.cdom.facet.fact.PreviewSheetFacet();
+				factory.register(150, bean);
+				return bean;
+			}
+			case 151: // primaryWeaponFacet
+			{
+				pcgen.cdom.facet.PrimaryWeaponFacet bean = new pcgen.cdom.facet.PrimaryWeaponFacet();
+				factory.register(151, bean);
+				return bean;
+			}
+			case 152: // prohibitedSchoolFacet
+			{
+				pcgen.cdom.facet.input.ProhibitedSchoolFacet bean = new pcgen.cdom.facet.input.ProhibitedSchoolFacet();
+				factory.register(152, bean);
+				return bean;
+			}
+			case 153: // portraitThumbnailRectFacet
+			{
+				pcgen.cdom.facet.fact.PortraitThumbnailRectFacet bean = new pcgen.cdom.facet.fact.PortraitThumbnailRectFacet();
+				factory.register(153, bean);
+				return bean;
+			}
+			case 154: // qualifyFacet
+			{
+				pcgen.cdom.facet.analysis.QualifyFacet bean = new pcgen.cdom.facet.analysis.QualifyFacet();
+				factory.register(154, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 155: // raceFacet
+			{
+				pcgen.cdom.facet.model.RaceFacet bean = new pcgen.cdom.facet.model.RaceFacet();
+				factory.register(155, bean);
+				bean.init();
+				return bean;
+			}
+			case 156: // raceInputFacet
+			{
+				pcgen.cdom.facet.input.RaceInputFacet bean = new pcgen.cdom.facet.input.RaceInputFacet();
+				factory.register(156, bean);
+				bean.setRaceSelectionFacet((pcgen.cdom.facet.RaceSelectionFacet) factory.getBean(157));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				return bean;
+			}
+			case 157: // raceSelectionFacet
+			{
+				pcgen.cdom.facet.RaceSelectionFacet bean = new pcgen.cdom.facet.RaceSelectionFacet();
+				factory.register(157, bean);
+				return bean;
+			}
+			case 158: // raceTypeFacet
+			{
+				pcgen.cdom.facet.analysis.RaceTypeFacet bean = new pcgen.cdom.facet.analysis.RaceTypeFacet();
+				factory.register(158, bean);
+				bean.setCompanionModFacet((pcgen.cdom.facet.model.CompanionModFacet) factory.getBean(58));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				return bean;
+			}
+			case 159: // racialSubTypesFacet
+			{
+				pcgen.cdom.facet.analysis.RacialSubTypesFacet bean = new pcgen.cdom.facet.analysis.RacialSubTypesFacet();
+				factory.register(159, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				return bean;
+			}
+			case 160: // reachFacet
+			{
+				pcgen.cdom.facet.analysis.ReachFacet bean = new pcgen.cdom.facet.analysis.ReachFacet();
+				factory.register(160, bean);
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.init();
+				return bean;
+			}
+			case 161: // regionChoiceFacet
+			{
+				pcgen.cdom.facet.RegionChoiceFacet bean = new pcgen.cdom.facet.RegionChoiceFacet();
+				factory.register(161, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				bean.setSkillFacet((pcgen.cdom.facet.model.SkillFacet) factory.getBean(174));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 162: // regionFacet
+			{
+				pcgen.cdom.facet.fact.RegionFacet bean = new pcgen.cdom.facet.fact.RegionFacet();
+				factory.register(162, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				return bean;
+			}
+			case 163: // remoteModifierFacet
+			{
+				pcgen.cdom.facet.RemoteModifierFacet bean = new pcgen.cdom.facet.RemoteModifierFacet();
+				factory.register(163, bean);
+				bean.setScopeFacet((pcgen.cdom.facet.ScopeFacet) factory.getBean(168));
+				bean.setVarScopedFacet((pcgen.cdom.facet.model.VarScopedFacet) factory.getBean(223));
+				bean.setSolverManagerFacet((pcgen.cdom.facet.SolverManagerFacet) factory.getBean(182));
+				bean.init();
+				return bean;
+			}
+			case 164: // removeFacet
+			{
+				pcgen.cdom.facet.RemoveFacet bean = new pcgen.cdom.facet.RemoveFacet();
+				factory.register(164, bean);
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setDeityFacet((pcgen.cdom.facet.model.DeityFacet) factory.getBean(69));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setDomainFacet((pcgen.cdom.facet.model.DomainFacet) factory.getBean(73));
+				bean.setClassLevelFacet((pcgen.cdom.facet.model.ClassLevelFacet) factory.getBean(54));
+				bean.init();
+				return bean;
+			}
+			case 165: // resultFacet
+			{
+				pcgen.cdom.facet.analysis.ResultFacet bean = new pcgen.cdom.facet.analysis.ResultFacet();
+				factory.register(165, bean);
+				bean.setVariableStoreFacet((pcgen.cdom.facet.VariableStoreFacet) factory.getBean(222));
+				bean.setVariableLibraryFacet((pcgen.cdom.facet.VariableLibraryFacet) factory.getBean(221));
+				bean.setScopeFacet((pcgen.cdom.facet.ScopeFacet) factory.getBean(168));
+				return bean;
+			}
+			case 166: // saveableBonusFacet
+			{
+				pcgen.cdom.facet.SaveableBonusFacet bean = new pcgen.cdom.facet.SaveableBonusFacet();
+				factory.register(166, bean);
+				return bean;
+			}
+			case 167: // savedAbilitiesFacet
+			{
+				pcgen.cdom.facet.SavedAbilitiesFacet bean = new pcgen.cdom.facet.SavedAbilitiesFacet();
+				factory.register(167, bean);
+				return bean;
+			}
+			case 168: // scopeFacet
+			{
+				pcgen.cdom.facet.ScopeFacet bean = new pcgen.cdom.facet.ScopeFacet();
+				factory.register(168, bean);
+				return bean;
+			}
+			case 169: // secondaryWeaponFacet
+			{
+				pcgen.cdom.facet.SecondaryWeaponFacet bean = new pcgen.cdom.facet.SecondaryWeaponFacet();
+				factory.register(169, bean);
+				return bean;
+			}
+			case 170: // shieldProfFacet
+			{
+				pcgen.cdom.facet.ShieldProfFacet bean = new pcgen.cdom.facet.ShieldProfFacet();
+				factory.register(170, bean);
+				bean.setShieldProfProviderFacet((pcgen.cdom.facet.model.ShieldProfProviderFacet) factory.getBean(171));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 171: // shieldProfProviderFacet
+			{
+				pcgen.cdom.facet.model.ShieldProfProviderFacet bean = new pcgen.cdom.facet.model.ShieldProfProviderFacet();
+				factory.register(171, bean);
+				bean.init();
+				return bean;
+			}
+			case 172: // simpleAbilityFacet
+			{
+				pcgen.cdom.facet.model.SimpleAbilityFacet bean = new pcgen.cdom.facet.model.SimpleAbilityFacet();
+				factory.register(172, bean);
+				return bean;
+			}
+			case 173: // sizeFacet
+			{
+				pcgen.cdom.facet.model.SizeFacet bean = new pcgen.cdom.facet.model.SizeFacet();
+				factory.register(173, bean);
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setLevelFacet((pcgen.cdom.facet.analysis.LevelFacet) factory.getBean(118));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 174: // skillFacet
+			{
+				pcgen.cdom.facet.model.SkillFacet bean = new pcgen.cdom.facet.model.SkillFacet();
+				factory.register(174, bean);
+				bean.setUsableSkillsFacet((pcgen.cdom.facet.UsableSkillsFacet) factory.getBean(216));
+				bean.setTotalSkillRankFacet((pcgen.cdom.facet.TotalSkillRankFacet) factory.getBean(209));
+				bean.init();
+				return bean;
+			}
+			case 175: // skillFilterFacet
+			{
+				pcgen.cdom.facet.fact.SkillFilterFacet bean = new pcgen.cdom.facet.fact.SkillFilterFacet();
+				factory.register(175, bean);
+				return bean;
+			}
+			case 176: // skillCostFacet
+			{
+				pcgen.cdom.facet.SkillCostFacet bean = new pcgen.cdom.facet.SkillCostFacet();
+				factory.register(176, bean);
+				bean.setGlobalToSkillCostFacet((pcgen.cdom.facet.analysis.GlobalToSkillCostFacet) factory.getBean(99));
+				bean.setListToSkillCostFacet((pcgen.cdom.facet.analysis.ListToSkillCostFacet) factory.getBean(121));
+				bean.setLocalAddedSkillCostFacet((pcgen.cdom.facet.input.LocalAddedSkillCostFacet) factory.getBean(124));
+				bean.setLocalSkillCostFacet((pcgen.cdom.facet.analysis.LocalSkillCostFacet) factory.getBean(125));
+				bean.setSkillListToCostFacet((pcgen.cdom.facet.SkillListToCostFacet) factory.getBean(177));
+				bean.setMonCSkillToSkillCostFacet((pcgen.cdom.facet.analysis.MonCSkillToSkillCostFacet) factory.getBean(133));
+				bean.init();
+				return bean;
+			}
+			case 177: // skillListToCostFacet
+			{
+				pcgen.cdom.facet.SkillListToCostFacet bean = new pcgen.cdom.facet.SkillListToCostFacet();
+				factory.register(177, bean);
+				bean.setSkillListFacet((pcgen.cdom.facet.model.SkillListFacet) factory.getBean(178));
+				bean.setMasterSkillFacet((pcgen.cdom.facet.MasterSkillFacet) factory.getBean(128));
+				bean.init();
+				return bean;
+			}
+			case 178: // skillListFacet
+			{
+				pcgen.cdom.facet.model.SkillListFacet bean = new pcgen.cdom.facet.model.SkillListFacet();
+				factory.register(178, bean);
+				return bean;
+			}
+			case 179: // skillOutputOrderFacet
+			{
+				pcgen.cdom.facet.SkillOutputOrderFacet bean = new pcgen.cdom.facet.SkillOutputOrderFacet();
+				factory.register(179, bean);
+				return bean;
+			}
+			case 180: // skillPoolFacet
+			{
+				pcgen.cdom.facet.SkillPoolFacet bean = new pcgen.cdom.facet.SkillPoolFacet();
+				factory.register(180, bean);
+				return bean;
+			}
+			case 181: // skillRankFacet
+			{
+				pcgen.cdom.facet.SkillRankFacet bean = new pcgen.cdom.facet.SkillRankFacet();
+				factory.register(181, bean);
+				return bean;
+			}
+			case 182: // solverManagerFacet
+			{
+				pcgen.cdom.facet.SolverManagerFacet bean = new pcgen.cdom.facet.SolverManagerFacet();
+				factory.register(182, bean);
+				bean.setVariableLibraryFacet((pcgen.cdom.facet.VariableLibraryFacet) factory.getBean(221));
+				bean.setScopeFacet((pcgen.cdom.facet.ScopeFacet) factory.getBean(168));
+				return bean;
+			}
+			case 183: // solverFactoryFacet
+			{
+				pcgen.cdom.facet.SolverFactoryFacet bean = new pcgen.cdom.facet.SolverFactoryFacet();
+				factory.register(183, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 184: // sourcedEquipmentFacet
+			{
+				pcgen.cdom.facet.SourcedEquipmentFacet bean = new pcgen.cdom.facet.SourcedEquipmentFacet();
+				factory.register(184, bean);
+				return bean;
+			}
+			case 185: // specialAbilityFacet
+			{
+				pcgen.cdom.facet.analysis.SpecialAbilityFacet bean = new pcgen.cdom.facet.analysis.SpecialAbilityFacet();
+				factory.register(185, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 186: // spellBookFacet
+			{
+				pcgen.cdom.facet.SpellBookFacet bean = new pcgen.cdom.facet.SpellBookFacet();
+				factory.register(186, bean);
+				bean.setEquipmentFacet((pcgen.cdom.facet.EquipmentFacet) factory.getBean(82));
+				bean.init();
+				return bean;
+			}
+			case 187: // spellListFacet
+			{
+				pcgen.cdom.facet.SpellListFacet bean = new pcgen.cdom.facet.SpellListFacet();
+				factory.register(187, bean);
+				return bean;
+			}
+			case 188: // spellListToAvailableSpellFacet
+			{
+				pcgen.cdom.facet.SpellListToAvailableSpellFacet bean = new pcgen.cdom.facet.SpellListToAvailableSpellFacet();
+				factory.register(188, bean);
+				bean.setMasterAvailableSpellFacet((pcgen.cdom.facet.MasterAvailableSpellFacet) factory.getBean(126));
+				bean.setSpellListFacet((pcgen.cdom.facet.SpellListFacet) factory.getBean(187));
+				bean.setConditionallyAvailableSpellFacet((pcgen.cdom.facet.ConditionallyAvailableSpellFacet) factory.getBean(60));
+				bean.setAvailableSpellFacet((pcgen.cdom.facet.AvailableSpellFacet) factory.getBean(27));
+				bean.init();
+				return bean;
+			}
+			case 189: // spellProhibitorFacet
+			{
+				pcgen.cdom.facet.SpellProhibitorFacet bean = new pcgen.cdom.facet.SpellProhibitorFacet();
+				factory.register(189, bean);
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.init();
+				return bean;
+			}
+			case 190: // spellsFacet
+			{
+				pcgen.cdom.facet.SpellsFacet bean = new pcgen.cdom.facet.SpellsFacet();
+				factory.register(190, bean);
+				bean.setCdomSourceFacet((pcgen.cdom.facet.CDOMObjectSourceFacet) factory.getBean(42));
+				bean.init();
+				return bean;
+			}
+			case 191: // spellSupportFacet
+			{
+				pcgen.cdom.facet.SpellSupportFacet bean = new pcgen.cdom.facet.SpellSupportFacet();
+				factory.register(191, bean);
+				return bean;
+			}
+			case 192: // startingLanguageFacet
+			{
+				pcgen.cdom.facet.StartingLanguageFacet bean = new pcgen.cdom.facet.StartingLanguageFacet();
+				factory.register(192, bean);
+				bean.setClassFacet((pcgen.cdom.facet.model.ClassFacet) factory.getBean(53));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 193: // statCalcFacet
+			{
+				pcgen.cdom.facet.StatCalcFacet bean = new pcgen.cdom.facet.StatCalcFacet();
+				factory.register(193, bean);
+				return bean;
+			}
+			case 194: // statFacet
+			{
+				pcgen.cdom.facet.model.StatFacet bean = new pcgen.cdom.facet.model.StatFacet();
+				factory.register(194, bean);
+				bean.init();
+				return bean;
+			}
+			case 195: // statBonusFacet
+			{
+				pcgen.cdom.facet.StatBonusFacet bean = new pcgen.cdom.facet.StatBonusFacet();
+				factory.register(195, bean);
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setPrerequisiteFacet((pcgen.cdom.facet.PrerequisiteFacet) factory.getBean(149));
+				bean.setStatFacet((pcgen.cdom.facet.model.StatFacet) factory.getBean(194));
+				return bean;
+			}
+			case 196: // statLockFacet
+			{
+				pcgen.cdom.facet.analysis.StatLockFacet bean = new pcgen.cdom.facet.analysis.StatLockFacet();
+				factory.register(196, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 197: // statMaxValueFacet
+			{
+				pcgen.cdom.facet.analysis.StatMaxValueFacet bean = new pcgen.cdom.facet.analysis.StatMaxValueFacet();
+				factory.register(197, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 198: // statMinValueFacet
+			{
+				pcgen.cdom.facet.analysis.StatMinValueFacet bean = new pcgen.cdom.facet.analysis.StatMinValueFacet();
+				factory.register(198, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 199: // statValueFacet
+			{
+				pcgen.cdom.facet.StatValueFacet bean = new pcgen.cdom.facet.StatValueFacet();
+				factory.register(199, bean);
+				return bean;
+			}
+			case 200: // subClassFacet
+			{
+				pcgen.cdom.facet.SubClassFacet bean = new pcgen.cdom.facet.SubClassFacet();
+				factory.register(200, bean);
+				return bean;
+			}
+			case 201: // substitutionClassFacet
+			{
+				pcgen.cdom.facet.SubstitutionClassFacet bean = new pcgen.cdom.facet.SubstitutionClassFacet();
+				factory.register(201, bean);
+				return bean;
+			}
+			case 202: // subRaceFacet
+			{
+				pcgen.cdom.facet.analysis.SubRaceFacet bean = new pcgen.cdom.facet.analysis.SubRaceFacet();
+				factory.register(202, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				return bean;
+			}
+			case 203: // suppressBioFieldFacet
+			{
+				pcgen.cdom.facet.fact.SuppressBioFieldFacet bean = new pcgen.cdom.facet.fact.SuppressBioFieldFacet();
+				factory.register(203, bean);
+				return bean;
+			}
+			case 204: // targetTrackingFacet
+			{
+				pcgen.cdom.facet.TargetTrackingFacet bean = new pcgen.cdom.facet.TargetTrackingFacet();
+				factory.register(204, bean);
+				return bean;
+			}
+			case 205: // templateFacet
+			{
+				pcgen.cdom.facet.model.TemplateFacet bean = new pcgen.cdom.facet.model.TemplateFacet();
+				factory.register(205, bean);
+				bean.init();
+				return bean;
+			}
+			case 206: // templateFeatFacet
+			{
+				pcgen.cdom.facet.TemplateFeatFacet bean = new pcgen.cdom.facet.TemplateFeatFacet();
+				factory.register(206, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 207: // templateInputFacet
+			{
+				pcgen.cdom.facet.input.TemplateInputFacet bean = new pcgen.cdom.facet.input.TemplateInputFacet();
+				factory.register(207, bean);
+				bean.setTemplateSelectionFacet((pcgen.cdom.facet.TemplateSelectionFacet) factory.getBean(208));
+				bean.setUnconditionalTemplateFacet((pcgen.cdom.facet.UnconditionalTemplateFacet) factory.getBean(212));
+				return bean;
+			}
+			case 208: // templateSelectionFacet
+			{
+				pcgen.cdom.facet.TemplateSelectionFacet bean = new pcgen.cdom.facet.TemplateSelectionFacet();
+				factory.register(208, bean);
+				return bean;
+			}
+			case 209: // totalSkillRankFacet
+			{
+				pcgen.cdom.facet.TotalSkillRankFacet bean = new pcgen.cdom.facet.TotalSkillRankFacet();
+				factory.register(209, bean);
+				bean.setSkillRankFacet((pcgen.cdom.facet.SkillRankFacet) factory.getBean(181));
+				bean.setBonusSkillRankChangeFacet((pcgen.cdom.facet.BonusSkillRankChangeFacet) factory.getBean(35));
+				bean.init();
+				return bean;
+			}
+			case 210: // totalWeightFacet
+			{
+				pcgen.cdom.facet.analysis.TotalWeightFacet bean = new pcgen.cdom.facet.analysis.TotalWeightFacet();
+				factory.register(210, bean);
+				bean.setEquipmentFacet((pcgen.cdom.facet.EquipmentFacet) factory.getBean(82));
+				return bean;
+			}
+			case 211: // unarmedDamageFacet
+			{
+				pcgen.cdom.facet.analysis.UnarmedDamageFacet bean = new pcgen.cdom.facet.analysis.UnarmedDamageFacet();
+				factory.register(211, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setRaceFacet((pcgen.cdom.facet.model.RaceFacet) factory.getBean(155));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 212: // unconditionalTemplateFacet
+			{
+				pcgen.cdom.facet.UnconditionalTemplateFacet bean = new pcgen.cdom.facet.UnconditionalTemplateFacet();
+				factory.register(212, bean);
+				bean.setTemplateFacet((pcgen.cdom.facet.model.TemplateFacet) factory.getBean(205));
+				bean.init();
+				return bean;
+			}
+			case 213: // unencumberedArmorFacet
+			{
+				pcgen.cdom.facet.analysis.UnencumberedArmorFacet bean = new pcgen.cdom.facet.analysis.UnencumberedArmorFacet();
+				factory.register(213, bean);
+				bean.setCdomSourceFacet((pcgen.cdom.facet.CDOMObjectSourceFacet) factory.getBean(42));
+				bean.init();
+				return bean;
+			}
+			case 214: // unencumberedLoadFacet
+			{
+				pcgen.cdom.facet.analysis.UnencumberedLoadFacet bean = new pcgen.cdom.facet.analysis.UnencumberedLoadFacet();
+				factory.register(214, bean);
+				bean.setCdomSourceFacet((pcgen.cdom.facet.CDOMObjectSourceFacet) factory.getBean(42));
+				bean.init();
+				return bean;
+			}
+			case 215: // unlockedStatFacet
+			{
+				pcgen.cdom.facet.analysis.UnlockedStatFacet bean = new pcgen.cdom.facet.analysis.UnlockedStatFacet();
+				factory.register(215, bean);
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 216: // usableSkillsFacet
+			{
+				pcgen.cdom.facet.UsableSkillsFacet bean = new pcgen.cdom.facet.UsableSkillsFacet();
+				factory.register(216, bean);
+				bean.setSkillCostFacet((pcgen.cdom.facet.SkillCostFacet) factory.getBean(176));
+				bean.init();
+				return bean;
+			}
+			case 217: // userEquipmentFacet
+			{
+				pcgen.cdom.facet.UserEquipmentFacet bean = new pcgen.cdom.facet.UserEquipmentFacet();
+				factory.register(217, bean);
+				return bean;
+			}
+			case 218: // userSpecialAbilityFacet
+			{
+				pcgen.cdom.facet.input.UserSpecialAbilityFacet bean = new pcgen.cdom.facet.input.UserSpecialAbilityFacet();
+				factory.register(218, bean);
+				return bean;
+			}
+			case 219: // variableCheckingFacet
+			{
+				pcgen.cdom.facet.VariableCheckingFacet bean = new pcgen.cdom.facet.VariableCheckingFacet();
+				factory.register(219, bean);
+				return bean;
+			}
+			case 220: // variableFacet
+			{
+				pcgen.cdom.facet.analysis.VariableFacet bean = new pcgen.cdom.facet.analysis.VariableFacet();
+				factory.register(220, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 221: // variableLibraryFacet
+			{
+				pcgen.cdom.facet.VariableLibraryFacet bean = new pcgen.cdom.facet.VariableLibraryFacet();
+				factory.register(221, bean);
+				bean.setDataSetInitializationFacet((pcgen.cdom.facet.DataSetInitializationFacet) factory.getBean(67));
+				bean.init();
+				return bean;
+			}
+			case 222: // variableStoreFacet
+			{
+				pcgen.cdom.facet.VariableStoreFacet bean = new pcgen.cdom.facet.VariableStoreFacet();
+				factory.register(222, bean);
+				bean.setSolverFactoryFacet((pcgen.cdom.facet.SolverFactoryFacet) factory.getBean(183));
+				return bean;
+			}
+			case 223: // varScopedFacet
+			{
+				pcgen.cdom.facet.model.VarScopedFacet bean = new pcgen.cdom.facet.model.VarScopedFacet();
+				factory.register(223, bean);
+				return bean;
+			}
+			case 224: // visionFacet
+			{
+				pcgen.cdom.facet.analysis.VisionFacet bean = new pcgen.cdom.facet.analysis.VisionFacet();
+				factory.register(224, bean);
+				bean.setFormulaResolvingFacet((pcgen.cdom.facet.FormulaResolvingFacet) factory.getBean(92));
+				bean.setBonusCheckingFacet((pcgen.cdom.facet.BonusCheckingFacet) factory.getBean(34));
+				bean.setPrerequisiteFacet((pcgen.cdom.facet.PrerequisiteFacet) factory.getBean(149));
+				bean.setConsolidationFacet((pcgen.cdom.facet.CDOMObjectConsolidationFacet) factory.getBean(41));
+				bean.init();
+				return bean;
+			}
+			case 225: // weaponProfFacet
+			{
+				pcgen.cdom.facet.WeaponProfFacet bean = new pcgen.cdom.facet.WeaponProfFacet();
+				factory.register(225, bean);
+				return bean;
+			}
+			case 226: // weaponProfModelFacet
+			{
+				pcgen.cdom.facet.model.WeaponProfModelFacet bean = new pcgen.cdom.facet.model.WeaponProfModelFacet();
+				factory.register(226, bean);
+				bean.setWeaponProfFacet((pcgen.cdom.facet.WeaponProfFacet) factory.getBean(225));
+				bean.setAutoWeaponProfFacet((pcgen.cdom.facet.AutoWeaponProfFacet) factory.getBean(26));
+				bean.setHasDeityWeaponProfFacet((pcgen.cdom.facet.HasDeityWeaponProfFacet) factory.getBean(105));
+				bean.setDeityWeaponProfFacet((pcgen.cdom.facet.DeityWeaponProfFacet) factory.getBean(70));
+				bean.init();
+				return bean;
+			}
+			case 227: // weightFacet
+			{
+				pcgen.cdom.facet.fact.WeightFacet bean = new pcgen.cdom.facet.fact.WeightFacet();
+				factory.register(227, bean);
+				return bean;
+			}
+			case 228: // xpFacet
+			{
+				pcgen.cdom.facet.fact.XPFacet bean = new pcgen.cdom.facet.fact.XPFacet();
+				factory.register(228, bean);
+				bean.setLevelFacet((pcgen.cdom.facet.analysis.LevelFacet) factory.getBean(118));
+				bean.setLevelTableFacet((pcgen.cdom.facet.analysis.LevelTableFacet) factory.getBean(120));
+				return bean;
+			}
+			case 229: // xpTableFacet
+			{
+				pcgen.cdom.facet.XPTableFacet bean = new pcgen.cdom.facet.XPTableFacet();
+				factory.register(229, bean);
+				return bean;
+			}
+			case 230: // globalLegalScope
+			{
+				pcgen.cdom.formula.scope.GlobalScope bean = new pcgen.cdom.formula.scope.GlobalScope();
+				factory.register(230, bean);
+				return bean;
+			}
+			case 231: // saveLegalScope
+			{
+				pcgen.cdom.formula.scope.SaveScope bean = new pcgen.cdom.formula.scope.SaveScope();
+				factory.register(231, bean);
+				bean.setParent((pcgen.cdom.formula.scope.GlobalScope) factory.getBean(230));
+				return bean;
+			}
+			case 232: // sizeLegalScope
+			{
+				pcgen.cdom.formula.scope.SizeScope bean = new pcgen.cdom.formula.scope.SizeScope();
+				factory.register(232, bean);
+				bean.setParent((pcgen.cdom.formula.scope.GlobalScope) factory.getBean(230));
+				return bean;
+			}
+			case 233: // skillLegalScope
+			{
+				pcgen.cdom.formula.scope.SkillScope bean = new pcgen.cdom.formula.scope.SkillScope();
+				factory.register(233, bean);
+				bean.setParent((pcgen.cdom.formula.scope.GlobalScope) factory.getBean(230));
+				return bean;
+			}
+			case 234: // statLegalScope
+			{
+				pcgen.cdom.formula.scope.StatScope bean = new pcgen.cdom.formula.scope.StatScope();
+				factory.register(234, bean);
+				bean.setParent((pcgen.cdom.formula.scope.GlobalScope) factory.getBean(230));
+				return bean;
+			}
+			case 235: // equipLegalScope
+			{
+				pcgen.cdom.formula.scope.EquipmentScope bean = new pcgen.cdom.formula.scope.EquipmentScope();
+				factory.register(235, bean);
+				bean.setParent((pcgen.cdom.formula.scope.GlobalScope) factory.getBean(230));
+				return bean;
+			}
+			case 236: // equipPartLegalScope
+			{
+				pcgen.cdom.formula.scope.EquipmentPartScope bean = new pcgen.cdom.formula.scope.EquipmentPartScope();
+				factory.register(236, bean);
+				bean.setParent((pcgen.cdom.formula.scope.EquipmentScope) factory.getBean(235));
+				return bean;
+			}
+			default:
+				throw new IllegalArgumentException("No bean " + index);
+		}
+	}
+}
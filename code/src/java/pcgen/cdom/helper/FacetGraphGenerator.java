@@ -0,0 +1,257 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.helper;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+
+import pcgen.util.Logging;
+
+import org.springframework.beans.PropertyValue;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.RuntimeBeanReference;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
+import org.springframework.core.io.ClassPathResource;
+
+/**
+ * FacetGraphGenerator writes FacetGraph, which builds the beans defined in
+ * applicationContext.xml with direct calls, from the bean definitions in
+ * applicationContext.xml. It must be run (with "gradle facetGraph") whenever
+ * applicationContext.xml is changed.
+ *
+ * <p>
+ * Only the subset of the Spring bean definitions used by applicationContext.xml
+ * is supported: singleton beans constructed with a public no-argument
+ * constructor, with properties which are references to other beans, and an
+ * optional no-argument init method.
+ */
+public final class FacetGraphGenerator
+{
+
+	/**
+	 * The location of the generated FacetGraph, relative to the root of the
+	 * project.
+	 */
+	static final String FACET_GRAPH_FILE =
+			"code/src/java/pcgen/cdom/helper/FacetGraph.java";
+
+	private FacetGraphGenerator()
+	{
+	}
+
+	/**
+	 * Writes FacetGraph.
+	 *
+	 * @param args
+	 *            The file to be written, which defaults to FACET_GRAPH_FILE
+	 * @throws IOException
+	 *             if the file cannot be written
+	 * @throws ClassNotFoundException
+	 *             if the class of a bean cannot be found
+	 */
+	public static void main(String[] args) throws IOException,
+		ClassNotFoundException
+	{
+		File file = new File((args.length == 0) ? FACET_GRAPH_FILE : args[0]);
+		Files.write(file.toPath(),
+			generate().getBytes(StandardCharsets.UTF_8));
+		Logging.log(Logging.INFO, "Wrote " + file.getAbsolutePath());
+	}
+
+	/**
+	 * Returns the source of FacetGraph for the bean definitions in
+	 * applicationContext.xml.
+	 *
+	 * @return The source of FacetGraph
+	 * @throws ClassNotFoundException
+	 *             if the class of a bean cannot be found
+	 */
+	static String generate() throws ClassNotFoundException
+	{
+		DefaultListableBeanFactory factory = new DefaultListableBeanFactory();
+		new XmlBeanDefinitionReader(factory)
+			.loadBeanDefinitions(new ClassPathResource("applicationContext.xml"));
+		String[] names = factory.getBeanDefinitionNames();
+		Map<String, Integer> indexes = new HashMap<>();
+		for (int i = 0; i < names.length; i++)
+		{
+			indexes.put(names[i], i);
+		}
+
+		StringBuilder sb = new StringBuilder(200000);
+		sb.append(HEADER);
+		sb.append("\tstatic final Class<?>[] BEAN_CLASSES = {\n");
+		for (int i = 0; i < names.length; i++)
+		{
+			sb.append("\t\t").append(getClassName(factory, names[i]))
+				.append(".class");
+			sb.append((i == names.length - 1) ? "\n" : ",\n");
+		}
+		sb.append(NAMES_START);
+		for (int i = 0; i < names.length; i++)
+		{
+			sb.append("\t\t\"").append(names[i]).append('"');
+			sb.append((i == names.length - 1) ? "\n" : ",\n");
+		}
+		sb.append(BUILD_START);
+		for (int i = 0; i < names.length; i++)
+		{
+			BeanDefinition definition = factory.getBeanDefinition(names[i]);
+			String className = getClassName(factory, names[i]);
+			sb.append("\t\t\tcase ").append(i).append(": // ")
+				.append(names[i]).append('\n');
+			sb.append("\t\t\t{\n");
+			sb.append("\t\t\t\t").append(className).append(" bean = new ")
+				.append(className).append("();\n");
+			sb.append("\t\t\t\tfactory.register(").append(i)
+				.append(", bean);\n");
+			for (PropertyValue pv : definition.getPropertyValues()
+				.getPropertyValues())
+			{
+				if (!(pv.getValue() instanceof RuntimeBeanReference))
+				{
+					throw new IllegalStateException("Property " + pv.getName()
+						+ " of " + names[i] + " is not a bean reference");
+				}
+				String ref =
+						((RuntimeBeanReference) pv.getValue()).getBeanName();
+				Integer refIndex = indexes.get(ref);
+				if (refIndex == null)
+				{
+					throw new IllegalStateException("Property " + pv.getName()
+						+ " of " + names[i] + " refers to unknown bean " + ref);
+				}
+				String name = pv.getName();
+				sb.append("\t\t\t\tbean.set")
+					.append(Character.toUpperCase(name.charAt(0)))
+					.append(name.substring(1)).append("((")
+					.append(getClassName(factory, ref))
+					.append(") factory.getBean(").append(refIndex)
+					.append("));\n");
+			}
+			String init =
+					((AbstractBeanDefinition) definition).getInitMethodName();
+			if ((init != null) && hasMethod(className, init))
+			{
+				sb.append("\t\t\t\tbean.").append(init).append("();\n");
+			}
+			sb.append("\t\t\t\treturn bean;\n");
+			sb.append("\t\t\t}\n");
+		}
+		sb.append(BUILD_END);
+		return sb.toString();
+	}
+
+	private static String getClassName(DefaultListableBeanFactory factory,
+		String name)
+	{
+		return factory.getBeanDefinition(name).getBeanClassName();
+	}
+
+	/**
+	 * Returns true if the given class has a public no-argument method with the
+	 * given name. Spring calls the default init method only if the bean has
+	 * it.
+	 */
+	private static boolean hasMethod(String className, String methodName)
+		throws ClassNotFoundException
+	{
+		Class<?> cl = Class.forName(className, false,
+			FacetGraphGenerator.class.getClassLoader());
+		for (Method method : cl.getMethods())
+		{
+			if (method.getName().equals(methodName)
+				&& (method.getParameterTypes().length == 0))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static final String HEADER = "/*\n"
+		+ " * This library is free software; you can redistribute it and/or\n"
+		+ " * modify it under the terms of the GNU Lesser General Public\n"
+		+ " * License as published by the Free Software Foundation; either\n"
+		+ " * version 2.1 of the License, or (at your option) any later version.\n"
+		+ " *\n"
+		+ " * This library is distributed in the hope that it will be useful,\n"
+		+ " * but WITHOUT ANY WARRANTY; without even the implied warranty of\n"
+		+ " * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU\n"
+		+ " * Lesser General Public License for more details.\n"
+		+ " *\n"
+		+ " * You should have received a copy of the GNU Lesser General Public\n"
+		+ " * License along with this library; if not, write to the Free Software\n"
+		+ " * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA\n"
+		+ " */\n"
+		+ "package pcgen.cdom.helper;\n"
+		+ "\n"
+		+ "/**\n"
+		+ " * FacetGraph builds the beans defined in applicationContext.xml with direct\n"
+		+ " * constructor, setter and init method calls.\n"
+		+ " *\n"
+		+ " * <p>\n"
+		+ " * This file is generated by FacetGraphGenerator. Do not edit it; run\n"
+		+ " * \"gradle facetGraph\" after changing applicationContext.xml.\n"
+		+ " */\n"
+		+ "final class FacetGraph\n"
+		+ "{\n"
+		+ "\n"
+		+ "\t/**\n"
+		+ "\t * The class of each bean, in the order the beans are defined.\n"
+		+ "\t */\n";
+
+	private static final String NAMES_START = "\t};\n"
+		+ "\n"
+		+ "\t/**\n"
+		+ "\t * The id of each bean, in the order the beans are defined.\n"
+		+ "\t */\n"
+		+ "\tstatic final String[] BEAN_NAMES = {\n";
+
+	private static final String BUILD_START = "\t};\n"
+		+ "\n"
+		+ "\tprivate FacetGraph()\n"
+		+ "\t{\n"
+		+ "\t}\n"
+		+ "\n"
+		+ "\t/**\n"
+		+ "\t * Builds the bean with the given index in BEAN_CLASSES, registering it\n"
+		+ "\t * with the given PrecompiledBeanFactory before its references are set.\n"
+		+ "\t *\n"
+		+ "\t * @param index\n"
+		+ "\t *            The index of the bean to be built\n"
+		+ "\t * @param factory\n"
+		+ "\t *            The PrecompiledBeanFactory providing the referenced beans\n"
+		+ "\t * @return The bean\n"
+		+ "\t */\n"
+		+ "\tstatic Object build(int index, PrecompiledBeanFactory factory)\n"
+		+ "\t{\n"
+		+ "\t\tswitch (index)\n"
+		+ "\t\t{\n";
+
+	private static final String BUILD_END = "\t\t\tdefault:\n"
+		+ "\t\t\t\tthrow new IllegalArgumentException(\"No bean \" + index);\n"
+		+ "\t\t}\n"
+		+ "\t}\n"
+		+ "}\n";
+}
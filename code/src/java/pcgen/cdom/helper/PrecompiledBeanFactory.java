@@ -0,0 +1,118 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.helper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import pcgen.cdom.facet.base.AbstractStorageFacet;
+
+/**
+ * PrecompiledBeanFactory holds the beans defined in applicationContext.xml as
+ * built by the generated FacetGraph, without parsing the XML or using
+ * reflection.
+ *
+ * <p>
+ * Each bean is built when it is first requested, in the same way as the Spring
+ * bean factory: the bean is constructed, registered (so a reference back to a
+ * bean which is still being built resolves to that bean), has each of its
+ * references set, and then has its init method called.
+ */
+final class PrecompiledBeanFactory
+{
+
+	private final Object[] beans = new Object[FacetGraph.BEAN_CLASSES.length];
+
+	private List<AbstractStorageFacet> storageBeans = null;
+
+	/**
+	 * Returns the first bean (in the order the beans are defined) which is an
+	 * instance of the given class.
+	 *
+	 * @param cl
+	 *            The type of bean to be retrieved
+	 * @return The bean, or null if none exists
+	 */
+	synchronized <T> T getBean(Class<T> cl)
+	{
+		Class<?>[] beanClasses = FacetGraph.BEAN_CLASSES;
+		for (int i = 0; i < beanClasses.length; i++)
+		{
+			if (cl.isAssignableFrom(beanClasses[i]))
+			{
+				return cl.cast(getBean(i));
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the bean with the given index in FacetGraph.BEAN_CLASSES,
+	 * building it if necessary.
+	 *
+	 * @param index
+	 *            The index of the bean to be retrieved
+	 * @return The bean
+	 */
+	synchronized Object getBean(int index)
+	{
+		Object bean = beans[index];
+		if (bean == null)
+		{
+			bean = FacetGraph.build(index, this);
+		}
+		return bean;
+	}
+
+	/**
+	 * Registers the given bean, which is being built by FacetGraph.
+	 *
+	 * @param index
+	 *            The index of the bean in FacetGraph.BEAN_CLASSES
+	 * @param bean
+	 *            The bean being built
+	 */
+	void register(int index, Object bean)
+	{
+		beans[index] = bean;
+	}
+
+	/**
+	 * Returns all of the beans which are AbstractStorageFacets, in the order
+	 * the beans are defined.
+	 *
+	 * @return The beans which are AbstractStorageFacets
+	 */
+	synchronized Collection<AbstractStorageFacet> getStorageBeans()
+	{
+		if (storageBeans == null)
+		{
+			List<AbstractStorageFacet> list = new ArrayList<>();
+			Class<?>[] beanClasses = FacetGraph.BEAN_CLASSES;
+			for (int i = 0; i < beanClasses.length; i++)
+			{
+				if (AbstractStorageFacet.class.isAssignableFrom(beanClasses[i]))
+				{
+					list.add((AbstractStorageFacet) getBean(i));
+				}
+			}
+			storageBeans = Collections.unmodifiableList(list);
+		}
+		return storageBeans;
+	}
+}
@@ -19,6 +19,8 @@
 package pcgen.cdom.helper;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import pcgen.cdom.facet.base.AbstractStorageFacet;
 
@@ -33,6 +35,12 @@ import org.springframework.core.io.Resource;
 /**
  * The Class {@code SpringHelper} is a simple helper for
  * integrating the Spring framework into PCGen.
+ *
+ * <p>
+ * The beans defined in applicationContext.xml are normally built by the
+ * generated FacetGraph, which wires them with direct constructor, setter and
+ * init calls. Setting the system property pcgen.spring.xml to true builds them
+ * through the Spring XML bean factory instead.
  */
 public final class SpringHelper
 {
@@ -40,15 +48,50 @@ public final class SpringHelper
 	{
 	}
 
-	private static final ListableBeanFactory beanFactory;
+	/**
+	 * The system property which, when true, causes the beans to be built by
+	 * the Spring XML bean factory.
+	 */
+	public static final String XML_PROPERTY = "pcgen.spring.xml";
+
+	private static final boolean USE_XML = Boolean.getBoolean(XML_PROPERTY);
+
+	private static final PrecompiledBeanFactory PRECOMPILED =
+			new PrecompiledBeanFactory();
+
+	/**
+	 * Holds the Spring XML bean factory, so applicationContext.xml is only
+	 * parsed if it is used.
+	 */
+	private static final class XmlBeanFactoryHolder
+	{
+		private static final ListableBeanFactory beanFactory;
+
+		static
+		{
+			Resource appClassRes = new ClassPathResource("applicationContext.xml");
+			DefaultListableBeanFactory xbf = new DefaultListableBeanFactory();
+			BeanDefinitionReader beanReader = new XmlBeanDefinitionReader(xbf);
+			beanReader.loadBeanDefinitions(appClassRes);
+			beanFactory = xbf;
+		}
+	}
 
-	static
+	/**
+	 * Holds the id of the first bean of each class defined in
+	 * applicationContext.xml, so the map is only built if it is used.
+	 */
+	private static final class BeanNameHolder
 	{
-		Resource appClassRes = new ClassPathResource("applicationContext.xml");
-		DefaultListableBeanFactory xbf = new DefaultListableBeanFactory();
-		BeanDefinitionReader beanReader = new XmlBeanDefinitionReader(xbf);
-		beanReader.loadBeanDefinitions(appClassRes);
-		beanFactory = xbf;
+		private static final Map<Class<?>, String> beanNames = new HashMap<>();
+
+		static
+		{
+			for (int i = FacetGraph.BEAN_CLASSES.length - 1; i >= 0; i--)
+			{
+				beanNames.put(FacetGraph.BEAN_CLASSES[i], FacetGraph.BEAN_NAMES[i]);
+			}
+		}
 	}
 
 	/**
@@ -60,6 +103,11 @@ public final class SpringHelper
 	 */
 	public static @Nullable <T> T getBean(Class<T> cl)
 	{
+		if (!USE_XML)
+		{
+			return PRECOMPILED.getBean(cl);
+		}
+		ListableBeanFactory beanFactory = XmlBeanFactoryHolder.beanFactory;
 		String[] beanNamesForType = beanFactory.getBeanNamesForType(cl);
 		if (beanNamesForType.length ==0) 
 		{
@@ -68,8 +116,25 @@ public final class SpringHelper
 		return beanFactory.getBean(beanNamesForType[0], cl);
 	}
 	
+	/**
+	 * Returns the id in applicationContext.xml of the bean of the given class.
+	 * Where multiple beans have the class, the id of the first is returned.
+	 * 
+	 * @param cl The class of the bean.
+	 * @return The id of the bean, or null if no bean has the given class.
+	 */
+	public static @Nullable String getBeanName(Class<?> cl)
+	{
+		return BeanNameHolder.beanNames.get(cl);
+	}
+
 	public static Collection<AbstractStorageFacet> getStorageBeans()
 	{
-		return beanFactory.getBeansOfType(AbstractStorageFacet.class).values();
+		if (!USE_XML)
+		{
+			return PRECOMPILED.getStorageBeans();
+		}
+		return XmlBeanFactoryHolder.beanFactory
+			.getBeansOfType(AbstractStorageFacet.class).values();
 	}
 }
@@ -108,6 +108,12 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable>
 	 */
 	private final KeyMap<T> active = new KeyMap<>();
 
+	/**
+	 * The number of times the active objects of this
+	 * AbstractReferenceManufacturer have changed.
+	 */
+	private int modificationCount = 0;
+
 	/**
 	 * Stores derivative objects (Those that are NOT created by this
 	 * AbstractReferenceManufacturer and are NOT inserted into this
@@ -399,6 +405,7 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable>
 		if (current == null)
 		{
 			active.put(key, item);
+			modificationCount++;
 		}
 		else
 		{
@@ -593,12 +600,14 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable>
 			{
 				// No replacement
 				active.remove(key);
+				modificationCount++;
 			}
 			else
 			{
 				T newActive = duplicates.getElementInList(ocik, 0);
 				duplicates.removeFromListFor(ocik, newActive);
 				active.put(key, newActive);
+				modificationCount++;
 			}
 		}
 		return true;
@@ -1269,6 +1278,18 @@ public abstract class AbstractReferenceManufacturer<T extends Loadable>
 		return active.size();
 	}
 
+	/**
+	 * Returns a count which changes whenever an object is added to or removed
+	 * from the constructed objects of this AbstractReferenceManufacturer.
+	 * 
+	 * @return The modification count of this AbstractReferenceManufacturer
+	 */
+	@Override
+	public int getModificationCount()
+	{
+		return modificationCount;
+	}
+
 	@Override
 	public T getItemInOrder(int index)
 	{
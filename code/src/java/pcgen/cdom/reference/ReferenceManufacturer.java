@@ -335,6 +335,16 @@ public interface ReferenceManufacturer<T extends Loadable> extends
 	 */
 	public int getConstructedObjectCount();
 
+	/**
+	 * Returns a count which changes whenever an object is added to or removed
+	 * from the objects constructed in this ReferenceManufacturer. This allows
+	 * information derived from the constructed objects to be cached until the
+	 * objects change.
+	 * 
+	 * @return The modification count of this ReferenceManufacturer
+	 */
+	public int getModificationCount();
+
 	public T getItemInOrder(int index);
 
 	public String getReferenceDescription();
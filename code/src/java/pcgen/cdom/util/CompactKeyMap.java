@@ -0,0 +1,299 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.util;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * A CompactKeyMap is a Map designed to hold the small number of characteristics
+ * (IntegerKey, StringKey, ObjectKey, etc.) of a single CDOMObject with as
+ * little memory as possible.
+ *
+ * <p>
+ * The keys of a CompactKeyMap are compared by identity, which is appropriate
+ * for the type safe constants used as keys of a CDOMObject, since only one
+ * instance of each constant exists.
+ *
+ * <p>
+ * Up to eight entries are held in a single array of alternating keys and
+ * values which is kept exactly the size of the contents, so there is no
+ * per-entry object and no unused space. The array is searched linearly, which
+ * for so few entries is at least as fast as hashing the key. Larger maps are
+ * held in an IdentityHashMap. trimToSize() may be called once the contents are
+ * not expected to change, to release any unused space.
+ *
+ * @param <K>
+ *            The type of the keys of this CompactKeyMap
+ * @param <V>
+ *            The type of the values of this CompactKeyMap
+ */
+public final class CompactKeyMap<K, V> extends AbstractMap<K, V>
+{
+
+	/**
+	 * The largest number of entries held in the array.
+	 */
+	private static final int ARRAY_LIMIT = 8;
+
+	private static final Object[] EMPTY = {};
+
+	/**
+	 * The keys (at even indexes) and values (at the following odd index) of
+	 * this CompactKeyMap, when not held in large.
+	 */
+	private Object[] table = EMPTY;
+
+	/**
+	 * The contents of this CompactKeyMap, when there are more than ARRAY_LIMIT
+	 * entries.
+	 */
+	private IdentityHashMap<K, V> large = null;
+
+	/**
+	 * Constructs a new, empty CompactKeyMap.
+	 */
+	public CompactKeyMap()
+	{
+		super();
+	}
+
+	/**
+	 * Constructs a new CompactKeyMap with the contents of the given Map.
+	 *
+	 * @param map
+	 *            The Map whose contents are to be placed into the new
+	 *            CompactKeyMap
+	 */
+	public CompactKeyMap(Map<? extends K, ? extends V> map)
+	{
+		super();
+		putAll(map);
+	}
+
+	private int indexOf(Object key)
+	{
+		Object[] tab = table;
+		for (int i = 0; i < tab.length; i += 2)
+		{
+			if (tab[i] == key)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	@Override
+	public int size()
+	{
+		return (large == null) ? (table.length >> 1) : large.size();
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return (large == null) ? (table.length == 0) : large.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key)
+	{
+		return (large == null) ? (indexOf(key) >= 0) : large.containsKey(key);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V get(Object key)
+	{
+		if (large != null)
+		{
+			return large.get(key);
+		}
+		int index = indexOf(key);
+		return (index < 0) ? null : (V) table[index + 1];
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V put(K key, V value)
+	{
+		if (large != null)
+		{
+			return large.put(key, value);
+		}
+		int index = indexOf(key);
+		if (index >= 0)
+		{
+			V old = (V) table[index + 1];
+			table[index + 1] = value;
+			return old;
+		}
+		int length = table.length;
+		if ((length >> 1) == ARRAY_LIMIT)
+		{
+			large = new IdentityHashMap<>(ARRAY_LIMIT * 2);
+			for (int i = 0; i < length; i += 2)
+			{
+				large.put((K) table[i], (V) table[i + 1]);
+			}
+			table = EMPTY;
+			return large.put(key, value);
+		}
+		Object[] grown = Arrays.copyOf(table, length + 2);
+		grown[length] = key;
+		grown[length + 1] = value;
+		table = grown;
+		return null;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public V remove(Object key)
+	{
+		if (large != null)
+		{
+			return large.remove(key);
+		}
+		int index = indexOf(key);
+		if (index < 0)
+		{
+			return null;
+		}
+		V old = (V) table[index + 1];
+		removeAt(index);
+		return old;
+	}
+
+	private void removeAt(int index)
+	{
+		int length = table.length;
+		if (length == 2)
+		{
+			table = EMPTY;
+			return;
+		}
+		Object[] shrunk = new Object[length - 2];
+		System.arraycopy(table, 0, shrunk, 0, index);
+		System.arraycopy(table, index + 2, shrunk, index, length - index - 2);
+		table = shrunk;
+	}
+
+	@Override
+	public void clear()
+	{
+		table = EMPTY;
+		large = null;
+	}
+
+	/**
+	 * Releases any unused space held by this CompactKeyMap. This does not
+	 * prevent the CompactKeyMap from being modified later.
+	 */
+	@SuppressWarnings("unchecked")
+	public void trimToSize()
+	{
+		if (large == null)
+		{
+			return;
+		}
+		if (large.size() > ARRAY_LIMIT)
+		{
+			large = new IdentityHashMap<>(large);
+			return;
+		}
+		Object[] trimmed = new Object[large.size() * 2];
+		int i = 0;
+		for (Map.Entry<K, V> me : large.entrySet())
+		{
+			trimmed[i++] = me.getKey();
+			trimmed[i++] = me.getValue();
+		}
+		large = null;
+		table = (trimmed.length == 0) ? EMPTY : trimmed;
+	}
+
+	@Override
+	public Set<Map.Entry<K, V>> entrySet()
+	{
+		return (large == null) ? new ArrayEntrySet() : large.entrySet();
+	}
+
+	/**
+	 * The entries of a CompactKeyMap held in the array.
+	 */
+	private final class ArrayEntrySet extends AbstractSet<Map.Entry<K, V>>
+	{
+		@Override
+		public int size()
+		{
+			return CompactKeyMap.this.size();
+		}
+
+		@Override
+		public Iterator<Map.Entry<K, V>> iterator()
+		{
+			return new ArrayEntryIterator();
+		}
+	}
+
+	/**
+	 * Iterates over the entries of a CompactKeyMap held in the array.
+	 */
+	private final class ArrayEntryIterator implements Iterator<Map.Entry<K, V>>
+	{
+		private int next = 0;
+		private int last = -1;
+
+		@Override
+		public boolean hasNext()
+		{
+			return next < table.length;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Map.Entry<K, V> next()
+		{
+			if (next >= table.length)
+			{
+				throw new NoSuchElementException();
+			}
+			last = next;
+			next += 2;
+			return new SimpleImmutableEntry<>((K) table[last],
+				(V) table[last + 1]);
+		}
+
+		@Override
+		public void remove()
+		{
+			if (last < 0)
+			{
+				throw new IllegalStateException();
+			}
+			removeAt(last);
+			next = last;
+			last = -1;
+		}
+	}
+}
@@ -71,10 +71,21 @@ public class BonusManager
 
 	private Map<String, String> activeBonusMap = new ConcurrentHashMap<>();
 
+	private ActiveBonusIndex activeBonusIndex = new ActiveBonusIndex();
+
 	private Map<String, Double> cachedActiveBonusSumsMap = new ConcurrentHashMap<>();
 
 	private Map<BonusObj, Object> activeBonusBySource = new IdentityHashMap<>();
 
+	/**
+	 * The active bonuses (in iteration order) for which bonusDependencies was
+	 * built. The dependencies of a bonus are only a function of the active
+	 * bonuses, so they can be kept until the active bonuses change.
+	 */
+	private List<BonusObj> dependencyBonusOrder = Collections.emptyList();
+
+	private Map<BonusObj, List<BonusObj>> bonusDependencies = new IdentityHashMap<>();
+
 	private Map<BonusObj, TempBonusInfo> tempBonusBySource = new IdentityHashMap<>();
 
 	private Set<String> tempBonusFilters = new TreeSet<>();
@@ -106,106 +117,11 @@ public class BonusManager
 			return cachedActiveBonusSumsMap.get(fullyQualifiedBonusType);
 		}
 
-		final List<String> aList = new ArrayList<>();
-
-		for (String fullyQualifedCurrentBonus : activeBonusMap.keySet())
+		for (BonusTotal total : activeBonusIndex.getMatching(fullyQualifiedBonusType))
 		{
-			// aKey is either of the form:
-			// COMBAT.AC
-			// or
-			// COMBAT.AC:Luck
-			// or
-			// COMBAT.AC:Armor.REPLACE
-			if (aList.contains(fullyQualifedCurrentBonus))
-			{
-				continue;
-			}
-
-			if (fullyQualifedCurrentBonus == null)
-			{
-				Logging.errorPrint("null BONUS: loaded into activeBonusMap. "
-					+ fullyQualifiedBonusType + " was requested");
-				continue;
-			}
-
-			String currentTypedBonusNameInfo = fullyQualifedCurrentBonus;
-
-			// rString could be something like:
-			// COMBAT.AC:Armor.REPLACE
-			// So need to remove the .STACK or .REPLACE
-			// to get a match for prefix like: COMBAT.AC:Armor
-			if (currentTypedBonusNameInfo.endsWith(".STACK"))
-			{
-				currentTypedBonusNameInfo = currentTypedBonusNameInfo.substring(0, currentTypedBonusNameInfo.length() - 6);
-			}
-			else if (currentTypedBonusNameInfo.endsWith(".REPLACE"))
-			{
-				currentTypedBonusNameInfo = currentTypedBonusNameInfo.substring(0, currentTypedBonusNameInfo.length() - 8);
-			}
-
-			if (currentTypedBonusNameInfo == null)
-			{
-				Logging.errorPrint("Unable to process BONUS: "
-					+ fullyQualifedCurrentBonus + " when "
-					+ fullyQualifiedBonusType + " was requested");
-				continue;
-			}
-			
-			// if prefix is of the form:
-			// COMBAT.AC
-			// then is must match rstring:
-			// COMBAT.AC
-			// COMBAT.AC:Luck
-			// COMBAT.AC:Armor.REPLACE
-			// However, it must not match
-			// COMBAT.ACCHECK
-			if ((currentTypedBonusNameInfo.length() > fullyQualifiedBonusType.length())
-					&& !currentTypedBonusNameInfo.startsWith(fullyQualifiedBonusType + ":"))
-			{
-				continue;
-			}
-
-			if (currentTypedBonusNameInfo.startsWith(fullyQualifiedBonusType))
-			{
-				aList.add(currentTypedBonusNameInfo);
-				aList.add(currentTypedBonusNameInfo + ".STACK");
-				aList.add(currentTypedBonusNameInfo + ".REPLACE");
-
-				final double aBonus = getActiveBonusForMapKey(currentTypedBonusNameInfo,
-						Double.NaN);
-				final double replaceBonus = getActiveBonusForMapKey(currentTypedBonusNameInfo
-						+ ".REPLACE", Double.NaN);
-				final double stackBonus = getActiveBonusForMapKey(currentTypedBonusNameInfo
-						+ ".STACK", 0);
-				//
-				// Using NaNs in order to be able to get the max
-				// between an undefined bonus and a negative
-				//
-				if (Double.isNaN(aBonus)) // no bonusKey
-				{
-					if (!Double.isNaN(replaceBonus))
-					{
-						// no bonusKey, but there
-						// is a replaceKey
-						bonus += replaceBonus;
-					}
-				}
-				else if (Double.isNaN(replaceBonus))
-				{
-					// is a bonusKey and no replaceKey
-					bonus += aBonus;
-				}
-				else
-				{
-					// is a bonusKey and a replaceKey
-					bonus += Math.max(aBonus, replaceBonus);
-				}
-
-				// always add stackBonus
-				bonus += stackBonus;
-			}
+			bonus += total.getTotal();
 		}
-		
+
 		cachedActiveBonusSumsMap.put(fullyQualifiedBonusType, bonus);
 		return bonus;
 	}
@@ -309,7 +225,9 @@ public class BonusManager
 	void buildActiveBonusMap()
 	{
 		activeBonusMap = new ConcurrentHashMap<>();
+		activeBonusIndex = new ActiveBonusIndex();
 		cachedActiveBonusSumsMap = new ConcurrentHashMap<>();
+		validateDependencies();
 		Map<String, String> nonStackMap = new ConcurrentHashMap<>();
 		Map<String, String> stackMap = new ConcurrentHashMap<>();
 		Set<BonusObj> processedBonuses = new WrappedMapSet<>(
@@ -437,6 +355,7 @@ public class BonusManager
 	public void setActiveBonusList()
 	{
 		activeBonusBySource = getAllActiveBonuses();
+		validateDependencies();
 	}
 
 	public String listBonusesFor(String bonusName, String bonusInfo)
@@ -581,17 +500,11 @@ public class BonusManager
 
 		final List<BonusObj> aList = new ArrayList<>();
 
-		// Go through all bonuses and check to see if they add to
-		// aBonus's dependencies and have not already been processed
-		for (BonusObj newBonus : getActiveBonusList())
+		// Go through all bonuses that add to aBonus's dependencies
+		// and check to see if they have not already been processed
+		for (BonusObj newBonus : getDependencies(aBonus))
 		{
-			if (processedBonuses.contains(newBonus))
-			{
-				continue;
-			}
-
-			if (aBonus.getDependsOn(newBonus.getUnparsedBonusInfoList())
-				|| aBonus.getDependsOnBonusName(newBonus.getBonusName()))
+			if (!processedBonuses.contains(newBonus))
 			{
 				aList.add(newBonus);
 			}
@@ -637,6 +550,68 @@ public class BonusManager
 		prevProcessed.remove(aBonus);
 	}
 
+	/**
+	 * Returns the active bonuses which add to the dependencies of the given
+	 * bonus, in the iteration order of the active bonus list.
+	 * 
+	 * The result for each bonus is remembered until the active bonus list
+	 * changes, so the repeated passes made by
+	 * PlayerCharacter.calcActiveBonuses() do not each have to compare every
+	 * pair of active bonuses.
+	 * 
+	 * @param aBonus
+	 *            The bonus for which the dependencies should be returned
+	 * @return The active bonuses which add to the dependencies of the given
+	 *         bonus
+	 */
+	private List<BonusObj> getDependencies(BonusObj aBonus)
+	{
+		List<BonusObj> dependencies = bonusDependencies.get(aBonus);
+		if (dependencies == null)
+		{
+			dependencies = new ArrayList<>();
+			for (BonusObj newBonus : getActiveBonusList())
+			{
+				if (aBonus.getDependsOn(newBonus.getUnparsedBonusInfoList())
+					|| aBonus.getDependsOnBonusName(newBonus.getBonusName()))
+				{
+					dependencies.add(newBonus);
+				}
+			}
+			bonusDependencies.put(aBonus, dependencies);
+		}
+		return dependencies;
+	}
+
+	/**
+	 * Discards the remembered bonus dependencies if the active bonus list (or
+	 * its iteration order) is not the one they were built for.
+	 */
+	private void validateDependencies()
+	{
+		Collection<BonusObj> activeBonuses = getActiveBonusList();
+		if (activeBonuses.size() == dependencyBonusOrder.size())
+		{
+			boolean unchanged = true;
+			int i = 0;
+			for (BonusObj bonus : activeBonuses)
+			{
+				//Yes, this is instance identity, NOT .equals
+				if (bonus != dependencyBonusOrder.get(i++))
+				{
+					unchanged = false;
+					break;
+				}
+			}
+			if (unchanged)
+			{
+				return;
+			}
+		}
+		dependencyBonusOrder = new ArrayList<>(activeBonuses);
+		bonusDependencies = new IdentityHashMap<>();
+	}
+
 	/**
 	 * Figures out if a bonus should stack based on type, then adds it to the
 	 * supplied map.
@@ -776,6 +751,10 @@ public class BonusManager
 			return;
 		}
 		bonusMap.put(fullyQualifiedBonusType, bonusValue);
+		if (bonusMap == activeBonusMap)
+		{
+			activeBonusIndex.put(fullyQualifiedBonusType, bonusValue);
+		}
 	}
 
 	public int getPartialStatBonusFor(PCStat stat, boolean useTemp,
@@ -888,6 +867,10 @@ public class BonusManager
 		clone.activeBonusBySource.putAll(activeBonusBySource);
 		clone.tempBonusBySource.putAll(tempBonusBySource);
 		clone.activeBonusMap.putAll(activeBonusMap);
+		for (Map.Entry<String, String> entry : activeBonusMap.entrySet())
+		{
+			clone.activeBonusIndex.put(entry.getKey(), entry.getValue());
+		}
 		clone.tempBonusFilters.addAll(tempBonusFilters);
 		return clone;
 	}
@@ -1338,6 +1321,167 @@ public class BonusManager
 		return bonusList;
 	}
 
+	/**
+	 * ActiveBonusIndex is an index over the keys of the active bonus map,
+	 * allowing the total for a bonus (e.g. COMBAT.AC) or a typed bonus (e.g.
+	 * COMBAT.AC:LUCK) to be found without scanning every active bonus.
+	 * 
+	 * The .STACK and .REPLACE variants of a key are held together with the
+	 * plain key in a single BonusTotal. Each BonusTotal is then registered
+	 * under every prefix of its key that ends before a ':', so COMBAT.AC:LUCK
+	 * can be found by both COMBAT.AC and COMBAT.AC:LUCK, but not by
+	 * COMBAT.ACCHECK.
+	 */
+	private static final class ActiveBonusIndex
+	{
+		private final Map<String, BonusTotal> totalsByKey =
+				new ConcurrentHashMap<>();
+
+		private final Map<String, Map<String, BonusTotal>> totalsByPrefix =
+				new ConcurrentHashMap<>();
+
+		/**
+		 * Records the value of a (fully qualified, upper case) active bonus
+		 * key.
+		 * 
+		 * @param fullyQualifiedBonusType
+		 *            The active bonus key, e.g. COMBAT.AC:ARMOR.REPLACE
+		 * @param bonusValue
+		 *            The value of the bonus
+		 */
+		private void put(String fullyQualifiedBonusType, String bonusValue)
+		{
+			String baseKey = fullyQualifiedBonusType;
+			int variant = BonusTotal.PLAIN;
+			if (baseKey.endsWith(".STACK"))
+			{
+				baseKey = baseKey.substring(0, baseKey.length() - 6);
+				variant = BonusTotal.STACK;
+			}
+			else if (baseKey.endsWith(".REPLACE"))
+			{
+				baseKey = baseKey.substring(0, baseKey.length() - 8);
+				variant = BonusTotal.REPLACE;
+			}
+			BonusTotal total = totalsByKey.get(baseKey);
+			if (total == null)
+			{
+				total = new BonusTotal();
+				totalsByKey.put(baseKey, total);
+				int colonLoc = baseKey.indexOf(':');
+				while (colonLoc != -1)
+				{
+					addToPrefix(baseKey.substring(0, colonLoc), baseKey, total);
+					colonLoc = baseKey.indexOf(':', colonLoc + 1);
+				}
+				addToPrefix(baseKey, baseKey, total);
+			}
+			total.set(variant, Double.parseDouble(bonusValue));
+		}
+
+		private void addToPrefix(String prefix, String baseKey,
+			BonusTotal total)
+		{
+			Map<String, BonusTotal> totals = totalsByPrefix.get(prefix);
+			if (totals == null)
+			{
+				totals = new ConcurrentHashMap<>();
+				totalsByPrefix.put(prefix, totals);
+			}
+			totals.put(baseKey, total);
+		}
+
+		/**
+		 * Returns the BonusTotal objects for the keys which are either equal
+		 * to the given prefix or start with the given prefix followed by a
+		 * ':'.
+		 * 
+		 * @param prefix
+		 *            The (upper case) bonus prefix, e.g. COMBAT.AC
+		 * @return The matching BonusTotal objects
+		 */
+		private Collection<BonusTotal> getMatching(String prefix)
+		{
+			Map<String, BonusTotal> totals = totalsByPrefix.get(prefix);
+			if (totals == null)
+			{
+				return Collections.emptyList();
+			}
+			return totals.values();
+		}
+	}
+
+	/**
+	 * BonusTotal holds the plain, .REPLACE and .STACK values of a single
+	 * active bonus key. A NaN indicates the variant is not present, in order
+	 * to be able to get the max between an undefined bonus and a negative.
+	 */
+	private static final class BonusTotal
+	{
+		private static final int PLAIN = 0;
+		private static final int REPLACE = 1;
+		private static final int STACK = 2;
+
+		private volatile double bonus = Double.NaN;
+		private volatile double replaceBonus = Double.NaN;
+		private volatile double stackBonus = Double.NaN;
+
+		private void set(int variant, double value)
+		{
+			switch (variant)
+			{
+				case REPLACE:
+					replaceBonus = value;
+					break;
+				case STACK:
+					stackBonus = value;
+					break;
+				default:
+					bonus = value;
+					break;
+			}
+		}
+
+		/**
+		 * Returns the total of this bonus key. The higher of the plain and
+		 * .REPLACE value is used, and the .STACK value is always added.
+		 * 
+		 * @return The total of this bonus key
+		 */
+		private double getTotal()
+		{
+			double aBonus = bonus;
+			double aReplaceBonus = replaceBonus;
+			double aStackBonus = stackBonus;
+			double total = 0;
+			if (Double.isNaN(aBonus)) // no bonusKey
+			{
+				if (!Double.isNaN(aReplaceBonus))
+				{
+					// no bonusKey, but there is a replaceKey
+					total += aReplaceBonus;
+				}
+			}
+			else if (Double.isNaN(aReplaceBonus))
+			{
+				// is a bonusKey and no replaceKey
+				total += aBonus;
+			}
+			else
+			{
+				// is a bonusKey and a replaceKey
+				total += Math.max(aBonus, aReplaceBonus);
+			}
+
+			// always add stackBonus
+			if (!Double.isNaN(aStackBonus))
+			{
+				total += aStackBonus;
+			}
+			return total;
+		}
+	}
+
 	public static class TempBonusInfo
 	{
 		public final Object source;
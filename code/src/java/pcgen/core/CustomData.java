@@ -463,7 +463,11 @@ public final class CustomData
 		}
 	}
 
-	private static String customEquipmentFilePath()
+	/**
+	 * Get the custom equipment file path
+	 * @return the custom equipment file path
+	 */
+	public static String customEquipmentFilePath()
 	{
 		return getCustomPath("Equipment", true);
 	}
@@ -30,6 +30,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -170,6 +171,18 @@ public final class Equipment extends PObject implements Serializable,
 
 	private List<String> typeListCacheSecondary;
 
+	/*
+	 * The upper case types in the type list caches, for fast lookup in
+	 * isType(). Rebuilt whenever the matching type list cache is replaced.
+	 */
+	private Set<String> typeSetCachePrimary;
+
+	private List<String> typeSetSourcePrimary;
+
+	private Set<String> typeSetCacheSecondary;
+
+	private List<String> typeSetSourceSecondary;
+
 	private boolean usePrimaryCache;
 
 	private boolean useSecondaryCache;
@@ -440,7 +453,7 @@ public final class Equipment extends PObject implements Serializable,
 			return false;
 		}
 
-		final List<String> tList = typeList(bPrimary);
+		final Set<String> tSet = typeSet(bPrimary);
 		final String myType;
 
 		if (aType.startsWith("TYPE=") || aType.startsWith("TYPE.")) //$NON-NLS-1$ //$NON-NLS-2$
@@ -455,33 +468,27 @@ public final class Equipment extends PObject implements Serializable,
 		//
 		// Must match all listed types in order to qualify
 		//
-		StringTokenizer tok = new StringTokenizer(myType, ".");
-		if (tok.hasMoreTokens())
+		boolean hasTypes = false;
+		int start = 0;
+		final int length = myType.length();
+		while (start < length)
 		{
-			while (tok.hasMoreTokens())
+			int end = myType.indexOf('.', start);
+			if (end < 0)
 			{
-				final String type = tok.nextToken();
-				//CONSIDER Faster method? Case sensitivity is a problem for containsInList
-				boolean found = false;
-				if (tList != null)
-				{
-					for (String s : tList)
-					{
-						if (type.equalsIgnoreCase(s))
-						{
-							found = true;
-							break;
-						}
-					}
-				}
-				if (!found)
+				end = length;
+			}
+			if (end > start)
+			{
+				hasTypes = true;
+				if (!tSet.contains(myType.substring(start, end)))
 				{
 					return false;
 				}
 			}
-			return true;
+			start = end + 1;
 		}
-		return tList.contains(aType);
+		return hasTypes || typeList(bPrimary).contains(aType);
 	}
 
 	/**
@@ -2526,7 +2533,10 @@ public final class Equipment extends PObject implements Serializable,
 					if (key.equalsIgnoreCase(aMod.getKeyName()))
 					{
 						head.removeFromListFor(ListKey.EQMOD, aMod);
-						head.removeVarModifiers(aPC.getCharID(), aMod);
+						if (aPC != null)
+						{
+							head.removeVarModifiers(aPC.getCharID(), aMod);
+						}
 						if (bPrimary)
 						{
 							usePrimaryCache = false;
@@ -2548,7 +2558,10 @@ public final class Equipment extends PObject implements Serializable,
 				if (aMod.isType("BaseMaterial"))
 				{
 					head.removeFromListFor(ListKey.EQMOD, aMod);
-					head.removeVarModifiers(aPC.getCharID(), aMod);
+					if (aPC != null)
+					{
+						head.removeVarModifiers(aPC.getCharID(), aMod);
+					}
 					if (bPrimary)
 					{
 						usePrimaryCache = false;
@@ -2568,7 +2581,10 @@ public final class Equipment extends PObject implements Serializable,
 				if (aMod.isType("MagicalEnhancement"))
 				{
 					head.removeFromListFor(ListKey.EQMOD, aMod);
-					head.removeVarModifiers(aPC.getCharID(), aMod);
+					if (aPC != null)
+					{
+						head.removeVarModifiers(aPC.getCharID(), aMod);
+					}
 					if (bPrimary)
 					{
 						usePrimaryCache = false;
@@ -2607,7 +2623,10 @@ public final class Equipment extends PObject implements Serializable,
 			}
 
 			head.addToListFor(ListKey.EQMOD, aMod);
-			head.addVarModifiers(aPC.getCharID(), aMod);
+			if (aPC != null)
+			{
+				head.addVarModifiers(aPC.getCharID(), aMod);
+			}
 			if (bPrimary)
 			{
 				usePrimaryCache = false;
@@ -2644,7 +2663,10 @@ public final class Equipment extends PObject implements Serializable,
 			if (allRemoved)
 			{
 				head.removeFromListFor(ListKey.EQMOD, aMod);
-				head.removeVarModifiers(aPC.getCharID(), aMod);
+				if (aPC != null)
+				{
+					head.removeVarModifiers(aPC.getCharID(), aMod);
+				}
 				if (bPrimary)
 				{
 					usePrimaryCache = false;
@@ -3770,6 +3792,8 @@ public final class Equipment extends PObject implements Serializable,
 		{
 			AbstractReferenceContext ref = Globals.getContext().getReferenceContext();
 			int maxIndex = ref.getConstructedObjectCount(SizeAdjustment.class);
+			List<Prerequisite> resizedPrereqs = new ArrayList<>();
+			boolean resized = false;
 			for (Prerequisite aBonus : getPrerequisiteList())
 			{
 				if ("SIZE".equalsIgnoreCase(aBonus.getKind()))
@@ -3782,16 +3806,31 @@ public final class Equipment extends PObject implements Serializable,
 
 					if ((iNewSize >= 0) && (iNewSize <= maxIndex))
 					{
-						// Note: This actually impacts the Prereq in this
-						// Equipment, since it is returned
-						// by reference from the get above ... thus no need to
-						// perform a set
+						// The Prereq may be shared with other Equipment
+						// (including the item this was cloned from), so
+						// it is replaced with a copy rather than modified
 						SizeAdjustment size =
 								ref.getSortedList(SizeAdjustment.class,
 									IntegerKey.SIZEORDER).get(iNewSize);
-						aBonus.setOperand(size.getKeyName());
+						try
+						{
+							aBonus = aBonus.clone();
+							aBonus.setOperand(size.getKeyName());
+							resized = true;
+						}
+						catch (CloneNotSupportedException e)
+						{
+							Logging.errorPrint("Unable to resize prerequisite "
+								+ aBonus + " of " + getKeyName(), e);
+						}
 					}
 				}
+				resizedPrereqs.add(aBonus);
+			}
+			if (resized)
+			{
+				clearPrerequisiteList();
+				addAllPrerequisites(resizedPrereqs);
 			}
 		}
 	}
@@ -4968,6 +5007,44 @@ public final class Equipment extends PObject implements Serializable,
 		}
 	}
 
+	/**
+	 * Returns the types of this item in upper case, for quick comparison.
+	 * 
+	 * @param bPrimary
+	 *            if true return the types if the primary head, otherwise
+	 *            return the types of the secondary head
+	 * @return a Set of the upper case types of this item.
+	 */
+	private Set<String> typeSet(final boolean bPrimary)
+	{
+		final List<String> tList = typeList(bPrimary);
+		if (bPrimary)
+		{
+			if (typeSetSourcePrimary != tList)
+			{
+				typeSetCachePrimary = buildTypeSet(tList);
+				typeSetSourcePrimary = tList;
+			}
+			return typeSetCachePrimary;
+		}
+		if (typeSetSourceSecondary != tList)
+		{
+			typeSetCacheSecondary = buildTypeSet(tList);
+			typeSetSourceSecondary = tList;
+		}
+		return typeSetCacheSecondary;
+	}
+
+	private static Set<String> buildTypeSet(final List<String> tList)
+	{
+		final Set<String> typeSet = new HashSet<>(tList.size() * 2);
+		for (String s : tList)
+		{
+			typeSet.add(s.toUpperCase());
+		}
+		return typeSet;
+	}
+
 	/**
 	 * Returns a list of the types of this item.
 	 * 
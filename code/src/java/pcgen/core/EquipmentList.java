@@ -24,16 +24,21 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.StringTokenizer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import pcgen.cdom.enumeration.FormulaKey;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.cdom.enumeration.Type;
+import pcgen.cdom.reference.ReferenceManufacturer;
 import pcgen.core.analysis.EquipmentChoiceDriver;
 import pcgen.core.analysis.SizeUtilities;
 import pcgen.core.prereq.PrereqHandler;
 import pcgen.core.utils.CoreUtility;
 import pcgen.rules.context.AbstractReferenceContext;
+import pcgen.system.PCGenSettings;
 import pcgen.util.Delta;
 import pcgen.util.Logging;
 
@@ -46,6 +51,11 @@ public final class EquipmentList {
 	/** this is determined by preferences */
 	private static boolean autoGeneration = false;
 
+	/**
+	 * The index of the types of the Equipment in the loaded data.
+	 */
+	private static EquipmentTypeIndex typeIndex = null;
+
 	/**
 	 * Private to ensure utility object can't be instantiated.
 	 */
@@ -328,48 +338,30 @@ public final class EquipmentList {
 	{
 		final List<String> desiredTypeList = CoreUtility.split(desiredTypes, '.');
 		final List<String> excludedTypeList = CoreUtility.split(excludedTypes, '.');
-		final List<Equipment> typeList = new ArrayList<>(100);
 
-		if (!desiredTypeList.isEmpty())
+		if (desiredTypeList.isEmpty())
 		{
-			for (Equipment eq : Globals.getContext().getReferenceContext()
-					.getConstructedCDOMObjects(Equipment.class))
-			{
-				boolean addIt = true;
-
-				//
-				// Must have all of the types in the desired list
-				//
-				for ( String type : desiredTypeList )
-				{
-					if (!eq.isType(type)) {
-						addIt = false;
-
-						break;
-					}
-				}
-
-				if (addIt && (!excludedTypeList.isEmpty())) {
-					//
-					// Can't have any of the types on the excluded list
-					//
-					for ( String type : excludedTypeList )
-					{
-						if (eq.isType(type)) {
-							addIt = false;
-
-							break;
-						}
-					}
-				}
-
-				if (addIt) {
-					typeList.add(eq);
-				}
-			}
+			return new ArrayList<>(100);
 		}
+		return getTypeIndex().getEquipmentOfType(desiredTypeList,
+			excludedTypeList);
+	}
 
-		return typeList;
+	/**
+	 * Returns the type index of the Equipment in the loaded data, building it
+	 * if Equipment has been added or removed since it was last built.
+	 *
+	 * @return The type index of the Equipment in the loaded data
+	 */
+	private static synchronized EquipmentTypeIndex getTypeIndex()
+	{
+		ReferenceManufacturer<Equipment> rm = Globals.getContext()
+			.getReferenceContext().getManufacturer(Equipment.class);
+		if ((typeIndex == null) || !typeIndex.isCurrent(rm))
+		{
+			typeIndex = new EquipmentTypeIndex(rm);
+		}
+		return typeIndex;
 	}
 
 	/**
@@ -392,24 +384,25 @@ public final class EquipmentList {
 
 	private static void autogenerateExoticMaterialsEquipment() {
 		if (SettingsHandler.isAutogenExoticMaterial()) {
-			for (Equipment eq : Globals.getContext().getReferenceContext().getConstructedCDOMObjects(Equipment.class))
-			{
+			generateItems(eq -> {
+				final List<Equipment> items = new ArrayList<>();
 				//
 				// Only apply to non-magical Armor, Shield and Weapon
 				//
 				if (eq.isMagic() || eq.isUnarmed() || eq.isMasterwork()
 						|| (!eq.isAmmunition() && !eq.isArmor() && !eq.isShield() && !eq.isWeapon())) {
-					continue;
+					return items;
 				}
 
 				final EquipmentModifier eqDarkwood = getQualifiedModifierNamed("Darkwood", eq);
 				final EquipmentModifier eqAdamantine = getQualifiedModifierNamed("Adamantine", eq);
 				final EquipmentModifier eqMithral = getQualifiedModifierNamed("Mithral", eq);
 
-				createItem(eq, eqDarkwood, null, null, null);
-				createItem(eq, eqAdamantine, null, null, null);
-				createItem(eq, eqMithral, null, null, null);
-			}
+				addItem(items, buildItem(eq, eqDarkwood, null, null, null));
+				addItem(items, buildItem(eq, eqAdamantine, null, null, null));
+				addItem(items, buildItem(eq, eqMithral, null, null, null));
+				return items;
+			}, true);
 		}
 	}
 
@@ -418,75 +411,78 @@ public final class EquipmentList {
 			for (int iPlus = 1; iPlus <= 5; iPlus++) {
 				final String aBonus = Delta.toString(iPlus);
 
-				for (Equipment eq : Globals.getContext().getReferenceContext().getConstructedCDOMObjects(Equipment.class))
-				{
-					// Only apply to non-magical
-					// Armor, Shield and Weapon
-					if (eq.isMagic() || eq.isMasterwork()
-							|| (!eq.isAmmunition() && !eq.isArmor() && !eq.isShield() && !eq.isWeapon())) {
-						continue;
-					}
+				generateItems(baseEq -> generateMagicItems(baseEq, aBonus), true);
+			}
+		}
+	}
 
-					// Items must be masterwork before
-					// you can assign magic to them
-					EquipmentModifier eqMod = getQualifiedModifierNamed("Masterwork", eq);
+	private static List<Equipment> generateMagicItems(Equipment eq, final String aBonus) {
+		final List<Equipment> items = new ArrayList<>();
+		// Only apply to non-magical
+		// Armor, Shield and Weapon
+		if (eq.isMagic() || eq.isMasterwork()
+				|| (!eq.isAmmunition() && !eq.isArmor() && !eq.isShield() && !eq.isWeapon())) {
+			return items;
+		}
 
-					if (eqMod == null) {
-						Logging
-						.debugPrint("Could not generate a Masterwork "
-							+ eq.toString()
-							+ " as the equipment modifier could not be found.");
-						continue;
-					}
+		// Items must be masterwork before
+		// you can assign magic to them
+		EquipmentModifier eqMod = getQualifiedModifierNamed("Masterwork", eq);
 
-					// Get list of choices
-					final EquipmentChoice equipChoice = EquipmentChoiceDriver.buildEquipmentChoice(0, eq, eqMod, false, false, 0, null);
-
-					// Iterate over list, creating an item for each choice.
-					final Iterator<Object> equipIter = equipChoice.getChoiceIterator(true);
-					for (; equipIter.hasNext();) {
-						final String mwChoice = String.valueOf(equipIter.next());
-						eq = eq.clone();
-						eq.addEqModifier(eqMod, true, null, mwChoice, equipChoice);
-
-						if (eq.isWeapon() && eq.isDouble()) {
-							eq.addEqModifier(eqMod, false, null, mwChoice, equipChoice);
-						}
-
-						eqMod = getQualifiedModifierNamed(aBonus, eq);
-
-						if (eqMod == null) {
-							Logging
-								.debugPrint("Could not generate a "
-									+ aBonus
-									+ " "
-									+ eq.toString()
-									+ " as the equipment modifier could not be found.");
-							continue;
-						}
-						createItem(eq, eqMod, null, null, null);
-					}
-				}
+		if (eqMod == null) {
+			Logging
+			.debugPrint("Could not generate a Masterwork "
+				+ eq.toString()
+				+ " as the equipment modifier could not be found.");
+			return items;
+		}
+
+		// Get list of choices
+		final EquipmentChoice equipChoice = EquipmentChoiceDriver.buildEquipmentChoice(0, eq, eqMod, false, false, 0, null);
+
+		// Iterate over list, creating an item for each choice.
+		final Iterator<Object> equipIter = equipChoice.getChoiceIterator(true);
+		for (; equipIter.hasNext();) {
+			final String mwChoice = String.valueOf(equipIter.next());
+			eq = eq.clone();
+			eq.addEqModifier(eqMod, true, null, mwChoice, equipChoice);
+
+			if (eq.isWeapon() && eq.isDouble()) {
+				eq.addEqModifier(eqMod, false, null, mwChoice, equipChoice);
 			}
+
+			eqMod = getQualifiedModifierNamed(aBonus, eq);
+
+			if (eqMod == null) {
+				Logging
+					.debugPrint("Could not generate a "
+						+ aBonus
+						+ " "
+						+ eq.toString()
+						+ " as the equipment modifier could not be found.");
+				continue;
+			}
+			addItem(items, buildItem(eq, eqMod, null, null, null));
 		}
+		return items;
 	}
 
 	private static void autogenerateMasterWorkEquipment() {
 		if (SettingsHandler.isAutogenMasterwork()) {
-			for (Equipment eq : Globals.getContext().getReferenceContext().getConstructedCDOMObjects(Equipment.class))
-			{
+			generateItems(eq -> {
+				final List<Equipment> items = new ArrayList<>();
 				//
 				// Only apply to non-magical Armor, Shield and Weapon
 				//
 				if (eq.isMagic() || eq.isUnarmed() || eq.isMasterwork()
 						|| (!eq.isAmmunition() && !eq.isArmor() && !eq.isShield() && !eq.isWeapon())) {
-					continue;
+					return items;
 				}
 
 				final EquipmentModifier eqMasterwork = getQualifiedModifierNamed("Masterwork", eq);
 				if (eqMasterwork == null)
 				{
-					continue;
+					return items;
 				}
 
 				// Get list of choices (extract code from EquipmentModifier.getChoice)
@@ -496,9 +492,10 @@ public final class EquipmentList {
 				final Iterator<Object> equipIter = equipChoice.getChoiceIterator(true);
 				for (; equipIter.hasNext();) {
 					final String choice = String.valueOf(equipIter.next());
-					createItem(eq, eqMasterwork, null, choice, equipChoice);
+					addItem(items, buildItem(eq, eqMasterwork, null, choice, equipChoice));
 				}
-			}
+				return items;
+			}, true);
 		}
 	}
 
@@ -535,22 +532,24 @@ public final class EquipmentList {
 			// skip over default size
 			gensizes.remove(defaultSize);
 
-			PlayerCharacter dummyPc = new PlayerCharacter();
-			for (Equipment eq : ref.getConstructedCDOMObjects(Equipment.class))
-			{
+			// Resizing uses the PlayerCharacter, so this pass is not run in parallel
+			final PlayerCharacter dummyPc = new PlayerCharacter();
+			generateItems(eq -> {
+				final List<Equipment> items = new ArrayList<>();
 				//
 				// Only apply to Armor, Shield and resizable items
 				//
 				if (!Globals.canResizeHaveEffect(eq, null))
 				{
-					continue;
+					return items;
 				}
 
 				for (SizeAdjustment sa : gensizes)
 				{
-					createItem(eq, sa, dummyPc);
+					addItem(items, buildItem(eq, null, sa, dummyPc, "", null));
 				}
-			}
+				return items;
+			}, false);
 		}
 	}
 
@@ -602,32 +601,95 @@ public final class EquipmentList {
 		}
 	}
 
-	private static void createItem(final Equipment eq, final SizeAdjustment sa, final PlayerCharacter aPC) {
-		createItem(eq, null, sa, aPC, "", null);
+	/**
+	 * Generates new Equipment from each of the constructed Equipment and
+	 * registers the new Equipment with the reference context.
+	 *
+	 * The generator may be run for different items at the same time on
+	 * different threads, so it must only modify the new Equipment it creates.
+	 * The new Equipment is registered after all of it has been generated, in
+	 * the order of the Equipment it was generated from, so the result is the
+	 * same whether or not the generation was done in parallel.
+	 *
+	 * @param generator
+	 *          builds the new Equipment for a single constructed Equipment
+	 * @param mayRunInParallel
+	 *          true if the generator may be run on multiple threads
+	 */
+	private static void generateItems(final Function<Equipment, List<Equipment>> generator, final boolean mayRunInParallel) {
+		final List<Equipment> baseItems = new ArrayList<>(
+				Globals.getContext().getReferenceContext().getConstructedCDOMObjects(Equipment.class));
+		final Stream<Equipment> stream = (mayRunInParallel && isParallelGeneration())
+				? baseItems.parallelStream() : baseItems.stream();
+		final List<List<Equipment>> generated = stream.map(generator).collect(Collectors.toList());
+
+		for (List<Equipment> items : generated) {
+			for (Equipment eq : items) {
+				registerItem(eq);
+			}
+		}
 	}
 
-	private static void createItem(final Equipment eq, final EquipmentModifier eqMod, final PlayerCharacter aPC, final String choice,
-			final EquipmentChoice equipChoice) {
-		createItem(eq, eqMod, null, aPC, choice, equipChoice);
+	/**
+	 * Returns true if equipment should be generated on multiple threads, as
+	 * set by the "Create automatic equipment on multiple threads" preference.
+	 *
+	 * @return true if equipment should be generated on multiple threads
+	 */
+	private static boolean isParallelGeneration() {
+		return PCGenSettings.OPTIONS_CONTEXT.initBoolean(
+				PCGenSettings.OPTION_AUTOCREATE_PARALLEL, false);
 	}
 
-	private static void createItem(Equipment eq, final EquipmentModifier eqMod, final SizeAdjustment sa, final PlayerCharacter aPC,
+	private static void addItem(final List<Equipment> items, final Equipment eq) {
+		if (eq != null) {
+			items.add(eq);
+		}
+	}
+
+	/**
+	 * Registers a generated item with the reference context, unless an item
+	 * with the same key has already been registered.
+	 *
+	 * @param eq the generated item
+	 */
+	private static void registerItem(final Equipment eq) {
+		final Equipment eqExists = Globals.getContext().getReferenceContext().silentlyGetConstructedCDOMObject(
+				Equipment.class, eq.getKeyName());
+
+		if (eqExists == null) {
+			Globals.getContext().getReferenceContext().importObject(eq);
+		}
+	}
+
+	/**
+	 * Builds a new item from the given item with the given modifier and/or
+	 * size. The new item is not registered with the reference context.
+	 *
+	 * @return the new item, or null if the item could not be built
+	 */
+	private static Equipment buildItem(Equipment eq, final EquipmentModifier eqMod, final PlayerCharacter aPC,
+			final String choice, final EquipmentChoice equipChoice) {
+		return buildItem(eq, eqMod, null, aPC, choice, equipChoice);
+	}
+
+	private static Equipment buildItem(Equipment eq, final EquipmentModifier eqMod, final SizeAdjustment sa, final PlayerCharacter aPC,
 			final String choice, final EquipmentChoice equipChoice) {
-		if (eq == null) { return; }
+		if (eq == null) { return null; }
 
 		try {
 			// Armor without an armor bonus is an exception
 			//
 			if (!eq.getSafe(ObjectKey.MOD_CONTROL).getModifiersAllowed()
 					|| (eq.isArmor() && (eq.getACMod(aPC).intValue() == 0) && ((eqMod != null) && !eqMod.getDisplayName()
-							.equalsIgnoreCase("MASTERWORK")))) { return; }
+							.equalsIgnoreCase("MASTERWORK")))) { return null; }
 
 			eq = eq.clone();
 
 			if (eq == null) {
 				Logging.errorPrint("could not clone item");
 
-				return;
+				return null;
 			}
 
 			if (eqMod != null) {
@@ -646,11 +708,7 @@ public final class EquipmentList {
 			//
 			// Change the names, to protect the innocent
 			//
-			final String sKeyName = eq.nameItemFromModifiers(aPC);
-			final Equipment eqExists = Globals.getContext().getReferenceContext().silentlyGetConstructedCDOMObject(
-					Equipment.class, sKeyName);
-
-			if (eqExists != null) { return; }
+			eq.nameItemFromModifiers(aPC);
 
 			final Type newType;
 
@@ -664,10 +722,11 @@ public final class EquipmentList {
 				eq.addType(newType);
 			}
 
-			Globals.getContext().getReferenceContext().importObject(eq);
+			return eq;
 		} catch (NumberFormatException exception) {
-			Logging.errorPrint("createItem: exception: " + eq.getName());
+			Logging.errorPrint("buildItem: exception: " + eq.getName());
 		}
+		return null;
 	}
 
 	private static Equipment findEquipment(final String aName, final List<String> preNameList, final List<String> postNameList,
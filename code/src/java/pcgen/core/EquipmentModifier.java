@@ -39,6 +39,7 @@ import pcgen.core.prereq.PrereqHandler;
 import pcgen.core.prereq.Prerequisite;
 import pcgen.core.utils.MessageType;
 import pcgen.core.utils.ShowMessageDelegate;
+import pcgen.rules.context.LoadContext;
 import pcgen.util.Delta;
 
 /**
@@ -125,8 +126,14 @@ public final class EquipmentModifier extends PObject implements Comparable<Objec
 				// Add an entry for each of the associated list entries
 				for (String assoc : associations)
 				{
-					final BonusObj newBonus = Bonus.newBonus(Globals.getContext(), aString
+					// Equipment may be generated on several threads at once
+					final LoadContext context = Globals.getContext();
+					final BonusObj newBonus;
+					synchronized (context)
+					{
+						newBonus = Bonus.newBonus(context, aString
 							.replaceAll(PERCENT_CHOICE_PATTERN, assoc));
+					}
 
 					if (aBonus.hasPrerequisites())
 					{
@@ -0,0 +1,187 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import pcgen.cdom.reference.ReferenceManufacturer;
+
+/**
+ * An EquipmentTypeIndex records which of the constructed Equipment in the
+ * loaded data has each type, so that the Equipment matching a combination of
+ * types can be found without testing every item.
+ *
+ * <p>
+ * Each item is given an index (its position in the constructed Equipment) and
+ * each type maps to a BitSet of the indexes of the items with that type.
+ * Finding the items with all of a set of types and none of another is then a
+ * series of BitSet AND and ANDNOT operations.
+ *
+ * <p>
+ * The index is only valid for the ReferenceManufacturer it was built from and
+ * only while the Equipment in that ReferenceManufacturer and the types of that
+ * Equipment are unchanged (see isCurrent()).
+ */
+final class EquipmentTypeIndex
+{
+
+	private final ReferenceManufacturer<Equipment> manufacturer;
+
+	private final int modificationCount;
+
+	private final Equipment[] items;
+
+	/**
+	 * The type list of each item when it was indexed. Equipment replaces its
+	 * type list whenever its types change, so this identifies a change.
+	 */
+	private final List<?>[] itemTypes;
+
+	/**
+	 * The indexes of the items of each type, by the upper case type.
+	 */
+	private final Map<String, BitSet> itemsByType = new HashMap<>();
+
+	/**
+	 * Builds an EquipmentTypeIndex for the Equipment currently constructed in
+	 * the given ReferenceManufacturer.
+	 *
+	 * @param manufacturer
+	 *            The ReferenceManufacturer containing the Equipment to be
+	 *            indexed
+	 */
+	EquipmentTypeIndex(ReferenceManufacturer<Equipment> manufacturer)
+	{
+		this.manufacturer = manufacturer;
+		modificationCount = manufacturer.getModificationCount();
+		Collection<Equipment> all = manufacturer.getAllObjects();
+		items = all.toArray(new Equipment[all.size()]);
+		itemTypes = new List<?>[items.length];
+		for (int i = 0; i < items.length; i++)
+		{
+			List<String> typeList = items[i].typeList();
+			itemTypes[i] = typeList;
+			for (String type : typeList)
+			{
+				String key = type.toUpperCase();
+				BitSet set = itemsByType.get(key);
+				if (set == null)
+				{
+					set = new BitSet(items.length);
+					itemsByType.put(key, set);
+				}
+				set.set(i);
+			}
+		}
+	}
+
+	/**
+	 * Returns true if this EquipmentTypeIndex describes the Equipment currently
+	 * constructed in the given ReferenceManufacturer.
+	 *
+	 * @param rm
+	 *            The ReferenceManufacturer containing the Equipment to be
+	 *            searched
+	 * @return true if this EquipmentTypeIndex may be used to search the given
+	 *         ReferenceManufacturer; false otherwise
+	 */
+	boolean isCurrent(ReferenceManufacturer<Equipment> rm)
+	{
+		if ((rm != manufacturer)
+			|| (rm.getModificationCount() != modificationCount))
+		{
+			return false;
+		}
+		for (int i = 0; i < items.length; i++)
+		{
+			if (items[i].typeList() != itemTypes[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the Equipment which has all of the desired types and none of the
+	 * excluded types, in the order of the constructed Equipment.
+	 *
+	 * @param desiredTypes
+	 *            The types the returned Equipment must have
+	 * @param excludedTypes
+	 *            The types the returned Equipment must not have
+	 * @return The matching Equipment
+	 */
+	List<Equipment> getEquipmentOfType(List<String> desiredTypes,
+		List<String> excludedTypes)
+	{
+		BitSet matching = null;
+		for (String type : desiredTypes)
+		{
+			BitSet typeSet = getItemsOfType(type);
+			if (typeSet == null)
+			{
+				return new ArrayList<>();
+			}
+			if (matching == null)
+			{
+				matching = (BitSet) typeSet.clone();
+			}
+			else
+			{
+				matching.and(typeSet);
+			}
+		}
+		if (matching == null)
+		{
+			return new ArrayList<>();
+		}
+		for (String type : excludedTypes)
+		{
+			BitSet typeSet = getItemsOfType(type);
+			if (typeSet != null)
+			{
+				matching.andNot(typeSet);
+			}
+		}
+		List<Equipment> result = new ArrayList<>(matching.cardinality());
+		for (int i = matching.nextSetBit(0); i >= 0; i =
+				matching.nextSetBit(i + 1))
+		{
+			result.add(items[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the indexes of the items of the given type, matching the rules of
+	 * Equipment.isType(String).
+	 */
+	private BitSet getItemsOfType(String type)
+	{
+		String key = type;
+		if (key.startsWith("TYPE=") || key.startsWith("TYPE.")) //$NON-NLS-1$ //$NON-NLS-2$
+		{
+			key = key.substring(5);
+		}
+		return itemsByType.get(key.toUpperCase());
+	}
+}
@@ -27,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -167,6 +168,7 @@ import pcgen.cdom.facet.analysis.StatLockFacet;
 import pcgen.cdom.facet.analysis.UnlockedStatFacet;
 import pcgen.cdom.facet.analysis.VariableFacet;
 import pcgen.cdom.facet.base.AbstractStorageFacet;
+import pcgen.cdom.facet.base.FacetChangeTransaction;
 import pcgen.cdom.facet.fact.AgeFacet;
 import pcgen.cdom.facet.fact.AllowDebtFacet;
 import pcgen.cdom.facet.fact.CharacterTypeFacet;
@@ -264,6 +266,7 @@ import pcgen.core.chooser.ChooserUtilities;
 import pcgen.core.display.CharacterDisplay;
 import pcgen.core.display.SkillDisplay;
 import pcgen.core.pclevelinfo.PCLevelInfo;
+import pcgen.core.prereq.PrerequisiteResultCache;
 import pcgen.core.spell.Spell;
 import pcgen.core.utils.CoreUtility;
 import pcgen.core.utils.MessageType;
@@ -413,6 +416,9 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	private ObjectCache cache = new ObjectCache();
 	private AssociationSupport assocSupt = new AssociationSupport();
 	private BonusManager bonusManager = new BonusManager(this);
+
+	/** The results of prerequisite tests, while a caller has it open. */
+	private final PrerequisiteResultCache prereqResultCache = new PrerequisiteResultCache();
 	private BonusChangeFacet bonusChangeFacet = FacetLibrary.getFacet(BonusChangeFacet.class);
 	private EquipSetFacet equipSetFacet = FacetLibrary.getFacet(EquipSetFacet.class);
 
@@ -488,6 +494,20 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	private boolean[] ageSetKitSelections = new boolean[Constants.NUMBER_OF_AGESET_KIT_SELECTIONS];
 	private boolean dirtyFlag = false;
 	private int serial = 0;
+
+	/**
+	 * The string keys which are only ever displayed or output. No variable,
+	 * term, prerequisite or conditional grant reads these, so changing them
+	 * does not need to discard any calculated values.
+	 */
+	private static final Set<PCStringKey> DISPLAY_ONLY_STRING_KEYS = EnumSet.of(
+		PCStringKey.BIO, PCStringKey.BIRTHDAY, PCStringKey.CATCHPHRASE,
+		PCStringKey.DESCRIPTION, PCStringKey.EYECOLOR, PCStringKey.GMNOTES,
+		PCStringKey.HAIRCOLOR, PCStringKey.HAIRSTYLE, PCStringKey.INTERESTS,
+		PCStringKey.LOCATION, PCStringKey.NAME, PCStringKey.PERSONALITY1,
+		PCStringKey.PERSONALITY2, PCStringKey.PHOBIAS, PCStringKey.PLAYERSNAME,
+		PCStringKey.SKINCOLOR, PCStringKey.SPEECHTENDENCY, PCStringKey.TABNAME,
+		PCStringKey.PORTRAIT_PATH);
 	private boolean importing = false;
 
 	// Should temp mods/bonuses be used/saved?
@@ -728,6 +748,20 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	 * @param useTempBonuses whether to apply Temporary bonuses from equipment.
 	 */
 	public void setCalcEquipmentList(final boolean useTempBonuses)
+	{
+		/*
+		 * The equipment list is cleared and then rebuilt, mostly from the same
+		 * items, so the facet events are deferred and only the net change is
+		 * passed to the facets that depend on the equipment. Nothing read
+		 * while the list is rebuilt depends on those facets.
+		 */
+		try (FacetChangeTransaction transaction = FacetChangeTransaction.begin(id))
+		{
+			buildCalcEquipmentList(useTempBonuses);
+		}
+	}
+
+	private void buildCalcEquipmentList(final boolean useTempBonuses)
 	{
 		// First we get the EquipSet that is going to be used
 		// to calculate everything from
@@ -1000,6 +1034,45 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 		dirtyFlag = dirtyState;
 	}
 
+	/**
+	 * Returns the cache of calculated values, which is replaced whenever the
+	 * character changes in a way that may affect them.
+	 * 
+	 * @return The current cache of calculated values
+	 */
+	ObjectCache getObjectCache()
+	{
+		return cache;
+	}
+
+	/**
+	 * Sets the character changed since last save, for a change that only
+	 * affects how the character is displayed or output (such as biography
+	 * text, notes or the portrait).
+	 * 
+	 * The serial is still incremented so that anything tracking changes to
+	 * the character (such as export) sees the change, but the calculated
+	 * values (the object cache, the variable cache and the conditional
+	 * facets) are kept, since none of them can depend on such a change.
+	 */
+	private void setDisplayDirty()
+	{
+		serial++;
+		dirtyFlag = true;
+	}
+
+	/**
+	 * Returns the cache of prerequisite test results for this character. The
+	 * cache only holds results while it is open, and the results are only
+	 * reused until the serial of the character changes.
+	 *
+	 * @return The cache of prerequisite test results for this character
+	 */
+	public PrerequisiteResultCache getPrerequisiteResultCache()
+	{
+		return prereqResultCache;
+	}
+
 	/**
 	 * Gets whether the character has been changed since last saved.
 	 *
@@ -2167,7 +2240,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	{
 		if (suppressBioFieldFacet.setSuppressField(id, field, suppress))
 		{
-			setDirty(true);
+			setDisplayDirty();
 		}
 	}
 
@@ -2334,7 +2407,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	{
 		if (previewSheetFacet.set(id, previewSheet))
 		{
-			setDirty(true);
+			setDisplayDirty();
 		}
 	}
 
@@ -2441,7 +2514,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	{
 		if (noteItemFacet.add(id, item))
 		{
-			setDirty(true);
+			setDisplayDirty();
 		}
 	}
 
@@ -3522,7 +3595,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	{
 		if (skillFilterFacet.set(id, filter))
 		{
-			setDirty(true);
+			setDisplayDirty();
 		}
 	}
 
@@ -3556,7 +3629,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 		if (skillsOutputOrder != i)
 		{
 			skillsOutputOrder = i;
-			setDirty(true);
+			setDisplayDirty();
 		}
 	}
 
@@ -7226,6 +7299,13 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	 * Returns a deep copy of the PlayerCharacter. Note: This method does a
 	 * shallow copy of many lists in here that seem to point to "system"
 	 * objects. These copies should be validated before using this method.
+	 * 
+	 * The facet storage of the copy is shared with this PlayerCharacter where
+	 * the facet supports it, and is only copied for a facet when that facet is
+	 * first changed for either PlayerCharacter (see
+	 * AbstractStorageFacet.shareContents). This keeps the cost of a copy that
+	 * is only read (such as for an export) or changed a little (such as to
+	 * test a Kit) proportional to what is changed.
 	 *
 	 * @return a new deep copy of the {@code PlayerCharacter}
 	 */
@@ -7251,7 +7331,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 		Collection<AbstractStorageFacet> beans = SpringHelper.getStorageBeans();
 		for (AbstractStorageFacet bean : beans)
 		{
-			bean.copyContents(id, aClone.id);
+			bean.shareContents(id, aClone.id);
 		}
 		aClone.bonusManager = bonusManager.buildDeepClone(aClone);
 
@@ -7344,7 +7424,14 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 		if (PlayerCharacter.shouldDirtyForChange(s, currValue))
 		{
 			factFacet.set(id, key, s);
-			setDirty(true);
+			if (DISPLAY_ONLY_STRING_KEYS.contains(key))
+			{
+				setDisplayDirty();
+			}
+			else
+			{
+				setDirty(true);
+			}
 		}
 	}
 
@@ -9792,7 +9879,7 @@ public class PlayerCharacter implements Cloneable, VariableContainer
 	public void removeNote(NoteItem note)
 	{
 		noteItemFacet.remove(id,  note);
-		setDirty(true);
+		setDisplayDirty();
 	}
 
 	public void removeSkillRankValue(Skill sk, PCClass cl)
@@ -23,7 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.StringWriter;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.StringTokenizer;
 
@@ -33,6 +33,7 @@ import pcgen.core.utils.CoreUtility;
 import pcgen.io.ExportHandler;
 import pcgen.util.Logging;
 import pcgen.util.PJEP;
+import pcgen.util.PJEP.ParsedFormula;
 import pcgen.util.PjepPool;
 
 /**
@@ -515,8 +516,8 @@ public abstract class VariableProcessor
 		try
 		{
 			parser = PjepPool.getInstance().aquire(this, src);
-			parser.parseExpression(formula);
-			if (parser.hasError())
+			final ParsedFormula parsed = parser.parseFormula(formula);
+			if (parsed == null)
 			{
 				if (Logging.isLoggable(Logging.DEBUG) && formula.startsWith(DEBUG_FORMULA_PREFIX))
 				{
@@ -526,22 +527,13 @@ public abstract class VariableProcessor
 				return null;
 			}
 
-			for (Iterator<String> iter = parser.getSymbolTable().keySet().iterator(); iter.hasNext();)
+			final List<String> variableNames = parsed.getVariableNames();
+			for (int i = 0; i < variableNames.size(); i++)
 			{
-				final String element = iter.next();
-				if (
-					"e".equals(element) ||
-					"FALSE".equals(element) ||
-					"pi".equals(element) ||
-					"TRUE".equals(element))
-				{
-					continue;
-				}
-
-				Float d = lookupVariable(element, src, spell);
+				Float d = lookupVariable(variableNames.get(i), src, spell);
 				if (d != null)
 				{
-					parser.addVariable(element, d.doubleValue());
+					parsed.setVariableValue(i, d.doubleValue());
 				}
 				else
 				{
@@ -551,7 +543,16 @@ public abstract class VariableProcessor
 				}
 			}
 
-			final Object result = parser.getValueAsObject();
+			Object result;
+			try
+			{
+				result = parser.evaluate(parsed.getNode());
+			}
+			catch (Exception e)
+			{
+				Logging.errorPrint("Failed to process formala " + formula + " due to error: " + e.getMessage());
+				result = null;
+			}
 			if (result != null)
 			{
 				if (Logging.isLoggable(Logging.DEBUG) && formula.startsWith(DEBUG_FORMULA_PREFIX))
@@ -562,7 +563,7 @@ public abstract class VariableProcessor
 				try
 				{
 					return new CachableResult(new Float(result.toString()),
-						parser.isResultCachable());
+						parsed.isResultCachable());
 				}
 				catch (NumberFormatException nfe)
 				{
@@ -574,10 +575,6 @@ public abstract class VariableProcessor
 					return null;
 				}
 			}
-			if (parser.hasError())
-			{
-				Logging.errorPrint("Failed to process formala " + formula + " due to error: " + parser.getErrorInfo());
-			}
 			if (Logging.isLoggable(Logging.DEBUG) && formula.startsWith(DEBUG_FORMULA_PREFIX))
 			{
 				Logging.debugPrint(jepIndent + "Result '" + formula
@@ -37,6 +37,7 @@ import pcgen.core.AbilityUtilities;
 import pcgen.core.PlayerCharacter;
 import pcgen.core.SettingsHandler;
 import pcgen.core.Skill;
+import pcgen.core.prereq.PrerequisiteResultCache;
 
 /**
  * The guts of chooser moved from PObject
@@ -82,7 +83,12 @@ public class ChooserUtilities
 			return false;
 		}
 
-		aMan.getChoices(aPC, availableList, selectedList);
+		// Building the list tests the same prerequisites many times over
+		try (PrerequisiteResultCache prereqCache =
+				aPC.getPrerequisiteResultCache().open())
+		{
+			aMan.getChoices(aPC, availableList, selectedList);
+		}
 
 		if (!availableList.isEmpty() || !selectedList.isEmpty())
 		{
@@ -134,6 +134,28 @@ public final class PrereqHandler
 		{
 			return true;
 		}
+		if (aPC == null)
+		{
+			return testPrerequisite(prereq, null, caller);
+		}
+
+		final PrerequisiteResultCache resultCache = aPC.getPrerequisiteResultCache();
+		final int serial = aPC.getSerial();
+		final Boolean cached = resultCache.get(prereq, caller, serial);
+		if (cached != null)
+		{
+			return cached;
+		}
+		final boolean result = testPrerequisite(prereq, aPC, caller);
+		resultCache.put(prereq, caller, serial, result);
+		return result;
+	}
+
+	private static boolean testPrerequisite(
+		final Prerequisite prereq,
+		final PlayerCharacter aPC,
+		final Object caller)
+	{
 		final PrerequisiteTestFactory factory = PrerequisiteTestFactory.getInstance();
 		final PrerequisiteTest test = factory.getTest(prereq.getKind());
 
@@ -0,0 +1,198 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.core.prereq;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import pcgen.util.Logging;
+
+/**
+ * A PrerequisiteResultCache remembers the results of prerequisite tests for a
+ * single character, so that the same Prerequisite tested for the same caller
+ * is only evaluated once while the character is unchanged.
+ *
+ * <p>
+ * Results are only cached while the cache is open. It is intended to be
+ * opened around operations which test many prerequisites without changing
+ * the character, such as building a list of choices or exporting the
+ * character:
+ *
+ * <pre>
+ * try (PrerequisiteResultCache cache = pc.getPrerequisiteResultCache().open())
+ * {
+ *     ...
+ * }
+ * </pre>
+ *
+ * Opening may be nested, and the results are discarded when the outermost
+ * open is closed. The results are also discarded whenever the serial of the
+ * character changes, so a change to the character inside an open cache is
+ * still seen by later tests.
+ */
+public final class PrerequisiteResultCache implements AutoCloseable
+{
+
+	/**
+	 * The cached results, by Prerequisite and then by caller. Identity is
+	 * used for both, as a Prerequisite is equal to other Prerequisites with the
+	 * same contents which may be tested against different callers.
+	 */
+	private final Map<Prerequisite, Map<Object, Boolean>> results =
+			new IdentityHashMap<>();
+
+	/**
+	 * The number of times this cache has been opened and not yet closed.
+	 */
+	private int openCount = 0;
+
+	/**
+	 * The serial of the character for which the cached results are valid.
+	 */
+	private int resultSerial = -1;
+
+	private long hits = 0;
+	private long misses = 0;
+
+	/**
+	 * Opens this cache, so that the results of prerequisite tests are cached
+	 * until the matching call to close().
+	 *
+	 * @return This PrerequisiteResultCache
+	 */
+	public synchronized PrerequisiteResultCache open()
+	{
+		openCount++;
+		return this;
+	}
+
+	/**
+	 * Closes this cache. If this closes the outermost open, all cached results
+	 * are discarded.
+	 */
+	@Override
+	public synchronized void close()
+	{
+		if (openCount == 0)
+		{
+			return;
+		}
+		openCount--;
+		if (openCount == 0)
+		{
+			results.clear();
+			resultSerial = -1;
+			if (Logging.isDebugMode())
+			{
+				Logging.debugPrint("Prerequisite result cache: " + hits
+					+ " hits, " + misses + " misses");
+			}
+		}
+	}
+
+	/**
+	 * Returns true if results are currently being cached.
+	 *
+	 * @return true if results are currently being cached; false otherwise
+	 */
+	public synchronized boolean isOpen()
+	{
+		return openCount > 0;
+	}
+
+	/**
+	 * Returns the cached result of testing the given Prerequisite for the given
+	 * caller.
+	 *
+	 * @param prereq
+	 *            The Prerequisite that was tested
+	 * @param caller
+	 *            The object the Prerequisite was tested for (may be null)
+	 * @param serial
+	 *            The current serial of the character
+	 * @return The cached result, or null if there is no cached result (or
+	 *         this cache is not open)
+	 */
+	synchronized Boolean get(Prerequisite prereq, Object caller, int serial)
+	{
+		if (openCount == 0)
+		{
+			return null;
+		}
+		if (serial != resultSerial)
+		{
+			results.clear();
+			resultSerial = serial;
+		}
+		Map<Object, Boolean> callerResults = results.get(prereq);
+		Boolean result = (callerResults == null) ? null : callerResults.get(caller);
+		if (result == null)
+		{
+			misses++;
+		}
+		else
+		{
+			hits++;
+		}
+		return result;
+	}
+
+	/**
+	 * Records the result of testing the given Prerequisite for the given
+	 * caller. The result is ignored if this cache is not open.
+	 *
+	 * @param prereq
+	 *            The Prerequisite that was tested
+	 * @param caller
+	 *            The object the Prerequisite was tested for (may be null)
+	 * @param serial
+	 *            The serial of the character when the test was started
+	 * @param result
+	 *            The result of the test
+	 */
+	synchronized void put(Prerequisite prereq, Object caller, int serial,
+		boolean result)
+	{
+		if ((openCount == 0) || (serial != resultSerial))
+		{
+			//Not open, or the character changed during the test
+			return;
+		}
+		results.computeIfAbsent(prereq, p -> new IdentityHashMap<>()).put(
+			caller, result);
+	}
+
+	/**
+	 * Returns the number of tests answered from this cache.
+	 *
+	 * @return The number of tests answered from this cache
+	 */
+	public synchronized long getHits()
+	{
+		return hits;
+	}
+
+	/**
+	 * Returns the number of tests which had to be evaluated while this cache
+	 * was open.
+	 *
+	 * @return The number of tests not answered from this cache
+	 */
+	public synchronized long getMisses()
+	{
+		return misses;
+	}
+}
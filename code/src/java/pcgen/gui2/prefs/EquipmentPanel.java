@@ -74,6 +74,8 @@ public class EquipmentPanel extends PCGenPrefsPanel
 		LanguageBundle.getString("in_Prefs_autoEquipMagic"); //$NON-NLS-1$
 	private static final String in_autoEquipExotic =
 		LanguageBundle.getString("in_Prefs_autoEquipExotic"); //$NON-NLS-1$
+	private static final String in_autoEquipParallel =
+		LanguageBundle.getString("in_Prefs_autoEquipParallel"); //$NON-NLS-1$
 	private static final String in_noAutoEquip =
 		LanguageBundle.getString("in_Prefs_noAutoEquip"); //$NON-NLS-1$
 	private static final String in_potionMax =
@@ -86,6 +88,7 @@ public class EquipmentPanel extends PCGenPrefsPanel
 	private final JCheckBox autoMethod2 = new JCheckBox();
 	private final JCheckBox autoMethod3 = new JCheckBox();
 	private final JCheckBox autoMethod4 = new JCheckBox();
+	private final JCheckBox autoEquipParallel = new JCheckBox();
 	private final JSpinner potionMaxLevel = new JSpinner();
 	private final SpinnerNumberModel potionModel;
 	private final JSpinner wandMaxLevel = new JSpinner();
@@ -191,6 +194,11 @@ public class EquipmentPanel extends PCGenPrefsPanel
 		gridbag.setConstraints(autoMethod4, c);
 		this.add(autoMethod4);
 
+		Utility.buildConstraints(c, 1, 10, GridBagConstraints.REMAINDER, 1, 0, 0);
+		autoEquipParallel.setText(in_autoEquipParallel);
+		gridbag.setConstraints(autoEquipParallel, c);
+		this.add(autoEquipParallel);
+
 		Utility.buildConstraints(c, 0, 20, 10, 1, 1, 1);
 		c.fill = GridBagConstraints.BOTH;
 		label = new JLabel();
@@ -234,6 +242,9 @@ public class EquipmentPanel extends PCGenPrefsPanel
 		PCGenSettings.OPTIONS_CONTEXT.setBoolean(
 			PCGenSettings.OPTION_AUTOCREATE_MW_MAGIC_EQUIP,
 			autoEquipCreate.isSelected());
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(
+			PCGenSettings.OPTION_AUTOCREATE_PARALLEL,
+			autoEquipParallel.isSelected());
 	}
 
 	/**
@@ -269,6 +280,8 @@ public class EquipmentPanel extends PCGenPrefsPanel
 			.getAutogen(Constants.AUTOGEN_EXOTIC_MATERIAL));
 		SettingsHandler.setWantToLoadMasterworkAndMagic(noAutoEquipCreate
 			.isSelected()); // Reset its state now we are done
+		autoEquipParallel.setSelected(PCGenSettings.OPTIONS_CONTEXT.initBoolean(
+			PCGenSettings.OPTION_AUTOCREATE_PARALLEL, false));
 	}
 
 }
@@ -68,6 +68,7 @@ public class SourcesPanel extends PCGenPrefsPanel
 	private final JCheckBox skipSourceSelect = new JCheckBox();
 	private final JCheckBox useAdvancedSourceSelect = new JCheckBox();
 	private final JCheckBox allowMultiLineObjectsSelect = new JCheckBox();
+	private final JCheckBox parallelSourceLoad = new JCheckBox();
 
 	/**
 	 * Instantiates a new monster panel.
@@ -168,6 +169,11 @@ public class SourcesPanel extends PCGenPrefsPanel
 		gridbag.setConstraints(allowMultiLineObjectsSelect, c);
 		this.add(allowMultiLineObjectsSelect);
 
+		Utility.buildConstraints(c, 0, 14, GridBagConstraints.REMAINDER, 1, 0, 0);
+		parallelSourceLoad.setText(LanguageBundle.getString("in_Prefs_parallelSourceLoad")); //$NON-NLS-1$
+		gridbag.setConstraints(parallelSourceLoad, c);
+		this.add(parallelSourceLoad);
+
 		Utility.buildConstraints(c, 5, 20, GridBagConstraints.REMAINDER, 1, 1, 1);
 		c.fill = GridBagConstraints.BOTH;
 		label = new JLabel();
@@ -220,6 +226,9 @@ public class SourcesPanel extends PCGenPrefsPanel
 		PCGenSettings.OPTIONS_CONTEXT.setBoolean(
 			PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE,
 			allowMultiLineObjectsSelect.isSelected());
+		PCGenSettings.OPTIONS_CONTEXT.setBoolean(
+			PCGenSettings.OPTION_SOURCES_PARALLEL_LOAD,
+			parallelSourceLoad.isSelected());
 
 		switch (sourceOptions.getSelectedIndex())
 		{
@@ -282,6 +291,8 @@ public class SourcesPanel extends PCGenPrefsPanel
 				.getBoolean(UIPropertyContext.SOURCE_USE_BASIC_KEY));
 		allowMultiLineObjectsSelect.setSelected(PCGenSettings.OPTIONS_CONTEXT
 			.getBoolean(PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE));
+		parallelSourceLoad.setSelected(PCGenSettings.OPTIONS_CONTEXT
+			.initBoolean(PCGenSettings.OPTION_SOURCES_PARALLEL_LOAD, false));
 		
 		switch (Globals.getSourceDisplay())
 		{
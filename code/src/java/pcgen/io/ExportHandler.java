@@ -40,6 +40,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -62,6 +63,7 @@ import pcgen.core.character.CharacterSpell;
 import pcgen.core.character.Follower;
 import pcgen.core.display.CharacterDisplay;
 import pcgen.core.display.SkillDisplay;
+import pcgen.core.prereq.PrerequisiteResultCache;
 import pcgen.core.utils.CoreUtility;
 import pcgen.io.exporttoken.AbilityListToken;
 import pcgen.io.exporttoken.AbilityToken;
@@ -83,6 +85,7 @@ import pcgen.io.freemarker.PCBooleanFunction;
 import pcgen.io.freemarker.PCHasVarFunction;
 import pcgen.io.freemarker.PCStringDirective;
 import pcgen.io.freemarker.PCVarFunction;
+import pcgen.output.publish.LazyDataModel;
 import pcgen.output.publish.OutputDB;
 import pcgen.system.PluginLoader;
 import pcgen.util.Delta;
@@ -90,7 +93,6 @@ import pcgen.util.Logging;
 import pcgen.util.enumeration.View;
 
 import freemarker.template.Configuration;
-import freemarker.template.ObjectWrapper;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import freemarker.template.Version;
@@ -117,7 +119,26 @@ public final class ExportHandler
 	 * A variable to hold the state of whether or not the output token map to
 	 * be exported is populated or not. 
 	 */
-	private static boolean tokenMapPopulated;
+	private static volatile boolean tokenMapPopulated;
+
+	/** A pattern to replace || with | | to stop StringTokenizer from merging them */
+	private static final Pattern DOUBLE_PIPE = Pattern.compile(Pattern.quote("||"));
+
+	/**
+	 * The parsed FOR/IIF tree of each template that has been exported, by the
+	 * absolute path of the template. The trees are never altered once parsed,
+	 * so they are shared between exports (and threads).
+	 */
+	private static final Map<String, CompiledTemplate> COMPILED_TEMPLATES =
+			new ConcurrentHashMap<>();
+
+	/**
+	 * The FreeMarker configuration for each template directory. A
+	 * configuration holds FreeMarker's template and introspection caches, so
+	 * it is kept for the life of the application.
+	 */
+	private static final Map<File, Configuration> FREEMARKER_CONFIGS =
+			new ConcurrentHashMap<>();
 
 	/**
 	 * ExportEngine describes a possible templating engine to be used to 
@@ -215,6 +236,24 @@ public final class ExportHandler
 			throw new IllegalStateException("Template file must not be null");
 		}
 
+		// The same prerequisites are tested many times over during an export
+		try (PrerequisiteResultCache prereqCache =
+				aPC.getPrerequisiteResultCache().open())
+		{
+			writeCharacter(aPC, out);
+		}
+	}
+
+	/**
+	 * Exports the contents of the given PlayerCharacter to a Writer
+	 * according to the handler's template.
+	 *
+	 * @param aPC the PlayerCharacter to write
+	 * @param out the Writer to be written to
+	 * @throws ExportException If the export fails.
+	 */
+	private void writeCharacter(PlayerCharacter aPC, BufferedWriter out) throws ExportException
+	{
 		if (exportEngine == ExportEngine.FREEMARKER)
 		{
 			FileAccess.setCurrentOutputFilter(templateFile.getName().substring(
@@ -227,24 +266,10 @@ public final class ExportHandler
 		// Set an output filter based on the type of template in use.
 		FileAccess.setCurrentOutputFilter(templateFile.getName());
 
-		BufferedReader br = null;
 		try
 		{
-			FileInputStream fis = new FileInputStream(templateFile);
-			InputStreamReader isr = new InputStreamReader(fis, "UTF-8");
-			br = new BufferedReader(isr);
-
-			// A Buffer to hold the result of the preparation
-			StringBuilder template = prepareTemplate(br);
-
-			// Create a tokenizer based on EOL characters
-			// 03-Nov-2008 Karianna, changed to use line separator instead of /r/n
-			final StringTokenizer tokenizer =
-					new StringTokenizer(template.toString(),
-						Constants.LINE_SEPARATOR, false);
-
 			// Get FOR loops and IIF statements
-			final FORNode root = parseFORsAndIIFs(tokenizer);
+			final FORNode root = getCompiledTemplate();
 
 			// TODO Not sure what these lines are for
 			loopVariables.put(null, "0");
@@ -264,22 +289,6 @@ public final class ExportHandler
 		}
 		finally
 		{
-			// Close off the reader
-			if (br != null)
-			{
-				try
-				{
-					br.close();
-				}
-				catch (IOException e)
-				{
-					Logging
-						.errorPrint(
-							"Error closing off the character sheet template in ExportHandler::write",
-							e);
-				}
-			}
-
 			if (out != null)
 			{
 				try
@@ -310,34 +319,37 @@ public final class ExportHandler
 
 		try
 		{
-			// Set Directory for templates
-			Configuration cfg = new Configuration();
-			cfg.setDirectoryForTemplateLoading(templateFile.getParentFile());
-			cfg.setIncompatibleImprovements(new Version("2.3.20"));
-			
 			// load template
-			Template template = cfg.getTemplate(templateFile.getName());
-
-			// Configure our custom directives and functions.
-			cfg.setSharedVariable("pcstring", new PCStringDirective(aPC, this));
-			cfg.setSharedVariable("pcvar", new PCVarFunction(aPC));
-			cfg.setSharedVariable("pcboolean", new PCBooleanFunction(aPC, this));
-			cfg.setSharedVariable("pchasvar", new PCHasVarFunction(aPC, this));
-			cfg.setSharedVariable("loop", new LoopDirective());
-			cfg.setSharedVariable("equipsetloop", new EquipSetLoopDirective(aPC));
+			Template template = getFreemarkerConfiguration(
+				templateFile.getParentFile()).getTemplate(templateFile.getName());
 
 			GameMode gamemode = SettingsHandler.getGame();
 			// data-model
-			Map<String, Object> pc = OutputDB.buildDataModel(aPC.getCharID());
+			LazyDataModel pc = OutputDB.buildLazyDataModel(aPC.getCharID());
 			Map<String, Object> mode = OutputDB.buildModeDataModel(gamemode);
 			Map<String, Object> input = new HashMap<>();
 			input.put("pcgen", OutputDB.getGlobal());
-			input.put("pc", ObjectWrapper.DEFAULT_WRAPPER.wrap(pc));
+			input.put("pc", pc);
 			input.put("gamemode", mode);
 			input.put("gamemodename", gamemode.getName());
 
+			// Configure our custom directives and functions. These are per
+			// character, so they are part of the data model rather than shared
+			// variables of the (shared) configuration.
+			input.put("pcstring", new PCStringDirective(aPC, this));
+			input.put("pcvar", new PCVarFunction(aPC));
+			input.put("pcboolean", new PCBooleanFunction(aPC, this));
+			input.put("pchasvar", new PCHasVarFunction(aPC, this));
+			input.put("loop", new LoopDirective());
+			input.put("equipsetloop", new EquipSetLoopDirective(aPC));
+
 			// Process the template
 			template.process(input, outputWriter);
+			if (Logging.isDebugMode())
+			{
+				Logging.debugPrint("Output models used by " + templateFile
+					+ ": " + pc.getGeneratedModels());
+			}
 		}
 		catch (IOException | TemplateException exc)
 		{
@@ -360,6 +372,72 @@ public final class ExportHandler
 		}
 	}
 
+	/**
+	 * Returns the shared FreeMarker configuration used to load templates from
+	 * the given directory, creating it if required. The configuration is not
+	 * changed once created, so it may be used by concurrent exports.
+	 * 
+	 * @param templateDir The directory containing the templates.
+	 * @return The FreeMarker configuration for the directory.
+	 * @throws IOException If the directory cannot be used to load templates.
+	 */
+	private static Configuration getFreemarkerConfiguration(File templateDir)
+		throws IOException
+	{
+		File key = templateDir.getAbsoluteFile();
+		Configuration cfg = FREEMARKER_CONFIGS.get(key);
+		if (cfg == null)
+		{
+			cfg = new Configuration();
+			cfg.setDirectoryForTemplateLoading(key);
+			cfg.setIncompatibleImprovements(new Version("2.3.20"));
+			Configuration existing = FREEMARKER_CONFIGS.putIfAbsent(key, cfg);
+			if (existing != null)
+			{
+				cfg = existing;
+			}
+		}
+		return cfg;
+	}
+
+	/**
+	 * Returns the parsed FOR/IIF tree for the template file. The template is
+	 * only read and parsed if it has not been seen before or if it has been
+	 * changed since it was last parsed.
+	 * 
+	 * @return The root FORNode of the parsed template
+	 * @throws IOException If the template could not be read
+	 */
+	private FORNode getCompiledTemplate() throws IOException
+	{
+		String key = templateFile.getAbsolutePath();
+		long lastModified = templateFile.lastModified();
+		long length = templateFile.length();
+		CompiledTemplate compiled = COMPILED_TEMPLATES.get(key);
+		if ((compiled != null) && compiled.isCurrent(lastModified, length))
+		{
+			return compiled.root;
+		}
+
+		try (BufferedReader br = new BufferedReader(new InputStreamReader(
+			new FileInputStream(templateFile), "UTF-8")))
+		{
+			// A Buffer to hold the result of the preparation
+			StringBuilder template = prepareTemplate(br);
+
+			// Create a tokenizer based on EOL characters
+			// 03-Nov-2008 Karianna, changed to use line separator instead of /r/n
+			final StringTokenizer tokenizer =
+					new StringTokenizer(template.toString(),
+						Constants.LINE_SEPARATOR, false);
+
+			final FORNode root = parseFORsAndIIFs(tokenizer);
+			COMPILED_TEMPLATES.put(key,
+				new CompiledTemplate(lastModified, length, root));
+			return root;
+		}
+	}
+
 	/**
 	 * A helper method to prepare the template for exporting
 	 * 
@@ -371,8 +449,6 @@ public final class ExportHandler
 	 */
 	private static StringBuilder prepareTemplate(BufferedReader br) throws IOException
 	{
-		// A pattern to replace || with | | to stop StringTokenizer from merging them
-		Pattern pat = Pattern.compile(Pattern.quote("||"));
 		String rep = Matcher.quoteReplacement("| |");
 
 		// Hold the results of the preparation 
@@ -393,7 +469,7 @@ public final class ExportHandler
 			//{
 			// Adjacent separators get merged by StringTokenizer,
 			// so we break them up here, e.g. Change || to | |
-			Matcher mat = pat.matcher(aString);
+			Matcher mat = DOUBLE_PIPE.matcher(aString);
 			inputLine.append(mat.replaceAll(rep));
 			//}
 
@@ -587,7 +663,11 @@ public final class ExportHandler
 	 */
 	public static void addToTokenMap(Token newToken)
 	{
-		Token test = tokenMap.put(newToken.getTokenName(), newToken);
+		Token test;
+		synchronized (tokenMap)
+		{
+			test = tokenMap.put(newToken.getTokenName(), newToken);
+		}
 
 		if (test != null)
 		{
@@ -1837,20 +1917,26 @@ public final class ExportHandler
 	{
 		if (!tokenMapPopulated)
 		{
-			addToTokenMap(new AbilityToken());
-			addToTokenMap(new AbilityListToken());
-			addToTokenMap(new BonusToken());
-			addToTokenMap(new EqToken());
-			addToTokenMap(new EqTypeToken());
-			addToTokenMap(new GameModeToken());
-			addToTokenMap(new MovementToken());
-			addToTokenMap(new SkillToken());
-			addToTokenMap(new SkillpointsToken());
-			addToTokenMap(new StatToken());
-			addToTokenMap(new TotalToken());
-			addToTokenMap(new WeaponToken());
-			addToTokenMap(new WeaponhToken());
-			tokenMapPopulated = true;
+			synchronized (tokenMap)
+			{
+				if (!tokenMapPopulated)
+				{
+					addToTokenMap(new AbilityToken());
+					addToTokenMap(new AbilityListToken());
+					addToTokenMap(new BonusToken());
+					addToTokenMap(new EqToken());
+					addToTokenMap(new EqTypeToken());
+					addToTokenMap(new GameModeToken());
+					addToTokenMap(new MovementToken());
+					addToTokenMap(new SkillToken());
+					addToTokenMap(new SkillpointsToken());
+					addToTokenMap(new StatToken());
+					addToTokenMap(new TotalToken());
+					addToTokenMap(new WeaponToken());
+					addToTokenMap(new WeaponhToken());
+					tokenMapPopulated = true;
+				}
+			}
 		}
 	}
 
@@ -3952,4 +4038,26 @@ public final class ExportHandler
 		}
 	}
 
+	/**
+	 * The parsed form of a template, along with the details of the template
+	 * file used to detect when it has been changed.
+	 */
+	private static final class CompiledTemplate
+	{
+		private final long lastModified;
+		private final long length;
+		private final FORNode root;
+
+		private CompiledTemplate(long lastModified, long length, FORNode root)
+		{
+			this.lastModified = lastModified;
+			this.length = length;
+			this.root = root;
+		}
+
+		private boolean isCurrent(long modified, long size)
+		{
+			return (lastModified == modified) && (length == size);
+		}
+	}
 }
@@ -136,6 +136,7 @@ import pcgen.io.migration.RaceMigration;
 import pcgen.io.migration.SourceMigration;
 import pcgen.io.migration.SpellMigration;
 import pcgen.persistence.PersistenceLayerException;
+import pcgen.persistence.SourceFileLoader;
 import pcgen.rules.context.AbstractReferenceContext;
 import pcgen.rules.context.LoadContext;
 import pcgen.system.FacadeFactory;
@@ -5212,8 +5213,13 @@ final class PCGVer2Parser implements PCGParser
 									{
 										aEquip.addType(Type.CUSTOM);
 									}
-									Globals.getContext().getReferenceContext()
-										.importObject(aEquip.clone());
+									// Data kept for reuse must not pick up
+									// the custom items of each character
+									if (!SourceFileLoader.isLoadedDataReused())
+									{
+										Globals.getContext().getReferenceContext()
+											.importObject(aEquip.clone());
+									}
 								}
 							}
 						}
@@ -52,12 +52,12 @@ public class AbilityListToken extends Token
 {
 	private static final String DELIM = ", ";
 
-	//TODO: Should these be static to enable the caching?
-	private MapToList<Ability, CNAbility> abilityMap = null;
-	private PlayerCharacter lastPC = null;
-	private int lastPCSerial;
-	private String lastType = "";
-	private AbilityCategory lastCategory = null;
+	/**
+	 * The processing data cached by this token for each thread, as each kind
+	 * of token is shared by all exports and exports may run concurrently.
+	 */
+	private final ThreadLocal<TokenState> state =
+			ThreadLocal.withInitial(TokenState::new);
 
 	/** Token Name */
 	public static final String TOKENNAME = "ABILITYLIST";
@@ -111,14 +111,16 @@ public class AbilityListToken extends Token
 		// If we haven't cached some of the processign data, then do so, this is so that 
 		// if the Output Sheet loops over this token we don't process one-off stuff more than 
 		// once
-		if (lastPC != pc || !aCategory.equals(lastCategory)
-			|| lastPCSerial != pc.getSerial() || !tokenString.equals(lastType))
+		final TokenState current = state.get();
+		if (current.lastPC != pc || !aCategory.equals(current.lastCategory)
+			|| current.lastPCSerial != pc.getSerial()
+			|| !tokenString.equals(current.lastType))
 		{
-			abilityMap = getAbilityList(pc, aCategory);
-			lastPC = pc;
-			lastCategory = aCategory;
-			lastPCSerial = pc.getSerial();
-			lastType = tokenString;
+			current.abilityMap = getAbilityList(pc, aCategory);
+			current.lastPC = pc;
+			current.lastCategory = aCategory;
+			current.lastPCSerial = pc.getSerial();
+			current.lastType = tokenString;
 		}
 
 		// Default values
@@ -152,7 +154,7 @@ public class AbilityListToken extends Token
 
 		MapToList<Ability, CNAbility> aList =
 				AbilityToken.buildAbilityList(types, negate, null,
-					View.VISIBLE_EXPORT, aspect, abilityMap);
+					View.VISIBLE_EXPORT, aspect, current.abilityMap);
 
 		boolean needComma = false;
 		for (Ability ability : aList.getKeySet())
@@ -197,4 +199,16 @@ public class AbilityListToken extends Token
 		return listOfAbilities;
 	}
 
+	/**
+	 * The processing data cached by an ability list token within a single
+	 * thread.
+	 */
+	private static final class TokenState
+	{
+		private MapToList<Ability, CNAbility> abilityMap = null;
+		private PlayerCharacter lastPC = null;
+		private int lastPCSerial;
+		private String lastType = "";
+		private AbilityCategory lastCategory = null;
+	}
 }
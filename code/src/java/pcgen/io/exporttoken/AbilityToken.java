@@ -77,23 +77,12 @@ public class AbilityToken extends Token
 	/** Token Name */
 	public static final String TOKENNAME = "ABILITY";
 
-	/** The list of abilities to get the ability from */
-	private MapToList<Ability, CNAbility> abilityList = new HashMapToList<>();
-
-	/** The current visibility filtering to apply */
-	private View view = View.VISIBLE_EXPORT;
-
-	/** The cached PC */
-	private PlayerCharacter cachedPC = null;
-
-	/** The cached PC serial (serial holds whether a PC has been changed) */
-	private int cachedPcSerial = 0;
-
-	/** The last token in the list of abilities */
-	private String lastToken = null;
-
-	/** The last ability category in the list of abilities */
-	private AbilityCategory lastCategory = null;
+	/**
+	 * The processing state of this token for each thread, as each kind of
+	 * token is shared by all exports and exports may run concurrently.
+	 */
+	private final ThreadLocal<TokenState> state =
+			ThreadLocal.withInitial(TokenState::new);
 
 	/**
 	 * Get the TOKENNAME
@@ -150,21 +139,23 @@ public class AbilityToken extends Token
 		PlayerCharacter pc, ExportHandler eh, final StringTokenizer aTok,
 		final String tokenString, final AbilityCategory aCategory)
 	{
+		final TokenState current = state.get();
 		boolean cacheAbilityProcessingData =
-				(cachedPC != pc || !aCategory.equals(lastCategory)
-					|| cachedPcSerial != pc.getSerial() || !tokenString
-					.equals(lastToken));
+				(current.cachedPC != pc
+					|| !aCategory.equals(current.lastCategory)
+					|| current.cachedPcSerial != pc.getSerial()
+					|| !tokenString.equals(current.lastToken));
 
 		// As this method can effectively be called by an OS FOR token, there 
 		// is a performance saving in caching some of the one-off processing data 
 		if (cacheAbilityProcessingData)
 		{
 			// Overridden by subclasses to return the right list.
-			abilityList = getAbilityList(pc, aCategory);
-			cachedPC = pc;
-			lastCategory = aCategory;
-			cachedPcSerial = pc.getSerial();
-			lastToken = tokenString;
+			current.abilityList = getAbilityList(pc, aCategory);
+			current.cachedPC = pc;
+			current.lastCategory = aCategory;
+			current.cachedPcSerial = pc.getSerial();
+			current.lastToken = tokenString;
 		}
 
 		// Ability Types Filter List
@@ -205,13 +196,13 @@ public class AbilityToken extends Token
 				switch (bString)
 				{
 					case "VISIBLE":
-						view = View.VISIBLE_EXPORT;
+						current.view = View.VISIBLE_EXPORT;
 						continue;
 					case "HIDDEN":
-						view = View.HIDDEN_EXPORT;
+						current.view = View.HIDDEN_EXPORT;
 						continue;
 					case "ALL":
-						view = View.ALL;
+						current.view = View.ALL;
 						continue;
 					default:
 						abilityType = bString;
@@ -283,11 +274,12 @@ public class AbilityToken extends Token
 		if (key == null)
 		{
 			aList = AbilityToken.buildAbilityList(types, negate, abilityType,
-					view, aspect, abilityList);
+					current.view, aspect, current.abilityList);
 		}
 		else
 		{
-			aList = AbilityToken.buildAbilityList(key, view, abilityList);
+			aList = AbilityToken.buildAbilityList(key, current.view,
+				current.abilityList);
 		}
 
 		// Build the return string to give to the OutputSheet
@@ -789,7 +781,7 @@ public class AbilityToken extends Token
 	 */
 	protected View getView()
 	{
-		return view;
+		return state.get().view;
 	}
 
 	/**
@@ -797,7 +789,31 @@ public class AbilityToken extends Token
 	 */
 	protected void setView(View v)
 	{
-		this.view = v;
+		state.get().view = v;
+	}
+
+	/**
+	 * The processing state of an ability token within a single thread.
+	 */
+	private static final class TokenState
+	{
+		/** The list of abilities to get the ability from */
+		private MapToList<Ability, CNAbility> abilityList = new HashMapToList<>();
+
+		/** The current visibility filtering to apply */
+		private View view = View.VISIBLE_EXPORT;
+
+		/** The cached PC */
+		private PlayerCharacter cachedPC = null;
+
+		/** The cached PC serial (serial holds whether a PC has been changed) */
+		private int cachedPcSerial = 0;
+
+		/** The last token in the list of abilities */
+		private String lastToken = null;
+
+		/** The last ability category in the list of abilities */
+		private AbilityCategory lastCategory = null;
 	}
 
 }
@@ -56,10 +56,11 @@ public class EqToken extends Token
 {
 	/** Token Name */
 	public static final String TOKENNAME = "EQ";
-	private static String cachedString = null;
-	private static List<Equipment> cachedList = null;
-	private static int cachedSerial = 0;
-	private static PlayerCharacter cachedPC = null;
+	/**
+	 * The last list exported by each thread, as exports may run concurrently.
+	 */
+	private static final ThreadLocal<EqListCache> CACHE =
+			ThreadLocal.withInitial(EqListCache::new);
 
 	/**
 	 * @see pcgen.io.exporttoken.Token#getTokenName()
@@ -137,15 +138,16 @@ public class EqToken extends Token
 		List<Equipment> eqList = null;
 		StringTokenizer aTok = null;
 		int temp = -1;
-		if (comparatorString.equals(cachedString) && pc == cachedPC
-			&& pc.getSerial() == cachedSerial)
+		EqListCache cache = CACHE.get();
+		if (comparatorString.equals(cache.cachedString)
+			&& pc == cache.cachedPC && pc.getSerial() == cache.cachedSerial)
 		{
 			//			cacheHit++;
 			//			if (cacheHit%100==0) {
 			//				System.out.println("cacheHit"+cacheHit + ", cacheMiss="+cacheMiss);
 			//			}
 
-			eqList = cachedList;
+			eqList = cache.cachedList;
 			tokenSource = tokenSource.substring(comparatorString.length());
 			aTok = new StringTokenizer(tokenSource, ".", false);
 			String token = aTok.nextToken();
@@ -224,10 +226,10 @@ public class EqToken extends Token
 
 			}
 
-			cachedList = eqList;
-			cachedString = comparatorString;
-			cachedPC = pc;
-			cachedSerial = pc.getSerial();
+			cache.cachedList = eqList;
+			cache.cachedString = comparatorString;
+			cache.cachedPC = pc;
+			cache.cachedSerial = pc.getSerial();
 		}
 
 		// Now that we have the list, get the token for the appropriate element
@@ -1421,4 +1423,14 @@ public class EqToken extends Token
 
 	}
 
+	/**
+	 * The last list of equipment exported within a single thread.
+	 */
+	private static final class EqListCache
+	{
+		private String cachedString = null;
+		private List<Equipment> cachedList = null;
+		private int cachedSerial = 0;
+		private PlayerCharacter cachedPC = null;
+	}
 }
@@ -0,0 +1,246 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.output.publish;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import pcgen.base.util.DoubleKeyMap;
+import pcgen.cdom.enumeration.CharID;
+import pcgen.output.base.ModelFactory;
+import freemarker.template.ObjectWrapper;
+import freemarker.template.SimpleCollection;
+import freemarker.template.TemplateCollectionModel;
+import freemarker.template.TemplateHashModelEx;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+/**
+ * A LazyDataModel is the PlayerCharacter data model for a single output of a
+ * PlayerCharacter. Rather than generating a TemplateModel from every
+ * registered ModelFactory up front, each TemplateModel is generated when the
+ * output first refers to it, and is then reused for the rest of the output.
+ * 
+ * A name registered with OutputDB as "a.b" is available as the TemplateModel
+ * "b" within the hash "a", as in the data model built by
+ * OutputDB.buildDataModel(CharID).
+ * 
+ * A LazyDataModel is not thread safe, and should only be used for one output.
+ */
+public final class LazyDataModel implements TemplateHashModelEx
+{
+
+	/**
+	 * The CharID of the PlayerCharacter being output.
+	 */
+	private final CharID id;
+
+	/**
+	 * The registered ModelFactory objects, by first and second name.
+	 */
+	private final DoubleKeyMap<Object, Object, ModelFactory> factories;
+
+	/**
+	 * The TemplateModels generated for this output, by their ModelFactory.
+	 */
+	private final Map<ModelFactory, TemplateModel> models =
+			new IdentityHashMap<>();
+
+	/**
+	 * The hashes of the names registered with a second name, by first name.
+	 */
+	private final Map<String, SecondaryModel> secondaryModels =
+			new HashMap<>();
+
+	/**
+	 * The names of the TemplateModels generated for this output, in the order
+	 * they were generated.
+	 */
+	private final List<String> generated = new ArrayList<>();
+
+	/**
+	 * Constructs a new LazyDataModel for the given CharID.
+	 * 
+	 * @param id
+	 *            The CharID of the PlayerCharacter being output
+	 * @param factories
+	 *            The registered ModelFactory objects, by first and second name
+	 */
+	LazyDataModel(CharID id,
+		DoubleKeyMap<Object, Object, ModelFactory> factories)
+	{
+		this.id = id;
+		this.factories = factories;
+	}
+
+	@Override
+	public TemplateModel get(String key) throws TemplateModelException
+	{
+		ModelFactory factory = factories.get(key, "");
+		if (factory != null)
+		{
+			return getModel(key, factory);
+		}
+		if (!factories.containsKey(key))
+		{
+			return null;
+		}
+		SecondaryModel model = secondaryModels.get(key);
+		if (model == null)
+		{
+			model = new SecondaryModel(key);
+			secondaryModels.put(key, model);
+		}
+		return model;
+	}
+
+	private TemplateModel getModel(String name, ModelFactory factory)
+	{
+		TemplateModel model = models.get(factory);
+		if (model == null)
+		{
+			model = factory.generate(id);
+			models.put(factory, model);
+			generated.add(name);
+		}
+		return model;
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return factories.getKeySet().isEmpty();
+	}
+
+	@Override
+	public int size()
+	{
+		return factories.getKeySet().size();
+	}
+
+	@Override
+	public TemplateCollectionModel keys()
+	{
+		return new SimpleCollection(toNames(factories.getKeySet()),
+			ObjectWrapper.DEFAULT_WRAPPER);
+	}
+
+	@Override
+	public TemplateCollectionModel values() throws TemplateModelException
+	{
+		List<TemplateModel> values = new ArrayList<>();
+		for (String name : toNames(factories.getKeySet()))
+		{
+			values.add(get(name));
+		}
+		return new SimpleCollection(values, ObjectWrapper.DEFAULT_WRAPPER);
+	}
+
+	/**
+	 * Returns the names of the TemplateModels generated so far for this
+	 * output, in the order they were generated. Names registered with a second
+	 * name are given as "first.second".
+	 * 
+	 * @return The names of the TemplateModels generated for this output
+	 */
+	public List<String> getGeneratedModels()
+	{
+		return Collections.unmodifiableList(generated);
+	}
+
+	private static List<String> toNames(Set<?> keys)
+	{
+		List<String> names = new ArrayList<>(keys.size());
+		for (Object key : keys)
+		{
+			names.add(key.toString());
+		}
+		return names;
+	}
+
+	/**
+	 * The hash of the TemplateModels registered with a second name under a
+	 * single first name.
+	 */
+	private final class SecondaryModel implements TemplateHashModelEx
+	{
+
+		private final String firstName;
+
+		private SecondaryModel(String firstName)
+		{
+			this.firstName = firstName;
+		}
+
+		@Override
+		public TemplateModel get(String key)
+		{
+			if (key.isEmpty())
+			{
+				return null;
+			}
+			ModelFactory factory = factories.get(firstName, key);
+			if (factory == null)
+			{
+				return null;
+			}
+			return getModel(firstName + '.' + key, factory);
+		}
+
+		@Override
+		public boolean isEmpty()
+		{
+			return size() == 0;
+		}
+
+		@Override
+		public int size()
+		{
+			return getSecondaryNames().size();
+		}
+
+		@Override
+		public TemplateCollectionModel keys()
+		{
+			return new SimpleCollection(getSecondaryNames(),
+				ObjectWrapper.DEFAULT_WRAPPER);
+		}
+
+		@Override
+		public TemplateCollectionModel values()
+		{
+			List<TemplateModel> values = new ArrayList<>();
+			for (String name : getSecondaryNames())
+			{
+				values.add(get(name));
+			}
+			return new SimpleCollection(values, ObjectWrapper.DEFAULT_WRAPPER);
+		}
+
+		private List<String> getSecondaryNames()
+		{
+			List<String> names =
+					toNames(factories.getSecondaryKeySet(firstName));
+			names.remove("");
+			return names;
+		}
+	}
+}
@@ -167,6 +167,21 @@ public final class OutputDB
 		return input;
 	}
 
+	/**
+	 * Returns the PlayerCharacter data model for the given CharID, for use in a
+	 * single output. Unlike buildDataModel(CharID), the TemplateModels in the
+	 * returned data model are only generated when the output refers to them.
+	 * 
+	 * @param id
+	 *            The CharID for which the data model should be built
+	 * @return The data model for the PlayerCharacter identified by the given
+	 *         CharID
+	 */
+	public static LazyDataModel buildLazyDataModel(CharID id)
+	{
+		return new LazyDataModel(id, outModels);
+	}
+
 	private static void ensureMap(Map<String, Object> input, String k1String)
 	{
 		if (!input.containsKey(k1String))
@@ -0,0 +1,215 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence;
+
+import java.io.File;
+import java.net.URI;
+import java.util.List;
+
+import pcgen.cdom.enumeration.ListKey;
+import pcgen.core.Campaign;
+import pcgen.core.CustomData;
+import pcgen.core.DataSet;
+import pcgen.core.GameMode;
+import pcgen.core.Globals;
+import pcgen.core.SettingsHandler;
+import pcgen.persistence.lst.CampaignLoader;
+import pcgen.persistence.lst.CampaignSourceEntry;
+import pcgen.rules.context.LoadContext;
+import pcgen.system.PCGenSettings;
+
+/**
+ * DataSetCache remembers the most recently loaded DataSet along with a
+ * fingerprint of everything that went into loading it: the game mode, the
+ * selected campaigns, every file they reference (including last modified
+ * time and size) and the preferences which alter how the data is loaded.
+ *
+ * <p>
+ * A SourceFileLoader which is permitted to reuse loaded data can then skip
+ * parsing entirely if it is asked to load a source selection with an
+ * identical fingerprint while that data is still the active LoadContext.
+ * Any change to the files on disk, the selection or the relevant
+ * preferences produces a different fingerprint and thus a full load.
+ */
+final class DataSetCache
+{
+
+	private static String cachedFingerprint = null;
+	private static LoadContext cachedContext = null;
+	private static DataSet cachedDataSet = null;
+
+	private DataSetCache()
+	{
+		//Utility class
+	}
+
+	/**
+	 * Builds the fingerprint for loading the given campaigns in the given game
+	 * mode.
+	 *
+	 * @param gameMode
+	 *            The GameMode in which the campaigns are to be loaded
+	 * @param campaigns
+	 *            The campaigns to be loaded, in selection order
+	 * @return The fingerprint of the load
+	 */
+	static String getFingerprint(GameMode gameMode, List<Campaign> campaigns)
+	{
+		StringBuilder sb = new StringBuilder(1000);
+		sb.append(gameMode.getName()).append('\n');
+		appendOption(sb, PCGenSettings.OPTION_ALLOWED_IN_SOURCES, true);
+		appendOption(sb, PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE, false);
+		appendOption(sb, PCGenSettings.OPTION_AUTOCREATE_MW_MAGIC_EQUIP, false);
+		appendOption(sb, PCGenSettings.OPTION_ALLOW_OVERRIDE_DUPLICATES, true);
+		appendOption(sb, PCGenSettings.OPTION_SAVE_CUSTOM_EQUIPMENT, false);
+		for (Campaign campaign : campaigns)
+		{
+			appendURI(sb, campaign.getSourceURI());
+			for (ListKey<?> lk : CampaignLoader.OBJECT_FILE_LISTKEY)
+			{
+				appendEntries(sb, campaign, lk);
+			}
+			for (ListKey<?> lk : CampaignLoader.OTHER_FILE_LISTKEY)
+			{
+				appendEntries(sb, campaign, lk);
+			}
+		}
+		appendFile(sb, new File(CustomData.customBioSetFilePath(true)));
+		appendFile(sb, new File(CustomData.customClassFilePath(true)));
+		appendFile(sb, new File(CustomData.customDeityFilePath(true)));
+		appendFile(sb, new File(CustomData.customDomainFilePath(true)));
+		appendFile(sb, new File(CustomData.customAbilityFilePath(true)));
+		appendFile(sb, new File(CustomData.customFeatFilePath(true)));
+		appendFile(sb, new File(CustomData.customLanguageFilePath(true)));
+		appendFile(sb, new File(CustomData.customRaceFilePath(true)));
+		appendFile(sb, new File(CustomData.customSkillFilePath(true)));
+		appendFile(sb, new File(CustomData.customSpellFilePath(true)));
+		appendFile(sb, new File(CustomData.customTemplateFilePath(true)));
+		appendFile(sb, new File(CustomData.customEquipmentFilePath()));
+		return sb.toString();
+	}
+
+	private static void appendOption(StringBuilder sb, String key,
+		boolean defaultValue)
+	{
+		sb.append(key).append('=');
+		sb.append(PCGenSettings.OPTIONS_CONTEXT.initBoolean(key, defaultValue));
+		sb.append('\n');
+	}
+
+	private static void appendEntries(StringBuilder sb, Campaign campaign,
+		ListKey<?> lk)
+	{
+		for (Object o : campaign.getSafeListFor(lk))
+		{
+			if (o instanceof CampaignSourceEntry)
+			{
+				CampaignSourceEntry cse = (CampaignSourceEntry) o;
+				sb.append(cse.getLSTformat()).append('|');
+				appendURI(sb, cse.getURI());
+			}
+		}
+	}
+
+	private static void appendURI(StringBuilder sb, URI uri)
+	{
+		if (uri == null)
+		{
+			sb.append("null\n");
+		}
+		else if ("file".equalsIgnoreCase(uri.getScheme()))
+		{
+			appendFile(sb, new File(uri));
+		}
+		else
+		{
+			sb.append(uri).append('\n');
+		}
+	}
+
+	private static void appendFile(StringBuilder sb, File file)
+	{
+		sb.append(file.getPath()).append('|');
+		sb.append(file.lastModified()).append('|');
+		sb.append(file.length()).append('\n');
+	}
+
+	/**
+	 * Returns the DataSet previously loaded with the given fingerprint, if it
+	 * is still the active data.
+	 *
+	 * @param gameMode
+	 *            The GameMode in which the data is to be loaded
+	 * @param fingerprint
+	 *            The fingerprint of the requested load
+	 * @return The DataSet previously loaded with the given fingerprint, or null
+	 *         if the data must be loaded again
+	 */
+	static synchronized DataSet get(GameMode gameMode, String fingerprint)
+	{
+		if ((cachedDataSet == null) || !fingerprint.equals(cachedFingerprint))
+		{
+			return null;
+		}
+		if ((SettingsHandler.getGame() != gameMode)
+			|| (Globals.getContext() != cachedContext))
+		{
+			//Someone else has loaded (or unloaded) data since
+			clear();
+			return null;
+		}
+		return cachedDataSet;
+	}
+
+	/**
+	 * Identifies whether the given LoadContext holds data which has been kept
+	 * so that later loads may reuse it.
+	 *
+	 * @param context
+	 *            The LoadContext to be checked
+	 * @return true if the data in the given LoadContext may be reused; false
+	 *         otherwise
+	 */
+	static synchronized boolean isCached(LoadContext context)
+	{
+		return (cachedDataSet != null) && (cachedContext == context);
+	}
+
+	/**
+	 * Records the DataSet that was loaded with the given fingerprint.
+	 *
+	 * @param fingerprint
+	 *            The fingerprint of the completed load
+	 * @param dataSet
+	 *            The DataSet which was loaded
+	 */
+	static synchronized void put(String fingerprint, DataSet dataSet)
+	{
+		cachedFingerprint = fingerprint;
+		cachedContext = Globals.getContext();
+		cachedDataSet = dataSet;
+	}
+
+	/**
+	 * Forgets any previously loaded DataSet.
+	 */
+	static synchronized void clear()
+	{
+		cachedFingerprint = null;
+		cachedContext = null;
+		cachedDataSet = null;
+	}
+}
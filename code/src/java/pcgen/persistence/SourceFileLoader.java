@@ -40,6 +40,7 @@ import pcgen.base.util.AbstractMapToList;
 import pcgen.base.util.FormatManager;
 import pcgen.base.util.HashMapToList;
 import pcgen.cdom.base.Constants;
+import pcgen.cdom.base.Interner;
 import pcgen.cdom.content.ContentDefinition;
 import pcgen.cdom.content.fact.FactDefinition;
 import pcgen.cdom.content.factset.FactSetDefinition;
@@ -182,6 +183,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
 	private DataSet dataset = null;
 	private int progress = 0;
 	private final UIDelegate uiDelegate;
+	private boolean reuseLoadedData = false;
 
 	public SourceFileLoader(SourceSelectionFacade selection, UIDelegate delegate)
 	{
@@ -229,9 +231,55 @@ public class SourceFileLoader extends PCGenTask implements Observer
 		dynamicLoader.addObserver(this);
 	}
 
+	/**
+	 * Identifies whether this loader may reuse the data that is already
+	 * loaded, rather than parsing the sources again, if that data was loaded
+	 * from exactly the same game mode, campaigns, files and load preferences.
+	 * This is off by default, as the UI expects a reload to re-read the data.
+	 * 
+	 * @param reuseLoadedData
+	 *            true if this loader may reuse identical loaded data; false
+	 *            otherwise
+	 */
+	public void setReuseLoadedData(boolean reuseLoadedData)
+	{
+		this.reuseLoadedData = reuseLoadedData;
+	}
+
+	/**
+	 * Identifies whether the active data has been kept so that later loads
+	 * may reuse it. Such data is shared by every character read with it, so
+	 * reading a character must not add anything to it.
+	 * 
+	 * @return true if the active data may be reused by a later load; false
+	 *         otherwise
+	 */
+	public static boolean isLoadedDataReused()
+	{
+		return DataSetCache.isCached(Globals.getContext());
+	}
+
 	@Override
 	public void execute()
 	{
+		String fingerprint = null;
+		if (reuseLoadedData && !selectedCampaigns.isEmpty())
+		{
+			fingerprint =
+					DataSetCache.getFingerprint(selectedGame,
+						selectedCampaigns);
+			DataSet cached = DataSetCache.get(selectedGame, fingerprint);
+			if (cached != null)
+			{
+				Logging.log(Logging.INFO, "Reusing loaded game "
+					+ selectedGame + " and sources " + selectedCampaigns + ".");
+				sortCampaignsByRank(selectedCampaigns);
+				readPccFiles(selectedCampaigns);
+				dataset = cached;
+				return;
+			}
+		}
+		DataSetCache.clear();
 		Globals.emptyLists();
 		SettingsHandler.setGame(selectedGame.getName());
 		Globals.initPreferences();
@@ -239,6 +287,7 @@ public class SourceFileLoader extends PCGenTask implements Observer
 
 		Handler handler = new LoadHandler();
 		Logging.registerHandler(handler);
+		Interner.open();
 		try
 		{
 			loadCampaigns();
@@ -249,7 +298,19 @@ public class SourceFileLoader extends PCGenTask implements Observer
 			uiDelegate.showErrorMessage(Constants.APPLICATION_NAME,
 				"Failed to load sources, see log for details.");
 		}
+		finally
+		{
+			String report = Interner.close();
+			if ((report != null) && !report.isEmpty())
+			{
+				Logging.log(Logging.INFO, "Shared loaded objects:\n" + report);
+			}
+		}
 		Logging.removeHandler(handler);
+		if ((fingerprint != null) && (dataset != null))
+		{
+			DataSetCache.put(fingerprint, dataset);
+		}
 	}
 
 	public String getOGL()
@@ -0,0 +1,198 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.persistence.lst;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import pcgen.persistence.PersistenceLayerException;
+import pcgen.system.PCGenSettings;
+
+/**
+ * LstFileStager reads (and optionally tokenizes) LST files on a pool of
+ * worker threads ahead of the loader that consumes them.
+ *
+ * <p>
+ * Only the file I/O and the splitting of the file into lines is performed
+ * concurrently. The staged result of each file is held until the owning
+ * loader asks for it, so the commit of the contents into the LoadContext
+ * still happens on the loading thread in the original file order. This
+ * preserves the ordering that .COPY, .MOD and .FORGET depend upon.
+ *
+ * @param <T>
+ *            The type of the staged result of reading a single file
+ */
+final class LstFileStager<T>
+{
+
+	/**
+	 * The shared pool of threads used to stage LST files.
+	 */
+	private static final ExecutorService STAGING_POOL = Executors
+		.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), r ->
+		{
+			Thread thread = new Thread(r, "LST-staging-thread");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+	/**
+	 * The staged (or in progress) results, by the URI of the source file.
+	 */
+	private final Map<URI, Future<T>> stagedFiles;
+
+	private LstFileStager(Map<URI, Future<T>> stagedFiles)
+	{
+		this.stagedFiles = stagedFiles;
+	}
+
+	/**
+	 * Returns true if LST files should be read and tokenized in parallel.
+	 *
+	 * @return true if LST files should be read and tokenized in parallel;
+	 *         false otherwise
+	 */
+	static boolean isParallelLoad()
+	{
+		return PCGenSettings.OPTIONS_CONTEXT.initBoolean(
+			PCGenSettings.OPTION_SOURCES_PARALLEL_LOAD, false);
+	}
+
+	/**
+	 * Begins staging each of the given files using the given Stager. Files
+	 * are submitted in the order they appear in the list.
+	 *
+	 * @param fileList
+	 *            The list of files to be staged
+	 * @param stager
+	 *            The Stager used to read a single file. This will be called
+	 *            from a worker thread, and thus must not modify any shared
+	 *            state.
+	 * @return A new LstFileStager containing the pending results
+	 */
+	static <T> LstFileStager<T> stage(List<CampaignSourceEntry> fileList,
+		Stager<T> stager)
+	{
+		Map<URI, Future<T>> staged = new HashMap<>();
+		for (CampaignSourceEntry cse : fileList)
+		{
+			if (cse == null)
+			{
+				continue;
+			}
+			URI uri = cse.getURI();
+			if (!staged.containsKey(uri))
+			{
+				staged.put(uri, STAGING_POOL.submit(() -> stager.stage(uri)));
+			}
+		}
+		return new LstFileStager<>(staged);
+	}
+
+	/**
+	 * Returns an empty LstFileStager, used when staging is not active.
+	 *
+	 * @return An empty LstFileStager
+	 */
+	static <T> LstFileStager<T> empty()
+	{
+		return new LstFileStager<>(Collections.emptyMap());
+	}
+
+	/**
+	 * Returns the staged result for the given URI, waiting for the staging to
+	 * complete if necessary. If the URI was not staged, the given Stager is
+	 * used to read the file on the current thread.
+	 *
+	 * @param uri
+	 *            The URI of the file for which the staged result should be
+	 *            returned
+	 * @param stager
+	 *            The Stager used if the file was not staged
+	 * @return The staged result for the given URI
+	 * @throws PersistenceLayerException
+	 *             if the file could not be read
+	 */
+	T get(URI uri, Stager<T> stager) throws PersistenceLayerException
+	{
+		Future<T> future = stagedFiles.isEmpty() ? null : stagedFiles.remove(uri);
+		if (future == null)
+		{
+			return stager.stage(uri);
+		}
+		try
+		{
+			return future.get();
+		}
+		catch (InterruptedException e)
+		{
+			Thread.currentThread().interrupt();
+			throw new PersistenceLayerException(
+				"Interrupted while reading " + uri);
+		}
+		catch (ExecutionException e)
+		{
+			Throwable cause = e.getCause();
+			if (cause instanceof PersistenceLayerException)
+			{
+				throw (PersistenceLayerException) cause;
+			}
+			throw new PersistenceLayerException("Failed to read " + uri,
+				cause);
+		}
+	}
+
+	/**
+	 * Abandons any results which were staged but never requested.
+	 */
+	void clear()
+	{
+		for (Future<T> future : stagedFiles.values())
+		{
+			future.cancel(true);
+		}
+		stagedFiles.clear();
+	}
+
+	/**
+	 * A Stager reads a single file into a form that can be consumed by a
+	 * loader.
+	 *
+	 * @param <T>
+	 *            The type of the staged result of reading a single file
+	 */
+	@FunctionalInterface
+	interface Stager<T>
+	{
+		/**
+		 * Reads the file at the given URI.
+		 *
+		 * @param uri
+		 *            The URI of the file to be read
+		 * @return The staged contents of the file
+		 * @throws PersistenceLayerException
+		 *             if the file could not be read
+		 */
+		T stage(URI uri) throws PersistenceLayerException;
+	}
+}
@@ -50,6 +50,8 @@ public abstract class LstLineFileLoader extends Observable
 	// TODO - Should be a constant.
 	protected String gameMode = "*"; //$NON-NLS-1$
 
+	private LstFileStager<String> stagedFiles = LstFileStager.empty();
+
 	/**
 	 * Constructor
 	 */
@@ -66,8 +68,8 @@ public abstract class LstLineFileLoader extends Observable
 	 */
 	public void loadLstFile(LoadContext context, URI uri) throws PersistenceLayerException
 	{
-		StringBuilder dataBuffer = LstFileLoader.readFromURI(uri);
-		final String aString = dataBuffer.toString();
+		final String aString = stagedFiles.get(uri,
+			u -> LstFileLoader.readFromURI(u).toString());
 		if (context != null)
 		{
 			context.setSourceURI(uri);
@@ -128,16 +130,29 @@ public abstract class LstLineFileLoader extends Observable
 		// Track which sources have been loaded already
 		Set<CampaignSourceEntry> loadedFiles = new HashSet<>();
 
-		// Load the files themselves as thoroughly as possible
-		for (CampaignSourceEntry cse : fileList)
+		if (LstFileStager.isParallelLoad())
+		{
+			stagedFiles = LstFileStager.stage(fileList,
+				uri -> LstFileLoader.readFromURI(uri).toString());
+		}
+		try
 		{
-			// Check if the CSE has already been loaded before loading it
-			if (!loadedFiles.contains(cse))
+			// Load the files themselves as thoroughly as possible
+			for (CampaignSourceEntry cse : fileList)
 			{
-				loadLstFile(context, cse.getURI());
-				loadedFiles.add(cse);
+				// Check if the CSE has already been loaded before loading it
+				if (!loadedFiles.contains(cse))
+				{
+					loadLstFile(context, cse.getURI());
+					loadedFiles.add(cse);
+				}
 			}
 		}
+		finally
+		{
+			stagedFiles.clear();
+			stagedFiles = LstFileStager.empty();
+		}
 	}
 
 	/**
@@ -35,6 +35,7 @@ import pcgen.core.Campaign;
 import pcgen.persistence.PersistenceLayerException;
 import pcgen.rules.context.LoadContext;
 import pcgen.util.Logging;
+import pcgen.util.ParseDiagnostics;
 import pcgen.system.LanguageBundle;
 import pcgen.system.PCGenSettings;
 
@@ -72,6 +73,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 	private List<String> forgetLineList = new ArrayList<>();
 	private List<List<ModEntry>> modEntryList = new ArrayList<>();
 	private boolean processComplete = true;
+	private LstFileStager<String[]> stagedFiles = LstFileStager.empty();
 	/** A list of objects that will not be included. */
 	protected List<String> excludedObjects = new ArrayList<>();
 
@@ -94,21 +96,35 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		// Track which sources have been loaded already
 		Set<CampaignSourceEntry> loadedFiles = new HashSet<>();
 
-		// Load the files themselves as thoroughly as possible
-		for (CampaignSourceEntry sourceEntry : fileList)
+		if (LstFileStager.isParallelLoad())
 		{
-			if (sourceEntry == null)
+			boolean allowMultiLine = isMultiLineAllowed();
+			stagedFiles = LstFileStager.stage(fileList,
+				uri -> readLines(uri, allowMultiLine));
+		}
+		try
+		{
+			// Load the files themselves as thoroughly as possible
+			for (CampaignSourceEntry sourceEntry : fileList)
 			{
-				continue;
-			}
+				if (sourceEntry == null)
+				{
+					continue;
+				}
 
-			// Check if the CSE has already been loaded before loading it
-			if (!loadedFiles.contains(sourceEntry))
-			{
-				loadLstFile(context, sourceEntry);
-				loadedFiles.add(sourceEntry);
+				// Check if the CSE has already been loaded before loading it
+				if (!loadedFiles.contains(sourceEntry))
+				{
+					loadLstFile(context, sourceEntry);
+					loadedFiles.add(sourceEntry);
+				}
 			}
 		}
+		finally
+		{
+			stagedFiles.clear();
+			stagedFiles = LstFileStager.empty();
+		}
 
 		// Next we perform copy operations
 		processCopies(context);
@@ -324,11 +340,13 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		URI uri = sourceEntry.getURI();
 		notifyObservers(uri);
 
-		StringBuilder dataBuffer;
+		String[] fileLines;
 
 		try
 		{
-			dataBuffer = LstFileLoader.readFromURI(uri);
+			boolean allowMultiLine = isMultiLineAllowed();
+			fileLines =
+					stagedFiles.get(uri, u -> readLines(u, allowMultiLine));
 		}
 		catch (PersistenceLayerException ple)
 		{
@@ -340,7 +358,6 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 			return;
 		}
 
-		String aString = dataBuffer.toString();
 		if (context != null)
 		{
 			context.setSourceURI(uri);
@@ -348,17 +365,6 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		T target = null;
 		ArrayList<ModEntry> classModLines = null;
 
-		boolean allowMultiLine =
-				PCGenSettings.OPTIONS_CONTEXT.initBoolean(
-					PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE, false);
-		if (allowMultiLine)
-		{
-			// Support the new file type. All lines that start with a tab belong to the previous line.
-			aString = aString.replaceAll("\r?\n\t", "\t");
-		}
-		
-		String[] fileLines = aString.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
-
 		for (int i = 0; i < fileLines.length; i++)
 		{
 			String line = fileLines[i];
@@ -433,6 +439,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 			}
 			else
 			{
+				ParseDiagnostics.current().setLine(i + 1);
 				try
 				{
 					target = parseLine(context, target, line, sourceEntry);
@@ -494,6 +501,37 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		}
 	}
 
+	private static boolean isMultiLineAllowed()
+	{
+		return PCGenSettings.OPTIONS_CONTEXT.initBoolean(
+			PCGenSettings.OPTION_SOURCES_ALLOW_MULTI_LINE, false);
+	}
+
+	/**
+	 * Reads the LST file at the given URI and splits it into lines. This does
+	 * not touch the LoadContext, so it is safe to call from a staging thread.
+	 * 
+	 * @param uri
+	 *            The URI of the file to be read
+	 * @param allowMultiLine
+	 *            true if lines starting with a tab are a continuation of the
+	 *            previous line
+	 * @return The lines of the file
+	 * @throws PersistenceLayerException
+	 *             if the file could not be read
+	 */
+	private static String[] readLines(URI uri, boolean allowMultiLine)
+		throws PersistenceLayerException
+	{
+		String aString = LstFileLoader.readFromURI(uri).toString();
+		if (allowMultiLine)
+		{
+			// Support the new file type. All lines that start with a tab belong to the previous line.
+			aString = aString.replaceAll("\r?\n\t", "\t");
+		}
+		return aString.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
+	}
+
 	/**
 	 * This method, when implemented, will perform a single .FORGET
 	 * operation.
@@ -641,6 +679,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 				for (ModEntry element : entryList)
 				{
 					context.setSourceURI(element.source.getURI());
+					ParseDiagnostics.current().setLine(element.getLineNumber());
 					try
 					{
 						String origPage = object.get(StringKey.SOURCE_PAGE);
@@ -691,6 +730,7 @@ public abstract class LstObjectFileLoader<T extends CDOMObject> extends Observab
 		for (ModEntry me : copyLineList)
 		{
 			context.setSourceURI(me.source.getURI());
+			ParseDiagnostics.current().setLine(me.getLineNumber());
 			performCopy(context, me);
 		}
 		copyLineList.clear();
@@ -37,6 +37,8 @@ import pcgen.util.Logging;
 public class VariableLoader extends Observable
 {
 
+	private LstFileStager<String[]> stagedFiles = LstFileStager.empty();
+
 	public final void parseLine(LoadContext context, String lstLine,
 		SourceEntry source) throws PersistenceLayerException
 	{
@@ -83,16 +85,29 @@ public class VariableLoader extends Observable
 		Set<CampaignSourceEntry> loadedFiles =
 				new HashSet<>();
 
-		// Load the files themselves as thoroughly as possible
-		for (CampaignSourceEntry sourceEntry : fileList)
+		if (LstFileStager.isParallelLoad())
+		{
+			stagedFiles = LstFileStager.stage(fileList,
+				VariableLoader::readLines);
+		}
+		try
 		{
-			// Check if the CSE has already been loaded before loading it
-			if (!loadedFiles.contains(sourceEntry))
+			// Load the files themselves as thoroughly as possible
+			for (CampaignSourceEntry sourceEntry : fileList)
 			{
-				loadLstFile(context, sourceEntry);
-				loadedFiles.add(sourceEntry);
+				// Check if the CSE has already been loaded before loading it
+				if (!loadedFiles.contains(sourceEntry))
+				{
+					loadLstFile(context, sourceEntry);
+					loadedFiles.add(sourceEntry);
+				}
 			}
 		}
+		finally
+		{
+			stagedFiles.clear();
+			stagedFiles = LstFileStager.empty();
+		}
 	}
 
 	/**
@@ -109,11 +124,11 @@ public class VariableLoader extends Observable
 		URI uri = sourceEntry.getURI();
 		notifyObservers(uri);
 
-		StringBuilder dataBuffer;
+		String[] fileLines;
 
 		try
 		{
-			dataBuffer = LstFileLoader.readFromURI(uri);
+			fileLines = stagedFiles.get(uri, VariableLoader::readLines);
 		}
 		catch (PersistenceLayerException ple)
 		{
@@ -126,14 +141,11 @@ public class VariableLoader extends Observable
 			return;
 		}
 
-		String aString = dataBuffer.toString();
 		if (context != null)
 		{
 			context.setSourceURI(uri);
 		}
 
-		String[] fileLines = aString.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
-
 		for (int i = 0; i < fileLines.length; i++)
 		{
 			String line = fileLines[i];
@@ -187,4 +199,20 @@ public class VariableLoader extends Observable
 			}
 		}
 	}
+
+	/**
+	 * Reads the LST file at the given URI and splits it into lines. This does
+	 * not touch the LoadContext, so it is safe to call from a staging thread.
+	 * 
+	 * @param uri
+	 *            The URI of the file to be read
+	 * @return The lines of the file
+	 * @throws PersistenceLayerException
+	 *             if the file could not be read
+	 */
+	private static String[] readLines(URI uri) throws PersistenceLayerException
+	{
+		return LstFileLoader.readFromURI(uri).toString()
+			.split(LstFileLoader.LINE_SEPARATOR_REGEXP);
+	}
 }
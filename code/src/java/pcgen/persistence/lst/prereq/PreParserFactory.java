@@ -26,6 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import pcgen.cdom.base.Interner;
 import pcgen.core.prereq.Prerequisite;
 import pcgen.core.prereq.PrerequisiteOperator;
 import pcgen.persistence.PersistenceLayerException;
@@ -39,6 +40,12 @@ public final class PreParserFactory implements PluginLoader
 	private static Map<String, PrerequisiteParserInterface> parserLookup =
             new HashMap<>();
 
+	/**
+	 * Shares identical Prerequisites parsed while data is being loaded.
+	 */
+	private static final Interner<Prerequisite> LOADED_PREREQS =
+			new Interner<>("Prerequisite", PreParserFactory::estimateSize);
+
 	private PreParserFactory() throws PersistenceLayerException
 	{
 		register(new PreMultParser());
@@ -184,6 +191,50 @@ public final class PreParserFactory implements PluginLoader
 		}
 	}
 
+	/**
+	 * Returns the shared instance of a Prerequisite parsed from the given
+	 * String while data is being loaded. The returned Prerequisite may be
+	 * shared by many objects, so it must not be modified.
+	 * 
+	 * @param prereqStr The String the Prerequisite was parsed from
+	 * @param prereq The Prerequisite parsed from the String
+	 * @return The shared instance of the Prerequisite (or the given
+	 *         Prerequisite if data is not being loaded)
+	 */
+	public static Prerequisite intern(String prereqStr, Prerequisite prereq)
+	{
+		return LOADED_PREREQS.intern(prereqStr, prereq);
+	}
+
+	/**
+	 * Estimates the number of bytes of heap used by the given Prerequisite,
+	 * including any Prerequisites it contains.
+	 * 
+	 * @param prereq The Prerequisite to be measured
+	 * @return The estimated size of the Prerequisite in bytes
+	 */
+	public static long estimateSize(Prerequisite prereq)
+	{
+		long size = 56 + estimateSize(prereq.getKind())
+			+ estimateSize(prereq.getKey()) + estimateSize(prereq.getSubKey())
+			+ estimateSize(prereq.getOperand())
+			+ estimateSize(prereq.getCategoryName());
+		if (prereq.getPrerequisiteCount() > 0)
+		{
+			size += 24 + 4 * prereq.getPrerequisiteCount();
+			for (Prerequisite sub : prereq.getPrerequisites())
+			{
+				size += estimateSize(sub);
+			}
+		}
+		return size;
+	}
+
+	private static long estimateSize(String s)
+	{
+		return (s == null) ? 0 : 40 + s.length();
+	}
+
 	/**
 	 * Identify if the token passed in defines a prerequisite.
 	 *  
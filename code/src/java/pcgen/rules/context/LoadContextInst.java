@@ -53,6 +53,7 @@ import pcgen.rules.persistence.token.ParseResult;
 import pcgen.rules.persistence.token.PostDeferredToken;
 import pcgen.rules.persistence.token.PostValidationToken;
 import pcgen.util.Logging;
+import pcgen.util.ParseDiagnostics;
 
 abstract class LoadContextInst implements LoadContext
 {
@@ -154,6 +155,7 @@ abstract class LoadContextInst implements LoadContext
 		getObjectContext().setSourceURI(sourceURI);
 		getReferenceContext().setSourceURI(sourceURI);
 		getListContext().setSourceURI(sourceURI);
+		ParseDiagnostics.current().setSourceURI(sourceURI);
 		clearStatefulInformation();
 		Logging.debugPrint("Starting Load of " + sourceURI);
 	}
@@ -465,6 +467,21 @@ abstract class LoadContextInst implements LoadContext
 	{
 		campaignList.clear();
 		campaignList.addAll(campaigns);
+		/*
+		 * The loaded objects are complete, so release the space reserved for
+		 * further characteristics
+		 */
+		for (ReferenceManufacturer<?> rm : getReferenceContext()
+			.getAllManufacturers())
+		{
+			for (Object o : rm.getAllObjects())
+			{
+				if (o instanceof CDOMObject)
+				{
+					((CDOMObject) o).trimToSize();
+				}
+			}
+		}
 	}
 
 	@Override
@@ -118,6 +118,12 @@ class TrackingManufacturer<T extends Loadable> implements ReferenceManufacturer<
 		return rm.getConstructedObjectCount();
 	}
 
+	@Override
+	public int getModificationCount()
+	{
+		return rm.getModificationCount();
+	}
+
 	@Override
 	public T getItemInOrder(int item)
 	{
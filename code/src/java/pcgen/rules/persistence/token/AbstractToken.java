@@ -60,7 +60,7 @@ public abstract class AbstractToken
 		 */
 		try
 		{
-			return prereqParser.parse(token);
+			return PreParserFactory.intern(token, prereqParser.parse(token));
 		}
 		catch (PersistenceLayerException ple)
 		{
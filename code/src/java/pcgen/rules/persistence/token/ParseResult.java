@@ -21,6 +21,7 @@ import java.util.logging.Level;
 
 import pcgen.rules.context.LoadContext;
 import pcgen.util.Logging;
+import pcgen.util.ParseDiagnostics;
 
 /**
  * Interface to provide feedback on parsing operations.
@@ -56,7 +57,8 @@ public interface ParseResult
 	public void addMessagesToLog();
 
 	/**
-	 * Class representing a message from the parser.
+	 * Class representing a message from the parser. The stack trace is only
+	 * captured if enabled (see ParseDiagnostics), and is otherwise null.
 	 */
 	public static class QueuedMessage
 	{
@@ -68,7 +70,7 @@ public interface ParseResult
 		{
 			level = lvl;
 			message = msg;
-			stackTrace = Thread.currentThread().getStackTrace();
+			stackTrace = ParseDiagnostics.captureStackTrace();
 		}
 	}
 
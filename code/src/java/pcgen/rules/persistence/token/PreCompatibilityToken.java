@@ -22,10 +22,12 @@ import java.util.Set;
 import java.util.TreeSet;
 
 import pcgen.cdom.base.ConcretePrereqObject;
+import pcgen.cdom.base.Interner;
 import pcgen.core.prereq.Prerequisite;
 import pcgen.persistence.PersistenceLayerException;
 import pcgen.persistence.lst.output.prereq.PrerequisiteWriterFactory;
 import pcgen.persistence.lst.output.prereq.PrerequisiteWriterInterface;
+import pcgen.persistence.lst.prereq.PreParserFactory;
 import pcgen.persistence.lst.prereq.PrerequisiteParserInterface;
 import pcgen.rules.context.Changes;
 import pcgen.rules.context.LoadContext;
@@ -38,6 +40,13 @@ public class PreCompatibilityToken implements
 	private static PrerequisiteWriterFactory factory = PrerequisiteWriterFactory
 			.getInstance();
 
+	/*
+	 * Kept apart from the Prerequisites shared by PreParserFactory, since this
+	 * token does not collapse a PREMULT with a single Prerequisite.
+	 */
+	private static final Interner<Prerequisite> LOADED_PREREQS =
+			new Interner<>("PRE token", PreParserFactory::estimateSize);
+
 	private final String tokenRoot;
 	private final String tokenName;
 	private final PrerequisiteParserInterface token;
@@ -76,7 +85,8 @@ public class PreCompatibilityToken implements
 			{
 				return ParseResult.INTERNAL_ERROR;
 			}
-			context.getObjectContext().put(obj, p);
+			context.getObjectContext().put(obj,
+				LOADED_PREREQS.intern(tokenName + ':' + value, p));
 			return ParseResult.SUCCESS;
 		}
 		catch (PersistenceLayerException e)
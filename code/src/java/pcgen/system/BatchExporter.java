@@ -22,20 +22,33 @@ package pcgen.system;
 
 import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import pcgen.cdom.base.Constants;
 import pcgen.core.SettingsHandler;
 import pcgen.core.utils.MessageType;
 import pcgen.core.utils.ShowMessageDelegate;
+import pcgen.facade.core.CampaignFacade;
 import pcgen.facade.core.CharacterFacade;
+import pcgen.facade.core.DataSetFacade;
 import pcgen.facade.core.PartyFacade;
 import pcgen.facade.core.SourceSelectionFacade;
 import pcgen.facade.core.UIDelegate;
@@ -63,12 +76,29 @@ import org.apache.commons.lang3.StringUtils;
  * used in batch mode an instance should be created for the template and 
  * one of the export methods called. When used as a library the static methods
  * should be used and supplied with preloaded characters.  
+ * <p>
+ * A batch of characters may also be exported in one run. The characters are 
+ * grouped by the sources they require, each set of sources is loaded once 
+ * and the characters using it are then exported on a pool of worker threads.
  *
  * 
  */
 public class BatchExporter
 {
 
+	/**
+	 * Guards the loaded data during a batch export. Opening and closing a
+	 * character update the shared list of open characters, the facet
+	 * listeners and may alter the loaded data, so they hold the write lock.
+	 * Exports only read that shared state, so they share the read lock and
+	 * may run at the same time as each other.
+	 */
+	private static final ReadWriteLock CHARACTER_LOCK =
+			new ReentrantReadWriteLock();
+
+	/** The size of the buffer between an export and the conversion to PDF. */
+	private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
 	private final String exportTemplateFilename;
 	private final UIDelegate uiDelegate;
 	private final boolean isPdf;
@@ -125,6 +155,7 @@ public class BatchExporter
 		Logging.log(Logging.INFO, "Loading sources " + sourcesForCharacter.getCampaigns()
 			+ " using game mode " + sourcesForCharacter.getGameMode());
 		SourceFileLoader loader = new SourceFileLoader(sourcesForCharacter, uiDelegate);
+		loader.setReuseLoadedData(true);
 		loader.execute();
 
 		// Load character
@@ -184,6 +215,7 @@ public class BatchExporter
 		SourceSelectionFacade sourcesForCharacter =
 				CharacterManager.getRequiredSourcesForParty(file, uiDelegate);
 		SourceFileLoader loader = new SourceFileLoader(sourcesForCharacter, uiDelegate);
+		loader.setReuseLoadedData(true);
 		loader.execute();
 
 		// Load party
@@ -204,6 +236,213 @@ public class BatchExporter
 		}
 	}
 
+	/**
+	 * Export a character sheet for each of the characters using the 
+	 * pre-registered template. Each character sheet is written to a default 
+	 * file based on the character file name and the type of export template 
+	 * in use, alongside the character file. Any existing output file will be 
+	 * overwritten.
+	 * <p>
+	 * The characters are grouped by the sources they require so that each 
+	 * distinct set of sources is only loaded once. The characters in each 
+	 * group are then exported using the given number of threads.
+	 * 
+	 * @param characterFiles The character PCG files to export, or folders 
+	 * containing the PCG files to export.
+	 * @param threads The number of characters to be exported at the same time.
+	 * @return true if all exports were successful, false if any failed in some way.
+	 */
+	boolean exportCharacters(List<File> characterFiles, int threads)
+	{
+		boolean result = true;
+		List<File> pcgFiles = new ArrayList<>();
+		for (File file : characterFiles)
+		{
+			if (file.isDirectory())
+			{
+				File[] contents =
+						file.listFiles(PCGFile::isPCGenCharacterFile);
+				if (contents != null)
+				{
+					Arrays.sort(contents);
+					pcgFiles.addAll(Arrays.asList(contents));
+				}
+			}
+			else if (PCGFile.isPCGenCharacterFile(file))
+			{
+				pcgFiles.add(file);
+			}
+			else
+			{
+				Logging.errorPrint("Invalid character file specified: "
+					+ file.getAbsolutePath());
+				result = false;
+			}
+		}
+
+		// Group the characters by the sources they need
+		Map<String, SourceSelectionFacade> selections = new LinkedHashMap<>();
+		Map<String, List<File>> groups = new LinkedHashMap<>();
+		for (File file : pcgFiles)
+		{
+			SourceSelectionFacade sources =
+					CharacterManager.getRequiredSourcesForCharacter(file,
+						uiDelegate);
+			if (sources == null)
+			{
+				Logging.errorPrint("Failed to find sources in: "
+					+ file.getAbsolutePath());
+				result = false;
+				continue;
+			}
+			String key = getSourcesKey(sources);
+			selections.putIfAbsent(key, sources);
+			groups.computeIfAbsent(key, k -> new ArrayList<>()).add(file);
+		}
+
+		for (Map.Entry<String, List<File>> entry : groups.entrySet())
+		{
+			SourceSelectionFacade sources = selections.get(entry.getKey());
+			List<File> files = entry.getValue();
+			Logging.log(Logging.INFO, "Loading sources " + sources.getCampaigns()
+				+ " using game mode " + sources.getGameMode() + " for "
+				+ files.size() + " characters");
+			SourceFileLoader loader = new SourceFileLoader(sources, uiDelegate);
+			loader.setReuseLoadedData(true);
+			loader.execute();
+			result &= exportCharacterGroup(files, loader.getDataSetFacade(),
+				threads);
+		}
+		return result;
+	}
+
+	/**
+	 * Export each of the characters using the already loaded data set.
+	 * 
+	 * @param files The character PCG files to export.
+	 * @param dataset The data set required by all of the characters.
+	 * @param threads The number of characters to be exported at the same time.
+	 * @return true if all exports were successful, false if any failed in some way.
+	 */
+	private boolean exportCharacterGroup(List<File> files,
+		DataSetFacade dataset, int threads)
+	{
+		ExecutorService pool = Executors.newFixedThreadPool(
+			Math.max(1, threads), r -> new Thread(r, "Batch-export-thread"));
+		try
+		{
+			List<Future<Boolean>> results = new ArrayList<>();
+			for (File file : files)
+			{
+				results.add(pool.submit(() -> exportLoadedCharacter(file,
+					dataset)));
+			}
+			boolean result = true;
+			for (Future<Boolean> future : results)
+			{
+				try
+				{
+					result &= future.get();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					return false;
+				}
+				catch (ExecutionException e)
+				{
+					Logging.errorPrint("BatchExporter.exportCharacterGroup failed",
+						e.getCause());
+					result = false;
+				}
+			}
+			return result;
+		}
+		finally
+		{
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * Load a single character using the already loaded data set, export it 
+	 * to the default output file and then close it again.
+	 * 
+	 * @param file The character PCG file to export.
+	 * @param dataset The data set required by the character.
+	 * @return true if the export was successful, false if it failed in some way.
+	 */
+	private boolean exportLoadedCharacter(File file, DataSetFacade dataset)
+	{
+		String outFilename = generateOutputFilename(file.getPath());
+		Logging.log(Logging.INFO, "Started export of " + file.getAbsolutePath()
+			+ " using " + exportTemplateFilename + " to " + outFilename);
+
+		CharacterFacade character;
+		CHARACTER_LOCK.writeLock().lock();
+		try
+		{
+			character = CharacterManager.openCharacter(file, uiDelegate, dataset);
+		}
+		finally
+		{
+			CHARACTER_LOCK.writeLock().unlock();
+		}
+		if (character == null)
+		{
+			return false;
+		}
+
+		try
+		{
+			File templateFile = new File(exportTemplateFilename);
+			File outFile = new File(outFilename);
+			CHARACTER_LOCK.readLock().lock();
+			try
+			{
+				if (isPdf)
+				{
+					return exportCharacterToPDF(character, outFile, templateFile);
+				}
+				return exportCharacterToNonPDF(character, outFile, templateFile);
+			}
+			finally
+			{
+				CHARACTER_LOCK.readLock().unlock();
+			}
+		}
+		finally
+		{
+			CHARACTER_LOCK.writeLock().lock();
+			try
+			{
+				CharacterManager.removeCharacter(character);
+			}
+			finally
+			{
+				CHARACTER_LOCK.writeLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Build a key identifying the game mode and campaigns of a source 
+	 * selection, so that characters needing identical sources can be grouped.
+	 * 
+	 * @param sources The source selection.
+	 * @return The key for the source selection.
+	 */
+	private static String getSourcesKey(SourceSelectionFacade sources)
+	{
+		StringBuilder sb = new StringBuilder(100);
+		sb.append(sources.getGameMode().get().getName());
+		for (CampaignFacade campaign : sources.getCampaigns())
+		{
+			sb.append('|').append(campaign.getKeyName());
+		}
+		return sb.toString();
+	}
+
 	/**
 	 * Write a PDF character sheet for the character to the output file. The 
 	 * character sheet will be built according to the template file. If the 
@@ -227,32 +466,24 @@ public class BatchExporter
 						PCGenSettings.OPTION_GENERATE_TEMP_FILE_WITH_PDF, false);
 		String outFileName = FilenameUtils.removeExtension(outFile.getAbsolutePath());
 		File tempFile = new File(outFileName + (isTransformTemplate ? ".xml" : ".fo"));
-		try (BufferedOutputStream fileStream = new BufferedOutputStream(new FileOutputStream(outFile));
-				ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream();
-				OutputStream exportOutput = useTempFile
-						//Output to both the byte stream and to the temp file.
-						? new TeeOutputStream(byteOutputStream, new FileOutputStream(tempFile))
-						: byteOutputStream)
-		{
-			FopTask task;
+		try (BufferedOutputStream fileStream = new BufferedOutputStream(new FileOutputStream(outFile)))
+		{
+			String errors;
 			if (isTransformTemplate)
 			{
-				exportCharacter(character, exportOutput);
-				ByteArrayInputStream inputStream = new ByteArrayInputStream(byteOutputStream.toByteArray());
-				task = FopTask.newFopTask(inputStream, templateFile, fileStream);
+				errors = streamToPDF(out -> exportCharacter(character, out),
+					templateFile, fileStream, useTempFile ? tempFile : null);
 			}
 			else
 			{
-				exportCharacter(character, templateFile, exportOutput);
-				ByteArrayInputStream inputStream = new ByteArrayInputStream(byteOutputStream.toByteArray());
-				task = FopTask.newFopTask(inputStream, null, fileStream);
+				errors = streamToPDF(out -> exportCharacter(character, templateFile, out),
+					null, fileStream, useTempFile ? tempFile : null);
 			}
 			character.setDefaultOutputSheet(true, templateFile);
-			task.run();
-			if (StringUtils.isNotBlank(task.getErrorMessages()))
+			if (StringUtils.isNotBlank(errors))
 			{
 				Logging.errorPrint("BatchExporter.exportCharacterToPDF failed: " //$NON-NLS-1$
-					+ task.getErrorMessages());
+					+ errors);
 				return false;
 			}
 		}
@@ -269,6 +500,63 @@ public class BatchExporter
 		return true;
 	}
 
+	/**
+	 * Convert the output of an export to PDF. The export is written through a 
+	 * pipe straight into a FopTask running on its own thread, so the 
+	 * intermediate FO or XML document is never held in memory in full.
+	 * 
+	 * @param source The export which writes the FO or XML document.
+	 * @param xsltFile The transform to apply to the document, or null if the 
+	 * document is already FO.
+	 * @param pdfStream The stream to which the PDF is to be written.
+	 * @param tempFile A file to which a copy of the document should be 
+	 * written, or null if no copy is required.
+	 * @return Any error messages reported by the FopTask.
+	 * @throws IOException If the document could not be written.
+	 * @throws ExportException If the export failed.
+	 */
+	private static String streamToPDF(PdfSource source, File xsltFile,
+		OutputStream pdfStream, File tempFile) throws IOException, ExportException
+	{
+		PipedInputStream pipeIn = new PipedInputStream(PIPE_BUFFER_SIZE);
+		PipedOutputStream pipeOut = new PipedOutputStream(pipeIn);
+		FopTask task = FopTask.newFopTask(pipeIn, xsltFile, pdfStream);
+		Thread thread = new Thread(task, "fop-export");
+		thread.setDaemon(true);
+		thread.start();
+		try
+		{
+			OutputStream exportOutput = (tempFile == null) ? pipeOut
+				//Output to both the pipe and to the temp file.
+				: new TeeOutputStream(pipeOut, new FileOutputStream(tempFile));
+			try
+			{
+				source.write(exportOutput);
+			}
+			finally
+			{
+				exportOutput.close();
+			}
+		}
+		finally
+		{
+			// Closing the pipe lets the FopTask see the end of the document
+			pipeOut.close();
+			try
+			{
+				thread.join();
+			}
+			catch (InterruptedException ex)
+			{
+				//pass on the interrupt and hope it stops
+				thread.interrupt();
+				Thread.currentThread().interrupt();
+			}
+			pipeIn.close();
+		}
+		return task.getErrorMessages();
+	}
+
 	/**
 	 * Write a non PDF (e.g. html, text) character sheet for the character to 
 	 * the output file. The character sheet will be built according to the 
@@ -360,29 +648,20 @@ public class BatchExporter
 						PCGenSettings.OPTION_GENERATE_TEMP_FILE_WITH_PDF, false);
 		String outFileName = FilenameUtils.removeExtension(outFile.getAbsolutePath());
 		File tempFile = new File(outFileName + (isTransformTemplate ? ".xml" : ".fo"));
-		try (BufferedOutputStream fileStream = new BufferedOutputStream(new FileOutputStream(outFile));
-				ByteArrayOutputStream byteOutputStream = new ByteArrayOutputStream();
-				OutputStream exportOutput = useTempFile
-						//Output to both the byte stream and to the temp file.
-						? new TeeOutputStream(byteOutputStream, new FileOutputStream(tempFile))
-						: byteOutputStream)
-		{
-			FopTask task;
+		try (BufferedOutputStream fileStream = new BufferedOutputStream(new FileOutputStream(outFile)))
+		{
 			if (isTransformTemplate)
 			{
-				exportParty(party, exportOutput);
-				ByteArrayInputStream inputStream = new ByteArrayInputStream(byteOutputStream.toByteArray());
-				task = FopTask.newFopTask(inputStream, templateFile, fileStream);
+				streamToPDF(out -> exportParty(party, out), templateFile,
+					fileStream, useTempFile ? tempFile : null);
 			}
 			else
 			{
 				SettingsHandler.setSelectedPartyPDFOutputSheet(templateFile.getAbsolutePath());
 				
-				exportParty(party, templateFile, exportOutput);
-				ByteArrayInputStream inputStream = new ByteArrayInputStream(byteOutputStream.toByteArray());
-				task = FopTask.newFopTask(inputStream, null, fileStream);
+				streamToPDF(out -> exportParty(party, templateFile, out), null,
+					fileStream, useTempFile ? tempFile : null);
 			}
-			task.run();
 		}
 		catch (final IOException e)
 		{
@@ -581,4 +860,20 @@ public class BatchExporter
 					+ extension;
 		return new File(charFile.getParent(), outputName).getAbsolutePath();
 	}
+
+	/**
+	 * A PdfSource writes the document which is to be converted to PDF.
+	 */
+	@FunctionalInterface
+	private interface PdfSource
+	{
+		/**
+		 * Write the document to the given stream.
+		 * 
+		 * @param out The stream to which the document is to be written.
+		 * @throws IOException If the document could not be written.
+		 * @throws ExportException If the export failed.
+		 */
+		void write(OutputStream out) throws IOException, ExportException;
+	}
 }
@@ -25,6 +25,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.List;
 import java.util.Locale;
 import java.util.Properties;
 import java.util.Set;
@@ -33,6 +34,7 @@ import java.util.logging.Level;
 import javax.swing.JOptionPane;
 
 import pcgen.cdom.base.Constants;
+import pcgen.cdom.facet.base.FacetProfiler;
 import pcgen.cdom.formula.PluginFunctionLibrary;
 import pcgen.core.CustomData;
 import pcgen.core.prereq.PrerequisiteTestFactory;
@@ -85,6 +87,8 @@ public final class Main
 	private static String partyFile;
 	private static String characterFile;
 	private static String outputFile;
+	private static List<File> batchFiles;
+	private static int exportThreads;
 
 
 	private Main()
@@ -222,6 +226,8 @@ public final class Main
 		partyFile = args.get("p");
 		characterFile = args.get("c");
 		outputFile = args.get("o");
+		batchFiles = args.getList("batch");
+		exportThreads = args.getInt("threads");
 		startNameGen = args.get("name_generator");
 
 		return args;
@@ -403,7 +409,19 @@ public final class Main
 	public static PCGenTask createLoadPluginTask()
 	{
 		String pluginsDir = ConfigurationSettings.getPluginsDir();
-		PluginClassLoader loader = new PluginClassLoader(new File(pluginsDir));
+		return createPluginClassLoader(new File(pluginsDir));
+	}
+
+	/**
+	 * Create a PluginClassLoader for the given plugins directory, with all of
+	 * the system PluginLoaders registered.
+	 *
+	 * @param pluginsDir The directory containing the plugin jars.
+	 * @return The PluginClassLoader for the given directory.
+	 */
+	static PluginClassLoader createPluginClassLoader(File pluginsDir)
+	{
+		PluginClassLoader loader = new PluginClassLoader(pluginsDir);
 		loader.addPluginLoader(TokenLibrary.getInstance());
 		loader.addPluginLoader(TokenStore.inst());
 		try
@@ -439,6 +457,11 @@ public final class Main
 
 		BatchExporter exporter = new BatchExporter(exportSheet, uiDelegate);
 
+		// Profile the whole run, as loads and exports may overlap
+		if (FacetProfiler.isEnabled())
+		{
+			FacetProfiler.reset();
+		}
 		boolean result = true;
 		if (partyFile != null)
 		{
@@ -450,6 +473,16 @@ public final class Main
 			result = exporter.exportCharacter(characterFile, outputFile);
 		}
 
+		if (batchFiles != null)
+		{
+			result = exporter.exportCharacters(batchFiles, exportThreads);
+		}
+
+		if (FacetProfiler.isEnabled())
+		{
+			Logging.log(Logging.INFO, "Facet activity during load and export:\n"
+				+ FacetProfiler.getReport());
+		}
 		return result;
 	}
 
@@ -579,6 +612,20 @@ public final class Main
 								.verifyIsFile()
 				);
 
+		parser.addArgument("-b", "--batch")
+				.help("export each character file, or each character in a folder")
+				.nargs("+")
+				.type(
+						Arguments.fileType()
+								.verifyCanRead()
+								.verifyExists()
+				);
+
+		parser.addArgument("-t", "--threads")
+				.help("number of characters to export at once in batch mode")
+				.type(Integer.class)
+				.setDefault(1);
+
 		return parser;
 	}
 
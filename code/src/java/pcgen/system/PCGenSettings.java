@@ -42,6 +42,7 @@ public final class PCGenSettings extends PropertyContext
 	public static final String OPTION_SAVE_CUSTOM_EQUIPMENT = "saveCustomInLst";
 	public static final String OPTION_ALLOWED_IN_SOURCES = "optionAllowedInSources";
 	public static final String OPTION_SOURCES_ALLOW_MULTI_LINE = "optionSourcesAllowMultiLine";
+	public static final String OPTION_SOURCES_PARALLEL_LOAD = "optionSourcesParallelLoad";
 	public static final String OPTION_SHOW_LICENSE = "showLicense";
 	public static final String OPTION_SHOW_MATURE_ON_LOAD = "showMatureOnLoad";
 	public static final String OPTION_SHOW_SPONSORS_ON_LOAD = "showSponsorsOnLoad";
@@ -56,6 +57,7 @@ public final class PCGenSettings extends PropertyContext
 	public static final String OPTION_AUTOLOAD_SOURCES_AT_START = "autoloadSourcesAtStart";
 	public static final String OPTION_AUTOLOAD_SOURCES_WITH_PC = "autoloadSourcesWithPC";
 	public static final String OPTION_AUTOCREATE_MW_MAGIC_EQUIP = "autoCreateMagicMwEquip";
+	public static final String OPTION_AUTOCREATE_PARALLEL = "autoCreateEquipParallel";
 	public static final String OPTION_ALLOW_OVERRIDE_DUPLICATES = "allowOverrideDuplicates";
 	public static final String OPTION_SKILL_FILTER = "skillsOutputFilter";
 	public static final String OPTION_GENERATE_TEMP_FILE_WITH_PDF = "generateTempFileWithPdf";
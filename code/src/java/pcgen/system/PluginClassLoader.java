@@ -19,23 +19,42 @@
  */
 package pcgen.system;
 
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Modifier;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Enumeration;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -46,9 +65,33 @@ import pcgen.util.Logging;
 import org.apache.commons.lang3.StringUtils;
 
 
+/**
+ * The PluginClassLoader finds the plugin jars in the plugins directory and
+ * passes the plugin classes in those jars to the registered PluginLoaders.
+ * 
+ * If the plugins directory contains an index of the plugin classes in each jar
+ * (see writeIndex(), which is run by PluginIndexBuilder when the plugin jars
+ * are built), only the listed classes, and the classes of the jar which they
+ * refer to, are read from each indexed jar, and the indexed jars are loaded in
+ * parallel. Any jar which is not in the index, or whose checksum no longer
+ * matches the one recorded in the index, is scanned for plugin classes
+ * instead. The PluginLoaders are always called on a single thread, in
+ * the order the jars were found.
+ */
 class PluginClassLoader extends PCGenTask
 {
 
+	/**
+	 * The name of the index of plugin classes in the plugins directory.
+	 */
+	static final String INDEX_FILE = "classindex.properties"; //$NON-NLS-1$
+
+	/**
+	 * Matches the class types within a descriptor or signature.
+	 */
+	private static final Pattern TYPE_DESCRIPTOR =
+			Pattern.compile("L([\\w/$]+)[;<]"); //$NON-NLS-1$
+
 	private static final FilenameFilter pluginFilter = (dir, name) ->
 	{
 		if (name.contains("plugin"))
@@ -66,6 +109,14 @@ class PluginClassLoader extends PCGenTask
 		thread.setPriority(Thread.NORM_PRIORITY);
 		return thread;
 	});
+	private final ExecutorService loadingPool = Executors.newFixedThreadPool(
+		Runtime.getRuntime().availableProcessors(), r ->
+	{
+		Thread thread = new Thread(r, "Plugin-indexed-loading-thread");
+		thread.setDaemon(true);
+		thread.setPriority(Thread.NORM_PRIORITY);
+		return thread;
+	});
 	private final LinkedList<File> jarFiles = new LinkedList<>();
 	private int progress = 0;
 
@@ -91,40 +142,9 @@ class PluginClassLoader extends PCGenTask
 
 	private void loadClasses(final File pluginJar) throws IOException
 	{
-		try (JarClassLoader loader = new JarClassLoader(pluginJar.toURI().toURL());
-		     ZipFile file = new ZipFile(pluginJar))
+		try (JarClassLoader loader = new JarClassLoader(pluginJar.toURI().toURL()))
 		{
-			final Collection<String> classList = new LinkedList<>();
-			Enumeration<? extends ZipEntry> entries = file.entries();
-			while (entries.hasMoreElements())
-			{
-				ZipEntry entry = entries.nextElement();
-				String name = entry.getName();
-				if (!name.endsWith(".class"))
-				{
-					continue;
-				}
-				name = StringUtils.removeEnd(name, ".class").replace('/', '.');
-				int size = (int) entry.getSize();
-				byte[] buffer = new byte[size];
-
-				InputStream in = file.getInputStream(entry);
-				int rb = 0;
-				int chunk;
-				while ((size - rb) > 0)
-				{
-					chunk = in.read(buffer, rb, size - rb);
-					if (chunk == -1)
-					{
-						break;
-					}
-					rb += chunk;
-				}
-				in.close();
-				loader.storeClassDef(name, buffer);
-				classList.add(name);
-			}
-			file.close();
+			final Collection<String> classList = readClassDefinitions(pluginJar, loader);
 		/*
 		 * Loading files and loading classes can both be lengthy processes. This splits the tasks
 		 * so that class loading occurs in another thread thus allowing both processes to
@@ -161,13 +181,333 @@ class PluginClassLoader extends PCGenTask
 		}
 	}
 
-	private boolean processClass(Class<?> clazz)
+	/**
+	 * Reads every class in the given plugin jar into the given JarClassLoader.
+	 * 
+	 * @param pluginJar
+	 *            The plugin jar to be read
+	 * @param loader
+	 *            The JarClassLoader which will define the classes
+	 * @return The names of the classes in the given plugin jar
+	 * @throws IOException
+	 *             if the plugin jar cannot be read
+	 */
+	private static Collection<String> readClassDefinitions(File pluginJar,
+		JarClassLoader loader) throws IOException
+	{
+		try (ZipFile file = new ZipFile(pluginJar))
+		{
+			return readClassDefinitions(file, loader);
+		}
+	}
+
+	private static Collection<String> readClassDefinitions(ZipFile file,
+		JarClassLoader loader) throws IOException
+	{
+		final Collection<String> classList = new LinkedList<>();
+		Enumeration<? extends ZipEntry> entries = file.entries();
+		while (entries.hasMoreElements())
+		{
+			ZipEntry entry = entries.nextElement();
+			String name = entry.getName();
+			if (!name.endsWith(".class"))
+			{
+				continue;
+			}
+			name = StringUtils.removeEnd(name, ".class").replace('/', '.');
+			loader.storeClassDef(name, readEntry(file, entry));
+			classList.add(name);
+		}
+		return classList;
+	}
+
+	/**
+	 * Reads the given classes, and every class in the plugin jar which they
+	 * refer to, directly or through other classes of the jar, into the given
+	 * JarClassLoader. The other classes of the jar are not read.
+	 * 
+	 * @param file
+	 *            The plugin jar to be read
+	 * @param classList
+	 *            The names of the classes to be read
+	 * @param loader
+	 *            The JarClassLoader which will define the classes
+	 * @throws IOException
+	 *             if the plugin jar cannot be read
+	 */
+	private static void readClassDefinitions(ZipFile file,
+		Collection<String> classList, JarClassLoader loader) throws IOException
+	{
+		Set<String> visited = new HashSet<>();
+		Deque<String> pending = new ArrayDeque<>(classList);
+		while (!pending.isEmpty())
+		{
+			String name = pending.pop();
+			if (!visited.add(name))
+			{
+				continue;
+			}
+			ZipEntry entry = file.getEntry(name.replace('.', '/') + ".class");
+			if (entry == null)
+			{
+				//Not a class of this jar, so it is defined elsewhere
+				continue;
+			}
+			byte[] bytes = readEntry(file, entry);
+			loader.storeClassDef(name, bytes);
+			pending.addAll(getReferencedClasses(bytes));
+		}
+	}
+
+	private static byte[] readEntry(ZipFile file, ZipEntry entry)
+		throws IOException
+	{
+		int size = (int) entry.getSize();
+		byte[] buffer = new byte[size];
+
+		try (InputStream in = file.getInputStream(entry))
+		{
+			int rb = 0;
+			int chunk;
+			while ((size - rb) > 0)
+			{
+				chunk = in.read(buffer, rb, size - rb);
+				if (chunk == -1)
+				{
+					break;
+				}
+				rb += chunk;
+			}
+		}
+		return buffer;
+	}
+
+	/**
+	 * Returns the names of the classes which may be referred to by the given
+	 * class file. These are taken from the strings of its constant pool, which
+	 * hold the names of the classes it uses, including those only named in
+	 * field and method descriptors, signatures and annotations. Some of the
+	 * returned names will not be classes at all; callers only use the names
+	 * which match a class in the plugin jar.
+	 * 
+	 * @param classFile
+	 *            The contents of a class file
+	 * @return The names the class may refer to, in the form used by
+	 *         Class.forName
+	 * @throws IOException
+	 *             if the class file is malformed
+	 */
+	static Collection<String> getReferencedClasses(byte[] classFile)
+		throws IOException
+	{
+		Collection<String> names = new ArrayList<>();
+		DataInputStream in =
+				new DataInputStream(new ByteArrayInputStream(classFile));
+		//Skip the magic number and the version
+		in.skipBytes(8);
+		int count = in.readUnsignedShort();
+		for (int i = 1; i < count; i++)
+		{
+			int tag = in.readUnsignedByte();
+			switch (tag)
+			{
+				case 1: //Utf8
+					addClassNames(in.readUTF(), names);
+					break;
+				case 7: //Class
+				case 8: //String
+				case 16: //MethodType
+				case 19: //Module
+				case 20: //Package
+					in.skipBytes(2);
+					break;
+				case 15: //MethodHandle
+					in.skipBytes(3);
+					break;
+				case 3: //Integer
+				case 4: //Float
+				case 9: //Fieldref
+				case 10: //Methodref
+				case 11: //InterfaceMethodref
+				case 12: //NameAndType
+				case 17: //Dynamic
+				case 18: //InvokeDynamic
+					in.skipBytes(4);
+					break;
+				case 5: //Long
+				case 6: //Double
+					in.skipBytes(8);
+					//These take two entries of the constant pool
+					i++;
+					break;
+				default:
+					throw new IOException("Unknown constant pool tag " + tag);
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * Adds the class names in the given constant pool string, which may be an
+	 * internal class name (such as java/lang/String), a descriptor or
+	 * signature (such as (Ljava/lang/String;)V) or a class name used through
+	 * reflection.
+	 */
+	private static void addClassNames(String value, Collection<String> names)
+	{
+		names.add(value.replace('/', '.'));
+		Matcher matcher = TYPE_DESCRIPTOR.matcher(value);
+		while (matcher.find())
+		{
+			names.add(matcher.group(1).replace('/', '.'));
+		}
+	}
+
+	/**
+	 * Loads the indexed plugin classes of the given plugin jar on the loading
+	 * pool, and queues the dispatcher to pass them to the PluginLoaders once
+	 * they are loaded. The class loader of the jar is closed once its classes
+	 * have been passed to the PluginLoaders.
+	 * 
+	 * @param pluginJar
+	 *            The plugin jar from which the classes should be loaded
+	 * @param entry
+	 *            The entry of the given plugin jar in the index
+	 */
+	private void loadIndexedClasses(final File pluginJar, final String entry)
+	{
+		final Future<IndexedJar> loaded =
+				loadingPool.submit(() -> loadIndexedJar(pluginJar, entry));
+		dispatcher.execute(() ->
+		{
+			boolean pluginFound = false;
+			JarClassLoader loader = null;
+			try
+			{
+				IndexedJar jar = loaded.get();
+				loader = jar.loader;
+				for (Class<?> clazz : jar.classes)
+				{
+					pluginFound |= processClass(clazz);
+				}
+			}
+			catch (InterruptedException | ExecutionException ex)
+			{
+				Logging.errorPrint("Error occurred while loading plugin: "
+						+ pluginJar.getName(), ex);
+			}
+			finally
+			{
+				closeLoader(loader, pluginJar);
+			}
+			if (!pluginFound)
+			{
+				Logging.log(Logging.WARNING, "Plugin not found in " + pluginJar.getName());
+			}
+			progress++;
+			setProgress(progress);
+		});
+	}
+
+	/**
+	 * Loads the plugin classes listed in the given index entry from the given
+	 * plugin jar. Only the listed classes and the classes of the jar they
+	 * refer to are read. If the checksum in the entry does not match the jar,
+	 * the index is out of date and every class in the jar is read and loaded
+	 * instead, to be tested by processClass as if the jar had been scanned.
+	 * 
+	 * The classes are read into memory, as when scanning, so that the classes
+	 * used by the plugin classes can still be defined once the class loader
+	 * has been closed. The classes are not initialized here, as that would run
+	 * their static initializers on the loading pool; they are initialized when
+	 * the PluginLoaders first use them.
+	 */
+	private static IndexedJar loadIndexedJar(File pluginJar, String entry)
+		throws IOException
+	{
+		JarClassLoader loader = new JarClassLoader(pluginJar.toURI().toURL());
+		try
+		{
+			Collection<String> classList;
+			try (ZipFile file = new ZipFile(pluginJar))
+			{
+				classList = getIndexedClasses(entry, file);
+				if (classList == null)
+				{
+					Logging.log(Logging.INFO, "Plugin index is out of date for "
+						+ pluginJar.getName() + ", scanning it instead");
+					classList = readClassDefinitions(file, loader);
+				}
+				else
+				{
+					readClassDefinitions(file, classList, loader);
+				}
+			}
+			List<Class<?>> classes = new ArrayList<>(classList.size());
+			for (String name : classList)
+			{
+				try
+				{
+					classes.add(Class.forName(name, false, loader));
+				}
+				catch (ClassNotFoundException | NoClassDefFoundError ex)
+				{
+					Logging.errorPrint("Error occurred while loading plugin: "
+							+ pluginJar.getName(), ex);
+				}
+			}
+			return new IndexedJar(loader, classes);
+		}
+		catch (IOException | RuntimeException ex)
+		{
+			closeLoader(loader, pluginJar);
+			throw ex;
+		}
+	}
+
+	private static void closeLoader(JarClassLoader loader, File pluginJar)
+	{
+		if (loader == null)
+		{
+			return;
+		}
+		try
+		{
+			loader.close();
+		}
+		catch (IOException ex)
+		{
+			Logging.errorPrint("Could not close plugin: " + pluginJar.getName(), ex);
+		}
+	}
+
+	/**
+	 * Returns true if the given class is a plugin class for any of the
+	 * registered PluginLoaders.
+	 */
+	private boolean isPluginClass(Class<?> clazz)
 	{
 		int modifiers = clazz.getModifiers();
 		if (Modifier.isInterface(modifiers) || Modifier.isAbstract(modifiers))
 		{
 			return false;
 		}
+		for (final Class<?> key : loaderMap.getKeySet())
+		{
+			if ((key == null) || key.isAssignableFrom(clazz))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean processClass(Class<?> clazz)
+	{
+		if (!isPluginClass(clazz))
+		{
+			return false;
+		}
 
 		boolean loaded = false;
 		for (final Class<?> key : loaderMap.getKeySet())
@@ -206,6 +546,7 @@ class PluginClassLoader extends PCGenTask
 	{
 		findJarFiles(pluginDir);
 		setMaximum(jarFiles.size());
+		loadIndexedClasses();
 		loadClasses();
 		Future<?> future = dispatcher.submit(new Runnable()
 		{
@@ -214,6 +555,7 @@ class PluginClassLoader extends PCGenTask
 			public void run()
 			{
 				dispatcher.shutdown();
+				loadingPool.shutdown();
 			}
 
 		});
@@ -247,6 +589,177 @@ class PluginClassLoader extends PCGenTask
 		}
 	}
 
+	/**
+	 * Loads the jars which are listed in the index of the plugins directory,
+	 * removing them from the jars to be scanned.
+	 */
+	private void loadIndexedClasses()
+	{
+		Properties index = readIndex();
+		if (index.isEmpty())
+		{
+			return;
+		}
+		for (Iterator<File> it = jarFiles.iterator(); it.hasNext();)
+		{
+			File file = it.next();
+			String entry = index.getProperty(getIndexKey(file));
+			if (entry != null)
+			{
+				it.remove();
+				loadIndexedClasses(file, entry);
+			}
+		}
+	}
+
+	/**
+	 * Reads the index of the plugins directory.
+	 * 
+	 * @return The index of the plugins directory, which is empty if the
+	 *         plugins directory has no index
+	 */
+	private Properties readIndex()
+	{
+		Properties index = new Properties();
+		File indexFile = new File(pluginDir, INDEX_FILE);
+		if (indexFile.isFile())
+		{
+			try (InputStream in = new FileInputStream(indexFile))
+			{
+				index.load(in);
+			}
+			catch (IOException ex)
+			{
+				Logging.errorPrint("Could not read plugin index: "
+					+ indexFile.getAbsolutePath(), ex);
+				index.clear();
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Returns the names of the plugin classes in the given plugin jar,
+	 * according to the given index entry.
+	 * 
+	 * @return The names of the plugin classes in the given plugin jar, or null
+	 *         if the jar has changed since the index was written
+	 */
+	private static Collection<String> getIndexedClasses(String entry,
+		ZipFile pluginJar)
+	{
+		int sep = entry.indexOf(';');
+		if ((sep < 0)
+			|| !entry.substring(0, sep).equals(getChecksum(pluginJar)))
+		{
+			return null;
+		}
+		String classNames = entry.substring(sep + 1);
+		return classNames.isEmpty() ? Collections.emptyList()
+			: Arrays.asList(classNames.split(","));
+	}
+
+	/**
+	 * Returns the checksum of the given plugin jar, in hexadecimal. This is a
+	 * CRC-32 checksum of the name and recorded CRC-32 checksum of each entry,
+	 * which are taken from the central directory of the jar, so the contents
+	 * of the entries are not read. Unlike the length or modification time of
+	 * the jar, this changes whenever the jar is rebuilt with different
+	 * classes, and does not change when the jar is copied or unpacked from a
+	 * distribution.
+	 * 
+	 * @throws IOException
+	 *             if the plugin jar cannot be read
+	 */
+	static String getChecksum(File pluginJar) throws IOException
+	{
+		try (ZipFile file = new ZipFile(pluginJar))
+		{
+			return getChecksum(file);
+		}
+	}
+
+	private static String getChecksum(ZipFile pluginJar)
+	{
+		CRC32 crc = new CRC32();
+		byte[] entryCrc = new byte[8];
+		Enumeration<? extends ZipEntry> entries = pluginJar.entries();
+		while (entries.hasMoreElements())
+		{
+			ZipEntry entry = entries.nextElement();
+			crc.update(entry.getName().getBytes(StandardCharsets.UTF_8));
+			long value = entry.getCrc();
+			for (int i = 0; i < entryCrc.length; i++)
+			{
+				entryCrc[i] = (byte) (value >>> (8 * i));
+			}
+			crc.update(entryCrc, 0, entryCrc.length);
+		}
+		return Long.toHexString(crc.getValue());
+	}
+
+	/**
+	 * Returns the key of the given plugin jar in the index, which is the path
+	 * of the jar relative to the plugins directory.
+	 */
+	private String getIndexKey(File pluginJar)
+	{
+		return pluginDir.toURI().relativize(pluginJar.toURI()).getPath();
+	}
+
+	/**
+	 * Writes the index of the plugin classes in every jar in the plugins
+	 * directory. Each entry of the index is keyed by the path of the jar and
+	 * holds the checksum of the jar followed by the names of the classes in the
+	 * jar which are plugin classes for the registered PluginLoaders. The
+	 * PluginLoaders are not called.
+	 * 
+	 * @throws IOException
+	 *             if the index cannot be written
+	 */
+	void writeIndex() throws IOException
+	{
+		findJarFiles(pluginDir);
+		Properties index = new Properties();
+		for (File pluginJar : jarFiles)
+		{
+			StringBuilder entry = new StringBuilder(100);
+			entry.append(getChecksum(pluginJar)).append(';');
+			try (JarClassLoader loader =
+					new JarClassLoader(pluginJar.toURI().toURL()))
+			{
+				boolean first = true;
+				for (String name : readClassDefinitions(pluginJar, loader))
+				{
+					try
+					{
+						if (isPluginClass(Class.forName(name, false, loader)))
+						{
+							if (!first)
+							{
+								entry.append(',');
+							}
+							entry.append(name);
+							first = false;
+						}
+					}
+					catch (ClassNotFoundException | NoClassDefFoundError ex)
+					{
+						Logging.errorPrint("Error occurred while indexing plugin: "
+								+ pluginJar.getName(), ex);
+					}
+				}
+			}
+			index.setProperty(getIndexKey(pluginJar), entry.toString());
+		}
+		jarFiles.clear();
+		File indexFile = new File(pluginDir, INDEX_FILE);
+		try (OutputStream out = new FileOutputStream(indexFile))
+		{
+			index.store(out, "Plugin classes by plugin jar"); //$NON-NLS-1$
+		}
+	}
+
 	private void loadClasses()
 	{
 		while (!jarFiles.isEmpty())
@@ -263,6 +776,24 @@ class PluginClassLoader extends PCGenTask
 		}
 	}
 
+	/**
+	 * The classes loaded from an indexed plugin jar, with the class loader
+	 * which loaded them.
+	 */
+	private static final class IndexedJar
+	{
+
+		private final JarClassLoader loader;
+		private final List<Class<?>> classes;
+
+		private IndexedJar(JarClassLoader loader, List<Class<?>> classes)
+		{
+			this.loader = loader;
+			this.classes = classes;
+		}
+
+	}
+
 	private static final class JarClassLoader extends URLClassLoader
 	{
 
@@ -287,7 +818,8 @@ class PluginClassLoader extends PCGenTask
 			byte[] bytes = classDefinitions.remove(name);
 			if (bytes == null)
 			{
-				throw new ClassNotFoundException();
+				//Not read into memory, so it can only be read while still open
+				return super.findClass(name);
 			}
 			return defineClass(name, bytes, 0, bytes.length);
 		}
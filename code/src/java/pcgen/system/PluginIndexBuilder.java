@@ -0,0 +1,56 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.system;
+
+import java.io.File;
+import java.io.IOException;
+
+import pcgen.util.Logging;
+
+/**
+ * PluginIndexBuilder writes the index of the plugin classes in each plugin jar
+ * of a plugins directory. It is run by the build once the plugin jars have
+ * been built, so that PluginClassLoader only needs to load the plugin classes
+ * at startup rather than scanning every class in every jar.
+ */
+public final class PluginIndexBuilder
+{
+
+	private PluginIndexBuilder()
+	{
+	}
+
+	/**
+	 * Writes the index of the given plugins directory.
+	 *
+	 * @param args
+	 *            The plugins directory to be indexed
+	 * @throws IOException
+	 *             if the index cannot be written
+	 */
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 1)
+		{
+			Logging.errorPrint("Usage: PluginIndexBuilder <plugins directory>");
+			System.exit(1);
+		}
+		File pluginsDir = new File(args[0]);
+		Main.createPluginClassLoader(pluginsDir).writeIndex();
+		Logging.log(Logging.INFO, "Wrote plugin index to "
+			+ new File(pluginsDir, PluginClassLoader.INDEX_FILE).getAbsolutePath());
+	}
+}
@@ -27,7 +27,6 @@ import java.io.PrintStream;
 import java.net.URI;
 import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
@@ -510,7 +509,7 @@ public final class Logging
 		Logger l = getLogger();
 		if (l.isLoggable(lvl))
 		{
-			l.log(lvl, msg, stackTrace);
+			logParseMessage(l, lvl, msg, stackTrace);
 		}
 	}
 
@@ -679,12 +678,17 @@ public final class Logging
 		Logger.getLogger("plugin").setLevel(level);
 	}
 
-	private static LinkedList<QueuedMessage> queuedMessages =
-            new LinkedList<>();
-
+	/**
+	 * Adds a message to the parse messages of the current thread (see
+	 * ParseDiagnostics), to be logged by replayParsedMessages() if the parse
+	 * fails.
+	 * 
+	 * @param lvl The level of the message
+	 * @param msg The message
+	 */
 	public static void addParseMessage(Level lvl, String msg)
 	{
-		queuedMessages.add(new QueuedMessage(lvl, msg));
+		ParseDiagnostics.current().add(lvl, msg);
 	}
 
 	/*
@@ -694,67 +698,53 @@ public final class Logging
 	public static void addParseMessage(Level lvl, String msg,
 		StackTraceElement[] stack)
 	{
-		queuedMessages.add(new QueuedMessage(lvl, msg, stack));
+		ParseDiagnostics.current().add(lvl, msg, stack);
 	}
 
-	private static int queuedMessageMark = -1;
-
 	public static void markParseMessages()
 	{
-		queuedMessageMark = queuedMessages.size();
+		ParseDiagnostics.current().mark();
 	}
 
 	public static void rewindParseMessages()
 	{
-		while (queuedMessageMark > -1
-			&& queuedMessages.size() > queuedMessageMark)
-		{
-			queuedMessages.removeLast();
-		}
+		ParseDiagnostics.current().rewind();
 	}
 
 	public static void replayParsedMessages()
 	{
+		ParseDiagnostics diagnostics = ParseDiagnostics.current();
 		Logger l = getLogger();
-		for (QueuedMessage msg : queuedMessages)
+		for (ParseDiagnostics.Diagnostic msg : diagnostics.getDiagnostics())
 		{
-			if (l.isLoggable(msg.level))
+			if (l.isLoggable(msg.getLevel()))
 			{
-				l.log(msg.level, msg.message, msg.stackTrace);
+				logParseMessage(l, msg.getLevel(), msg.toString(),
+					msg.getStackTrace());
 			}
-
 		}
-		queuedMessageMark = -1;
+		diagnostics.clearMark();
 	}
 
 	public static void clearParseMessages()
 	{
-		queuedMessageMark = -1;
-		queuedMessages.clear();
+		ParseDiagnostics.current().clear();
 	}
 
-	private static class QueuedMessage
+	/**
+	 * Logs a parse message, with its stack trace as the parameter of the log
+	 * record if one was captured.
+	 */
+	private static void logParseMessage(Logger l, Level lvl, String msg,
+		StackTraceElement[] stackTrace)
 	{
-		public final Level level;
-		public final String message;
-		public final StackTraceElement[] stackTrace;
-
-		public QueuedMessage(Level lvl, String msg)
+		if (stackTrace == null)
 		{
-			level = lvl;
-			message = msg;
-			stackTrace = Thread.currentThread().getStackTrace();
+			l.log(lvl, msg);
 		}
-
-		/*
-		 * Temporary constructor for use with ParseResult conversion.
-		 * See addParseMessage above.
-		 */
-		public QueuedMessage(Level lvl, String msg, StackTraceElement[] stack)
+		else
 		{
-			level = lvl;
-			message = msg;
-			stackTrace = stack;
+			l.log(lvl, msg, stackTrace);
 		}
 	}
 }
@@ -19,13 +19,18 @@
 package pcgen.util;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 
 import org.nfunk.jep.ASTFunNode;
 import org.nfunk.jep.JEP;
 import org.nfunk.jep.Node;
 import org.nfunk.jep.ParseException;
+import org.nfunk.jep.SymbolTable;
+import org.nfunk.jep.Variable;
 import org.nfunk.jep.function.PostfixMathCommand;
 
 import pcgen.core.PlayerCharacter;
@@ -53,6 +58,36 @@ public final class PJEP extends JEP
             new ArrayList<>();
 	private List<PCGenCommand> localCommandList = new ArrayList<>();
 
+	/**
+	 * The largest number of parsed formulas kept by each parser.
+	 */
+	static final int MAX_PARSED_FORMULAS = 2048;
+
+	/**
+	 * The formulas already parsed by this parser, by formula and variable
+	 * source (which determines the variables, such as CL, bound by the
+	 * functions). The parsed trees refer to the function objects of this
+	 * parser, so they can only be evaluated by this parser. Parsers are pooled
+	 * for the life of the program, so only the MAX_PARSED_FORMULAS most
+	 * recently used formulas are kept.
+	 */
+	private final Map<String, ParsedFormula> parsedFormulas =
+			new LinkedHashMap<String, ParsedFormula>(256, 0.75f, true)
+			{
+				@Override
+				protected boolean removeEldestEntry(
+					Map.Entry<String, ParsedFormula> eldest)
+				{
+					return size() > MAX_PARSED_FORMULAS;
+				}
+			};
+
+	/**
+	 * Marks a formula which is not a valid JEP expression.
+	 */
+	private static final ParsedFormula NOT_AN_EXPRESSION =
+			new ParsedFormula(null, null, false);
+
 	public static void addCommand(Class<PCGenCommand> clazz)
 	{
 		commandList.add(clazz);
@@ -115,6 +150,46 @@ public final class PJEP extends JEP
 		return super.parseExpression(expression_in);
 	}
 
+	/**
+	 * Returns the parsed form of the given formula for the current variable
+	 * source. The formula is only parsed the first time it is seen by this
+	 * parser for that variable source.
+	 *
+	 * @param formula The formula to be parsed.
+	 * @return The parsed formula, or null if the formula is not a valid JEP
+	 *         expression.
+	 */
+	public ParsedFormula parseFormula(String formula)
+	{
+		String key = formula + '\n' + variableSource;
+		ParsedFormula parsed = parsedFormulas.get(key);
+		if (parsed == null)
+		{
+			Node node = parseExpression(formula);
+			if (hasError())
+			{
+				parsed = NOT_AN_EXPRESSION;
+			}
+			else
+			{
+				parsed = new ParsedFormula(node, getSymbolTable(),
+					isResultCachable(node));
+			}
+			parsedFormulas.put(key, parsed);
+		}
+		return (parsed == NOT_AN_EXPRESSION) ? null : parsed;
+	}
+
+	/**
+	 * Returns the number of parsed formulas kept by this parser.
+	 *
+	 * @return The number of parsed formulas kept by this parser
+	 */
+	int getParsedFormulaCount()
+	{
+		return parsedFormulas.size();
+	}
+
 	/**
 	 * Identify if the results of the calculation will be cachable.
 	 *
@@ -319,4 +394,83 @@ public final class PJEP extends JEP
 		}
 	}
 
+	/**
+	 * The parsed form of a formula, along with the variables it uses. The
+	 * values of the variables are set directly on the parsed form before it
+	 * is evaluated, so the formula does not need to be parsed again.
+	 */
+	public static final class ParsedFormula
+	{
+		private final Node node;
+		private final List<String> variableNames;
+		private final List<Variable> variables;
+		private final boolean cachable;
+
+		private ParsedFormula(Node node, SymbolTable symbolTable,
+			boolean cachable)
+		{
+			this.node = node;
+			this.cachable = cachable;
+			List<String> names = new ArrayList<>();
+			List<Variable> vars = new ArrayList<>();
+			if (symbolTable != null)
+			{
+				for (Object key : symbolTable.keySet())
+				{
+					String name = (String) key;
+					if ("e".equals(name) || "FALSE".equals(name)
+						|| "pi".equals(name) || "TRUE".equals(name))
+					{
+						continue;
+					}
+					names.add(name);
+					vars.add(symbolTable.getVar(name));
+				}
+			}
+			variableNames = Collections.unmodifiableList(names);
+			variables = vars;
+		}
+
+		/**
+		 * Returns the root of the parsed formula.
+		 *
+		 * @return The root of the parsed formula.
+		 */
+		public Node getNode()
+		{
+			return node;
+		}
+
+		/**
+		 * Returns the names of the variables which must be given a value
+		 * before the formula is evaluated.
+		 *
+		 * @return The names of the variables used by the formula.
+		 */
+		public List<String> getVariableNames()
+		{
+			return variableNames;
+		}
+
+		/**
+		 * Sets the value of one of the variables used by the formula.
+		 *
+		 * @param index The index of the variable in getVariableNames().
+		 * @param value The value of the variable.
+		 */
+		public void setVariableValue(int index, double value)
+		{
+			variables.get(index).setValue(value);
+		}
+
+		/**
+		 * Identify if the results of the calculation will be cachable.
+		 *
+		 * @return True if the result would be cachable, false otherwise.
+		 */
+		public boolean isResultCachable()
+		{
+			return cachable;
+		}
+	}
 }
@@ -0,0 +1,344 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * ParseDiagnostics collects the messages raised while parsing data, so that
+ * they may be logged only if the parse fails (see Logging.addParseMessage and
+ * Logging.replayParsedMessages).
+ * 
+ * Each thread has its own ParseDiagnostics (see current()), so sources may be
+ * loaded on several threads at once without their messages (or the mark used
+ * to rewind them) being mixed. Each message records the source and line being
+ * parsed when it was raised, as last set by the loader through setSourceURI
+ * and setLine.
+ * 
+ * Capturing a stack trace for each message is expensive, so it is off unless
+ * the system property pcgen.parse.stacktrace is set: "true" captures the stack
+ * trace of every message, and a number N captures that of one message in N.
+ */
+public final class ParseDiagnostics
+{
+
+	/**
+	 * The system property which enables the capture of stack traces.
+	 */
+	public static final String STACK_TRACE_PROPERTY = "pcgen.parse.stacktrace";
+
+	private static final ThreadLocal<ParseDiagnostics> CURRENT =
+			ThreadLocal.withInitial(ParseDiagnostics::new);
+
+	/**
+	 * One stack trace is captured for every stackTraceInterval messages, or
+	 * none if this is zero.
+	 */
+	private static volatile int stackTraceInterval =
+			parseInterval(System.getProperty(STACK_TRACE_PROPERTY));
+
+	private static final AtomicLong CAPTURE_COUNT = new AtomicLong();
+
+	private final List<Diagnostic> diagnostics = new ArrayList<>();
+
+	private int mark = -1;
+
+	private URI sourceURI;
+
+	private int line;
+
+	private ParseDiagnostics()
+	{
+	}
+
+	/**
+	 * Returns the ParseDiagnostics of the current thread.
+	 * 
+	 * @return The ParseDiagnostics of the current thread
+	 */
+	public static ParseDiagnostics current()
+	{
+		return CURRENT.get();
+	}
+
+	private static int parseInterval(String value)
+	{
+		if (value == null)
+		{
+			return 0;
+		}
+		if (Boolean.parseBoolean(value))
+		{
+			return 1;
+		}
+		try
+		{
+			return Math.max(0, Integer.parseInt(value.trim()));
+		}
+		catch (NumberFormatException e)
+		{
+			return 0;
+		}
+	}
+
+	/**
+	 * Sets how often the stack trace of a parse message is captured.
+	 * 
+	 * @param interval
+	 *            1 to capture the stack trace of every message, N to capture
+	 *            that of one message in N, or 0 to capture none
+	 */
+	public static void setStackTraceInterval(int interval)
+	{
+		stackTraceInterval = Math.max(0, interval);
+	}
+
+	/**
+	 * Returns the stack trace of the current thread, if stack traces are
+	 * being captured and this message is sampled; otherwise null.
+	 * 
+	 * @return The stack trace of the current thread, or null
+	 */
+	public static StackTraceElement[] captureStackTrace()
+	{
+		int interval = stackTraceInterval;
+		if ((interval == 0)
+			|| ((interval > 1)
+				&& (CAPTURE_COUNT.getAndIncrement() % interval != 0)))
+		{
+			return null;
+		}
+		return Thread.currentThread().getStackTrace();
+	}
+
+	/**
+	 * Sets the source being parsed on this thread. The line is reset to
+	 * unknown.
+	 * 
+	 * @param uri
+	 *            The URI of the source being parsed, or null if none
+	 */
+	public void setSourceURI(URI uri)
+	{
+		sourceURI = uri;
+		line = 0;
+	}
+
+	/**
+	 * Returns the source being parsed on this thread.
+	 * 
+	 * @return The URI of the source being parsed, or null if unknown
+	 */
+	public URI getSourceURI()
+	{
+		return sourceURI;
+	}
+
+	/**
+	 * Sets the line (of the source) being parsed on this thread.
+	 * 
+	 * @param lineNumber
+	 *            The number (starting at 1) of the line being parsed, or 0 if
+	 *            unknown
+	 */
+	public void setLine(int lineNumber)
+	{
+		line = lineNumber;
+	}
+
+	/**
+	 * Returns the line (of the source) being parsed on this thread.
+	 * 
+	 * @return The number (starting at 1) of the line being parsed, or 0 if
+	 *         unknown
+	 */
+	public int getLine()
+	{
+		return line;
+	}
+
+	/**
+	 * Adds a message, capturing its stack trace if enabled.
+	 * 
+	 * @param lvl
+	 *            The level of the message
+	 * @param msg
+	 *            The message
+	 */
+	public void add(Level lvl, String msg)
+	{
+		add(lvl, msg, captureStackTrace());
+	}
+
+	/**
+	 * Adds a message with a stack trace already captured.
+	 * 
+	 * @param lvl
+	 *            The level of the message
+	 * @param msg
+	 *            The message
+	 * @param stack
+	 *            The stack trace of the message, or null if none
+	 */
+	public void add(Level lvl, String msg, StackTraceElement[] stack)
+	{
+		diagnostics.add(new Diagnostic(lvl, msg, sourceURI, line, stack));
+	}
+
+	/**
+	 * Marks the current end of the messages, so that the messages added after
+	 * this point may be removed with rewind().
+	 */
+	public void mark()
+	{
+		mark = diagnostics.size();
+	}
+
+	/**
+	 * Removes the messages added since the last call to mark(). This does
+	 * nothing if mark() has not been called since the messages were last
+	 * replayed or cleared.
+	 */
+	public void rewind()
+	{
+		if ((mark > -1) && (diagnostics.size() > mark))
+		{
+			diagnostics.subList(mark, diagnostics.size()).clear();
+		}
+	}
+
+	/**
+	 * Removes the mark set by mark().
+	 */
+	void clearMark()
+	{
+		mark = -1;
+	}
+
+	/**
+	 * Removes all of the messages and the mark.
+	 */
+	public void clear()
+	{
+		mark = -1;
+		diagnostics.clear();
+	}
+
+	/**
+	 * Returns the messages added (and not since removed), in the order they
+	 * were added.
+	 * 
+	 * @return The messages added
+	 */
+	public List<Diagnostic> getDiagnostics()
+	{
+		return Collections.unmodifiableList(new ArrayList<>(diagnostics));
+	}
+
+	/**
+	 * A message raised while parsing data.
+	 */
+	public static final class Diagnostic
+	{
+		private final Level level;
+		private final String message;
+		private final URI sourceURI;
+		private final int line;
+		private final StackTraceElement[] stackTrace;
+
+		private Diagnostic(Level lvl, String msg, URI uri, int lineNumber,
+			StackTraceElement[] stack)
+		{
+			level = lvl;
+			message = msg;
+			sourceURI = uri;
+			line = lineNumber;
+			stackTrace = stack;
+		}
+
+		/**
+		 * Returns the level of the message.
+		 * 
+		 * @return The level of the message
+		 */
+		public Level getLevel()
+		{
+			return level;
+		}
+
+		/**
+		 * Returns the message.
+		 * 
+		 * @return The message
+		 */
+		public String getMessage()
+		{
+			return message;
+		}
+
+		/**
+		 * Returns the source being parsed when the message was raised.
+		 * 
+		 * @return The URI of the source, or null if unknown
+		 */
+		public URI getSourceURI()
+		{
+			return sourceURI;
+		}
+
+		/**
+		 * Returns the line being parsed when the message was raised.
+		 * 
+		 * @return The number (starting at 1) of the line, or 0 if unknown
+		 */
+		public int getLine()
+		{
+			return line;
+		}
+
+		/**
+		 * Returns the stack trace captured when the message was raised.
+		 * 
+		 * @return The stack trace, or null if none was captured
+		 */
+		public StackTraceElement[] getStackTrace()
+		{
+			return stackTrace;
+		}
+
+		/**
+		 * Returns the message followed by the source and line (if known) at
+		 * which it was raised, as logged by Logging.replayParsedMessages().
+		 * 
+		 * @return The message and its location
+		 */
+		@Override
+		public String toString()
+		{
+			if (sourceURI == null)
+			{
+				return message;
+			}
+			return message + " (" + sourceURI
+				+ ((line > 0) ? (":" + line) : "") + ")";
+		}
+	}
+}
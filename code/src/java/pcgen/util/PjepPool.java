@@ -18,14 +18,21 @@
  */
 package pcgen.util;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Stack;
+import java.util.Deque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 
+/**
+ * A pool of PJEP parsers. Parsers are expensive to create and keep a cache of
+ * the formulas they have parsed, so they are reused rather than discarded.
+ * The pool does not use a global lock, so parsers may be acquired and
+ * released concurrently by different threads.
+ */
 public final class PjepPool
 {
-	private Stack<PJEP> freeStack = new Stack<>();
-	private List<PJEP> usedList = new ArrayList<>();
+	private final Deque<PJEP> freeStack = new ConcurrentLinkedDeque<>();
+	private final Set<PJEP> usedSet = ConcurrentHashMap.newKeySet();
 	private static PjepPool instance = new PjepPool();
 
 	private PjepPool()
@@ -38,45 +45,37 @@ public final class PjepPool
 		return instance;
 	}
 
-	public synchronized void initialise()
+	public void initialise()
 	{
 		freeStack.push(new PJEP());
 	}
 
-	public synchronized PJEP aquire()
+	public PJEP aquire()
 	{
 		return aquire(null, "");
 	}
 
-	public synchronized PJEP aquire(final Object parent, String variableSource)
+	public PJEP aquire(final Object parent, String variableSource)
 	{
 		//System.out.println("aquireJep()");
-		PJEP jep;
-		if (!freeStack.isEmpty())
-		{
-			jep = freeStack.pop();
-		}
-		else
+		PJEP jep = freeStack.poll();
+		if (jep == null)
 		{
 			jep = new PJEP();
 			//System.err.println("aquirePJep() - creating new parser");
 		}
 
-		usedList.add(jep);
+		usedSet.add(jep);
 		jep.initSymTab();
 		jep.setVariableSource(variableSource);
 		jep.setParent(parent);
 		return jep;
 	}
 
-	public synchronized void release(PJEP interp)
+	public void release(PJEP interp)
 	{
 		//System.out.println("releaseJep( " + interp + " )");
-		if (usedList.contains(interp))
-		{
-			usedList.remove(interp);
-		}
-		else
+		if (!usedSet.remove(interp))
 		{
 			System.err
 				.println("Tried to release a PJEP instance that we did not aquire...");
@@ -85,10 +84,10 @@ public final class PjepPool
 		freeStack.push(interp);
 	}
 
-	public synchronized void dumpStats()
+	public void dumpStats()
 	{
 		System.out.println("PJEP Pool: ");
 		System.out.println("    Currently Unused: " + freeStack.size());
-		System.out.println("    Currently Used  : " + usedList.size());
+		System.out.println("    Currently Used  : " + usedSet.size());
 	}
 }
@@ -25,9 +25,12 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.transform.ErrorListener;
 import javax.xml.transform.SourceLocator;
+import javax.xml.transform.Templates;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
@@ -60,10 +63,15 @@ import pcgen.util.Logging;
 public final class FopTask implements Runnable
 {
 	private static final FopFactory FOP_FACTORY = createFopFactory();
-	private static FOUserAgent userAgent;
 
 	private static final TransformerFactory TRANS_FACTORY = TransformerFactory.newInstance();
 
+	/**
+	 * The compiled form of each XSLT stylesheet that has been used, by the absolute path of the
+	 * stylesheet. Compiled Templates are thread safe and are reused until the stylesheet changes.
+	 */
+	private static final Map<String, CompiledXslt> COMPILED_XSLT = new ConcurrentHashMap<>();
+
 	private static FopFactory createFopFactory()
 	{
 
@@ -98,32 +106,57 @@ public final class FopTask implements Runnable
 	}
 
 	private final StreamSource inputSource;
-	private final StreamSource xsltSource;
+	private final File xsltFile;
 	private final Renderer renderer;
 	private final OutputStream outputStream;
+	private final FOUserAgent userAgent;
 
 	private final StringBuilder errorBuilder = new StringBuilder(32);
 
-	private FopTask(StreamSource inputXml, StreamSource xsltSource, Renderer renderer, OutputStream outputStream)
+	private FopTask(StreamSource inputXml, File xsltFile, Renderer renderer,
+		OutputStream outputStream, FOUserAgent userAgent)
 	{
 		this.inputSource = inputXml;
-		this.xsltSource = xsltSource;
+		this.xsltFile = xsltFile;
 		this.renderer = renderer;
 		this.outputStream = outputStream;
+		this.userAgent = userAgent;
 	}
 
-	private static StreamSource createXsltStreamSource(File xsltFile) throws FileNotFoundException
+	private static void checkXsltFile(File xsltFile) throws FileNotFoundException
 	{
-		if (xsltFile == null)
-		{
-			return null;
-		}
-		if (!xsltFile.exists())
+		if ((xsltFile != null) && !xsltFile.exists())
 		{
 			throw new FileNotFoundException("xsl file "
 					+ xsltFile.getAbsolutePath() + " not found ");
 		}
-		return new StreamSource(xsltFile);
+	}
+
+	/**
+	 * Returns the compiled form of the given stylesheet. The stylesheet is only compiled if it
+	 * has not been used before or has been changed since it was last compiled.
+	 *
+	 * @param xsltFile the transform template file
+	 * @return the compiled stylesheet
+	 * @throws TransformerException if the stylesheet could not be compiled
+	 */
+	private static Templates getTemplates(File xsltFile) throws TransformerException
+	{
+		String key = xsltFile.getAbsolutePath();
+		long lastModified = xsltFile.lastModified();
+		CompiledXslt compiled = COMPILED_XSLT.get(key);
+		if ((compiled == null) || (compiled.lastModified != lastModified))
+		{
+			Templates templates;
+			// TransformerFactory is not thread safe
+			synchronized (TRANS_FACTORY)
+			{
+				templates = TRANS_FACTORY.newTemplates(new StreamSource(xsltFile));
+			}
+			compiled = new CompiledXslt(lastModified, templates);
+			COMPILED_XSLT.put(key, compiled);
+		}
+		return compiled.templates;
 	}
 
 	public static FopFactory getFactory()
@@ -144,9 +177,9 @@ public final class FopTask implements Runnable
 	 */
 	public static FopTask newFopTask(InputStream inputXmlStream, File xsltFile, OutputStream outputPdf) throws FileNotFoundException
 	{
-		StreamSource xsltSource = createXsltStreamSource(xsltFile);
-		userAgent = FOP_FACTORY.newFOUserAgent();
-		return new FopTask(new StreamSource(inputXmlStream), xsltSource, null, outputPdf);
+		checkXsltFile(xsltFile);
+		return new FopTask(new StreamSource(inputXmlStream), xsltFile, null, outputPdf,
+			FOP_FACTORY.newFOUserAgent());
 	}
 
 	/**
@@ -162,9 +195,9 @@ public final class FopTask implements Runnable
 	 */
 	public static FopTask newFopTask(InputStream inputXmlStream, File xsltFile, Renderer renderer) throws FileNotFoundException
 	{
-		StreamSource xsltSource = createXsltStreamSource(xsltFile);
-		userAgent = renderer.getUserAgent();
-		return new FopTask(new StreamSource(inputXmlStream), xsltSource, renderer, null);
+		checkXsltFile(xsltFile);
+		return new FopTask(new StreamSource(inputXmlStream), xsltFile, renderer, null,
+			renderer.getUserAgent());
 	}
 
 	public String getErrorMessages()
@@ -209,13 +242,16 @@ public final class FopTask implements Runnable
 			}
 
 			Transformer transformer;
-			if (xsltSource != null)
+			if (xsltFile != null)
 			{
-				transformer = TRANS_FACTORY.newTransformer(xsltSource);
+				transformer = getTemplates(xsltFile).newTransformer();
 			}
 			else
 			{
-				transformer = TRANS_FACTORY.newTransformer();// identity transformer		
+				synchronized (TRANS_FACTORY)
+				{
+					transformer = TRANS_FACTORY.newTransformer();// identity transformer
+				}
 			}
 			transformer.setErrorListener(new FOPErrorListener());
 			transformer.transform(inputSource, new SAXResult(fop.getDefaultHandler()));
@@ -232,6 +268,21 @@ public final class FopTask implements Runnable
 		}
 	}
 
+	/**
+	 * A compiled stylesheet along with the last modified time of the file it was compiled from.
+	 */
+	private static final class CompiledXslt
+	{
+		private final long lastModified;
+		private final Templates templates;
+
+		private CompiledXslt(long lastModified, Templates templates)
+		{
+			this.lastModified = lastModified;
+			this.templates = templates;
+		}
+	}
+
 	/**
 	 * The Class {@code FOPErrorListener} listens for notifications of issues when generating
 	 * PDF files and responds accordingly.
@@ -0,0 +1,145 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.benchmark;
+
+import java.io.File;
+import java.util.List;
+import java.util.Locale;
+
+import pcgen.LocaleDependentTestCase;
+import pcgen.core.PlayerCharacter;
+import pcgen.facade.core.DataSetFacade;
+import pcgen.facade.core.SourceSelectionFacade;
+import pcgen.facade.core.UIDelegate;
+import pcgen.facade.util.ListFacades;
+import pcgen.gui2.facade.MockUIDelegate;
+import pcgen.io.PCGIOHandler;
+import pcgen.persistence.SourceFileLoader;
+import pcgen.system.CharacterManager;
+import pcgen.util.TestHelper;
+
+/**
+ * BenchmarkSupport prepares the PCGen environment for the benchmarks in the
+ * same way as the data and character integration tests: the plugins, game
+ * modes and campaigns are loaded from the shipped plugins, system and data
+ * directories, so the benchmarks must be run from the root of the project
+ * after the plugins have been built (see the jmh task in build.gradle).
+ */
+final class BenchmarkSupport
+{
+
+	/**
+	 * The settings file written for the benchmarks.
+	 */
+	private static final String CONFIG_FILE = "config.ini.jmh";
+
+	private static boolean initialised = false;
+
+	private BenchmarkSupport()
+	{
+	}
+
+	/**
+	 * Loads the plugins, game modes and campaigns, once per JVM.
+	 */
+	static synchronized void initialise()
+	{
+		if (initialised)
+		{
+			return;
+		}
+		LocaleDependentTestCase.before(Locale.US);
+		TestHelper.loadGameModes(CONFIG_FILE);
+		new File(CONFIG_FILE).delete();
+		initialised = true;
+	}
+
+	/**
+	 * Returns a UIDelegate which answers every prompt without user input.
+	 *
+	 * @return A UIDelegate for use in the benchmarks
+	 */
+	static UIDelegate getUIDelegate()
+	{
+		return new MockUIDelegate();
+	}
+
+	/**
+	 * Returns the sources required by the given character.
+	 *
+	 * @param characterFile
+	 *            The character (.pcg) file
+	 * @return The sources required by the given character
+	 */
+	static SourceSelectionFacade getSources(File characterFile)
+	{
+		SourceSelectionFacade sources = CharacterManager
+			.getRequiredSourcesForCharacter(characterFile, getUIDelegate());
+		if (sources == null)
+		{
+			throw new IllegalStateException("No sources found for "
+				+ characterFile.getAbsolutePath());
+		}
+		return sources;
+	}
+
+	/**
+	 * Loads the given sources.
+	 *
+	 * @param sources
+	 *            The sources to be loaded
+	 * @param reuseLoadedData
+	 *            true if the sources should not be loaded again if they are
+	 *            already loaded
+	 * @return The loaded data set
+	 */
+	static DataSetFacade loadSources(SourceSelectionFacade sources,
+		boolean reuseLoadedData)
+	{
+		SourceFileLoader loader =
+				new SourceFileLoader(sources, getUIDelegate());
+		loader.setReuseLoadedData(reuseLoadedData);
+		loader.execute();
+		return loader.getDataSetFacade();
+	}
+
+	/**
+	 * Reads the given character, which must use the given data set.
+	 *
+	 * @param characterFile
+	 *            The character (.pcg) file
+	 * @param dataset
+	 *            The loaded data set used by the character
+	 * @return The character read from the file
+	 */
+	static PlayerCharacter readCharacter(File characterFile,
+		DataSetFacade dataset)
+	{
+		@SuppressWarnings("rawtypes")
+		List campaigns = ListFacades.wrap(dataset.getCampaigns());
+		PlayerCharacter pc = new PlayerCharacter(campaigns);
+		pc.setFileName(characterFile.getAbsolutePath());
+		PCGIOHandler ioHandler = new PCGIOHandler();
+		ioHandler.read(pc, characterFile.getAbsolutePath());
+		if (!ioHandler.getErrors().isEmpty())
+		{
+			throw new IllegalStateException("Errors reading "
+				+ characterFile.getAbsolutePath() + ": "
+				+ ioHandler.getErrors());
+		}
+		return pc;
+	}
+}
@@ -0,0 +1,179 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pcgen.core.PlayerCharacter;
+import pcgen.core.VariableProcessor;
+import pcgen.facade.core.DataSetFacade;
+import pcgen.io.ExportException;
+import pcgen.io.ExportHandler;
+
+/**
+ * CharacterBenchmark measures the work done on a loaded character: reading the
+ * character file, recalculating the active bonuses, totalling a bonus,
+ * evaluating a variable and exporting the character with both the legacy and
+ * the FreeMarker output sheet engines.
+ *
+ * <p>
+ * The sources used by each character are loaded once per trial, so only the
+ * character work is measured. See SourceLoadBenchmark for the loading of the
+ * sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class CharacterBenchmark
+{
+
+	private static final File LEGACY_TEMPLATE = new File(
+		"outputsheets/base.xml"); //$NON-NLS-1$
+
+	private static final File FREEMARKER_TEMPLATE = new File(
+		"outputsheets/base.xml.ftl"); //$NON-NLS-1$
+
+	/**
+	 * The character to be measured, from the characters directory.
+	 */
+	@Param({"CodeMonkey", "Everything", "Sorcerer", "SpecialWizard"})
+	public String character;
+
+	/**
+	 * The bonus to be totalled, as a type and name.
+	 */
+	@Param({"COMBAT:BASEAB"})
+	public String bonus;
+
+	/**
+	 * The variable to be evaluated.
+	 */
+	@Param({"TL"})
+	public String variable;
+
+	private File characterFile;
+
+	private DataSetFacade dataset;
+
+	private PlayerCharacter pc;
+
+	private String bonusType;
+
+	private String bonusName;
+
+	@Setup
+	public void setUp()
+	{
+		BenchmarkSupport.initialise();
+		characterFile = new File("characters", character + ".pcg"); //$NON-NLS-1$
+		dataset = BenchmarkSupport.loadSources(
+			BenchmarkSupport.getSources(characterFile), true);
+		pc = BenchmarkSupport.readCharacter(characterFile, dataset);
+		int colon = bonus.indexOf(':');
+		bonusType = bonus.substring(0, colon);
+		bonusName = bonus.substring(colon + 1);
+	}
+
+	@Benchmark
+	public PlayerCharacter readCharacter()
+	{
+		return BenchmarkSupport.readCharacter(characterFile, dataset);
+	}
+
+	@Benchmark
+	public PlayerCharacter calcActiveBonuses()
+	{
+		pc.calcActiveBonuses();
+		return pc;
+	}
+
+	@Benchmark
+	public double getTotalBonusTo()
+	{
+		return pc.getTotalBonusTo(bonusType, bonusName);
+	}
+
+	@Benchmark
+	public Float getVariableValue()
+	{
+		return pc.getVariableValue(variable, ""); //$NON-NLS-1$
+	}
+
+	/**
+	 * Evaluates the variable with the variable cache paused, so the formula is
+	 * evaluated on every call.
+	 */
+	@Benchmark
+	public Float getVariableValueUncached()
+	{
+		VariableProcessor processor = pc.getVariableProcessor();
+		processor.pauseCache();
+		try
+		{
+			return pc.getVariableValue(variable, ""); //$NON-NLS-1$
+		}
+		finally
+		{
+			processor.restartCache();
+		}
+	}
+
+	@Benchmark
+	public String exportLegacy() throws ExportException
+	{
+		return export(LEGACY_TEMPLATE);
+	}
+
+	@Benchmark
+	public String exportFreeMarker() throws ExportException
+	{
+		return export(FREEMARKER_TEMPLATE);
+	}
+
+	private String export(File template) throws ExportException
+	{
+		StringWriter out = new StringWriter();
+		try (BufferedWriter bw = new BufferedWriter(out))
+		{
+			new ExportHandler(template).write(pc, bw);
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+		return out.toString();
+	}
+}
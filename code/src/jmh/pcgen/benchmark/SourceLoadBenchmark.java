@@ -0,0 +1,73 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.benchmark;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pcgen.facade.core.DataSetFacade;
+import pcgen.facade.core.SourceSelectionFacade;
+
+/**
+ * SourceLoadBenchmark measures the loading and parsing of the sources used by
+ * a character, as done by SourceFileLoader when the sources are selected. The
+ * sources are loaded again for each invocation rather than reusing the loaded
+ * data, so each invocation measures a complete load.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class SourceLoadBenchmark
+{
+
+	/**
+	 * The character whose sources are to be loaded, from the characters
+	 * directory.
+	 */
+	@Param({"CodeMonkey", "SpecialWizard"})
+	public String character;
+
+	private SourceSelectionFacade sources;
+
+	@Setup
+	public void setUp()
+	{
+		BenchmarkSupport.initialise();
+		sources = BenchmarkSupport.getSources(
+			new File("characters", character + ".pcg")); //$NON-NLS-1$
+	}
+
+	@Benchmark
+	public DataSetFacade loadSources()
+	{
+		return BenchmarkSupport.loadSources(sources, false);
+	}
+}
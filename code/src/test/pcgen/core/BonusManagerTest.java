@@ -18,9 +18,13 @@
  */
 package pcgen.core;
 
+import java.util.ArrayList;
+import java.util.List;
 
 import pcgen.AbstractCharacterTestCase;
+import pcgen.cdom.base.FormulaFactory;
 import pcgen.cdom.enumeration.ListKey;
+import pcgen.cdom.enumeration.VariableKey;
 import pcgen.core.bonus.Bonus;
 import pcgen.core.bonus.BonusObj;
 import pcgen.rules.context.LoadContext;
@@ -123,4 +127,132 @@ public class BonusManagerTest extends AbstractCharacterTestCase
 		}
 	}
 
+	/**
+	 * Validate that typed, .REPLACE and untyped bonuses are all found when 
+	 * totalling a bonus, and that a typed total only includes its own type.
+	 */
+	@Test
+	public void testTotalByPrefixAndType()
+	{
+		PCTemplate testObj = TestHelper.makeTemplate("PrefixAndType");
+		LoadContext context = Globals.getContext();
+		testObj.addToListFor(ListKey.BONUS,
+			Bonus.newBonus(context, "COMBAT|AC|2|TYPE=Luck"));
+		testObj.addToListFor(ListKey.BONUS,
+			Bonus.newBonus(context, "COMBAT|AC|1|TYPE=Armor"));
+		testObj.addToListFor(ListKey.BONUS,
+			Bonus.newBonus(context, "COMBAT|AC|4|TYPE=Armor.REPLACE"));
+		testObj.addToListFor(ListKey.BONUS,
+			Bonus.newBonus(context, "COMBAT|AC|1"));
+		
+		PlayerCharacter pc = getCharacter();
+		pc.addTemplate(testObj);
+		pc.calcActiveBonuses();
+
+		assertEquals("Incorrect bonus total", 7.0,
+			pc.getTotalBonusTo("COMBAT", "AC"), 0.0001);
+		assertEquals("Incorrect luck bonus total", 2.0,
+			pc.getBonusDueToType("COMBAT", "AC", "Luck"), 0.0001);
+		assertEquals("Incorrect armor bonus total", 4.0,
+			pc.getBonusDueToType("COMBAT", "AC", "Armor"), 0.0001);
+	}
+
+	/**
+	 * Validate that the bonus dependencies kept between calculations are 
+	 * rebuilt when bonuses are added, removed or reordered, by comparing the 
+	 * totals with those of a new character holding the same bonuses.
+	 */
+	@Test
+	public void testDependenciesFollowActiveBonuses()
+	{
+		LoadContext context = Globals.getContext();
+		PCTemplate vars = TestHelper.makeTemplate("DependencyVars");
+		vars.put(VariableKey.getConstant("DepBase"), FormulaFactory.ZERO);
+		vars.put(VariableKey.getConstant("DepTotal"), FormulaFactory.ZERO);
+		PCTemplate total = TestHelper.makeTemplate("DependencyTotal");
+		total.addToListFor(ListKey.BONUS,
+			Bonus.newBonus(context, "VAR|DepTotal|DepBase*2"));
+		PCTemplate first = TestHelper.makeTemplate("DependencyFirst");
+		first.addToListFor(ListKey.BONUS,
+			Bonus.newBonus(context, "VAR|DepBase|2"));
+		PCTemplate second = TestHelper.makeTemplate("DependencySecond");
+		second.addToListFor(ListKey.BONUS,
+			Bonus.newBonus(context, "VAR|DepBase|3"));
+		List<PCTemplate> fillers = new ArrayList<>();
+		for (int i = 0; i < 40; i++)
+		{
+			PCTemplate filler = TestHelper.makeTemplate("DependencyFiller" + i);
+			filler.addToListFor(ListKey.BONUS,
+				Bonus.newBonus(context, "COMBAT|TOHIT|1"));
+			fillers.add(filler);
+		}
+
+		PlayerCharacter pc = getCharacter();
+		List<PCTemplate> held = new ArrayList<>();
+		addTemplate(pc, held, vars);
+		addTemplate(pc, held, total);
+		addTemplate(pc, held, first);
+		assertDependentTotal(pc, held, 4.0);
+
+		// A new bonus to a variable the total depends on
+		addTemplate(pc, held, second);
+		assertDependentTotal(pc, held, 10.0);
+
+		// Removing a bonus the total depends on
+		pc.removeTemplate(first);
+		held.remove(first);
+		assertDependentTotal(pc, held, 6.0);
+
+		// Enough new bonuses to change the order of the active bonuses
+		for (PCTemplate filler : fillers)
+		{
+			addTemplate(pc, held, filler);
+		}
+		addTemplate(pc, held, first);
+		assertDependentTotal(pc, held, 10.0);
+
+		// And back again
+		for (PCTemplate filler : fillers)
+		{
+			pc.removeTemplate(filler);
+			held.remove(filler);
+		}
+		pc.removeTemplate(second);
+		held.remove(second);
+		assertDependentTotal(pc, held, 4.0);
+	}
+
+	private static void addTemplate(PlayerCharacter pc, List<PCTemplate> held,
+		PCTemplate template)
+	{
+		pc.addTemplate(template);
+		held.add(template);
+	}
+
+	/**
+	 * Check the total of a variable which depends on another against the 
+	 * expected value, and against a new character with the same templates 
+	 * whose bonuses have never been calculated before.
+	 */
+	private static void assertDependentTotal(PlayerCharacter pc,
+		List<PCTemplate> held, double expected)
+	{
+		pc.calcActiveBonuses();
+		double cached = pc.getVariableValue("DepTotal", "").doubleValue();
+
+		PlayerCharacter uncached = new PlayerCharacter();
+		for (PCTemplate template : held)
+		{
+			uncached.addTemplate(template);
+		}
+		uncached.calcActiveBonuses();
+
+		assertEquals("Incorrect total without kept dependencies", expected,
+			uncached.getVariableValue("DepTotal", "").doubleValue(), 0.0001);
+		assertEquals("Incorrect total with kept dependencies", expected,
+			cached, 0.0001);
+		assertEquals("Incorrect bonus total", pc.getTotalBonusTo("COMBAT",
+			"TOHIT"), uncached.getTotalBonusTo("COMBAT", "TOHIT"), 0.0001);
+	}
+
 }
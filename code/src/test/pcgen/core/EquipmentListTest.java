@@ -18,14 +18,19 @@
  */
 package pcgen.core;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import junit.framework.Test;
 import junit.framework.TestSuite;
 import junit.framework.TestCase;
+import pcgen.cdom.base.Constants;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.cdom.enumeration.StringKey;
+import pcgen.cdom.enumeration.Type;
 import pcgen.cdom.reference.CDOMDirectSingleRef;
+import pcgen.rules.context.AbstractReferenceContext;
+import pcgen.system.PCGenSettings;
 import pcgen.util.TestHelper;
 
 /**
@@ -109,4 +114,129 @@ public class EquipmentListTest extends TestCase
 		assertEquals("Should find the DUmmy equipment object.", eq, results
 			.get(0));
 	}
+
+	/**
+	 * test that getEquipmentOfType sees Equipment added, and type changes
+	 * made, after an earlier search
+	 */
+	public void testGetEquipmentOfTypeAfterChange()
+	{
+		eq.put(StringKey.KEY_NAME, "ChangeKey");
+		Globals.getContext().getReferenceContext().importObject(eq);
+		List<Equipment> results =
+				EquipmentList.getEquipmentOfType("Weapon.Melee", "Magic");
+		assertTrue(results.contains(eq));
+		final int count = results.size();
+
+		Equipment other = new Equipment();
+		other.setName("Other");
+		other.put(StringKey.KEY_NAME, "OtherKey");
+		TestHelper.addType(other, "WEAPON.MELEE");
+		Globals.getContext().getReferenceContext().importObject(other);
+		results = EquipmentList.getEquipmentOfType("Weapon.Melee", "Magic");
+		assertEquals("Should find the added equipment", count + 1, results
+			.size());
+		assertTrue(results.contains(other));
+
+		eq.addType(Type.getConstant("Magic"));
+		results = EquipmentList.getEquipmentOfType("weapon.melee", "magic");
+		assertEquals("Should exclude the now magic equipment", count, results
+			.size());
+		assertFalse(results.contains(eq));
+		assertTrue(EquipmentList.getEquipmentOfType("Chocolate.Magic", "")
+			.contains(eq));
+		assertTrue(eq.isType("Weapon.Magic"));
+		assertTrue(eq.isType("TYPE=chocolate"));
+		assertFalse(eq.isType("Weapon.Ranged"));
+
+		Globals.getContext().getReferenceContext().forget(eq);
+		Globals.getContext().getReferenceContext().forget(other);
+	}
+	/**
+	 * test that generating equipment on multiple threads creates the same
+	 * items, in the same order, as generating it on a single thread
+	 */
+	public void testParallelGenerationMatchesSerial()
+	{
+		AbstractReferenceContext ref = Globals.getContext().getReferenceContext();
+		SizeAdjustment sa = ref.silentlyGetConstructedCDOMObject(
+				SizeAdjustment.class, "M");
+		CDOMDirectSingleRef<SizeAdjustment> mediumRef = CDOMDirectSingleRef.getRef(sa);
+		List<Equipment> baseItems = new ArrayList<>();
+		for (int i = 0; i < 40; i++)
+		{
+			Equipment weapon = new Equipment();
+			weapon.setName("Blade" + i);
+			weapon.put(StringKey.KEY_NAME, "Blade" + i);
+			weapon.put(ObjectKey.SIZE, mediumRef);
+			weapon.put(ObjectKey.BASESIZE, mediumRef);
+			TestHelper.addType(weapon, "WEAPON.MELEE");
+			ref.importObject(weapon);
+			baseItems.add(weapon);
+		}
+		List<EquipmentModifier> mods = new ArrayList<>();
+		for (String material : new String[]{"Darkwood", "Adamantine", "Mithral"})
+		{
+			EquipmentModifier mod = new EquipmentModifier();
+			mod.setName(material);
+			mod.put(StringKey.KEY_NAME, material.toUpperCase());
+			TestHelper.addType(mod, "WEAPON");
+			ref.importObject(mod);
+			mods.add(mod);
+		}
+
+		boolean wasParallel = PCGenSettings.OPTIONS_CONTEXT.initBoolean(
+			PCGenSettings.OPTION_AUTOCREATE_PARALLEL, false);
+		SettingsHandler.setAutogen(Constants.AUTOGEN_EXOTIC_MATERIAL, true);
+		try
+		{
+			PCGenSettings.OPTIONS_CONTEXT.setBoolean(
+				PCGenSettings.OPTION_AUTOCREATE_PARALLEL, false);
+			List<String> serialKeys = generateKeys(ref, baseItems);
+			PCGenSettings.OPTIONS_CONTEXT.setBoolean(
+				PCGenSettings.OPTION_AUTOCREATE_PARALLEL, true);
+			List<String> parallelKeys = generateKeys(ref, baseItems);
+
+			assertEquals("Each weapon should be made of each material",
+				baseItems.size() * mods.size(), serialKeys.size());
+			assertEquals(serialKeys, parallelKeys);
+		}
+		finally
+		{
+			SettingsHandler.setAutogen(Constants.AUTOGEN_EXOTIC_MATERIAL, false);
+			PCGenSettings.OPTIONS_CONTEXT.setBoolean(
+				PCGenSettings.OPTION_AUTOCREATE_PARALLEL, wasParallel);
+			for (Equipment weapon : baseItems)
+			{
+				ref.forget(weapon);
+			}
+			for (EquipmentModifier mod : mods)
+			{
+				ref.forget(mod);
+			}
+		}
+	}
+
+	/**
+	 * Generates equipment and returns the keys of the generated items in the
+	 * order they were registered. The generated items are then forgotten so
+	 * that the next generation starts from the same equipment.
+	 */
+	private static List<String> generateKeys(AbstractReferenceContext ref,
+		List<Equipment> baseItems)
+	{
+		EquipmentList.autoGenerateEquipment();
+		List<String> keys = new ArrayList<>();
+		for (Equipment item : new ArrayList<>(
+			ref.getConstructedCDOMObjects(Equipment.class)))
+		{
+			if (item.isType(Type.AUTO_GEN.toString())
+				&& item.getKeyName().startsWith("Blade") && !baseItems.contains(item))
+			{
+				keys.add(item.getKeyName());
+				ref.forget(item);
+			}
+		}
+		return keys;
+	}
 }
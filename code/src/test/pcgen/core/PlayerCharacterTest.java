@@ -24,6 +24,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
 
@@ -33,13 +34,20 @@ import pcgen.cdom.base.CDOMReference;
 import pcgen.cdom.base.Constants;
 import pcgen.cdom.base.FormulaFactory;
 import pcgen.cdom.content.LevelCommandFactory;
+import pcgen.cdom.enumeration.CharID;
 import pcgen.cdom.enumeration.IntegerKey;
 import pcgen.cdom.enumeration.ListKey;
 import pcgen.cdom.enumeration.ObjectKey;
+import pcgen.cdom.enumeration.PCStringKey;
 import pcgen.cdom.enumeration.StringKey;
 import pcgen.cdom.enumeration.Type;
 import pcgen.cdom.enumeration.VariableKey;
+import pcgen.cdom.inst.ObjectCache;
 import pcgen.cdom.inst.PCClassLevel;
+import pcgen.cdom.facet.EquipmentFacet;
+import pcgen.cdom.facet.FacetLibrary;
+import pcgen.cdom.facet.event.DataFacetChangeEvent;
+import pcgen.cdom.facet.event.DataFacetChangeListener;
 import pcgen.cdom.list.CompanionList;
 import pcgen.cdom.reference.CDOMDirectSingleRef;
 import pcgen.cdom.reference.CDOMSimpleSingleRef;
@@ -49,6 +57,7 @@ import pcgen.core.analysis.SkillRankControl;
 import pcgen.core.bonus.Bonus;
 import pcgen.core.bonus.BonusObj;
 import pcgen.core.character.CharacterSpell;
+import pcgen.core.character.EquipSet;
 import pcgen.core.character.SpellBook;
 import pcgen.core.display.CharacterDisplay;
 import pcgen.core.pclevelinfo.PCLevelInfo;
@@ -1308,4 +1317,132 @@ public class PlayerCharacterTest extends AbstractCharacterTestCase
 			.getSkillPointsRemaining());
 		
 	}
+
+	/**
+	 * Test that changing display only details and rules relevant details both
+	 * mark the character as changed, but only rules relevant details discard
+	 * the calculated values.
+	 */
+	public void testStringChangesMarkDirty()
+	{
+		PlayerCharacter character = getCharacter();
+		character.setDirty(false);
+		int serial = character.getSerial();
+		ObjectCache objectCache = character.getObjectCache();
+		VariableProcessor vp = character.getVariableProcessor();
+		vp.addCachedVariable("TESTVAR", 3.0f);
+
+		character.setStringFor(PCStringKey.EYECOLOR, "Green");
+		assertTrue("Display change should mark character dirty",
+			character.isDirty());
+		assertTrue("Display change should advance the serial",
+			character.getSerial() > serial);
+		assertSame("Display change should keep the object cache",
+			objectCache, character.getObjectCache());
+		assertEquals("Display change should keep cached variables",
+			Float.valueOf(3.0f), vp.getCachedVariable("TESTVAR"));
+
+		serial = character.getSerial();
+		character.setStringFor(PCStringKey.RESIDENCE, "Waterdeep");
+		assertTrue("Rules relevant change should advance the serial",
+			character.getSerial() > serial);
+		assertNotSame("Rules relevant change should discard the object cache",
+			objectCache, character.getObjectCache());
+		assertNull("Rules relevant change should discard cached variables",
+			vp.getCachedVariable("TESTVAR"));
+	}
+
+	/**
+	 * Test that rebuilding the equipment list from the equipment sets only
+	 * passes the net change in equipment to the facets that depend on it.
+	 */
+	public void testCalcEquipmentListSendsNetChange()
+	{
+		final PlayerCharacter character = getCharacter();
+		final EquipmentFacet equipmentFacet =
+				FacetLibrary.getFacet(EquipmentFacet.class);
+		final Set<Equipment> downstream =
+				Collections.newSetFromMap(new IdentityHashMap<>());
+		final List<String> events = new ArrayList<>();
+		DataFacetChangeListener<CharID, Equipment> listener =
+				new DataFacetChangeListener<CharID, Equipment>()
+		{
+			@Override
+			public void dataAdded(DataFacetChangeEvent<CharID, Equipment> dfce)
+			{
+				if (dfce.getCharID() == character.getCharID())
+				{
+					downstream.add(dfce.getCDOMObject());
+					events.add("+" + dfce.getCDOMObject().getName());
+				}
+			}
+
+			@Override
+			public void dataRemoved(DataFacetChangeEvent<CharID, Equipment> dfce)
+			{
+				if (dfce.getCharID() == character.getCharID())
+				{
+					downstream.remove(dfce.getCDOMObject());
+					events.add("-" + dfce.getCDOMObject().getName());
+				}
+			}
+		};
+		equipmentFacet.addDataFacetChangeListener(listener);
+		try
+		{
+			Equipment sword = new Equipment();
+			sword.setName("TestSword");
+			Equipment shield = new Equipment();
+			shield.setName("TestShield");
+			character.addEquipment(sword);
+			character.addEquipment(shield);
+			character.addEquipSet(new EquipSet("0.1", "Default"));
+			character.addEquipSet(new EquipSet("0.1.1", "Equipped",
+				"TestSword", sword));
+			EquipSet shieldSet =
+					new EquipSet("0.1.2", "Equipped", "TestShield", shield);
+			character.addEquipSet(shieldSet);
+
+			character.setCalcEquipmentList();
+			assertSameItems(equipmentFacet.getSet(character.getCharID()),
+				downstream);
+			Set<Equipment> equipped = character.getEquippedEquipmentSet();
+			assertEquals(2, equipped.size());
+
+			events.clear();
+			character.setCalcEquipmentList();
+			assertTrue("Unchanged equipment should not be removed and added",
+				events.isEmpty());
+			assertSameItems(equipmentFacet.getSet(character.getCharID()),
+				downstream);
+			assertSameItems(equipped, character.getEquippedEquipmentSet());
+
+			character.delEquipSet(shieldSet);
+			character.setCalcEquipmentList();
+			assertEquals(Collections.singletonList("-TestShield"), events);
+			assertSameItems(equipmentFacet.getSet(character.getCharID()),
+				downstream);
+			assertSameItems(Collections.singleton(sword),
+				character.getEquippedEquipmentSet());
+		}
+		finally
+		{
+			equipmentFacet.removeDataFacetChangeListener(listener);
+		}
+	}
+
+	private static void assertSameItems(Collection<Equipment> expected,
+		Collection<Equipment> actual)
+	{
+		assertEquals(expected.size(), actual.size());
+		for (Equipment eq : expected)
+		{
+			boolean found = false;
+			for (Equipment item : actual)
+			{
+				found |= (item == eq);
+			}
+			assertTrue("Missing " + eq.getName(), found);
+		}
+	}
 }
@@ -0,0 +1,76 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.core.prereq;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+import junit.textui.TestRunner;
+import pcgen.AbstractCharacterTestCase;
+import pcgen.cdom.enumeration.Gender;
+import pcgen.core.PlayerCharacter;
+import pcgen.persistence.lst.prereq.PreParserFactory;
+
+/**
+ * {@code PrerequisiteResultCacheTest} tests that prerequisite results are
+ * only reused while the cache is open and the character is unchanged.
+ */
+public class PrerequisiteResultCacheTest extends AbstractCharacterTestCase
+{
+	public static void main(final String[] args)
+	{
+		TestRunner.run(PrerequisiteResultCacheTest.class);
+	}
+
+	/**
+	 * @return Test
+	 */
+	public static Test suite()
+	{
+		return new TestSuite(PrerequisiteResultCacheTest.class);
+	}
+
+	/**
+	 * Test that results are cached only while open and are discarded when the
+	 * character changes.
+	 * @throws Exception
+	 */
+	public void testCachedResults() throws Exception
+	{
+		final PlayerCharacter character = getCharacter();
+		character.setGender(Gender.Male);
+		final Prerequisite prereq =
+				PreParserFactory.getInstance().parse("PREGENDER:M");
+		final PrerequisiteResultCache cache =
+				character.getPrerequisiteResultCache();
+
+		assertTrue(PrereqHandler.passes(prereq, character, null));
+		assertEquals("Closed cache should not be used", 0, cache.getMisses());
+
+		try (PrerequisiteResultCache open = cache.open())
+		{
+			assertTrue(PrereqHandler.passes(prereq, character, null));
+			assertTrue(PrereqHandler.passes(prereq, character, null));
+			assertEquals(1, cache.getMisses());
+			assertEquals(1, cache.getHits());
+
+			character.setGender(Gender.Female);
+			assertFalse("Change to character should be seen",
+				PrereqHandler.passes(prereq, character, null));
+			assertEquals(2, cache.getMisses());
+		}
+		assertFalse(cache.isOpen());
+	}
+}
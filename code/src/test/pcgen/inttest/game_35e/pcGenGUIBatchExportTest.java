@@ -0,0 +1,54 @@
+/*
+ * pcGenGUIBatchExportTest.java
+ */
+package pcgen.inttest.game_35e;
+
+import pcgen.inttest.pcGenGUITestCase;
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+ * Tests a batch export of several 3.5e characters which share one load of
+ * their data. See the PCG files for details
+ */
+@SuppressWarnings("nls")
+public class pcGenGUIBatchExportTest extends pcGenGUITestCase
+{
+
+
+	public pcGenGUIBatchExportTest()
+	{
+		// Empty Constructor
+	}
+
+	/**
+	 * standard JUnit style constructor
+	 * 
+	 * @param name
+	 */
+	public pcGenGUIBatchExportTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * @return A <tt>TestSuite</tt>
+	 */
+	public static Test suite()
+	{
+		return new TestSuite(pcGenGUIBatchExportTest.class);
+	}
+
+	/**
+	 * Exports different characters at the same time, and checks that each
+	 * sheet matches the sheet expected when that character is exported on
+	 * its own.
+	 * 
+	 * @throws Exception If an error occurs.
+	 */
+	public void testConcurrentExport() throws Exception
+	{
+		runBatchTest(4, "35e_Alice", "35e_Charlie", "35e_Dave", "35e_Eve",
+			"35e_Fran");
+	}
+}
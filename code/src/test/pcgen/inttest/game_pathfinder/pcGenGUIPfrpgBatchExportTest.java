@@ -0,0 +1,62 @@
+/*
+ * pcGenGUIPfrpgBatchExportTest.java
+ */
+package pcgen.inttest.game_pathfinder;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+import pcgen.cdom.base.Constants;
+import pcgen.core.Equipment;
+import pcgen.core.Globals;
+import pcgen.inttest.PcgenFtlTestCase;
+
+/**
+ * Tests a batch export of pathfinder characters which all share one load of
+ * their data. See the PCG files for details
+ */
+@SuppressWarnings("nls")
+public class pcGenGUIPfrpgBatchExportTest extends PcgenFtlTestCase
+{
+
+
+	public pcGenGUIPfrpgBatchExportTest()
+	{
+		super("pf_batch");
+	}
+
+	/**
+	 * standard JUnit style constructor
+	 * 
+	 * @param name
+	 */
+	public pcGenGUIPfrpgBatchExportTest(String name)
+	{
+		super(name);
+	}
+
+	/**
+	 * @return A <tt>TestSuite</tt>
+	 */
+	public static Test suite()
+	{
+		return new TestSuite(pcGenGUIPfrpgBatchExportTest.class);
+	}
+
+	/**
+	 * Loads and outputs two characters holding custom items with the same
+	 * key, and checks that neither custom item is left in the loaded data.
+	 * 
+	 * @throws Exception If an error occurs.
+	 */
+	public void testSharedCustomEquipment() throws Exception
+	{
+		runBatchTest(1, "pf_Cleric", "pf_Cleric");
+
+		Equipment eq =
+				Globals.getContext().getReferenceContext()
+					.silentlyGetConstructedCDOMObject(Equipment.class,
+						"Masterwork Morningstar");
+		assertTrue("Custom item was added to the loaded data",
+			(eq == null) || !eq.isType(Constants.TYPE_CUSTOM));
+	}
+}
@@ -7,6 +7,11 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 
 import org.custommonkey.xmlunit.XMLTestCase;
@@ -140,6 +145,75 @@ public abstract class pcGenGUITestCase extends XMLTestCase
 		assertXMLEqual(expected, actual);
 	}
 
+	/**
+	 * Run a batch export of several characters, which share a single load
+	 * of their data, and check that each character sheet matches the one
+	 * expected when the character is exported on its own. The same
+	 * character may be listed more than once.
+	 * @param threads The number of characters to export at the same time
+	 * @param characters The PCs
+	 * @throws Exception
+	 */
+	public void runBatchTest(int threads, String... characters)
+		throws Exception
+	{
+		File outputFolder = new File("code/testsuite/output/batch" + threads);
+		outputFolder.mkdirs();
+		List<File> characterFiles = new ArrayList<>();
+		for (int i = 0; i < characters.length; i++)
+		{
+			// Copy each PC, as the batch writes each sheet next to its PC
+			String name = i + "_" + characters[i];
+			File characterFile = new File(outputFolder,
+				name + Constants.EXTENSION_CHARACTER_FILE);
+			Files.copy(
+				new File("code/testsuite/PCGfiles/" + characters[i]
+					+ Constants.EXTENSION_CHARACTER_FILE).toPath(),
+				characterFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			new File(outputFolder, name + ".xml").delete();
+			characterFiles.add(characterFile);
+		}
+
+		String pccLoc = TestHelper.findDataFolder();
+		try
+		{
+			TestHelper.createDummySettingsFile(TEST_CONFIG_FILE, "testsuite",
+				pccLoc);
+			/*
+			 * Main only takes a batch from its command line, so the batch is
+			 * set directly before exporting with no single character.
+			 */
+			setMainField("batchFiles", characterFiles);
+			setMainField("exportThreads", threads);
+			assertTrue("Batch export failed.", Main.loadCharacterAndExport(
+				null, getSheetName(), null, TEST_CONFIG_FILE));
+		}
+		finally
+		{
+			setMainField("batchFiles", null);
+			new File(TEST_CONFIG_FILE).delete();
+		}
+
+		for (int i = 0; i < characters.length; i++)
+		{
+			String actual =
+					readFile(new File(outputFolder, i + "_" + characters[i]
+						+ ".xml"));
+			String expected =
+					readFile(new File("code/testsuite/csheets/"
+						+ characters[i] + ".xml"));
+			assertXMLEqual("Batch export of " + characters[i] + " differs.",
+				expected, actual);
+		}
+	}
+
+	private static void setMainField(String fieldName, Object value)
+		throws IllegalAccessException
+	{
+		Field field = (Field) TestHelper.findField(Main.class, fieldName);
+		field.set(null, value);
+	}
+
 	/**
 	 * @return
 	 */
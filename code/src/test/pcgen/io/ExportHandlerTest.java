@@ -25,6 +25,10 @@ import java.io.IOException;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import junit.framework.Test;
 import junit.framework.TestSuite;
@@ -35,6 +39,7 @@ import pcgen.cdom.enumeration.ListKey;
 import pcgen.cdom.enumeration.ObjectKey;
 import pcgen.cdom.enumeration.Type;
 import pcgen.cdom.enumeration.VariableKey;
+import pcgen.cdom.facet.base.FacetProfiler;
 import pcgen.cdom.reference.CDOMDirectSingleRef;
 import pcgen.core.Ability;
 import pcgen.core.AbilityCategory;
@@ -440,6 +445,85 @@ public class ExportHandlerTest extends AbstractCharacterTestCase
 			result);
 	}
 	
+	/**
+	 * Check that exports running at the same time produce the same output as
+	 * when run on their own, and that neither discards the facet activity
+	 * recorded by the other, or by anything else running.
+	 * @throws Exception If the export fails.
+	 */
+	public void testConcurrentExportsKeepProfile() throws Exception
+	{
+		String template = "|NAME| |FOR.0,COUNT[SKILLS],1,\\SKILL.%\\: "
+			+ "\\SKILL.%.TOTAL.SIGN\\, ,; ,1|";
+		PlayerCharacter first = getCharacter();
+		PlayerCharacter second = first.clone();
+		String expected = evaluateTemplate(template, first);
+		assertEquals(expected, evaluateTemplate(template, second));
+
+		boolean wasEnabled = FacetProfiler.isEnabled();
+		FacetProfiler.setEnabled(true);
+		try
+		{
+			FacetProfiler.reset();
+			// Activity recorded before the exports start
+			FacetProfiler.eventSent(this, FacetProfiler.startEvent());
+
+			ExecutorService pool = Executors.newFixedThreadPool(2);
+			try
+			{
+				CountDownLatch start = new CountDownLatch(1);
+				Future<String> firstResult = pool.submit(() ->
+				{
+					start.await();
+					return evaluateTemplate(template, first);
+				});
+				Future<String> secondResult = pool.submit(() ->
+				{
+					start.await();
+					return evaluateTemplate(template, second);
+				});
+				start.countDown();
+				assertEquals(expected, firstResult.get());
+				assertEquals(expected, secondResult.get());
+			}
+			finally
+			{
+				pool.shutdownNow();
+			}
+
+			boolean found = false;
+			for (FacetProfiler.Statistics stats : FacetProfiler
+				.getEventStatistics())
+			{
+				found |= stats.getName().equals(getClass().getName());
+			}
+			assertTrue("Profile was reset by an export", found);
+		}
+		finally
+		{
+			FacetProfiler.setEnabled(wasEnabled);
+			FacetProfiler.reset();
+		}
+	}
+
+	private String evaluateTemplate(String template, PlayerCharacter pc)
+		throws IOException, ExportException
+	{
+		File temp = File.createTempFile("testTemplate", ".txt");
+		temp.deleteOnExit();
+		try (BufferedWriter out = new BufferedWriter(new FileWriter(temp)))
+		{
+			out.write(template);
+		}
+
+		StringWriter retWriter = new StringWriter();
+		BufferedWriter bufWriter = new BufferedWriter(retWriter);
+		ExportHandler export = new ExportHandler(temp);
+		export.write(pc, bufWriter);
+		bufWriter.flush();
+		return retWriter.toString();
+	}
+
 	private String evaluateToken(String token, PlayerCharacter pc)
 		throws IOException
 	{
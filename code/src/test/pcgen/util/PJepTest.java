@@ -331,4 +331,54 @@ public class PJepTest extends AbstractCharacterTestCase
 					"IF(var(\"UseAlternateDamage\")==2,-2,5)", "");
 		assertEquals("Test should have returned -2", -2, val.doubleValue(), 0.1);
 	}
+
+	/**
+	 * Test that a parsed formula is reused and can be evaluated with new
+	 * variable values without being parsed again.
+	 */
+	public void testParsedFormulaReuse() throws Exception
+	{
+		final PJEP jep = new PJEP();
+
+		PJEP.ParsedFormula parsed = jep.parseFormula("FOO*2+BAR");
+		assertNotNull("Formula should parse", parsed);
+		assertSame("Formula should only be parsed once", parsed,
+			jep.parseFormula("FOO*2+BAR"));
+		assertEquals(2, parsed.getVariableNames().size());
+
+		int foo = parsed.getVariableNames().indexOf("FOO");
+		int bar = parsed.getVariableNames().indexOf("BAR");
+		parsed.setVariableValue(foo, 3);
+		parsed.setVariableValue(bar, 1);
+		assertEquals(7.0, ((Number) jep.evaluate(parsed.getNode()))
+			.doubleValue(), 0.001);
+
+		parsed.setVariableValue(foo, 5);
+		assertEquals(11.0, ((Number) jep.evaluate(parsed.getNode()))
+			.doubleValue(), 0.001);
+
+		assertNull("Invalid formula should not parse",
+			jep.parseFormula("3+*"));
+	}
+
+	/**
+	 * Test that a parser only keeps a bounded number of parsed formulas,
+	 * discarding the least recently used.
+	 */
+	public void testParsedFormulasBounded() throws Exception
+	{
+		final PJEP jep = new PJEP();
+
+		PJEP.ParsedFormula first = jep.parseFormula("FOO+0");
+		for (int i = 1; i <= PJEP.MAX_PARSED_FORMULAS; i++)
+		{
+			jep.parseFormula("FOO+" + i);
+			// Keep the first formula recently used
+			assertSame(first, jep.parseFormula("FOO+0"));
+		}
+		assertEquals(PJEP.MAX_PARSED_FORMULAS, jep.getParsedFormulaCount());
+		assertSame("Recently used formula should be kept", first,
+			jep.parseFormula("FOO+0"));
+		assertEquals(PJEP.MAX_PARSED_FORMULAS, jep.getParsedFormulaCount());
+	}
 }
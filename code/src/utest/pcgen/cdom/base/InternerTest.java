@@ -0,0 +1,87 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.base;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import pcgen.base.formula.Formula;
+
+public class InternerTest extends TestCase
+{
+
+	@Test
+	public void testNotSharedOutsideLoad()
+	{
+		Interner<String> interner = new Interner<>("Test", s -> 10);
+		String first = new String("Value");
+		String second = new String("Value");
+		assertSame(first, interner.intern("Value", first));
+		assertSame(second, interner.intern("Value", second));
+		assertEquals(0, interner.getSharedCount());
+	}
+
+	@Test
+	public void testSharedDuringLoad()
+	{
+		Interner<String> interner = new Interner<>("Test", s -> 10);
+		String first = new String("Value");
+		String second = new String("Value");
+		Interner.open();
+		try
+		{
+			assertSame(first, interner.intern("Value", first));
+			assertSame(first, interner.intern("Value", second));
+			assertEquals(1, interner.getSharedCount());
+		}
+		finally
+		{
+			String report = Interner.close();
+			assertTrue(report.contains("Test: 2 loaded, 1 unique"));
+		}
+		assertSame(second, interner.intern("Other", second));
+	}
+
+	@Test
+	public void testNestedLoad()
+	{
+		Interner.open();
+		Interner.open();
+		assertNull(Interner.close());
+		assertNotNull(Interner.close());
+		assertNull(Interner.close());
+	}
+
+	@Test
+	public void testFormulaFactory()
+	{
+		Interner.open();
+		try
+		{
+			Formula f = FormulaFactory.getFormulaFor("max(0,CL-1)");
+			assertSame(f, FormulaFactory.getFormulaFor("max(0,CL-1)"));
+			assertSame(FormulaFactory.getFormulaFor("3"),
+				FormulaFactory.getFormulaFor("3"));
+		}
+		finally
+		{
+			Interner.close();
+		}
+		assertNotSame(FormulaFactory.getFormulaFor("max(0,CL-1)"),
+			FormulaFactory.getFormulaFor("max(0,CL-1)"));
+	}
+}
@@ -0,0 +1,172 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import pcgen.cdom.enumeration.AssociationKey;
+import pcgen.cdom.enumeration.DataSetID;
+import pcgen.cdom.helper.AvailableSpell;
+import pcgen.cdom.list.ClassSpellList;
+import pcgen.cdom.reference.CDOMDirectSingleRef;
+import pcgen.core.Globals;
+import pcgen.core.SettingsHandler;
+import pcgen.core.spell.Spell;
+import pcgen.rules.context.ConsolidatedListCommitStrategy;
+import pcgen.rules.context.LoadContext;
+
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * The Class {@code MasterAvailableSpellFacetTest} checks the lookups of
+ * AvailableSpells by spell list, by spell list and level and by spell list and
+ * spell.
+ */
+public class MasterAvailableSpellFacetTest
+{
+
+	private final MasterAvailableSpellFacet facet =
+			new MasterAvailableSpellFacet();
+
+	private DataSetID dsID;
+	private ClassSpellList wizard;
+	private ClassSpellList cleric;
+	private Spell light;
+	private Spell bless;
+
+	@Before
+	public void setUp()
+	{
+		dsID = DataSetID.getID();
+		wizard = new ClassSpellList();
+		wizard.setName("Wizard");
+		cleric = new ClassSpellList();
+		cleric.setName("Cleric");
+		light = new Spell();
+		light.setName("Light");
+		bless = new Spell();
+		bless.setName("Bless");
+	}
+
+	@Test
+	public void testLookups()
+	{
+		AvailableSpell wizLight = new AvailableSpell(wizard, light, 0);
+		AvailableSpell clericLight = new AvailableSpell(cleric, light, 0);
+		AvailableSpell clericBless = new AvailableSpell(cleric, bless, 1);
+		AvailableSpell clericLight2 = new AvailableSpell(cleric, light, 2);
+		facet.add(dsID, wizLight);
+		facet.add(dsID, clericLight);
+		facet.add(dsID, clericBless);
+		facet.add(dsID, clericLight2);
+
+		assertEquals(Collections.singletonList(wizLight),
+			facet.getAllSpellsInList(wizard, dsID));
+		assertEquals(Arrays.asList(clericLight, clericBless, clericLight2),
+			facet.getAllSpellsInList(cleric, dsID));
+		assertEquals(Collections.singletonList(clericBless),
+			facet.getSpellsInList(cleric, dsID, 1));
+		assertTrue(facet.getSpellsInList(wizard, dsID, 1).isEmpty());
+		assertEquals(Arrays.asList(clericLight, clericLight2),
+			facet.getMatchingSpellsInList(cleric, dsID, light));
+		assertTrue(facet.getMatchingSpellsInList(wizard, dsID, bless).isEmpty());
+	}
+
+	@Test
+	public void testAddAfterLookup()
+	{
+		AvailableSpell wizLight = new AvailableSpell(wizard, light, 0);
+		facet.add(dsID, wizLight);
+		assertEquals(Collections.singletonList(wizLight),
+			facet.getAllSpellsInList(wizard, dsID));
+		AvailableSpell wizBless = new AvailableSpell(wizard, bless, 1);
+		facet.add(dsID, wizBless);
+		assertEquals(Arrays.asList(wizLight, wizBless),
+			facet.getAllSpellsInList(wizard, dsID));
+		assertTrue(facet.getAllSpellsInList(cleric, DataSetID.getID())
+			.isEmpty());
+	}
+
+	@Test
+	public void testRemoveAndAddAfterLookup()
+	{
+		AvailableSpell wizLight = new AvailableSpell(wizard, light, 0);
+		AvailableSpell wizBless = new AvailableSpell(wizard, bless, 1);
+		facet.add(dsID, wizLight);
+		facet.add(dsID, wizBless);
+		assertEquals(Arrays.asList(wizLight, wizBless),
+			facet.getAllSpellsInList(wizard, dsID));
+		//Same number of AvailableSpells, but different contents
+		facet.remove(dsID, wizBless);
+		AvailableSpell clericBless = new AvailableSpell(cleric, bless, 1);
+		facet.add(dsID, clericBless);
+		assertEquals(Collections.singletonList(wizLight),
+			facet.getAllSpellsInList(wizard, dsID));
+		assertTrue(facet.getSpellsInList(wizard, dsID, 1).isEmpty());
+		assertEquals(Collections.singletonList(clericBless),
+			facet.getMatchingSpellsInList(cleric, dsID, bless));
+	}
+
+	@Test
+	public void testInitialize()
+	{
+		SettingsHandler.getGame().clearLoadContext();
+		LoadContext context = Globals.getContext();
+		ConsolidatedListCommitStrategy masterLists =
+				(ConsolidatedListCommitStrategy) SettingsHandler.getGame()
+					.getMasterLists();
+		masterLists.addToMasterList("CLASSES", light,
+			CDOMDirectSingleRef.getRef(wizard), light).setAssociation(
+			AssociationKey.SPELL_LEVEL, 0);
+		masterLists.addToMasterList("CLASSES", bless,
+			CDOMDirectSingleRef.getRef(cleric), bless).setAssociation(
+			AssociationKey.SPELL_LEVEL, 1);
+		masterLists.addToMasterList("CLASSES", light,
+			CDOMDirectSingleRef.getRef(cleric), light).setAssociation(
+			AssociationKey.SPELL_LEVEL, 2);
+		facet.initialize(context);
+		DataSetID id = context.getDataSetID();
+
+		assertEquals(Collections.singletonList("Wizard:Light:0"),
+			describe(facet.getAllSpellsInList(wizard, id)));
+		assertEquals(Collections.singletonList("Cleric:Bless:1"),
+			describe(facet.getSpellsInList(cleric, id, 1)));
+		assertEquals(Collections.singletonList("Cleric:Light:2"),
+			describe(facet.getMatchingSpellsInList(cleric, id, light)));
+		assertTrue(facet.getMatchingSpellsInList(wizard, id, bless).isEmpty());
+
+		AvailableSpell wizBless = new AvailableSpell(wizard, bless, 1);
+		facet.add(id, wizBless);
+		assertEquals(Arrays.asList("Wizard:Light:0", "Wizard:Bless:1"),
+			describe(facet.getAllSpellsInList(wizard, id)));
+	}
+
+	private static List<String> describe(List<AvailableSpell> spells)
+	{
+		List<String> list = new ArrayList<>();
+		for (AvailableSpell as : spells)
+		{
+			list.add(as.getSpelllist().getDisplayName() + ':'
+				+ as.getSpell().getDisplayName() + ':' + as.getLevel());
+		}
+		return list;
+	}
+}
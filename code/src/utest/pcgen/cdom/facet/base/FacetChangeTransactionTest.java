@@ -0,0 +1,168 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.DataSetID;
+import pcgen.cdom.facet.event.DataFacetChangeEvent;
+import pcgen.cdom.facet.event.DataFacetChangeListener;
+
+public class FacetChangeTransactionTest extends TestCase
+{
+
+	private CharID id;
+	private CharID otherId;
+	private AbstractListFacet<CharID, String> facet;
+	private final List<String> events = new ArrayList<>();
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		DataSetID dsid = DataSetID.getID();
+		id = CharID.getID(dsid);
+		otherId = CharID.getID(dsid);
+		facet = new AbstractListFacet<CharID, String>()
+		{
+		};
+		facet.addDataFacetChangeListener(
+			new DataFacetChangeListener<CharID, String>()
+			{
+				@Override
+				public void dataAdded(DataFacetChangeEvent<CharID, String> dfce)
+				{
+					events.add("+" + dfce.getCDOMObject());
+				}
+
+				@Override
+				public void dataRemoved(
+					DataFacetChangeEvent<CharID, String> dfce)
+				{
+					events.add("-" + dfce.getCDOMObject());
+				}
+			});
+	}
+
+	@Test
+	public void testEventsDeferredUntilClose()
+	{
+		try (FacetChangeTransaction transaction =
+				FacetChangeTransaction.begin(id))
+		{
+			assertTrue(FacetChangeTransaction.isOpen(id));
+			facet.add(id, "A");
+			facet.add(id, "B");
+			facet.add(otherId, "C");
+			assertEquals(Arrays.asList("+C"), events);
+			assertTrue(facet.contains(id, "A"));
+		}
+		assertFalse(FacetChangeTransaction.isOpen(id));
+		assertEquals(Arrays.asList("+C", "+A", "+B"), events);
+	}
+
+	@Test
+	public void testReversedEventsCancel()
+	{
+		facet.add(id, "A");
+		events.clear();
+		try (FacetChangeTransaction transaction =
+				FacetChangeTransaction.begin(id))
+		{
+			facet.add(id, "B");
+			facet.remove(id, "B");
+			facet.remove(id, "A");
+			facet.add(id, "A");
+			facet.add(id, "C");
+		}
+		assertEquals(Arrays.asList("+C"), events);
+		assertTrue(facet.contains(id, "A"));
+		assertFalse(facet.contains(id, "B"));
+	}
+
+	@Test
+	public void testEqualObjectsDoNotCancel()
+	{
+		String original = new String("A");
+		String replacement = new String("A");
+		facet.add(id, original);
+		events.clear();
+		try (FacetChangeTransaction transaction =
+				FacetChangeTransaction.begin(id))
+		{
+			facet.remove(id, original);
+			facet.add(id, replacement);
+		}
+		assertEquals(Arrays.asList("-A", "+A"), events);
+	}
+
+	@Test
+	public void testNestedTransactions()
+	{
+		try (FacetChangeTransaction outer = FacetChangeTransaction.begin(id))
+		{
+			facet.add(id, "A");
+			try (FacetChangeTransaction inner =
+					FacetChangeTransaction.begin(id))
+			{
+				facet.add(id, "B");
+			}
+			assertTrue(events.isEmpty());
+		}
+		assertEquals(Arrays.asList("+A", "+B"), events);
+	}
+
+	@Test
+	public void testClosedOnException()
+	{
+		try (FacetChangeTransaction transaction =
+				FacetChangeTransaction.begin(id))
+		{
+			facet.add(id, "A");
+			throw new IllegalArgumentException();
+		}
+		catch (IllegalArgumentException e)
+		{
+			//expected
+		}
+		assertFalse(FacetChangeTransaction.isOpen(id));
+		assertEquals(Arrays.asList("+A"), events);
+		facet.add(id, "B");
+		assertEquals(Arrays.asList("+A", "+B"), events);
+	}
+
+	@Test
+	public void testCloseTwice()
+	{
+		FacetChangeTransaction outer = FacetChangeTransaction.begin(id);
+		FacetChangeTransaction inner = FacetChangeTransaction.begin(id);
+		facet.add(id, "A");
+		inner.close();
+		inner.close();
+		assertTrue(FacetChangeTransaction.isOpen(id));
+		assertTrue(events.isEmpty());
+		outer.close();
+		assertFalse(FacetChangeTransaction.isOpen(id));
+		assertEquals(Arrays.asList("+A"), events);
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import java.util.List;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.DataSetID;
+import pcgen.cdom.facet.base.FacetProfiler.Statistics;
+import pcgen.cdom.facet.event.DataFacetChangeEvent;
+import pcgen.cdom.facet.event.DataFacetChangeListener;
+
+public class FacetProfilerTest extends TestCase
+{
+
+	private CharID id;
+	private AbstractListFacet<CharID, String> facet;
+	private AbstractListFacet<CharID, String> cascadeFacet;
+	private DataFacetChangeListener<CharID, String> listener;
+
+	@Override
+	protected void setUp() throws Exception
+	{
+		super.setUp();
+		id = CharID.getID(DataSetID.getID());
+		facet = new AbstractListFacet<CharID, String>()
+		{
+		};
+		cascadeFacet = new AbstractListFacet<CharID, String>()
+		{
+		};
+		cascadeFacet.addDataFacetChangeListener(
+			new DataFacetChangeListener<CharID, String>()
+			{
+				@Override
+				public void dataAdded(DataFacetChangeEvent<CharID, String> dfce)
+				{
+					// Receives the cascaded events
+				}
+
+				@Override
+				public void dataRemoved(
+					DataFacetChangeEvent<CharID, String> dfce)
+				{
+					// Receives the cascaded events
+				}
+			});
+		listener = new DataFacetChangeListener<CharID, String>()
+		{
+			@Override
+			public void dataAdded(DataFacetChangeEvent<CharID, String> dfce)
+			{
+				cascadeFacet.add(dfce.getCharID(), dfce.getCDOMObject());
+			}
+
+			@Override
+			public void dataRemoved(DataFacetChangeEvent<CharID, String> dfce)
+			{
+				cascadeFacet.remove(dfce.getCharID(), dfce.getCDOMObject());
+			}
+		};
+		facet.addDataFacetChangeListener(listener);
+		FacetProfiler.reset();
+		FacetProfiler.setEnabled(true);
+	}
+
+	@Override
+	protected void tearDown() throws Exception
+	{
+		FacetProfiler.setEnabled(false);
+		FacetProfiler.reset();
+		super.tearDown();
+	}
+
+	@Test
+	public void testEventsAndDepth()
+	{
+		facet.add(id, "A");
+		facet.add(id, "B");
+		facet.remove(id, "A");
+		Statistics stats =
+				find(FacetProfiler.getEventStatistics(), facet.getClass());
+		assertEquals(3, stats.getCount());
+		assertEquals(1, stats.getMaxDepth());
+		assertTrue(stats.getTotalNanos() >= stats.getMaxNanos());
+		Statistics cascade =
+				find(FacetProfiler.getEventStatistics(), cascadeFacet.getClass());
+		assertEquals(3, cascade.getCount());
+		assertEquals(2, cascade.getMaxDepth());
+		assertTrue(stats.getTotalNanos() >= cascade.getTotalNanos());
+		assertEquals(3,
+			find(FacetProfiler.getListenerStatistics(), listener.getClass())
+				.getCount());
+		assertTrue(find(FacetProfiler.getCacheStatistics(), facet.getClass())
+			.getCount() > 0);
+		assertTrue(FacetProfiler.getReport()
+			.contains(facet.getClass().getName()));
+	}
+
+	@Test
+	public void testDisabled()
+	{
+		FacetProfiler.setEnabled(false);
+		facet.add(id, "A");
+		assertTrue(FacetProfiler.getEventStatistics().isEmpty());
+		assertTrue(FacetProfiler.getListenerStatistics().isEmpty());
+		assertTrue(FacetProfiler.getCacheStatistics().isEmpty());
+		assertTrue(cascadeFacet.contains(id, "A"));
+	}
+
+	@Test
+	public void testReset()
+	{
+		facet.add(id, "A");
+		assertFalse(FacetProfiler.getEventStatistics().isEmpty());
+		FacetProfiler.reset();
+		assertTrue(FacetProfiler.getEventStatistics().isEmpty());
+		assertTrue(FacetProfiler.getCacheStatistics().isEmpty());
+	}
+
+	private static Statistics find(List<Statistics> list, Class<?> cl)
+	{
+		for (Statistics stats : list)
+		{
+			if (stats.getName().equals(cl.getName()))
+			{
+				return stats;
+			}
+		}
+		fail("No statistics for " + cl.getName());
+		return null;
+	}
+}
@@ -0,0 +1,217 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.facet.base;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+
+import pcgen.cdom.enumeration.CharID;
+import pcgen.cdom.enumeration.DataSetID;
+
+public class FacetStorageTest extends TestCase
+{
+
+	/**
+	 * Classes used only by this test, so each is given a slot which no facet
+	 * uses.
+	 */
+	private static final Class<?>[] SLOT_CLASSES = {Slot0.class, Slot1.class,
+		Slot2.class, Slot3.class, Slot4.class, Slot5.class, Slot6.class,
+		Slot7.class};
+
+	private static final int THREADS = 4;
+
+	@Test
+	public void testSlotIsStablePerClass()
+	{
+		int slot = FacetStorage.getSlot(String.class);
+		assertEquals(slot, FacetStorage.getSlot(String.class));
+		assertFalse(slot == FacetStorage.getSlot(Integer.class));
+	}
+
+	@Test
+	public void testSetGetRemove()
+	{
+		FacetStorage storage = new FacetStorage();
+		int slot = FacetStorage.getSlot(Double.class);
+		assertNull(storage.get(slot));
+		assertNull(storage.set(slot, "Value"));
+		assertEquals("Value", storage.get(slot));
+		assertEquals("Value", storage.set(slot, "Other"));
+		Map<Class<?>, Object> contents = storage.getContents();
+		assertEquals(1, contents.size());
+		assertEquals("Other", contents.get(Double.class));
+		assertEquals("Other", storage.set(slot, null));
+		assertNull(storage.get(slot));
+		assertTrue(storage.getContents().isEmpty());
+	}
+
+	@Test
+	public void testIdentifiersAreIndependent()
+	{
+		DataSetID dsid = DataSetID.getID();
+		CharID id1 = CharID.getID(dsid);
+		CharID id2 = CharID.getID(dsid);
+		int slot = FacetStorage.getSlot(Long.class);
+		id1.getFacetStorage().set(slot, "One");
+		assertNull(id2.getFacetStorage().get(slot));
+		assertNull(dsid.getFacetStorage().get(slot));
+	}
+
+	@Test
+	public void testShareCopiesOnWrite()
+	{
+		FacetStorage first = new FacetStorage();
+		FacetStorage second = new FacetStorage();
+		int slot = FacetStorage.getSlot(Short.class);
+		first.set(slot, "Value");
+		second.setShared(slot, first.share(slot));
+		assertSame(first.get(slot), second.get(slot));
+		Object copy = second.getForWrite(slot, o -> new String((String) o));
+		assertNotSame(first.get(slot), copy);
+		assertSame(copy, second.get(slot));
+		// Once copied, the slot is no longer shared
+		assertSame(copy, second.getForWrite(slot, o -> "Wrong"));
+		assertSame(copy, second.remove(slot, o -> "Wrong"));
+		// The other FacetStorage must still copy
+		assertEquals("Copy", first.remove(slot, o -> "Copy"));
+		assertNull(first.get(slot));
+	}
+
+	@Test
+	public void testConcurrentCharacters() throws InterruptedException
+	{
+		DataSetID dsid = DataSetID.getID();
+		List<Thread> threads = new ArrayList<>();
+		List<CharID> ids = new ArrayList<>();
+		for (int t = 0; t < THREADS; t++)
+		{
+			CharID id = CharID.getID(dsid);
+			ids.add(id);
+			threads.add(new Thread(() ->
+			{
+				for (Class<?> cl : SLOT_CLASSES)
+				{
+					id.getFacetStorage().set(FacetStorage.getSlot(cl), id);
+				}
+			}));
+		}
+		runAll(threads);
+		for (CharID id : ids)
+		{
+			for (Class<?> cl : SLOT_CLASSES)
+			{
+				assertSame(id, id.getFacetStorage().get(FacetStorage.getSlot(cl)));
+			}
+		}
+	}
+
+	@Test
+	public void testConcurrentSharedStorage() throws InterruptedException
+	{
+		// Starts empty, so it grows while the threads are writing to it
+		FacetStorage storage = new FacetStorage();
+		final int writes = 1000;
+		final int slotsPerThread = SLOT_CLASSES.length / THREADS;
+		List<Thread> threads = new ArrayList<>();
+		List<String> failures = Collections.synchronizedList(new ArrayList<>());
+		for (int t = 0; t < THREADS; t++)
+		{
+			int[] slots = new int[slotsPerThread];
+			for (int i = 0; i < slotsPerThread; i++)
+			{
+				slots[i] = FacetStorage.getSlot(SLOT_CLASSES[t * slotsPerThread + i]);
+			}
+			threads.add(new Thread(() ->
+			{
+				for (int n = 0; n < writes; n++)
+				{
+					for (int slot : slots)
+					{
+						Integer value = n;
+						storage.set(slot, value);
+						if (storage.get(slot) != value)
+						{
+							failures.add("Lost write " + n + " to slot " + slot);
+						}
+						Object copy = storage.getForWrite(slot, o -> o);
+						if (copy != value)
+						{
+							failures.add("Lost value " + n + " of slot " + slot);
+						}
+					}
+				}
+			}));
+		}
+		runAll(threads);
+		assertTrue(failures.toString(), failures.isEmpty());
+		for (Class<?> cl : SLOT_CLASSES)
+		{
+			assertEquals(Integer.valueOf(writes - 1), storage.get(FacetStorage.getSlot(cl)));
+		}
+	}
+
+	private static void runAll(List<Thread> threads)
+		throws InterruptedException
+	{
+		for (Thread thread : threads)
+		{
+			thread.start();
+		}
+		for (Thread thread : threads)
+		{
+			thread.join();
+		}
+	}
+
+	private static final class Slot0
+	{
+	}
+
+	private static final class Slot1
+	{
+	}
+
+	private static final class Slot2
+	{
+	}
+
+	private static final class Slot3
+	{
+	}
+
+	private static final class Slot4
+	{
+	}
+
+	private static final class Slot5
+	{
+	}
+
+	private static final class Slot6
+	{
+	}
+
+	private static final class Slot7
+	{
+	}
+}
@@ -0,0 +1,59 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import pcgen.cdom.formula.scope.EquipmentPartScope;
+import pcgen.cdom.formula.scope.EquipmentScope;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * The Class {@code FacetGraphGeneratorTest} checks that the generated
+ * FacetGraph matches applicationContext.xml and wires the beans as the Spring
+ * bean factory would.
+ */
+public class FacetGraphGeneratorTest
+{
+
+	@Test
+	public void testFacetGraphIsCurrent() throws Exception
+	{
+		String actual = new String(Files.readAllBytes(Paths
+			.get(FacetGraphGenerator.FACET_GRAPH_FILE)),
+			StandardCharsets.UTF_8).replace("\r\n", "\n");
+		assertEquals(
+			"FacetGraph.java is out of date, run gradle facetGraph",
+			FacetGraphGenerator.generate(), actual);
+	}
+
+	@Test
+	public void testReferencesAreWired()
+	{
+		PrecompiledBeanFactory factory = new PrecompiledBeanFactory();
+		EquipmentPartScope partScope =
+				factory.getBean(EquipmentPartScope.class);
+		assertNotNull(partScope);
+		assertSame(partScope, factory.getBean(EquipmentPartScope.class));
+		assertSame(factory.getBean(EquipmentScope.class),
+			partScope.getParentScope());
+		assertNull(factory.getBean(String.class));
+	}
+}
@@ -703,6 +703,29 @@ public abstract class AbstractListFacetTest<T>
 		assertTrue(setofone.contains(t1));
 	}
 
+	@Test
+	public void testShareContents()
+	{
+		T t1 = getObject();
+		T t2 = getAltObject();
+		getFacet().add(id, t1);
+		getFacet().add(id, t2);
+		getFacet().shareContents(id, altid);
+		assertEquals(2, getFacet().getCount(altid));
+		// Prove independence (remove from id)
+		getFacet().remove(id, t1);
+		assertEquals(1, getFacet().getCount(id));
+		assertTrue(getFacet().contains(id, t2));
+		assertEquals(2, getFacet().getCount(altid));
+		assertTrue(getFacet().contains(altid, t1));
+		// Prove independence (add to altid)
+		getFacet().add(altid, t1);
+		getFacet().removeAll(altid);
+		assertEquals(0, getFacet().getCount(altid));
+		assertEquals(1, getFacet().getCount(id));
+		assertTrue(getFacet().contains(id, t2));
+	}
+
 	protected T getAltObject()
 	{
 		return getObject();
@@ -861,6 +861,30 @@ public abstract class AbstractSourcedListFacetTest<T> extends TestCase
 		assertTrue(setofone.contains(t1));
 	}
 
+	@Test
+	public void testShareContents()
+	{
+		Object source1 = new Object();
+		Object source2 = new Object();
+		T t1 = getObject();
+		T t2 = getAltObject();
+		getFacet().add(id, t1, source1);
+		getFacet().add(id, t2, source1);
+		getFacet().shareContents(id, altid);
+		assertEquals(2, getFacet().getCount(altid));
+		// Prove independence of the sources (add to altid)
+		getFacet().add(altid, t1, source2);
+		getFacet().remove(altid, t1, source1);
+		assertTrue(getFacet().contains(altid, t1));
+		assertTrue(getFacet().containsFrom(altid, source2));
+		assertFalse(getFacet().containsFrom(id, source2));
+		// Prove independence (remove from id)
+		getFacet().removeAll(id, source1);
+		assertTrue(getFacet().isEmpty(id));
+		assertEquals(2, getFacet().getCount(altid));
+		assertTrue(getFacet().contains(altid, t2));
+	}
+
 	@Test
 	public void testTypeGetSetSource()
 	{
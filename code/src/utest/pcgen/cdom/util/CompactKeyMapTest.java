@@ -0,0 +1,110 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.cdom.util;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * The Class {@code CompactKeyMapTest} tests that the CompactKeyMap class
+ * behaves as a Map both while held in its array and once it has grown beyond
+ * it.
+ */
+public class CompactKeyMapTest
+{
+
+	private static final Object[] KEYS = new Object[20];
+
+	static
+	{
+		for (int i = 0; i < KEYS.length; i++)
+		{
+			KEYS[i] = new Object();
+		}
+	}
+
+	@Test
+	public void testPutGetRemove()
+	{
+		CompactKeyMap<Object, Integer> map = new CompactKeyMap<>();
+		assertTrue(map.isEmpty());
+		assertNull(map.get(KEYS[0]));
+		assertNull(map.put(KEYS[0], 1));
+		assertNull(map.put(KEYS[1], 2));
+		assertEquals(Integer.valueOf(1), map.put(KEYS[0], 3));
+		assertEquals(2, map.size());
+		assertEquals(Integer.valueOf(3), map.get(KEYS[0]));
+		assertTrue(map.containsKey(KEYS[1]));
+		assertFalse(map.containsKey(KEYS[2]));
+		assertEquals(Integer.valueOf(3), map.remove(KEYS[0]));
+		assertNull(map.remove(KEYS[0]));
+		assertEquals(1, map.size());
+		assertEquals(Integer.valueOf(2), map.get(KEYS[1]));
+	}
+
+	@Test
+	public void testGrowAndTrim()
+	{
+		CompactKeyMap<Object, Integer> map = new CompactKeyMap<>();
+		Map<Object, Integer> expected = new HashMap<>();
+		for (int i = 0; i < KEYS.length; i++)
+		{
+			map.put(KEYS[i], i);
+			expected.put(KEYS[i], i);
+			assertEquals(expected, map);
+		}
+		for (int i = 0; i < KEYS.length; i++)
+		{
+			assertEquals(Integer.valueOf(i), map.get(KEYS[i]));
+		}
+		for (int i = 0; i < 15; i++)
+		{
+			map.remove(KEYS[i]);
+			expected.remove(KEYS[i]);
+		}
+		map.trimToSize();
+		assertEquals(expected, map);
+		assertEquals(5, map.size());
+		map.put(KEYS[0], 0);
+		assertEquals(Integer.valueOf(0), map.get(KEYS[0]));
+	}
+
+	@Test
+	public void testIteratorRemove()
+	{
+		CompactKeyMap<Object, Integer> map = new CompactKeyMap<>();
+		for (int i = 0; i < 4; i++)
+		{
+			map.put(KEYS[i], i);
+		}
+		for (Iterator<Map.Entry<Object, Integer>> it =
+				map.entrySet().iterator(); it.hasNext();)
+		{
+			if (it.next().getValue() % 2 == 0)
+			{
+				it.remove();
+			}
+		}
+		assertEquals(2, map.size());
+		assertEquals(Integer.valueOf(1), map.get(KEYS[1]));
+		assertEquals(Integer.valueOf(3), map.get(KEYS[3]));
+		assertEquals(new HashMap<>(map), new CompactKeyMap<>(map));
+	}
+}
@@ -0,0 +1,254 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.system;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.IOUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * The Class {@code PluginClassLoaderTest} checks that PluginClassLoader uses
+ * the plugin index when it matches a plugin jar, and scans the jar when there
+ * is no index or the index is out of date.
+ */
+public class PluginClassLoaderTest
+{
+
+	private File pluginDir;
+	private File pluginJar;
+
+	@Before
+	public void setUp() throws IOException
+	{
+		pluginDir = Files.createTempDirectory("plugins").toFile();
+		pluginJar = new File(pluginDir, "test-plugin.jar");
+		writeJar(FirstPlugin.class, SecondPlugin.class);
+	}
+
+	@After
+	public void tearDown() throws IOException
+	{
+		FileUtils.deleteDirectory(pluginDir);
+	}
+
+	@Test
+	public void testIndexUsed() throws IOException
+	{
+		writeIndex(PluginClassLoader.getChecksum(pluginJar),
+			FirstPlugin.class);
+		assertEquals(Collections.singletonList(FirstPlugin.class.getName()),
+			loadPlugins());
+	}
+
+	@Test
+	public void testScannedWithoutIndex()
+	{
+		assertEquals(Arrays.asList(FirstPlugin.class.getName(),
+			SecondPlugin.class.getName()), loadPlugins());
+	}
+
+	@Test
+	public void testStaleIndexRejected() throws IOException
+	{
+		writeIndex(PluginClassLoader.getChecksum(pluginJar),
+			FirstPlugin.class);
+		long length = pluginJar.length();
+		//Rebuild the jar with the same length but different contents
+		writeJar(SecondPlugin.class, FirstPlugin.class);
+		assertEquals(length, pluginJar.length());
+		assertEquals(Arrays.asList(FirstPlugin.class.getName(),
+			SecondPlugin.class.getName()), loadPlugins());
+	}
+
+	@Test
+	public void testWrittenIndexUsed() throws IOException
+	{
+		createLoader(new ArrayList<>()).writeIndex();
+		Properties index = readIndex();
+		assertEquals(PluginClassLoader.getChecksum(pluginJar) + ';'
+			+ FirstPlugin.class.getName() + ',' + SecondPlugin.class.getName(),
+			index.getProperty(pluginJar.getName()));
+		assertEquals(Arrays.asList(FirstPlugin.class.getName(),
+			SecondPlugin.class.getName()), loadPlugins());
+	}
+
+	@Test
+	public void testReferencedClassesFound() throws IOException
+	{
+		Collection<String> names = PluginClassLoader.getReferencedClasses(
+			readClass(FirstPlugin.class));
+		assertTrue(names.contains(FirstPlugin.class.getName()));
+		assertTrue(names.contains(TestPlugin.class.getName()));
+		assertFalse(names.contains(SecondPlugin.class.getName()));
+		names = PluginClassLoader.getReferencedClasses(
+			readClass(UsingPlugin.class));
+		assertTrue(names.contains(SecondPlugin.class.getName()));
+		assertTrue(names.contains(FirstPlugin.class.getName()));
+	}
+
+	@Test
+	public void testChecksumFollowsEntries() throws IOException
+	{
+		String checksum = PluginClassLoader.getChecksum(pluginJar);
+		writeJar(FirstPlugin.class, SecondPlugin.class);
+		assertEquals(checksum, PluginClassLoader.getChecksum(pluginJar));
+		writeJar(FirstPlugin.class, UsingPlugin.class);
+		assertFalse(checksum.equals(PluginClassLoader.getChecksum(pluginJar)));
+	}
+
+	/**
+	 * Loads the plugins directory and returns the sorted names of the classes
+	 * passed to the PluginLoader.
+	 */
+	private List<String> loadPlugins()
+	{
+		List<String> loaded = new ArrayList<>();
+		createLoader(loaded).loadPlugins();
+		Collections.sort(loaded);
+		return loaded;
+	}
+
+	private PluginClassLoader createLoader(final List<String> loaded)
+	{
+		PluginClassLoader classLoader = new PluginClassLoader(pluginDir);
+		classLoader.addPluginLoader(new PluginLoader()
+		{
+
+			@Override
+			public void loadPlugin(Class<?> clazz)
+			{
+				loaded.add(clazz.getName());
+			}
+
+			@Override
+			public Class<?>[] getPluginClasses()
+			{
+				return new Class<?>[]{TestPlugin.class};
+			}
+
+		});
+		return classLoader;
+	}
+
+	private void writeJar(Class<?>... classes) throws IOException
+	{
+		try (JarOutputStream out =
+				new JarOutputStream(new FileOutputStream(pluginJar)))
+		{
+			for (Class<?> clazz : classes)
+			{
+				String name = clazz.getName().replace('.', '/') + ".class";
+				out.putNextEntry(new ZipEntry(name));
+				try (InputStream in =
+						getClass().getClassLoader().getResourceAsStream(name))
+				{
+					byte[] buffer = new byte[4096];
+					int read;
+					while ((read = in.read(buffer)) != -1)
+					{
+						out.write(buffer, 0, read);
+					}
+				}
+				out.closeEntry();
+			}
+		}
+	}
+
+	private byte[] readClass(Class<?> clazz) throws IOException
+	{
+		String name = clazz.getName().replace('.', '/') + ".class";
+		try (InputStream in =
+				getClass().getClassLoader().getResourceAsStream(name))
+		{
+			return IOUtils.toByteArray(in);
+		}
+	}
+
+	private void writeIndex(String checksum, Class<?>... classes)
+		throws IOException
+	{
+		StringBuilder entry = new StringBuilder(checksum).append(';');
+		for (int i = 0; i < classes.length; i++)
+		{
+			if (i > 0)
+			{
+				entry.append(',');
+			}
+			entry.append(classes[i].getName());
+		}
+		Properties index = new Properties();
+		index.setProperty(pluginJar.getName(), entry.toString());
+		try (OutputStream out = new FileOutputStream(
+			new File(pluginDir, PluginClassLoader.INDEX_FILE)))
+		{
+			index.store(out, null);
+		}
+	}
+
+	private Properties readIndex() throws IOException
+	{
+		Properties index = new Properties();
+		try (InputStream in = Files.newInputStream(
+			new File(pluginDir, PluginClassLoader.INDEX_FILE).toPath()))
+		{
+			index.load(in);
+		}
+		return index;
+	}
+
+	public interface TestPlugin
+	{
+	}
+
+	public static class FirstPlugin implements TestPlugin
+	{
+	}
+
+	public static class SecondPlugin implements TestPlugin
+	{
+	}
+
+	public static class UsingPlugin implements TestPlugin
+	{
+
+		private FirstPlugin first;
+
+		public SecondPlugin getSecond()
+		{
+			return new SecondPlugin();
+		}
+
+	}
+
+}
@@ -0,0 +1,178 @@
+/*
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 59 Temple Place, Suite 330, Boston, MA 02111-1307 USA
+ */
+package pcgen.util;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+
+import pcgen.util.ParseDiagnostics.Diagnostic;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/**
+ * The Class {@code ParseDiagnosticsTest} tests that parse messages are
+ * collected per thread with their source and line, and that stack traces are
+ * only captured when enabled.
+ */
+public class ParseDiagnosticsTest
+{
+
+	private ParseDiagnostics diagnostics;
+
+	@Before
+	public void setUp()
+	{
+		diagnostics = ParseDiagnostics.current();
+		diagnostics.clear();
+		diagnostics.setSourceURI(null);
+	}
+
+	@After
+	public void tearDown()
+	{
+		ParseDiagnostics.setStackTraceInterval(0);
+		diagnostics.clear();
+		diagnostics.setSourceURI(null);
+	}
+
+	@Test
+	public void testSourceAndLine() throws Exception
+	{
+		URI uri = new URI("file:/data/test.lst");
+		Logging.addParseMessage(Logging.LST_ERROR, "Before");
+		diagnostics.setSourceURI(uri);
+		diagnostics.setLine(12);
+		Logging.addParseMessage(Logging.LST_WARNING, "During");
+		List<Diagnostic> list = diagnostics.getDiagnostics();
+		assertEquals(2, list.size());
+		assertNull(list.get(0).getSourceURI());
+		assertEquals(0, list.get(0).getLine());
+		assertEquals(Logging.LST_WARNING, list.get(1).getLevel());
+		assertEquals("During", list.get(1).getMessage());
+		assertEquals(uri, list.get(1).getSourceURI());
+		assertEquals(12, list.get(1).getLine());
+		assertEquals("During (file:/data/test.lst:12)", list.get(1).toString());
+		diagnostics.setSourceURI(uri);
+		assertEquals(0, diagnostics.getLine());
+	}
+
+	@Test
+	public void testReplayIncludesLocation() throws Exception
+	{
+		List<String> logged = new ArrayList<>();
+		Handler handler = new Handler()
+		{
+			@Override
+			public void publish(LogRecord record)
+			{
+				logged.add(record.getMessage());
+			}
+
+			@Override
+			public void flush()
+			{
+			}
+
+			@Override
+			public void close()
+			{
+			}
+		};
+		diagnostics.setSourceURI(new URI("file:/data/test.lst"));
+		diagnostics.setLine(7);
+		Logging.addParseMessage(Logging.LST_ERROR, "Bad token");
+		Logging.registerHandler(handler);
+		try
+		{
+			Logging.replayParsedMessages();
+		}
+		finally
+		{
+			Logging.removeHandler(handler);
+		}
+		assertTrue(logged.contains("Bad token (file:/data/test.lst:7)"));
+	}
+
+	@Test
+	public void testMarkAndRewind()
+	{
+		Logging.addParseMessage(Logging.LST_ERROR, "Kept");
+		Logging.rewindParseMessages();
+		assertEquals(1, diagnostics.getDiagnostics().size());
+		Logging.markParseMessages();
+		Logging.addParseMessage(Logging.LST_ERROR, "Removed");
+		Logging.addParseMessage(Logging.LST_ERROR, "Removed");
+		Logging.rewindParseMessages();
+		List<Diagnostic> list = diagnostics.getDiagnostics();
+		assertEquals(1, list.size());
+		assertEquals("Kept", list.get(0).getMessage());
+		Logging.clearParseMessages();
+		assertTrue(diagnostics.getDiagnostics().isEmpty());
+	}
+
+	@Test
+	public void testThreadsAreSeparate() throws Exception
+	{
+		Logging.addParseMessage(Logging.LST_ERROR, "Main");
+		Logging.markParseMessages();
+		AtomicReference<List<Diagnostic>> other = new AtomicReference<>();
+		Thread thread = new Thread(() -> {
+			Logging.addParseMessage(Logging.LST_ERROR, "Other");
+			Logging.rewindParseMessages();
+			other.set(ParseDiagnostics.current().getDiagnostics());
+			Logging.clearParseMessages();
+		});
+		thread.start();
+		thread.join();
+		assertEquals(1, other.get().size());
+		assertEquals("Other", other.get().get(0).getMessage());
+		List<Diagnostic> list = diagnostics.getDiagnostics();
+		assertEquals(1, list.size());
+		assertEquals("Main", list.get(0).getMessage());
+	}
+
+	@Test
+	public void testStackTraceCapture()
+	{
+		Logging.addParseMessage(Logging.LST_ERROR, "Off");
+		ParseDiagnostics.setStackTraceInterval(1);
+		Logging.addParseMessage(Logging.LST_ERROR, "On");
+		ParseDiagnostics.setStackTraceInterval(2);
+		for (int i = 0; i < 4; i++)
+		{
+			Logging.addParseMessage(Logging.LST_ERROR, "Sampled");
+		}
+		List<Diagnostic> list = diagnostics.getDiagnostics();
+		assertNull(list.get(0).getStackTrace());
+		assertNotNull(list.get(1).getStackTrace());
+		int captured = 0;
+		for (Diagnostic d : list.subList(2, 6))
+		{
+			if (d.getStackTrace() != null)
+			{
+				captured++;
+			}
+		}
+		assertEquals(2, captured);
+	}
+}